@@ -0,0 +1,52 @@
+package com.loanflow.loan.benchmark;
+
+import com.loanflow.loan.decision.config.DroolsConfig;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start cost of the decision engine rules: time from nothing to a KieContainer with a usable
+ * session, once per fresh JVM, for the rules precompiled into the executable model at build time
+ * versus compiling the DRL files from source.
+ *
+ * DRL              - KieBuilder.buildAll(ExecutableModelProject) over rules/*.drl (the fallback startup path)
+ * EXECUTABLE_MODEL - the kjar written by DecisionRulesModelGenerator at process-classes, loaded from the classpath
+ *
+ * Each fork is one cold start; for warm build cost run with {@code -wi 5 -i 10}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+@State(Scope.Benchmark)
+public class DroolsStartupBenchmark {
+
+    public enum RuleSource { DRL, EXECUTABLE_MODEL }
+
+    @Param({"DRL", "EXECUTABLE_MODEL"})
+    public RuleSource source;
+
+    private DroolsConfig droolsConfig;
+
+    @Setup
+    public void setUp() {
+        droolsConfig = new DroolsConfig();
+        if (source == RuleSource.EXECUTABLE_MODEL && !droolsConfig.hasExecutableModel()) {
+            throw new IllegalStateException("No executable model on the classpath; build loan-service with Maven");
+        }
+    }
+
+    @Benchmark
+    public KieContainer startup() {
+        KieContainer container = source == RuleSource.DRL
+                ? droolsConfig.compileFromDrl()
+                : droolsConfig.loadExecutableModel();
+        KieSession session = container.newKieSession();
+        session.dispose();
+        return container;
+    }
+}
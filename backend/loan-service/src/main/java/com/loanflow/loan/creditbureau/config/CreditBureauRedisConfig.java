@@ -1,10 +1,11 @@
 package com.loanflow.loan.creditbureau.config;
 
+import com.loanflow.util.redis.CompactRedisSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -16,13 +17,16 @@ public class CreditBureauRedisConfig {
 
     @Bean
     public RedisTemplate<String, Object> creditBureauRedisTemplate(
-            RedisConnectionFactory connectionFactory) {
+            RedisConnectionFactory connectionFactory,
+            @Value("${loanflow.redis.serializer.binary-writes:false}") boolean binaryWrites,
+            @Value("${loanflow.redis.serializer.compression-threshold-bytes:1024}") int compressionThreshold) {
+        CompactRedisSerializer valueSerializer = new CompactRedisSerializer(binaryWrites, compressionThreshold);
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(valueSerializer);
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setHashValueSerializer(valueSerializer);
         template.afterPropertiesSet();
         return template;
     }
@@ -0,0 +1,39 @@
+package com.loanflow.loan.decision.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Build-time step that compiles the decision rules into the Drools executable model and writes the
+ * KieModule to {@link DroolsConfig#EXECUTABLE_MODEL_RESOURCE} under the given classes directory.
+ *
+ * Run by exec-maven-plugin in loan-service's process-classes phase, against the compiled fact classes.
+ */
+@Slf4j
+public final class DecisionRulesModelGenerator {
+
+    private DecisionRulesModelGenerator() {
+    }
+
+    /**
+     * @param args classes output directory (target/classes)
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: DecisionRulesModelGenerator <classes directory>");
+        }
+        long start = System.nanoTime();
+        Path output = Paths.get(args[0]).resolve(DroolsConfig.EXECUTABLE_MODEL_RESOURCE);
+
+        byte[] kjar = DroolsConfig.buildExecutableModel();
+        Files.createDirectories(output.getParent());
+        Files.write(output, kjar);
+
+        log.info("Wrote decision rules executable model to {} ({} bytes) in {} ms",
+                output, kjar.length, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -1,36 +1,156 @@
 package com.loanflow.loan.decision.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.drools.compiler.kie.builder.impl.InternalKieModule;
+import org.drools.model.codegen.ExecutableModelProject;
 import org.kie.api.KieServices;
 import org.kie.api.builder.KieBuilder;
 import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.KieModule;
 import org.kie.api.builder.Message;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.builder.model.KieModuleModel;
+import org.kie.api.io.Resource;
 import org.kie.api.runtime.KieContainer;
 import org.kie.internal.io.ResourceFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Drools configuration for the Decision Engine.
- * Compiles DRL rule files at startup and provides a KieContainer bean.
- * KieContainer is thread-safe; KieSessions are created per-request.
+ * Provides the KieContainer bean with the eligibility and pricing rules.
+ * KieContainer is thread-safe; DecisionEngineService draws its KieSessions from a pool built on it.
+ *
+ * The Maven build compiles the DRL files into the Drools executable model after the fact classes are
+ * compiled ({@link DecisionRulesModelGenerator}, process-classes phase) and packages the resulting
+ * KieModule as the classpath resource {@link #EXECUTABLE_MODEL_RESOURCE}. At startup that module is
+ * loaded without compiling any DRL. It is read as a plain resource, so it loads the same way from
+ * target/classes and from BOOT-INF/classes in the repackaged jar. When the resource is missing
+ * (e.g. classes compiled by an IDE, not Maven), the DRL files are compiled from source as before.
  */
 @Configuration
 @Slf4j
 public class DroolsConfig {
 
+    /**
+     * KieModule with the executable model, written by the build
+     */
+    public static final String EXECUTABLE_MODEL_RESOURCE = "rules/decision-rules-model.kjar";
+
+    public static final String KBASE_NAME = "decisionKBase";
+
+    private static final AtomicLong COMPILATION_SEQUENCE = new AtomicLong();
+
+    private static final String[] DRL_FILES = {"rules/eligibility-rules.drl", "rules/pricing-rules.drl"};
+
     @Bean
     public KieContainer kieContainer() {
-        log.info("Initializing Drools KieContainer with DRL rule files...");
+        long start = System.nanoTime();
+        boolean precompiled = hasExecutableModel();
+        log.info("Initializing Drools KieContainer from {}...",
+                precompiled ? "the precompiled executable model" : "DRL rule files");
+
+        KieContainer container = precompiled ? loadExecutableModel() : compileFromDrl();
+
+        log.info("Drools KieContainer initialized successfully in {} ms", (System.nanoTime() - start) / 1_000_000);
+        return container;
+    }
+
+    /**
+     * Whether the rules were precompiled into the executable model at build time
+     */
+    public boolean hasExecutableModel() {
+        return DroolsConfig.class.getClassLoader().getResource(EXECUTABLE_MODEL_RESOURCE) != null;
+    }
+
+    /**
+     * Load the precompiled KieModule from the classpath. The KieBase is built eagerly so a broken
+     * model fails startup, as DRL compilation errors do.
+     */
+    public KieContainer loadExecutableModel() {
+        byte[] kjar;
+        try (InputStream in = DroolsConfig.class.getClassLoader().getResourceAsStream(EXECUTABLE_MODEL_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Executable model not found on the classpath: " + EXECUTABLE_MODEL_RESOURCE);
+            }
+            kjar = in.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read the executable model: " + e.getMessage(), e);
+        }
+
+        KieServices kieServices = KieServices.Factory.get();
+        KieModule module = kieServices.getRepository().addKieModule(kieServices.getResources().newByteArrayResource(kjar));
+        KieContainer container = kieServices.newKieContainer(module.getReleaseId(), DroolsConfig.class.getClassLoader());
+        kieServices.getRepository().removeKieModule(module.getReleaseId());
+        container.getKieBase();
+        return container;
+    }
 
+    /**
+     * Compile the DRL files into the executable model and return the KieModule as kjar bytes
+     * (used at build time by {@link DecisionRulesModelGenerator})
+     *
+     * @throws IllegalStateException on compilation errors
+     */
+    public static byte[] buildExecutableModel() {
         KieServices kieServices = KieServices.Factory.get();
-        KieFileSystem kieFileSystem = kieServices.newKieFileSystem();
+        ReleaseId releaseId = kieServices.newReleaseId("com.loanflow", "decision-rules", "1.0.0-model");
+        KieBuilder kieBuilder = build(kieServices, releaseId, classpathDrlFiles());
+        byte[] kjar = ((InternalKieModule) kieBuilder.getKieModule()).getBytes();
+        kieServices.getRepository().removeKieModule(releaseId);
+        return kjar;
+    }
+
+    /**
+     * Compile the DRL files from source
+     */
+    public KieContainer compileFromDrl() {
+        return compile(classpathDrlFiles());
+    }
 
-        // Load DRL files from classpath
-        kieFileSystem.write(ResourceFactory.newClassPathResource("rules/eligibility-rules.drl"));
-        kieFileSystem.write(ResourceFactory.newClassPathResource("rules/pricing-rules.drl"));
+    /**
+     * Compile DRL resources (each with a source path) into a new KieContainer
+     *
+     * @throws IllegalStateException on compilation errors
+     */
+    public static KieContainer compile(List<Resource> drlFiles) {
+        KieServices kieServices = KieServices.Factory.get();
+        // A release id of its own, so concurrent compilations (rule reloads) never pick up each other's module
+        ReleaseId releaseId = kieServices.newReleaseId(
+                "com.loanflow", "decision-rules", "1.0.0-" + COMPILATION_SEQUENCE.incrementAndGet());
+        build(kieServices, releaseId, drlFiles);
 
-        KieBuilder kieBuilder = kieServices.newKieBuilder(kieFileSystem).buildAll();
+        KieContainer container = kieServices.newKieContainer(releaseId);
+        // The container holds its module; keep the repository from accumulating one per reload
+        kieServices.getRepository().removeKieModule(releaseId);
+        return container;
+    }
+
+    /**
+     * Build DRL resources with the executable model compiler. Every path (build time, the DRL
+     * fallback and rule reloads) compiles this way: the executable model limits update() in a
+     * consequence to the properties it sets, where the DRL compiler re-triggers every rule on the
+     * fact, so the same rules would otherwise fire differently depending on how they were loaded.
+     */
+    private static KieBuilder build(KieServices kieServices, ReleaseId releaseId, List<Resource> drlFiles) {
+        // Written explicitly: the kjar has to carry its kmodule.xml to be loaded from bytes
+        KieModuleModel kieModule = kieServices.newKieModuleModel();
+        kieModule.newKieBaseModel(KBASE_NAME).setDefault(true)
+                .newKieSessionModel("decisionSession").setDefault(true);
+        KieFileSystem kieFileSystem = kieServices.newKieFileSystem()
+                .generateAndWritePomXML(releaseId)
+                .writeKModuleXML(kieModule.toXML());
+        for (Resource drlFile : drlFiles) {
+            kieFileSystem.write(drlFile);
+        }
+
+        KieBuilder kieBuilder = kieServices.newKieBuilder(kieFileSystem).buildAll(ExecutableModelProject.class);
 
         // Fail fast on DRL compilation errors
         if (kieBuilder.getResults().hasMessages(Message.Level.ERROR)) {
@@ -43,11 +163,14 @@ public class DroolsConfig {
             log.warn("Drools DRL compilation warnings: {}",
                     kieBuilder.getResults().getMessages());
         }
+        return kieBuilder;
+    }
 
-        KieContainer container = kieServices.newKieContainer(
-                kieServices.getRepository().getDefaultReleaseId());
-
-        log.info("Drools KieContainer initialized successfully");
-        return container;
+    private static List<Resource> classpathDrlFiles() {
+        List<Resource> drlFiles = new ArrayList<>();
+        for (String drlFile : DRL_FILES) {
+            drlFiles.add(ResourceFactory.newClassPathResource(drlFile));
+        }
+        return drlFiles;
     }
 }
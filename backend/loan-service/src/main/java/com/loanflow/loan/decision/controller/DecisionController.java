@@ -7,15 +7,26 @@ import com.loanflow.loan.decision.service.DecisionEngineService;
 import com.loanflow.loan.decision.service.DecisionEngineService.DecisionResult;
 import com.loanflow.loan.domain.entity.LoanApplication;
 import com.loanflow.loan.repository.LoanApplicationRepository;
+import com.loanflow.util.exception.BusinessException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * REST API for the Drools Decision Engine.
@@ -35,10 +46,12 @@ public class DecisionController {
     /**
      * Evaluate a loan application using Drools rules.
      * Can evaluate by applicationId (existing loan) or ad-hoc with inline facts.
+     * With trace=true the result carries the per-rule profile (matches, firings, updates, consequence time).
      */
     @PostMapping("/evaluate")
     @PreAuthorize("hasAnyRole('ADMIN', 'UNDERWRITER', 'SENIOR_UNDERWRITER', 'BRANCH_MANAGER')")
-    public ResponseEntity<DecisionResult> evaluate(@Valid @RequestBody EvaluationRequest request) {
+    public ResponseEntity<DecisionResult> evaluate(@Valid @RequestBody EvaluationRequest request,
+                                                   @RequestParam(defaultValue = "false") boolean trace) {
         log.info("Decision evaluation requested: {}", request);
 
         DecisionResult result;
@@ -49,17 +62,63 @@ public class DecisionController {
                     .orElseThrow(() -> new RuntimeException(
                             "Application not found: " + request.applicationId()));
 
-            result = decisionEngineService.evaluate(application);
+            result = decisionEngineService.evaluateWithFacts(factMapper.mapToFacts(application),
+                    application.getApplicationNumber(), trace);
         } else {
             // Ad-hoc evaluation with inline facts
             DecisionFacts facts = buildFactsFromRequest(request);
             result = decisionEngineService.evaluateWithFacts(facts,
-                    request.applicationNumber() != null ? request.applicationNumber() : "AD-HOC");
+                    request.applicationNumber() != null ? request.applicationNumber() : "AD-HOC", trace);
         }
 
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Evaluate many applications at once (e.g. re-pricing the active book).
+     * Each item is an existing application or inline facts, as for single evaluation;
+     * results are returned in request order. An application listed twice is rejected with 400.
+     */
+    @PostMapping("/evaluate/batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'UNDERWRITER', 'SENIOR_UNDERWRITER', 'BRANCH_MANAGER')")
+    public ResponseEntity<List<BatchDecision>> evaluateBatch(@Valid @RequestBody BatchEvaluationRequest request) {
+        log.info("Batch decision evaluation requested: {} items", request.requests().size());
+
+        List<UUID> applicationIds = request.requests().stream()
+                .map(EvaluationRequest::applicationId)
+                .filter(Objects::nonNull)
+                .toList();
+        Set<UUID> distinctIds = new HashSet<>();
+        for (UUID applicationId : applicationIds) {
+            if (!distinctIds.add(applicationId)) {
+                throw new BusinessException("DUPLICATE_APPLICATION",
+                        "Application " + applicationId + " appears more than once in the batch");
+            }
+        }
+        Map<UUID, LoanApplication> applications = loanApplicationRepository.findAllById(applicationIds).stream()
+                .collect(Collectors.toMap(LoanApplication::getId, Function.identity()));
+
+        List<DecisionFacts> batch = new ArrayList<>(request.requests().size());
+        for (EvaluationRequest item : request.requests()) {
+            if (item.applicationId() != null) {
+                LoanApplication application = applications.get(item.applicationId());
+                if (application == null) {
+                    throw new RuntimeException("Application not found: " + item.applicationId());
+                }
+                batch.add(factMapper.mapToFacts(application));
+            } else {
+                batch.add(buildFactsFromRequest(item));
+            }
+        }
+
+        List<DecisionResult> results = decisionEngineService.evaluateBatch(batch);
+        List<BatchDecision> decisions = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            decisions.add(new BatchDecision(batch.get(i).loanApplication().getApplicationNumber(), results.get(i)));
+        }
+        return ResponseEntity.ok(decisions);
+    }
+
     private DecisionFacts buildFactsFromRequest(EvaluationRequest request) {
         String appId = UUID.randomUUID().toString();
         String applicantId = UUID.randomUUID().toString();
@@ -148,4 +207,19 @@ public class DecisionController {
             int enquiryCount30Days,
             double collateralValue
     ) {}
+
+    /**
+     * Request body for batch evaluation
+     */
+    public record BatchEvaluationRequest(
+            @NotEmpty @Size(max = 10_000) List<@Valid EvaluationRequest> requests
+    ) {}
+
+    /**
+     * One batch item's result, tagged with its application number
+     */
+    public record BatchDecision(
+            String applicationNumber,
+            DecisionResult decision
+    ) {}
 }
@@ -6,30 +6,150 @@ import com.loanflow.loan.decision.mapper.DecisionFactMapper.DecisionFacts;
 import com.loanflow.loan.decision.model.*;
 import com.loanflow.loan.domain.entity.LoanApplication;
 import com.loanflow.loan.incomeverification.dto.IncomeVerificationResponse;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.kie.api.event.rule.AfterMatchFiredEvent;
+import org.kie.api.event.rule.AgendaEventListener;
+import org.kie.api.event.rule.DefaultAgendaEventListener;
+import org.kie.api.event.rule.RuleRuntimeEventListener;
 import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieContainerSessionsPool;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.AgendaFilter;
+import org.kie.api.runtime.rule.Match;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Core Decision Engine Service — executes Drools rules against loan facts.
  *
- * Creates a new KieSession per evaluation (stateful, not shared).
- * KieContainer is thread-safe and shared across all evaluations.
+ * Sessions come from a pool built once from the shared KieContainer (and its KieBase): disposing a
+ * pooled session resets its working memory and returns it to the pool instead of discarding it, so
+ * an evaluation does not pay for building a session. Globals are bound once per pooled session.
+ * Each session is used by one evaluation at a time; the pool creates more when all are in use.
+ *
+ * Session setup (borrow, globals, fact insertion) and rule firing are timed separately as
+ * decision.engine.session.setup and decision.engine.rules.fire.
+ *
+ * Batches ({@link #evaluateBatch}) share working memory: every rule joins its facts on the
+ * application (and applicant) id, so the facts of many applications can be inserted into one
+ * session and fired once. A batch is split into partitions of at most
+ * loanflow.decision-engine.batch.partition-size applications, spread over the cores, each
+ * evaluated in its own pooled session on a dedicated ForkJoinPool. The rule firing limit applies
+ * per application, so a runaway application cannot use up the firings of the others in its partition.
+ *
+ * The rules can be replaced at runtime ({@link #swapRules}, driven by DecisionRulesReloader): the
+ * container and its session pool are held together behind an AtomicReference and swapped
+ * atomically, once a fixed sample of applications has been decided on the new rules without error.
+ * Evaluations already running finish on the rules they started with; the previous container is
+ * disposed once the last of them returns its session.
+ *
+ * With loanflow.decision-engine.profiling.enabled (off by default, as its listeners run on every
+ * match and firing), every evaluation is profiled per rule ({@link RuleProfiler}: matches,
+ * cancellations, firings, updates, consequence time) and exported as decision.engine.rule.* metrics.
+ * A single evaluation can also return its profile as a trace.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class DecisionEngineService {
 
-    private final KieContainer kieContainer;
+    private static final int MAX_RULES_FIRED = 200;
+
+    /**
+     * Version label of the rules built into the service (DroolsConfig)
+     */
+    public static final String PACKAGED_RULES_VERSION = "packaged";
+
     private final ConfigService configService;
     private final RbiRateService rbiRateService;
     private final DecisionFactMapper factMapper;
+    private final int sessionPoolSize;
+    private final AtomicReference<RuleBase> ruleBase;
+    private final Timer sessionSetupTimer;
+    private final Timer ruleFiringTimer;
+    private final ForkJoinPool batchPool;
+    private final int batchPartitionSize;
+    private final boolean profilingEnabled;
+    private final RuleProfiler.Metrics ruleMetrics;
+
+    public DecisionEngineService(KieContainer kieContainer,
+                                 ConfigService configService,
+                                 RbiRateService rbiRateService,
+                                 DecisionFactMapper factMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${loanflow.decision-engine.session-pool-size:8}") int sessionPoolSize,
+                                 @Value("${loanflow.decision-engine.batch.parallelism:0}") int batchParallelism,
+                                 @Value("${loanflow.decision-engine.batch.partition-size:500}") int batchPartitionSize,
+                                 @Value("${loanflow.decision-engine.profiling.enabled:false}") boolean profilingEnabled) {
+        this.configService = configService;
+        this.rbiRateService = rbiRateService;
+        this.factMapper = factMapper;
+        this.sessionPoolSize = Math.max(1, sessionPoolSize);
+        this.ruleBase = new AtomicReference<>(new RuleBase(
+                PACKAGED_RULES_VERSION, kieContainer, kieContainer.newKieSessionsPool(this.sessionPoolSize)));
+        this.sessionSetupTimer = Timer.builder("decision.engine.session.setup")
+                .description("Borrowing a Drools session, binding globals and inserting facts")
+                .register(meterRegistry);
+        this.ruleFiringTimer = Timer.builder("decision.engine.rules.fire")
+                .description("Firing the Drools eligibility and pricing rules")
+                .register(meterRegistry);
+        this.batchPool = new ForkJoinPool(batchParallelism > 0 ? batchParallelism : Runtime.getRuntime().availableProcessors());
+        this.batchPartitionSize = Math.max(1, batchPartitionSize);
+        this.profilingEnabled = profilingEnabled;
+        this.ruleMetrics = new RuleProfiler.Metrics(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batchPool.shutdown();
+        ruleBase.get().retire();
+    }
+
+    /**
+     * Version of the rules new evaluations run against
+     */
+    public String getRulesVersion() {
+        return ruleBase.get().version;
+    }
+
+    /**
+     * Make a compiled container the live rules. Its session pool is created here, on the caller's
+     * thread, and a fixed sample of applications is evaluated on it first: that warms the pool, so
+     * the first evaluations on the new rules pay no setup cost, and rejects rules that compile but
+     * fail at runtime. A rejected container is disposed and the live rules are kept.
+     *
+     * @throws IllegalStateException if a sample application fails to evaluate or is left undecided
+     */
+    public void swapRules(String version, KieContainer container) {
+        RuleBase next = new RuleBase(version, container, container.newKieSessionsPool(sessionPoolSize));
+        try {
+            smokeTest(next);
+        } catch (RuntimeException e) {
+            next.retire();
+            throw new IllegalStateException("Decision rules version " + version + " failed the smoke test: "
+                    + e.getMessage(), e);
+        }
+
+        RuleBase previous = ruleBase.getAndSet(next);
+        previous.retire();
+        log.info("Decision rules switched from version {} to {}", previous.version, version);
+    }
 
     /**
      * Evaluate a loan application using Drools eligibility + pricing rules.
@@ -72,40 +192,261 @@ public class DecisionEngineService {
      * Evaluate with explicit facts (for ad-hoc REST evaluation).
      */
     public DecisionResult evaluateWithFacts(DecisionFacts facts, String applicationNumber) {
-        KieSession session = kieContainer.newKieSession();
+        return evaluateWithFacts(facts, applicationNumber, false);
+    }
+
+    /**
+     * Evaluate with explicit facts, optionally returning the per-rule profile in {@link DecisionResult#ruleTrace()}
+     * (profiled even when profiling is disabled).
+     */
+    public DecisionResult evaluateWithFacts(DecisionFacts facts, String applicationNumber, boolean trace) {
+        long start = System.nanoTime();
+        RuleProfiler profiler = profilingEnabled ? new RuleProfiler(ruleMetrics) : trace ? new RuleProfiler() : null;
+        RuleBase rules = RuleBase.acquire(ruleBase);
+        KieSession session = null;
         try {
-            // Set globals required by DRL files
-            session.setGlobal("logger", log);
-            session.setGlobal("configService", configService);
-            session.setGlobal("rbiRateService", rbiRateService);
+            session = rules.pool.newKieSession();
+            attach(session, profiler);
+            bindGlobals(session);
+            insertFacts(session, facts);
+            long setupNanos = System.nanoTime() - start;
+            sessionSetupTimer.record(setupNanos, TimeUnit.NANOSECONDS);
+
+            // Fire all rules (max 200 to prevent infinite loops from rule re-triggering)
+            long fireStart = System.nanoTime();
+            int rulesFired = session.fireAllRules(MAX_RULES_FIRED);
+            long fireNanos = System.nanoTime() - fireStart;
+            ruleFiringTimer.record(fireNanos, TimeUnit.NANOSECONDS);
+            log.info("Drools fired {} rules for application {} (session setup {} µs, firing {} µs)",
+                    rulesFired, applicationNumber, setupNanos / 1_000, fireNanos / 1_000);
 
-            // Insert all facts into working memory
-            session.insert(facts.loanApplication());
-            session.insert(facts.applicant());
-            session.insert(facts.employmentDetails());
-            session.insert(facts.creditReport());
-            session.insert(facts.eligibilityResult());
-            session.insert(facts.pricingResult());
-            if (facts.collateral() != null) {
-                session.insert(facts.collateral());
+            if (profilingEnabled) {
+                ruleMetrics.record(profiler);
             }
-            if (facts.incomeVerification() != null) {
-                session.insert(facts.incomeVerification());
+
+            // Build result from modified facts
+            DecisionResult result = buildResult(facts, rulesFired);
+            return trace ? result.withRuleTrace(profiler.trace()) : result;
+
+        } finally {
+            if (session != null) {
+                detach(session, profiler);
+                // Resets the session and returns it to the pool
+                session.dispose();
             }
+            rules.release();
+        }
+    }
 
-            // Fire all rules (max 200 to prevent infinite loops from rule re-triggering)
-            int rulesFired = session.fireAllRules(200);
-            log.info("Drools fired {} rules for application {}",
-                    rulesFired, applicationNumber);
+    /**
+     * Evaluate many applications, sharing a session per partition (nightly re-pricing, portfolio runs).
+     * Each application's rules fire exactly as in a single evaluation; rulesFired is counted per application.
+     *
+     * @param batch facts of distinct applications
+     * @return one DecisionResult per application, in input order
+     * @throws IllegalArgumentException if an application appears more than once
+     */
+    public List<DecisionResult> evaluateBatch(List<DecisionFacts> batch) {
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+        Set<String> applicationIds = new HashSet<>();
+        for (DecisionFacts facts : batch) {
+            if (!applicationIds.add(facts.loanApplication().getId())) {
+                throw new IllegalArgumentException("Application " + facts.loanApplication().getId()
+                        + " appears more than once in the batch");
+            }
+        }
 
-            // Build result from modified facts
-            return buildResult(facts, rulesFired);
+        long start = System.nanoTime();
+        int parallelism = batchPool.getParallelism();
+        int partitionSize = Math.min(batchPartitionSize, (batch.size() + parallelism - 1) / parallelism);
+        List<List<DecisionFacts>> partitions = new ArrayList<>();
+        for (int from = 0; from < batch.size(); from += partitionSize) {
+            partitions.add(batch.subList(from, Math.min(from + partitionSize, batch.size())));
+        }
+
+        List<DecisionResult> results;
+        if (partitions.size() == 1) {
+            results = evaluatePartition(partitions.get(0));
+        } else {
+            try {
+                results = batchPool.submit(() -> partitions.parallelStream()
+                        .map(this::evaluatePartition)
+                        .flatMap(List::stream)
+                        .toList()).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Batch decision evaluation interrupted", e);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException runtime
+                        ? runtime : new IllegalStateException("Batch decision evaluation failed", e.getCause());
+            }
+        }
+
+        log.info("Drools batch evaluated {} applications in {} session(s) in {} ms",
+                batch.size(), partitions.size(), (System.nanoTime() - start) / 1_000_000);
+        return results;
+    }
+
+    /**
+     * Insert the facts of every application into one session and fire once
+     */
+    private List<DecisionResult> evaluatePartition(List<DecisionFacts> partition) {
+        long start = System.nanoTime();
+        RulesFiredCounter counter = new RulesFiredCounter();
+        RuleProfiler profiler = profilingEnabled ? new RuleProfiler(ruleMetrics) : null;
+        RuleBase rules = RuleBase.acquire(ruleBase);
+        KieSession session = null;
+        try {
+            session = rules.pool.newKieSession();
+            session.addEventListener(counter);
+            attach(session, profiler);
+            bindGlobals(session);
+            for (DecisionFacts facts : partition) {
+                insertFacts(session, facts);
+            }
+            long setupNanos = System.nanoTime() - start;
+            sessionSetupTimer.record(setupNanos, TimeUnit.NANOSECONDS);
+
+            // Same loop guard as a single evaluation, per application: once an application has
+            // fired MAX_RULES_FIRED rules its remaining matches are filtered out, the others go on
+            long fireStart = System.nanoTime();
+            int rulesFired = session.fireAllRules(counter, MAX_RULES_FIRED * partition.size());
+            long fireNanos = System.nanoTime() - fireStart;
+            ruleFiringTimer.record(fireNanos, TimeUnit.NANOSECONDS);
+            log.debug("Drools fired {} rules for {} applications (session setup {} µs, firing {} µs)",
+                    rulesFired, partition.size(), setupNanos / 1_000, fireNanos / 1_000);
+            if (profilingEnabled) {
+                ruleMetrics.record(profiler);
+            }
+
+            List<DecisionResult> results = new ArrayList<>(partition.size());
+            for (DecisionFacts facts : partition) {
+                results.add(buildResult(facts, counter.firedFor(facts.loanApplication().getId())));
+            }
+            return results;
 
         } finally {
-            session.dispose();
+            if (session != null) {
+                // Pooled sessions keep their listeners across reset
+                session.removeEventListener(counter);
+                detach(session, profiler);
+                session.dispose();
+            }
+            rules.release();
+        }
+    }
+
+    /**
+     * Decide each sample application on a rule base that is not live yet
+     */
+    private void smokeTest(RuleBase rules) {
+        for (DecisionFacts facts : smokeTestFacts()) {
+            KieSession session = rules.pool.newKieSession();
+            try {
+                bindGlobals(session);
+                insertFacts(session, facts);
+                session.fireAllRules(MAX_RULES_FIRED);
+            } finally {
+                session.dispose();
+            }
+            if (facts.eligibilityResult().getStatus() == null) {
+                throw new IllegalStateException("no eligibility decision for sample application "
+                        + facts.loanApplication().getApplicationNumber());
+            }
         }
     }
 
+    /**
+     * The fixed smoke test sample: a prime and a sub-prime personal loan and a secured home loan
+     * (built afresh each time, as the rules modify their facts)
+     */
+    private List<DecisionFacts> smokeTestFacts() {
+        return List.of(
+                smokeTestFacts("SMOKE-PL-PRIME", "PL", 500000, 36, 750, 50000, 0),
+                smokeTestFacts("SMOKE-PL-SUBPRIME", "PL", 500000, 36, 500, 50000, 0),
+                smokeTestFacts("SMOKE-HL", "HL", 3000000, 240, 760, 120000, 5000000));
+    }
+
+    private DecisionFacts smokeTestFacts(String applicationNumber, String productCode, double amount, int tenure,
+                                         int creditScore, double income, double propertyValue) {
+        String appId = UUID.randomUUID().toString();
+        String applicantId = UUID.randomUUID().toString();
+
+        LoanApplicationFact appFact = LoanApplicationFact.builder()
+                .id(appId).applicationNumber(applicationNumber)
+                .productCode(productCode).requestedAmount(amount).tenureMonths(tenure)
+                .propertyValue(propertyValue).build();
+        ApplicantFact applicantFact = ApplicantFact.builder()
+                .id(applicantId).applicationId(appId)
+                .applicantType("PRIMARY").age(35).gender("MALE")
+                .pan("ABCDE1234F").panVerified(true)
+                .politicallyExposed(false).existingEmi(0)
+                .hasSalaryAccount(false).existingCustomer(false).existingLoanDpd(0)
+                .build();
+        EmploymentDetailsFact empFact = EmploymentDetailsFact.builder()
+                .id(UUID.randomUUID().toString()).applicantId(applicantId)
+                .employmentType(EmploymentType.SALARIED).employerCategory(EmployerCategory.PRIVATE)
+                .netMonthlyIncome(income).totalExperienceYears(5).yearsInCurrentJob(2)
+                .build();
+        CreditReportFact creditFact = CreditReportFact.builder()
+                .id(UUID.randomUUID().toString()).applicantId(applicantId)
+                .creditScore(creditScore).enquiryCount30Days(1)
+                .build();
+        CollateralFact collateralFact = propertyValue > 0
+                ? CollateralFact.builder()
+                        .id(UUID.randomUUID().toString()).applicationId(appId)
+                        .marketValue(propertyValue).collateralType("PROPERTY").build()
+                : null;
+
+        return factMapper.mapToFacts(appFact, applicantFact, empFact, creditFact, collateralFact);
+    }
+
+    private void attach(KieSession session, RuleProfiler profiler) {
+        if (profiler != null) {
+            session.addEventListener((AgendaEventListener) profiler);
+            session.addEventListener((RuleRuntimeEventListener) profiler);
+        }
+    }
+
+    /**
+     * Pooled sessions keep their listeners across reset
+     */
+    private void detach(KieSession session, RuleProfiler profiler) {
+        if (profiler != null) {
+            session.removeEventListener((AgendaEventListener) profiler);
+            session.removeEventListener((RuleRuntimeEventListener) profiler);
+        }
+    }
+
+    private void insertFacts(KieSession session, DecisionFacts facts) {
+        session.insert(facts.loanApplication());
+        session.insert(facts.applicant());
+        session.insert(facts.employmentDetails());
+        session.insert(facts.creditReport());
+        session.insert(facts.eligibilityResult());
+        session.insert(facts.pricingResult());
+        if (facts.collateral() != null) {
+            session.insert(facts.collateral());
+        }
+        if (facts.incomeVerification() != null) {
+            session.insert(facts.incomeVerification());
+        }
+    }
+
+    /**
+     * Set the globals required by the DRL files, unless this pooled session already has them
+     */
+    private void bindGlobals(KieSession session) {
+        if (session.getGlobal("rbiRateService") != null) {
+            return;
+        }
+        session.setGlobal("logger", log);
+        session.setGlobal("configService", configService);
+        session.setGlobal("rbiRateService", rbiRateService);
+    }
+
     private DecisionResult buildResult(DecisionFacts facts, int rulesFired) {
         EligibilityResultFact eligibility = facts.eligibilityResult();
         PricingResultFact pricing = facts.pricingResult();
@@ -161,6 +502,95 @@ public class DecisionEngineService {
         };
     }
 
+    /**
+     * A KieContainer with its session pool, and the evaluations currently using it.
+     * Once retired, it is closed (pool shut down, container disposed) as soon as no evaluation uses it;
+     * a closed rule base has a large negative user count, so late acquirers see it and retry.
+     */
+    private static final class RuleBase {
+        private static final int CLOSED = Integer.MIN_VALUE / 2;
+
+        private final String version;
+        private final KieContainer container;
+        private final KieContainerSessionsPool pool;
+        private final AtomicInteger users = new AtomicInteger();
+        private volatile boolean retired;
+
+        private RuleBase(String version, KieContainer container, KieContainerSessionsPool pool) {
+            this.version = version;
+            this.container = container;
+            this.pool = pool;
+        }
+
+        static RuleBase acquire(AtomicReference<RuleBase> current) {
+            while (true) {
+                RuleBase rules = current.get();
+                if (rules.users.incrementAndGet() > 0) {
+                    return rules;
+                }
+                // Closed between get() and increment: the reference already points to its successor
+            }
+        }
+
+        void release() {
+            if (users.decrementAndGet() == 0 && retired) {
+                close();
+            }
+        }
+
+        void retire() {
+            retired = true;
+            close();
+        }
+
+        private void close() {
+            if (users.compareAndSet(0, CLOSED)) {
+                pool.shutdown();
+                container.dispose();
+            }
+        }
+    }
+
+    /**
+     * Counts fired rules per application (every rule matches exactly one LoanApplicationFact) and,
+     * as an agenda filter, stops firing for an application once it reaches MAX_RULES_FIRED
+     */
+    private static final class RulesFiredCounter extends DefaultAgendaEventListener implements AgendaFilter {
+        private final Map<String, Integer> fired = new HashMap<>();
+
+        @Override
+        public void afterMatchFired(AfterMatchFiredEvent event) {
+            String applicationId = applicationId(event.getMatch());
+            if (applicationId != null) {
+                fired.merge(applicationId, 1, Integer::sum);
+            }
+        }
+
+        @Override
+        public boolean accept(Match match) {
+            String applicationId = applicationId(match);
+            if (applicationId == null || firedFor(applicationId) < MAX_RULES_FIRED) {
+                return true;
+            }
+            log.warn("Application {} reached the limit of {} fired rules in a batch; skipping {}",
+                    applicationId, MAX_RULES_FIRED, match.getRule().getName());
+            return false;
+        }
+
+        int firedFor(String applicationId) {
+            return fired.getOrDefault(applicationId, 0);
+        }
+
+        private static String applicationId(Match match) {
+            for (Object object : match.getObjects()) {
+                if (object instanceof LoanApplicationFact application) {
+                    return application.getId();
+                }
+            }
+            return null;
+        }
+    }
+
     /**
      * Decision result record — immutable result of Drools rule evaluation.
      */
@@ -182,12 +612,19 @@ public class DecisionEngineService {
             double processingFeeWaiver,
             double emi,
             String decision,
-            int rulesFired
+            int rulesFired,
+            @JsonInclude(JsonInclude.Include.NON_NULL) List<RuleProfiler.RuleTrace> ruleTrace
     ) {
         public DecisionResult {
             if (rejectionReasons == null) {
                 rejectionReasons = new ArrayList<>();
             }
         }
+
+        public DecisionResult withRuleTrace(List<RuleProfiler.RuleTrace> ruleTrace) {
+            return new DecisionResult(eligible, eligibilityStatus, rejectionReasons, referReason, maxEligibleAmount,
+                    creditScore, riskCategory, riskTier, interestRate, baseRate, totalDiscounts, totalPremiums,
+                    processingFee, processingFeeWaiver, emi, decision, rulesFired, ruleTrace);
+        }
     }
 }
@@ -0,0 +1,139 @@
+package com.loanflow.loan.decision.service;
+
+import com.loanflow.loan.decision.config.DroolsConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.kie.api.io.Resource;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieContainer;
+import org.kie.internal.io.ResourceFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Loads the decision rules from a versioned directory and hot-swaps them into the
+ * {@link DecisionEngineService} without a redeploy.
+ *
+ * Layout of loanflow.decision-engine.rules.directory:
+ * - {@code CURRENT} — a text file holding the name of the live version
+ * - {@code <version>/*.drl} — the rule files of each version
+ *
+ * Publishing a version means writing its directory, then pointing CURRENT at it. The directory is
+ * polled on a scheduler thread; a new version is compiled there and handed to the engine only once
+ * it compiled cleanly and decided the engine's smoke test sample without error, so requests never
+ * wait on a compilation. A version that fails to compile or fails the smoke test is logged and
+ * skipped (not retried until CURRENT changes); the previous rules stay live.
+ */
+@Component
+@ConditionalOnProperty(name = "loanflow.decision-engine.rules.directory")
+@Slf4j
+public class DecisionRulesReloader {
+
+    static final String CURRENT_FILE = "CURRENT";
+
+    private final DecisionEngineService decisionEngineService;
+    private final Path directory;
+    private final Counter reloadSuccess;
+    private final Counter reloadFailure;
+
+    private volatile String failedVersion;
+
+    public DecisionRulesReloader(DecisionEngineService decisionEngineService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${loanflow.decision-engine.rules.directory}") String directory) {
+        this.decisionEngineService = decisionEngineService;
+        this.directory = Path.of(directory);
+        this.reloadSuccess = Counter.builder("decision.engine.rules.reload")
+                .description("Decision rule reloads")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.reloadFailure = Counter.builder("decision.engine.rules.reload")
+                .description("Decision rule reloads")
+                .tag("result", "failure")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * Install the version named by CURRENT if it is not live yet
+     *
+     * @return true if the rules were swapped
+     */
+    @Scheduled(fixedDelayString = "${loanflow.decision-engine.rules.poll-interval-ms:30000}")
+    public synchronized boolean reload() {
+        String version;
+        try {
+            version = currentVersion();
+        } catch (IOException e) {
+            log.warn("Cannot read decision rules version from {}: {}", directory, e.getMessage());
+            return false;
+        }
+        if (version == null || version.equals(decisionEngineService.getRulesVersion())
+                || version.equals(failedVersion)) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        try {
+            KieContainer container = DroolsConfig.compile(loadRules(version));
+            decisionEngineService.swapRules(version, container);
+            failedVersion = null;
+            reloadSuccess.increment();
+            log.info("Decision rules version {} loaded in {} ms", version, (System.nanoTime() - start) / 1_000_000);
+            return true;
+        } catch (Exception e) {
+            failedVersion = version;
+            reloadFailure.increment();
+            log.error("Decision rules version {} rejected, keeping version {}: {}",
+                    version, decisionEngineService.getRulesVersion(), e.getMessage());
+            return false;
+        }
+    }
+
+    private String currentVersion() throws IOException {
+        Path current = directory.resolve(CURRENT_FILE);
+        if (!Files.exists(current)) {
+            return null;
+        }
+        String version = Files.readString(current, StandardCharsets.UTF_8).trim();
+        return version.isEmpty() ? null : version;
+    }
+
+    private List<Resource> loadRules(String version) throws IOException {
+        Path versionDirectory = directory.resolve(version).normalize();
+        if (!versionDirectory.startsWith(directory.normalize()) || !Files.isDirectory(versionDirectory)) {
+            throw new IllegalStateException("No rules directory for version " + version);
+        }
+
+        List<Resource> rules = new ArrayList<>();
+        try (Stream<Path> files = Files.list(versionDirectory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(".drl")).sorted().toList()) {
+                Resource resource = ResourceFactory.newByteArrayResource(Files.readAllBytes(file));
+                resource.setSourcePath("rules/" + file.getFileName());
+                resource.setResourceType(ResourceType.DRL);
+                rules.add(resource);
+            }
+        }
+        if (rules.isEmpty()) {
+            throw new IllegalStateException("No .drl files in " + versionDirectory);
+        }
+        return rules;
+    }
+}
@@ -0,0 +1,218 @@
+package com.loanflow.loan.decision.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.kie.api.definition.rule.Rule;
+import org.kie.api.event.rule.AfterMatchFiredEvent;
+import org.kie.api.event.rule.AgendaGroupPoppedEvent;
+import org.kie.api.event.rule.AgendaGroupPushedEvent;
+import org.kie.api.event.rule.AgendaEventListener;
+import org.kie.api.event.rule.BeforeMatchFiredEvent;
+import org.kie.api.event.rule.MatchCancelledEvent;
+import org.kie.api.event.rule.MatchCreatedEvent;
+import org.kie.api.event.rule.ObjectDeletedEvent;
+import org.kie.api.event.rule.ObjectInsertedEvent;
+import org.kie.api.event.rule.ObjectUpdatedEvent;
+import org.kie.api.event.rule.RuleFlowGroupActivatedEvent;
+import org.kie.api.event.rule.RuleFlowGroupDeactivatedEvent;
+import org.kie.api.event.rule.RuleRuntimeEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rule-level profile of one Drools evaluation, collected from agenda and working memory events.
+ *
+ * Per rule it counts matches created and cancelled, firings, the fact updates its consequence made
+ * and the time spent in the consequence. A consequence calling update($result) makes the engine
+ * re-evaluate every rule joining on that fact: the resulting churn shows as updates on the updating
+ * rule and as matches created (and cancelled, when a higher salience rule changes the fact again)
+ * well beyond the firings on the rules it re-triggers.
+ *
+ * One instance per evaluation, attached to the session for its duration; not thread-safe.
+ * Created with {@link Metrics}, it also records each consequence into the rule's timer as it fires.
+ */
+public final class RuleProfiler implements AgendaEventListener, RuleRuntimeEventListener {
+
+    private final Metrics metrics;
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private long consequenceStart;
+
+    /**
+     * Profile for a trace only
+     */
+    public RuleProfiler() {
+        this(null);
+    }
+
+    /**
+     * Profile that records consequence times into the metrics as the rules fire
+     */
+    public RuleProfiler(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void matchCreated(MatchCreatedEvent event) {
+        stats(event.getMatch().getRule()).matches++;
+    }
+
+    @Override
+    public void matchCancelled(MatchCancelledEvent event) {
+        stats(event.getMatch().getRule()).cancelled++;
+    }
+
+    @Override
+    public void beforeMatchFired(BeforeMatchFiredEvent event) {
+        consequenceStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterMatchFired(AfterMatchFiredEvent event) {
+        long nanos = System.nanoTime() - consequenceStart;
+        Stats rule = stats(event.getMatch().getRule());
+        rule.fired++;
+        rule.consequenceNanos += nanos;
+        if (rule.consequenceTimer != null) {
+            rule.consequenceTimer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void objectUpdated(ObjectUpdatedEvent event) {
+        // Null for updates made outside a consequence
+        if (event.getRule() != null) {
+            stats(event.getRule()).updates++;
+        }
+    }
+
+    @Override
+    public void objectInserted(ObjectInsertedEvent event) {
+    }
+
+    @Override
+    public void objectDeleted(ObjectDeletedEvent event) {
+    }
+
+    @Override
+    public void agendaGroupPopped(AgendaGroupPoppedEvent event) {
+    }
+
+    @Override
+    public void agendaGroupPushed(AgendaGroupPushedEvent event) {
+    }
+
+    @Override
+    public void beforeRuleFlowGroupActivated(RuleFlowGroupActivatedEvent event) {
+    }
+
+    @Override
+    public void afterRuleFlowGroupActivated(RuleFlowGroupActivatedEvent event) {
+    }
+
+    @Override
+    public void beforeRuleFlowGroupDeactivated(RuleFlowGroupDeactivatedEvent event) {
+    }
+
+    @Override
+    public void afterRuleFlowGroupDeactivated(RuleFlowGroupDeactivatedEvent event) {
+    }
+
+    /**
+     * Per-rule statistics, in the order the rules were first matched
+     */
+    public List<RuleTrace> trace() {
+        List<RuleTrace> trace = new ArrayList<>(stats.size());
+        stats.forEach((rule, s) -> trace.add(
+                new RuleTrace(rule, s.matches, s.cancelled, s.fired, s.updates, s.consequenceNanos / 1_000)));
+        return trace;
+    }
+
+    private Stats stats(Rule rule) {
+        return stats.computeIfAbsent(rule.getName(),
+                name -> new Stats(metrics != null ? metrics.metersFor(name).consequence : null));
+    }
+
+    private static final class Stats {
+        private final Timer consequenceTimer;
+        private int matches;
+        private int cancelled;
+        private int fired;
+        private int updates;
+        private long consequenceNanos;
+
+        private Stats(Timer consequenceTimer) {
+            this.consequenceTimer = consequenceTimer;
+        }
+    }
+
+    /**
+     * Profile of one rule within an evaluation
+     */
+    public record RuleTrace(
+            String rule,
+            int matches,
+            int cancelled,
+            int fired,
+            int updates,
+            long consequenceMicros
+    ) {}
+
+    /**
+     * Micrometer export of evaluation profiles, tagged by rule:
+     * decision.engine.rule.matches, .cancelled, .fired and .updates counters, and the
+     * decision.engine.rule.consequence timer (one sample per firing, recorded by the profiler as the
+     * rule fires, so a batch partition times each application's firings like a single evaluation).
+     * Meters are looked up once per rule and kept.
+     */
+    public static final class Metrics {
+
+        private final MeterRegistry meterRegistry;
+        private final Map<String, RuleMeters> meters = new ConcurrentHashMap<>();
+
+        public Metrics(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        /**
+         * Add an evaluation's counts (its consequence times were recorded as the rules fired)
+         */
+        public void record(RuleProfiler profiler) {
+            profiler.stats.forEach((rule, s) -> {
+                RuleMeters ruleMeters = metersFor(rule);
+                ruleMeters.matches.increment(s.matches);
+                ruleMeters.cancelled.increment(s.cancelled);
+                ruleMeters.fired.increment(s.fired);
+                ruleMeters.updates.increment(s.updates);
+            });
+        }
+
+        private RuleMeters metersFor(String rule) {
+            return meters.computeIfAbsent(rule, this::register);
+        }
+
+        private RuleMeters register(String rule) {
+            return new RuleMeters(
+                    counter("decision.engine.rule.matches", "Drools matches created", rule),
+                    counter("decision.engine.rule.cancelled", "Drools matches cancelled before firing", rule),
+                    counter("decision.engine.rule.fired", "Drools rule firings", rule),
+                    counter("decision.engine.rule.updates", "Fact updates made by the rule consequence", rule),
+                    Timer.builder("decision.engine.rule.consequence")
+                            .description("Time spent in the rule consequence per firing")
+                            .tag("rule", rule)
+                            .register(meterRegistry));
+        }
+
+        private Counter counter(String name, String description, String rule) {
+            return Counter.builder(name).description(description).tag("rule", rule).register(meterRegistry);
+        }
+
+        private record RuleMeters(Counter matches, Counter cancelled, Counter fired, Counter updates,
+                                  Timer consequence) {}
+    }
+}
@@ -0,0 +1,87 @@
+package com.loanflow.loan.policyengine.config;
+
+import com.loanflow.loan.policyengine.service.PolicySnapshotSubscriber;
+import com.loanflow.policy.evaluation.engine.ActionResolver;
+import com.loanflow.policy.evaluation.engine.ConditionEvaluator;
+import com.loanflow.policy.evaluation.engine.PolicySetEvaluator;
+import com.loanflow.policy.evaluation.engine.RuleEvaluator;
+import com.loanflow.policy.evaluation.metrics.PolicyEvaluationMetrics;
+import com.loanflow.policy.evaluation.plan.ConditionStatistics;
+import com.loanflow.policy.evaluation.snapshot.EmbeddedPolicyEngine;
+import com.loanflow.policy.evaluation.snapshot.PolicySnapshot;
+import com.loanflow.util.redis.CompactRedisSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * Embedded policy engine: evaluates policy snapshots published by policy-service in-process.
+ * The engine classes live in common-policy-engine, outside this service's component scan,
+ * so they are declared here. Disable with loanflow.policy-engine.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "loanflow.policy-engine.enabled", havingValue = "true", matchIfMissing = true)
+public class PolicyEngineConfig {
+
+    @Bean
+    public PolicyEvaluationMetrics policyEvaluationMetrics(MeterRegistry meterRegistry) {
+        return new PolicyEvaluationMetrics(meterRegistry);
+    }
+
+    @Bean
+    public PolicySetEvaluator policySetEvaluator(PolicyEvaluationMetrics policyEvaluationMetrics) {
+        RuleEvaluator ruleEvaluator = new RuleEvaluator(new ConditionEvaluator(policyEvaluationMetrics));
+        return new PolicySetEvaluator(ruleEvaluator, new ActionResolver(), policyEvaluationMetrics);
+    }
+
+    @Bean
+    public EmbeddedPolicyEngine embeddedPolicyEngine(
+            PolicySetEvaluator policySetEvaluator,
+            MeterRegistry meterRegistry,
+            @Value("${loanflow.policy-engine.adaptive-ordering.sample-rate:64}") int sampleRate,
+            @Value("${loanflow.policy-engine.adaptive-ordering.reorder-interval:2048}") int reorderInterval,
+            @Value("${loanflow.policy-engine.adaptive-ordering.min-samples:100}") int minSamples) {
+        return new EmbeddedPolicyEngine(policySetEvaluator, meterRegistry,
+                new ConditionStatistics.Settings(sampleRate, reorderInterval, minSamples));
+    }
+
+    @Bean
+    public RedisTemplate<String, Object> policySnapshotRedisTemplate(
+            RedisConnectionFactory connectionFactory,
+            @Value("${loanflow.redis.serializer.binary-writes:false}") boolean binaryWrites,
+            @Value("${loanflow.redis.serializer.compression-threshold-bytes:1024}") int compressionThreshold) {
+        CompactRedisSerializer valueSerializer = new CompactRedisSerializer(binaryWrites, compressionThreshold);
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(valueSerializer);
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(valueSerializer);
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * Subscribes to snapshot announcements from policy-service
+     */
+    @Bean
+    public RedisMessageListenerContainer policySnapshotListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisTemplate<String, Object> policySnapshotRedisTemplate,
+            PolicySnapshotSubscriber policySnapshotSubscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> policySnapshotSubscriber.onSnapshotMessage(
+                        policySnapshotRedisTemplate.getValueSerializer().deserialize(message.getBody())),
+                new ChannelTopic(PolicySnapshot.CHANNEL));
+        return container;
+    }
+}
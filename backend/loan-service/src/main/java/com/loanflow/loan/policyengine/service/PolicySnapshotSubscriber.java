@@ -0,0 +1,85 @@
+package com.loanflow.loan.policyengine.service;
+
+import com.loanflow.policy.evaluation.snapshot.EmbeddedPolicyEngine;
+import com.loanflow.policy.evaluation.snapshot.PolicySnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Keeps the {@link EmbeddedPolicyEngine} up to date with the policy snapshots in Redis.
+ *
+ * - On startup, installs every published snapshot
+ * - On each announcement from policy-service, installs the announced loan type's snapshot
+ * - Periodically re-reads all snapshots when the published version counter has moved past what was
+ *   last seen, as a safety net for announcements missed while disconnected
+ *
+ * Redis failures are logged; the engine keeps evaluating against the snapshots it already has.
+ */
+@Component
+@ConditionalOnProperty(name = "loanflow.policy-engine.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PolicySnapshotSubscriber {
+
+    private final RedisTemplate<String, Object> policySnapshotRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EmbeddedPolicyEngine embeddedPolicyEngine;
+
+    private volatile long lastSeenVersion = -1;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        resync();
+    }
+
+    /**
+     * Handle a snapshot announcement (payload: loan type)
+     */
+    public void onSnapshotMessage(Object payload) {
+        if (payload == null) {
+            return;
+        }
+        try {
+            Object snapshot = policySnapshotRedisTemplate.opsForHash().get(PolicySnapshot.REDIS_KEY, payload.toString());
+            if (snapshot instanceof PolicySnapshot policySnapshot) {
+                embeddedPolicyEngine.apply(policySnapshot);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load policy snapshot for {}: {}", payload, e.getMessage());
+        }
+    }
+
+    /**
+     * Re-read every snapshot if anything was published since the last resync
+     */
+    @Scheduled(fixedDelayString = "${loanflow.policy-engine.resync-interval-ms:60000}")
+    public void resync() {
+        try {
+            // INCR counter, stored as a plain decimal string
+            String published = stringRedisTemplate.opsForValue().get(PolicySnapshot.VERSION_KEY);
+            long version = published != null ? Long.parseLong(published) : -1;
+            if (version >= 0 && version == lastSeenVersion) {
+                return;
+            }
+
+            Map<Object, Object> snapshots = policySnapshotRedisTemplate.opsForHash().entries(PolicySnapshot.REDIS_KEY);
+            for (Object snapshot : snapshots.values()) {
+                if (snapshot instanceof PolicySnapshot policySnapshot) {
+                    embeddedPolicyEngine.apply(policySnapshot);
+                }
+            }
+            lastSeenVersion = version;
+        } catch (Exception e) {
+            log.warn("Policy snapshot resync failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.loanflow.loan.decision;
+
+import com.loanflow.loan.decision.controller.DecisionController;
+import com.loanflow.loan.decision.controller.DecisionController.BatchEvaluationRequest;
+import com.loanflow.loan.decision.controller.DecisionController.EvaluationRequest;
+import com.loanflow.loan.decision.mapper.DecisionFactMapper;
+import com.loanflow.loan.decision.service.DecisionEngineService;
+import com.loanflow.loan.repository.LoanApplicationRepository;
+import com.loanflow.util.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DecisionController.
+ * Uses plain Mockito (no Spring context) for fast, isolated testing.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Decision Controller Tests")
+class DecisionControllerTest {
+
+    @Mock
+    private DecisionEngineService decisionEngineService;
+
+    @Mock
+    private DecisionFactMapper factMapper;
+
+    @Mock
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @InjectMocks
+    private DecisionController controller;
+
+    @Test
+    @DisplayName("evaluateBatch should reject an application listed twice as a bad request")
+    void shouldRejectDuplicateApplications() {
+        UUID applicationId = UUID.randomUUID();
+        BatchEvaluationRequest request = new BatchEvaluationRequest(List.of(
+                existing(applicationId), existing(UUID.randomUUID()), existing(applicationId)));
+
+        assertThatThrownBy(() -> controller.evaluateBatch(request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(applicationId.toString())
+                .extracting("errorCode").isEqualTo("DUPLICATE_APPLICATION");
+        verifyNoInteractions(loanApplicationRepository, decisionEngineService);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private EvaluationRequest existing(UUID applicationId) {
+        return new EvaluationRequest(applicationId, null, null, 0, 0, 0, 0, null, null, 0, false,
+                null, null, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+}
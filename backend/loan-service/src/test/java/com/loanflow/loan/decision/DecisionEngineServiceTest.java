@@ -7,16 +7,33 @@ import com.loanflow.loan.decision.model.*;
 import com.loanflow.loan.decision.service.ConfigService;
 import com.loanflow.loan.decision.service.DecisionEngineService;
 import com.loanflow.loan.decision.service.DecisionEngineService.DecisionResult;
+import com.loanflow.loan.decision.service.DecisionRulesReloader;
 import com.loanflow.loan.decision.service.RbiRateService;
+import com.loanflow.loan.decision.service.RuleProfiler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.drools.compiler.kie.builder.impl.KieContainerImpl;
+import org.drools.modelcompiler.CanonicalKieModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.kie.api.runtime.KieContainer;
-
+import org.kie.internal.io.ResourceFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * TDD tests for the Drools Decision Engine.
@@ -31,6 +48,7 @@ class DecisionEngineServiceTest {
     private DecisionEngineService decisionEngineService;
     private DecisionFactMapper factMapper;
     private KieContainer kieContainer;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
@@ -42,8 +60,10 @@ class DecisionEngineServiceTest {
         RbiRateService rbiRateService = new RbiRateService();
         factMapper = new DecisionFactMapper();
 
+        meterRegistry = new SimpleMeterRegistry();
+
         decisionEngineService = new DecisionEngineService(
-                kieContainer, configService, rbiRateService, factMapper);
+                kieContainer, configService, rbiRateService, factMapper, meterRegistry, 1, 2, 2, true);
     }
 
     // =========================================================================
@@ -60,6 +80,30 @@ class DecisionEngineServiceTest {
             assertThat(kieContainer).isNotNull();
             assertThat(kieContainer.getKieBase()).isNotNull();
         }
+
+        @Test
+        @DisplayName("Should load the executable model generated by the Maven build")
+        void shouldLoadExecutableModelUnderMaven() {
+            // Surefire runs after process-classes, where the model is generated; IDE runs skip this
+            assumeTrue(System.getProperty("surefire.test.class.path") != null, "not running under Maven");
+
+            DroolsConfig droolsConfig = new DroolsConfig();
+            assertThat(droolsConfig.hasExecutableModel()).isTrue();
+            KieContainerImpl container = (KieContainerImpl) droolsConfig.loadExecutableModel();
+            assertThat(container.getKieModuleForKBase(DroolsConfig.KBASE_NAME)).isInstanceOf(CanonicalKieModule.class);
+        }
+
+        @Test
+        @DisplayName("Should load the same rules whether precompiled or compiled from DRL")
+        void shouldLoadSameRulesAsDrlCompilation() {
+            DroolsConfig droolsConfig = new DroolsConfig();
+            assumeTrue(droolsConfig.hasExecutableModel(), "no executable model on the classpath");
+
+            KieContainer precompiled = droolsConfig.loadExecutableModel();
+            KieContainer fromDrl = droolsConfig.compileFromDrl();
+
+            assertThat(ruleNames(precompiled)).isNotEmpty().isEqualTo(ruleNames(fromDrl));
+        }
     }
 
     // =========================================================================
@@ -606,10 +650,277 @@ class DecisionEngineServiceTest {
         }
     }
 
+    // =========================================================================
+    // SESSION POOLING
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Session Pooling")
+    class SessionPoolingTests {
+
+        @Test
+        @DisplayName("Should not leak facts between evaluations sharing a pooled session")
+        void shouldResetPooledSessionBetweenEvaluations() {
+            DecisionResult rejected = decisionEngineService.evaluateWithFacts(
+                    buildFacts("PL", 500000, 36, 500, 30, 50000), "TEST-POOL-001");
+            DecisionResult eligible = decisionEngineService.evaluateWithFacts(
+                    buildFacts("PL", 500000, 36, 750, 30, 50000), "TEST-POOL-002");
+            DecisionResult eligibleAgain = decisionEngineService.evaluateWithFacts(
+                    buildFacts("PL", 500000, 36, 750, 30, 50000), "TEST-POOL-003");
+
+            assertThat(rejected.eligible()).isFalse();
+            assertThat(eligible.eligible()).isTrue();
+            assertThat(eligibleAgain).isEqualTo(eligible);
+        }
+
+        @Test
+        @DisplayName("Should time session setup and rule firing separately")
+        void shouldRecordSetupAndFiringTimers() {
+            decisionEngineService.evaluateWithFacts(buildFacts("PL", 500000, 36, 750, 30, 50000), "TEST-POOL-004");
+            decisionEngineService.evaluateWithFacts(buildFacts("PL", 500000, 36, 750, 30, 50000), "TEST-POOL-005");
+
+            assertThat(meterRegistry.get("decision.engine.session.setup").timer().count()).isEqualTo(2);
+            assertThat(meterRegistry.get("decision.engine.rules.fire").timer().count()).isEqualTo(2);
+        }
+    }
+
+    // =========================================================================
+    // BATCH EVALUATION
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Batch Evaluation")
+    class BatchEvaluationTests {
+
+        private final List<Supplier<DecisionFacts>> scenarios = List.of(
+                () -> buildFacts("PL", 500000, 36, 750, 30, 50000),
+                () -> buildFacts("PL", 500000, 36, 500, 30, 50000),
+                () -> buildFacts("PL", 300000, 36, 720, 30, 50000),
+                () -> buildFactsWithCreditIssues("PL", 500000, 36, 500, 18, 50000, 2, 1),
+                () -> buildHomeLoanFacts(3000000, 240, 760, 35, 120000, 5000000));
+
+        @Test
+        @DisplayName("Should decide each application in a shared session exactly as when evaluated alone")
+        void shouldMatchSingleEvaluations() {
+            List<DecisionResult> single = scenarios.stream()
+                    .map(scenario -> decisionEngineService.evaluateWithFacts(scenario.get(), "TEST-SINGLE"))
+                    .toList();
+
+            // 5 applications over 2 cores: partitions of 2, 2 and 1 applications
+            List<DecisionResult> batch = decisionEngineService.evaluateBatch(
+                    scenarios.stream().map(Supplier::get).toList());
+
+            assertThat(batch).isEqualTo(single);
+            assertThat(batch.get(0).eligible()).isTrue();
+            assertThat(batch.get(1).eligible()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should cap rule firings per application, not per partition")
+        void shouldCapFiringsPerApplication() {
+            decisionEngineService.swapRules("runaway", DroolsConfig.compile(List.of(
+                    ResourceFactory.newClassPathResource("rules/eligibility-rules.drl"),
+                    ResourceFactory.newClassPathResource("rules/pricing-rules.drl"),
+                    ResourceFactory.newByteArrayResource("""
+                            package com.loanflow.rules.test;
+                            import com.loanflow.loan.decision.model.LoanApplicationFact;
+                            rule "Runaway"
+                            when
+                                $a : LoanApplicationFact(applicationNumber == "TEST-LOOP", tenureMonths > 0)
+                            then
+                                modify($a) { setTenureMonths($a.getTenureMonths()) }
+                            end
+                            """.getBytes(StandardCharsets.UTF_8)).setSourcePath("rules/runaway-rules.drl"))));
+            DecisionResult alone = decisionEngineService.evaluateWithFacts(scenarios.get(0).get(), "TEST-SINGLE");
+
+            DecisionFacts runaway = scenarios.get(0).get();
+            runaway.loanApplication().setApplicationNumber("TEST-LOOP");
+            // 4 applications over 2 cores: the runaway shares its partition with the first regular one
+            List<DecisionResult> batch = decisionEngineService.evaluateBatch(List.of(
+                    runaway, scenarios.get(0).get(), scenarios.get(0).get(), scenarios.get(0).get()));
+
+            assertThat(batch.get(0).rulesFired()).isEqualTo(200);
+            assertThat(batch.subList(1, 4)).containsOnly(alone);
+        }
+
+        @Test
+        @DisplayName("Should reject a batch containing the same application twice")
+        void shouldRejectDuplicateApplications() {
+            DecisionFacts facts = buildFacts("PL", 500000, 36, 750, 30, 50000);
+
+            assertThatThrownBy(() -> decisionEngineService.evaluateBatch(List.of(facts, facts)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(facts.loanApplication().getId());
+        }
+
+        @Test
+        @DisplayName("Should return no results for an empty batch")
+        void shouldHandleEmptyBatch() {
+            assertThat(decisionEngineService.evaluateBatch(List.of())).isEmpty();
+        }
+    }
+
+    // =========================================================================
+    // RULE PROFILING
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Rule Profiling")
+    class RuleProfilingTests {
+
+        @Test
+        @DisplayName("Should return a per-rule trace only when requested")
+        void shouldReturnTraceOnRequest() {
+            DecisionResult plain = decisionEngineService.evaluateWithFacts(
+                    buildFacts("PL", 500000, 36, 750, 30, 50000), "TEST-PROF-001");
+            DecisionResult traced = decisionEngineService.evaluateWithFacts(
+                    buildFacts("PL", 500000, 36, 750, 30, 50000), "TEST-PROF-002", true);
+
+            assertThat(plain.ruleTrace()).isNull();
+            assertThat(traced.withRuleTrace(null)).isEqualTo(plain);
+            assertThat(traced.ruleTrace().stream().mapToInt(RuleProfiler.RuleTrace::fired).sum())
+                    .isEqualTo(traced.rulesFired());
+        }
+
+        @Test
+        @DisplayName("Should attribute fact updates to the rule whose consequence made them")
+        void shouldCountConsequenceUpdates() {
+            DecisionResult traced = decisionEngineService.evaluateWithFacts(
+                    buildFacts("PL", 500000, 36, 750, 30, 50000), "TEST-PROF-003", true);
+
+            RuleProfiler.RuleTrace baseRate = traced.ruleTrace().stream()
+                    .filter(rule -> rule.rule().equals("Base Rate - Personal Loan"))
+                    .findFirst().orElseThrow();
+            assertThat(baseRate.fired()).isEqualTo(1);
+            assertThat(baseRate.updates()).isEqualTo(1);
+            assertThat(baseRate.matches()).isGreaterThanOrEqualTo(baseRate.fired());
+        }
+
+        @Test
+        @DisplayName("Should export per-rule firing metrics")
+        void shouldExportRuleMetrics() {
+            decisionEngineService.evaluateWithFacts(buildFacts("PL", 500000, 36, 750, 30, 50000), "TEST-PROF-004");
+            decisionEngineService.evaluateWithFacts(buildFacts("PL", 500000, 36, 750, 30, 50000), "TEST-PROF-005");
+
+            assertThat(meterRegistry.get("decision.engine.rule.fired")
+                    .tag("rule", "Base Rate - Personal Loan").counter().count()).isEqualTo(2);
+            assertThat(meterRegistry.get("decision.engine.rule.consequence")
+                    .tag("rule", "Base Rate - Personal Loan").timer().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should time each consequence firing in a batch, not each partition")
+        void shouldTimeEveryFiringInBatch() {
+            // 3 applications over 2 cores: partitions of 2 and 1 applications
+            decisionEngineService.evaluateBatch(List.of(
+                    buildFacts("PL", 500000, 36, 750, 30, 50000),
+                    buildFacts("PL", 500000, 36, 750, 30, 50000),
+                    buildFacts("PL", 500000, 36, 750, 30, 50000)));
+
+            assertThat(meterRegistry.get("decision.engine.rule.fired")
+                    .tag("rule", "Base Rate - Personal Loan").counter().count()).isEqualTo(3);
+            assertThat(meterRegistry.get("decision.engine.rule.consequence")
+                    .tag("rule", "Base Rate - Personal Loan").timer().count()).isEqualTo(3);
+        }
+    }
+
+    // =========================================================================
+    // RULES HOT RELOAD
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Rules Hot Reload")
+    class RulesReloadTests {
+
+        @TempDir
+        Path rulesDirectory;
+
+        private DecisionRulesReloader reloader;
+
+        @BeforeEach
+        void setUp() {
+            reloader = new DecisionRulesReloader(decisionEngineService, meterRegistry, rulesDirectory.toString());
+        }
+
+        @Test
+        @DisplayName("Should swap in the version named by CURRENT and keep deciding the same way")
+        void shouldSwapToCurrentVersion() throws IOException {
+            DecisionResult before = decisionEngineService.evaluateWithFacts(
+                    buildFacts("PL", 500000, 36, 750, 30, 50000), "TEST-RELOAD-001");
+
+            publish("v1", packagedRules("eligibility-rules.drl"), packagedRules("pricing-rules.drl"));
+
+            assertThat(reloader.reload()).isTrue();
+            assertThat(decisionEngineService.getRulesVersion()).isEqualTo("v1");
+            assertThat(decisionEngineService.evaluateWithFacts(
+                    buildFacts("PL", 500000, 36, 750, 30, 50000), "TEST-RELOAD-002")).isEqualTo(before);
+            // Already live: nothing to do
+            assertThat(reloader.reload()).isFalse();
+            assertThat(meterRegistry.get("decision.engine.rules.reload").tag("result", "success").counter().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should keep the live rules when the new version does not compile")
+        void shouldKeepLiveRulesOnCompilationError() throws IOException {
+            publish("v2", packagedRules("eligibility-rules.drl"), "package com.loanflow.rules.pricing;\nrule \"Broken\" when then");
+
+            assertThat(reloader.reload()).isFalse();
+            assertThat(decisionEngineService.getRulesVersion()).isEqualTo(DecisionEngineService.PACKAGED_RULES_VERSION);
+            assertThat(decisionEngineService.evaluateWithFacts(
+                    buildFacts("PL", 500000, 36, 750, 30, 50000), "TEST-RELOAD-003").eligible()).isTrue();
+            // The failed version is not recompiled on every poll
+            assertThat(reloader.reload()).isFalse();
+            assertThat(meterRegistry.get("decision.engine.rules.reload").tag("result", "failure").counter().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should keep the live rules when the new version compiles but fails on the smoke test sample")
+        void shouldKeepLiveRulesOnRuntimeFailure() throws IOException {
+            publish("v3", packagedRules("eligibility-rules.drl"), packagedRules("pricing-rules.drl") + """
+
+                    rule "Broken At Runtime"
+                    when
+                        $app : LoanApplicationFact(productCode == "HL")
+                    then
+                        throw new IllegalStateException("missing rate card for " + $app.getProductCode());
+                    end
+                    """);
+
+            assertThat(reloader.reload()).isFalse();
+            assertThat(decisionEngineService.getRulesVersion()).isEqualTo(DecisionEngineService.PACKAGED_RULES_VERSION);
+            assertThat(decisionEngineService.evaluateWithFacts(
+                    buildHomeLoanFacts(3000000, 240, 760, 35, 120000, 5000000), "TEST-RELOAD-004").eligible()).isTrue();
+            assertThat(meterRegistry.get("decision.engine.rules.reload").tag("result", "failure").counter().count())
+                    .isEqualTo(1);
+        }
+
+        private void publish(String version, String eligibilityRules, String pricingRules) throws IOException {
+            Path versionDirectory = Files.createDirectories(rulesDirectory.resolve(version));
+            Files.writeString(versionDirectory.resolve("eligibility-rules.drl"), eligibilityRules);
+            Files.writeString(versionDirectory.resolve("pricing-rules.drl"), pricingRules);
+            Files.writeString(rulesDirectory.resolve("CURRENT"), version + "\n");
+        }
+
+        private String packagedRules(String file) throws IOException {
+            try (InputStream in = getClass().getClassLoader().getResourceAsStream("rules/" + file)) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
     // =========================================================================
     // HELPER METHODS
     // =========================================================================
 
+    private Set<String> ruleNames(KieContainer container) {
+        return container.getKieBase().getKiePackages().stream()
+                .flatMap(kiePackage -> kiePackage.getRules().stream())
+                .map(rule -> rule.getPackageName() + "." + rule.getName())
+                .collect(Collectors.toSet());
+    }
+
     private DecisionFacts buildFacts(String productCode, double amount, int tenure,
                                      int cibilScore, int age, double income) {
         String appId = UUID.randomUUID().toString();
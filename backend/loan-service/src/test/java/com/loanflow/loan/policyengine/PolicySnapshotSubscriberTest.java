@@ -0,0 +1,96 @@
+package com.loanflow.loan.policyengine;
+
+import com.loanflow.loan.policyengine.service.PolicySnapshotSubscriber;
+import com.loanflow.policy.evaluation.snapshot.EmbeddedPolicyEngine;
+import com.loanflow.policy.evaluation.snapshot.PolicySnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Policy Snapshot Subscriber — Announcements & Resync")
+class PolicySnapshotSubscriberTest {
+
+    @Mock private RedisTemplate<String, Object> policySnapshotRedisTemplate;
+    @Mock private HashOperations<String, Object, Object> hashOperations;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+    @Mock private EmbeddedPolicyEngine embeddedPolicyEngine;
+
+    private PolicySnapshotSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        subscriber = new PolicySnapshotSubscriber(policySnapshotRedisTemplate, stringRedisTemplate, embeddedPolicyEngine);
+    }
+
+    private PolicySnapshot snapshot(String loanType, long version) {
+        return new PolicySnapshot(loanType, version, LocalDateTime.now(), new ArrayList<>());
+    }
+
+    @Nested
+    @DisplayName("Announcements")
+    class Announcements {
+
+        @Test
+        @DisplayName("Should install the announced loan type's snapshot")
+        void shouldInstallAnnouncedSnapshot() {
+            PolicySnapshot snapshot = snapshot("HOME_LOAN", 4);
+            when(policySnapshotRedisTemplate.opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.get(PolicySnapshot.REDIS_KEY, "HOME_LOAN")).thenReturn(snapshot);
+
+            subscriber.onSnapshotMessage("HOME_LOAN");
+
+            verify(embeddedPolicyEngine).apply(snapshot);
+        }
+
+        @Test
+        @DisplayName("Should keep the current snapshot when Redis is unavailable")
+        void shouldSwallowRedisFailures() {
+            when(policySnapshotRedisTemplate.opsForHash()).thenThrow(new RuntimeException("Redis down"));
+
+            assertThatCode(() -> subscriber.onSnapshotMessage("HOME_LOAN")).doesNotThrowAnyException();
+            verifyNoInteractions(embeddedPolicyEngine);
+        }
+    }
+
+    @Nested
+    @DisplayName("Resync")
+    class Resync {
+
+        @Test
+        @DisplayName("Should install every snapshot, then skip until the version counter moves")
+        void shouldResyncOnlyWhenVersionMoves() {
+            PolicySnapshot personal = snapshot("PERSONAL_LOAN", 5);
+            PolicySnapshot home = snapshot("HOME_LOAN", 6);
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(PolicySnapshot.VERSION_KEY)).thenReturn("6", "6", "7");
+            when(policySnapshotRedisTemplate.opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.entries(PolicySnapshot.REDIS_KEY))
+                    .thenReturn(Map.of("PERSONAL_LOAN", personal, "HOME_LOAN", home));
+
+            subscriber.resync();
+            subscriber.resync();
+            subscriber.resync();
+
+            verify(hashOperations, times(2)).entries(PolicySnapshot.REDIS_KEY);
+            verify(embeddedPolicyEngine, times(2)).apply(personal);
+            verify(embeddedPolicyEngine, times(2)).apply(home);
+        }
+    }
+}
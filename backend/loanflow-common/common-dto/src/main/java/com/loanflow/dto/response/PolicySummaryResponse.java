@@ -0,0 +1,29 @@
+package com.loanflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight policy row for list screens (no rules, description or tags)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicySummaryResponse {
+
+    private String id;
+    private String policyCode;
+    private String name;
+    private String category;
+    private String loanType;
+    private String status;
+    private Integer versionNumber;
+    private Integer priority;
+    private int ruleCount;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,291 @@
+package com.loanflow.policy.evaluation.dto;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Evaluation context containing all data needed to evaluate policies against a loan application.
+ *
+ * Field paths are interned into integer slots by {@link FieldSlots}; values sit in parallel
+ * arrays indexed by slot:
+ *   values  (Object[]) — the value as supplied (String, Integer, BigDecimal, ...)
+ *   numbers (double[]) — numeric view, parsed once when the value is put
+ *   present / numeric (long[] bitmaps) — which slots hold a value / a numeric view
+ *
+ * Compiled conditions read by slot, so lookups are array indexing and numeric values never
+ * round-trip through strings. Fields no policy references (e.g. unknown additionalFields)
+ * are kept in a small overflow map and promoted to a slot if a policy later interns them.
+ *
+ * Standard field paths:
+ *   loan.type, loan.requestedAmount, loan.tenureMonths, loan.purpose, loan.branchCode
+ *   applicant.cibilScore, applicant.riskCategory, applicant.age
+ *   applicant.employmentType, applicant.monthlyIncome, applicant.yearsOfExperience
+ *   property.estimatedValue, property.type
+ */
+public class EvaluationContext {
+
+    private Object[] values;
+    private double[] numbers;
+    private long[] present;
+    private long[] numeric;
+    private int fieldCount;
+    private Map<String, Object> overflow;
+
+    public EvaluationContext() {
+        int capacity = Math.max(FieldSlots.size(), 16);
+        this.values = new Object[capacity];
+        this.numbers = new double[capacity];
+        this.present = new long[words(capacity)];
+        this.numeric = new long[words(capacity)];
+    }
+
+    private EvaluationContext(EvaluationContext source) {
+        this.values = source.values.clone();
+        this.numbers = source.numbers.clone();
+        this.present = source.present.clone();
+        this.numeric = source.numeric.clone();
+        this.fieldCount = source.fieldCount;
+        this.overflow = source.overflow != null ? new HashMap<>(source.overflow) : null;
+    }
+
+    /**
+     * Independent copy of the context. Reads can promote overflow fields and grow the slot
+     * arrays, so a context handed to another thread (e.g. for archiving) must be a copy.
+     */
+    public EvaluationContext copy() {
+        return new EvaluationContext(this);
+    }
+
+    // ==================== Field-path API ====================
+
+    /**
+     * Add a field value to the context
+     */
+    public EvaluationContext put(String field, Object value) {
+        if (value == null || field == null) {
+            return this;
+        }
+        int slot = FieldSlots.slotOf(field);
+        if (slot >= 0) {
+            if (overflow != null && overflow.remove(field) != null) {
+                fieldCount--;
+            }
+            return put(slot, value);
+        }
+        if (overflow == null) {
+            overflow = new HashMap<>();
+        }
+        if (overflow.put(field, value) == null) {
+            fieldCount++;
+        }
+        return this;
+    }
+
+    /**
+     * Get a field value as string
+     */
+    public String get(String field) {
+        int slot = FieldSlots.slotOf(field);
+        if (slot >= 0) {
+            return getString(slot);
+        }
+        Object value = overflow != null ? overflow.get(field) : null;
+        return value != null ? String.valueOf(value) : null;
+    }
+
+    /**
+     * Check if a field exists in the context
+     */
+    public boolean hasField(String field) {
+        int slot = FieldSlots.slotOf(field);
+        if (slot >= 0) {
+            return isPresent(slot);
+        }
+        return overflow != null && overflow.containsKey(field);
+    }
+
+    /**
+     * Get a field value as a number (Double)
+     */
+    public Double getAsNumber(String field) {
+        int slot = FieldSlots.slotOf(field);
+        if (slot >= 0) {
+            return isNumeric(slot) ? numbers[slot] : null;
+        }
+        return parseNumber(get(field));
+    }
+
+    /**
+     * Get a field value as boolean
+     */
+    public Boolean getAsBoolean(String field) {
+        String value = get(field);
+        if (value == null || value.isBlank()) return null;
+        return Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Number of fields present in the context
+     */
+    public int size() {
+        return fieldCount;
+    }
+
+    /**
+     * Snapshot of all fields as field path → string value (for audit and diagnostics)
+     */
+    public Map<String, String> getData() {
+        Map<String, String> data = new LinkedHashMap<>();
+        for (int slot = 0; slot < values.length; slot++) {
+            if (isSet(present, slot)) {
+                data.put(FieldSlots.nameOf(slot), String.valueOf(values[slot]));
+            }
+        }
+        if (overflow != null) {
+            overflow.forEach((field, value) -> data.put(field, String.valueOf(value)));
+        }
+        return data;
+    }
+
+    /**
+     * Visit every field with its value as supplied (not stringified), e.g. for archiving
+     */
+    public void forEach(BiConsumer<String, Object> action) {
+        for (int slot = 0; slot < values.length; slot++) {
+            if (isSet(present, slot)) {
+                action.accept(FieldSlots.nameOf(slot), values[slot]);
+            }
+        }
+        if (overflow != null) {
+            overflow.forEach(action);
+        }
+    }
+
+    // ==================== Slot API (hot path) ====================
+
+    /**
+     * Add a value by slot. Numbers keep their numeric view without a string round-trip;
+     * strings are parsed once here if they look numeric.
+     */
+    public EvaluationContext put(int slot, Object value) {
+        if (value == null || slot < 0) {
+            return this;
+        }
+        ensureCapacity(slot);
+        if (!isSet(present, slot)) {
+            fieldCount++;
+        }
+        values[slot] = value;
+        set(present, slot);
+
+        Double number = value instanceof Number n ? toDouble(n) : parseNumber(String.valueOf(value));
+        if (number != null) {
+            numbers[slot] = number;
+            set(numeric, slot);
+        } else {
+            clear(numeric, slot);
+        }
+        return this;
+    }
+
+    /**
+     * Check whether a slot holds a value
+     */
+    public boolean isPresent(int slot) {
+        if (slot < 0) return false;
+        if (slot < values.length && isSet(present, slot)) return true;
+        return promote(slot);
+    }
+
+    /**
+     * Check whether a slot holds a value with a numeric view
+     */
+    public boolean isNumeric(int slot) {
+        return isPresent(slot) && isSet(numeric, slot);
+    }
+
+    /**
+     * Numeric view of a slot; only meaningful when {@link #isNumeric(int)} is true
+     */
+    public double getNumber(int slot) {
+        return numbers[slot];
+    }
+
+    /**
+     * Raw value of a slot as supplied, or null
+     */
+    public Object getValue(int slot) {
+        return isPresent(slot) ? values[slot] : null;
+    }
+
+    /**
+     * String view of a slot (String.valueOf of the supplied value), or null
+     */
+    public String getString(int slot) {
+        Object value = getValue(slot);
+        if (value == null) return null;
+        return value instanceof String s ? s : String.valueOf(value);
+    }
+
+    // ==================== Internals ====================
+
+    /**
+     * Move an overflow field into its slot once a policy has interned the field path
+     */
+    private boolean promote(int slot) {
+        if (overflow == null) return false;
+        String field = FieldSlots.nameOf(slot);
+        Object value = field != null ? overflow.remove(field) : null;
+        if (value == null) return false;
+        fieldCount--;
+        put(slot, value);
+        return true;
+    }
+
+    private void ensureCapacity(int slot) {
+        if (slot < values.length) return;
+        int capacity = Math.max(slot + 1, values.length * 2);
+        values = Arrays.copyOf(values, capacity);
+        numbers = Arrays.copyOf(numbers, capacity);
+        present = Arrays.copyOf(present, words(capacity));
+        numeric = Arrays.copyOf(numeric, words(capacity));
+    }
+
+    private static Double toDouble(Number number) {
+        if (number instanceof BigDecimal || number instanceof Double || number instanceof Float
+                || number instanceof Integer || number instanceof Long
+                || number instanceof Short || number instanceof Byte) {
+            return number.doubleValue();
+        }
+        return parseNumber(String.valueOf(number));
+    }
+
+    private static Double parseNumber(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int words(int capacity) {
+        return (capacity + 63) >>> 6;
+    }
+
+    private static boolean isSet(long[] bits, int slot) {
+        return (bits[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    private static void set(long[] bits, int slot) {
+        bits[slot >>> 6] |= 1L << slot;
+    }
+
+    private static void clear(long[] bits, int slot) {
+        bits[slot >>> 6] &= ~(1L << slot);
+    }
+}
@@ -0,0 +1,87 @@
+package com.loanflow.policy.evaluation.dto;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry that interns evaluation field paths into integer slots.
+ *
+ * Standard request fields are registered up front; any other field path is interned
+ * when a policy condition referencing it is compiled. Field paths that only arrive
+ * through request data (additionalFields) are never interned, so the slot space stays
+ * bounded by the policy definitions rather than by caller input.
+ */
+public final class FieldSlots {
+
+    private static final Map<String, Integer> SLOTS = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[0];
+
+    // Loan fields
+    public static final int LOAN_TYPE = intern("loan.type");
+    public static final int LOAN_REQUESTED_AMOUNT = intern("loan.requestedAmount");
+    public static final int LOAN_TENURE_MONTHS = intern("loan.tenureMonths");
+    public static final int LOAN_PURPOSE = intern("loan.purpose");
+    public static final int LOAN_BRANCH_CODE = intern("loan.branchCode");
+
+    // Applicant fields
+    public static final int APPLICANT_CIBIL_SCORE = intern("applicant.cibilScore");
+    public static final int APPLICANT_RISK_CATEGORY = intern("applicant.riskCategory");
+    public static final int APPLICANT_AGE = intern("applicant.age");
+    public static final int APPLICANT_EMPLOYMENT_TYPE = intern("applicant.employmentType");
+    public static final int APPLICANT_MONTHLY_INCOME = intern("applicant.monthlyIncome");
+    public static final int APPLICANT_YEARS_OF_EXPERIENCE = intern("applicant.yearsOfExperience");
+
+    // Property fields
+    public static final int PROPERTY_ESTIMATED_VALUE = intern("property.estimatedValue");
+    public static final int PROPERTY_TYPE = intern("property.type");
+
+    private FieldSlots() {
+    }
+
+    /**
+     * Get the slot for a field path, registering it if not yet known.
+     * Intended for policy compilation, not for request data.
+     */
+    public static int intern(String field) {
+        if (field == null) return -1;
+        Integer slot = SLOTS.get(field);
+        return slot != null ? slot : register(field);
+    }
+
+    /**
+     * Get the slot for a field path, or -1 if no policy has referenced it
+     */
+    public static int slotOf(String field) {
+        if (field == null) return -1;
+        Integer slot = SLOTS.get(field);
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * Get the field path for a slot
+     */
+    public static String nameOf(int slot) {
+        String[] current = names;
+        return slot >= 0 && slot < current.length ? current[slot] : null;
+    }
+
+    /**
+     * Number of interned slots
+     */
+    public static int size() {
+        return names.length;
+    }
+
+    private static synchronized int register(String field) {
+        Integer existing = SLOTS.get(field);
+        if (existing != null) return existing;
+
+        int slot = names.length;
+        String[] grown = Arrays.copyOf(names, slot + 1);
+        grown[slot] = field;
+        names = grown;
+        SLOTS.put(field, slot);
+        return slot;
+    }
+}
@@ -15,7 +15,7 @@ import java.util.Map;
  * Contains the overall decision, matched policies, triggered actions, and audit trail.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PolicyEvaluationResponse {
@@ -84,6 +84,11 @@ public class PolicyEvaluationResponse {
      */
     private long evaluationDurationMs;
 
+    /**
+     * True when the response was served from the evaluation result memo rather than evaluated
+     */
+    private boolean memoized;
+
     // ==================== Nested Result Classes ====================
 
     /**
@@ -46,23 +46,23 @@ public class ActionResolver {
 
         // Most conservative decision wins
         if (actionTypes.contains(ActionType.REJECT.name())) {
-            log.info("Decision: REJECTED (reject action triggered)");
+            log.debug("Decision: REJECTED (reject action triggered)");
             return "REJECTED";
         }
         if (actionTypes.contains(ActionType.REFER.name())) {
-            log.info("Decision: REFERRED (refer action triggered)");
+            log.debug("Decision: REFERRED (refer action triggered)");
             return "REFERRED";
         }
         if (actionTypes.contains(ActionType.FLAG_RISK.name())) {
-            log.info("Decision: REFERRED (risk flag triggered)");
+            log.debug("Decision: REFERRED (risk flag triggered)");
             return "REFERRED";
         }
         if (actionTypes.contains(ActionType.APPROVE.name())) {
-            log.info("Decision: APPROVED (approve action triggered)");
+            log.debug("Decision: APPROVED (approve action triggered)");
             return "APPROVED";
         }
 
-        log.info("Decision: NO_DECISION (no decision actions in triggered set)");
+        log.debug("Decision: NO_DECISION (no decision actions in triggered set)");
         return "NO_DECISION";
     }
 
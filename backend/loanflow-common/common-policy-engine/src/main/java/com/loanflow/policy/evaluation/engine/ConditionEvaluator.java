@@ -0,0 +1,160 @@
+package com.loanflow.policy.evaluation.engine;
+
+import com.loanflow.policy.domain.enums.ConditionOperator;
+import com.loanflow.policy.domain.valueobject.Condition;
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse.ConditionResult;
+import com.loanflow.policy.evaluation.metrics.PolicyEvaluationMetrics;
+import com.loanflow.policy.evaluation.plan.CompiledCondition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evaluates individual policy conditions against an evaluation context.
+ *
+ * Supports all 15 ConditionOperator types:
+ * - Comparison: EQUALS, NOT_EQUALS, GREATER_THAN, GREATER_THAN_OR_EQUAL, LESS_THAN, LESS_THAN_OR_EQUAL
+ * - Collection: IN, NOT_IN
+ * - Range: BETWEEN
+ * - String: CONTAINS, STARTS_WITH
+ * - Boolean: IS_TRUE, IS_FALSE
+ * - Null: IS_NULL, IS_NOT_NULL
+ *
+ * Operator semantics live in {@link CompiledCondition}; this class resolves the actual
+ * value from the context and builds the audit-friendly result. Conditions that fail to
+ * evaluate are counted in {@link PolicyEvaluationMetrics}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConditionEvaluator {
+
+    private final PolicyEvaluationMetrics evaluationMetrics;
+
+    /**
+     * Evaluate a single condition against the context.
+     * Compiles the condition on the fly — prefer the {@link CompiledCondition} overload on hot paths.
+     *
+     * @param condition the condition to evaluate
+     * @param context   the evaluation context with field values
+     * @return ConditionResult with match status and details
+     */
+    public ConditionResult evaluate(Condition condition, EvaluationContext context) {
+        return evaluate(CompiledCondition.compile(condition), context);
+    }
+
+    /**
+     * Evaluate a pre-compiled condition against the context.
+     *
+     * @param condition the compiled condition to evaluate
+     * @param context   the evaluation context with field values
+     * @return ConditionResult with match status and details
+     */
+    public ConditionResult evaluate(CompiledCondition condition, EvaluationContext context) {
+        String field = condition.getField();
+        ConditionOperator operator = condition.getOperator();
+        String actualValue = context.getString(condition.getSlot());
+
+        log.debug("Evaluating condition: {} {} {}", field, operator, condition.getValue());
+
+        // Handle null-check operators first (they don't need an actual value)
+        if (operator == ConditionOperator.IS_NULL) {
+            boolean matched = actualValue == null || actualValue.isBlank();
+            return buildResult(condition, actualValue, matched,
+                    matched ? "Field is null/empty" : "Field has value: " + actualValue);
+        }
+
+        if (operator == ConditionOperator.IS_NOT_NULL) {
+            boolean matched = actualValue != null && !actualValue.isBlank();
+            return buildResult(condition, actualValue, matched,
+                    matched ? "Field has value: " + actualValue : "Field is null/empty");
+        }
+
+        // For all other operators, field must exist in context
+        if (actualValue == null) {
+            return buildResult(condition, null, false,
+                    "Field '" + field + "' not found in evaluation context");
+        }
+
+        try {
+            boolean matched = condition.test(context);
+            String reason = matched
+                    ? String.format("'%s' %s %s → PASS", actualValue, operator, condition.getExpectedValueDisplay())
+                    : String.format("'%s' %s %s → FAIL", actualValue, operator, condition.getExpectedValueDisplay());
+            return buildResult(condition, actualValue, matched, reason);
+        } catch (Exception e) {
+            log.warn("Error evaluating condition {} {} {}: {}",
+                    field, operator, condition.getValue(), e.getMessage());
+            evaluationMetrics.recordConditionError(condition);
+            return buildResult(condition, actualValue, false,
+                    "Evaluation error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Decision-only evaluation of a compiled condition.
+     * Same semantics as {@link #evaluate(CompiledCondition, EvaluationContext)} but builds no
+     * result object or reason string.
+     *
+     * @return true if the condition matches
+     */
+    public boolean matches(CompiledCondition condition, EvaluationContext context) {
+        return matches(condition, context, true);
+    }
+
+    /**
+     * Same as {@link #matches(CompiledCondition, EvaluationContext)} without logging or counting
+     * evaluation errors, for conditions tested only to sample their pass rate
+     */
+    public boolean matchesQuietly(CompiledCondition condition, EvaluationContext context) {
+        return matches(condition, context, false);
+    }
+
+    private boolean matches(CompiledCondition condition, EvaluationContext context, boolean reportErrors) {
+        int slot = condition.getSlot();
+        ConditionOperator operator = condition.getOperator();
+
+        if (operator == ConditionOperator.IS_NULL) {
+            return !context.isPresent(slot) || isBlank(context, slot);
+        }
+        if (operator == ConditionOperator.IS_NOT_NULL) {
+            return context.isPresent(slot) && !isBlank(context, slot);
+        }
+        if (!context.isPresent(slot)) {
+            return false;
+        }
+
+        try {
+            return condition.test(context);
+        } catch (Exception e) {
+            if (reportErrors) {
+                log.warn("Error evaluating condition {} {} {}: {}",
+                        condition.getField(), operator, condition.getValue(), e.getMessage());
+                evaluationMetrics.recordConditionError(condition);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A present slot is blank only if it holds a non-numeric, whitespace-only value
+     */
+    private boolean isBlank(EvaluationContext context, int slot) {
+        return !context.isNumeric(slot) && context.getString(slot).isBlank();
+    }
+
+    /**
+     * Build a ConditionResult
+     */
+    private ConditionResult buildResult(CompiledCondition condition, String actualValue, boolean matched, String reason) {
+        return ConditionResult.builder()
+                .field(condition.getField())
+                .operator(condition.getOperator().name())
+                .expectedValue(condition.getExpectedValueDisplay())
+                .actualValue(actualValue)
+                .matched(matched)
+                .reason(reason)
+                .build();
+    }
+}
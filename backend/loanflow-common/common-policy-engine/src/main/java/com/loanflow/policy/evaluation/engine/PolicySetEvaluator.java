@@ -0,0 +1,128 @@
+package com.loanflow.policy.evaluation.engine;
+
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse.TriggeredAction;
+import com.loanflow.policy.evaluation.metrics.PolicyEvaluationMetrics;
+import com.loanflow.policy.evaluation.plan.CompiledPolicy;
+import com.loanflow.policy.evaluation.plan.CompiledPolicySet;
+import com.loanflow.policy.evaluation.plan.CompiledRule;
+import com.loanflow.policy.evaluation.plan.ConditionIndex;
+import com.loanflow.policy.evaluation.plan.ConditionStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Decision-only evaluation of a whole compiled policy set against one context (the fast path).
+ *
+ * Rules short-circuit through the set's shared {@link ConditionIndex}; no per-condition results,
+ * reasons or evaluation log are built. Used by live decision-only evaluation and by backtesting.
+ * Live evaluations are metered per policy and rule; backtest replays are not.
+ *
+ * Rules test their conditions in the set's adaptive evaluation order. Live evaluations also sample
+ * condition pass rates and costs, and the set is reordered when enough samples have accumulated.
+ */
+@Component
+@RequiredArgsConstructor
+public class PolicySetEvaluator {
+
+    private final RuleEvaluator ruleEvaluator;
+    private final ActionResolver actionResolver;
+    private final PolicyEvaluationMetrics evaluationMetrics;
+
+    /**
+     * Evaluate every included policy of the set, in set order, recording evaluation metrics
+     *
+     * @param policySet the compiled policy set
+     * @param included  which policy positions to evaluate (e.g. only those currently effective)
+     * @param context   the evaluation context
+     * @return the overall decision, resolved actions and match counts
+     */
+    public Decision evaluate(CompiledPolicySet policySet, IntPredicate included, EvaluationContext context) {
+        return evaluate(policySet, included, context, true);
+    }
+
+    /**
+     * Evaluate every included policy of the set, in set order
+     *
+     * @param metered whether to record per-policy/per-rule timings, rule matches and triggered actions
+     */
+    public Decision evaluate(CompiledPolicySet policySet, IntPredicate included, EvaluationContext context,
+                             boolean metered) {
+        ConditionIndex.Matcher matcher = ruleEvaluator.matcher(policySet.getIndex(), context);
+        List<CompiledPolicy> plans = policySet.getPlans();
+        List<TriggeredAction> triggeredActions = new ArrayList<>();
+        int policiesMatched = 0;
+        int rulesEvaluated = 0;
+        int rulesMatched = 0;
+        ConditionStatistics statistics = policySet.getStatistics();
+        boolean reorderDue = false;
+
+        for (int p = 0; p < plans.size(); p++) {
+            if (!included.test(p)) {
+                continue;
+            }
+
+            CompiledPolicy plan = plans.get(p);
+            List<CompiledRule> rules = plan.getRules();
+            boolean anyRuleMatched = false;
+            long policyStart = metered ? System.nanoTime() : 0L;
+            for (int r = 0; r < rules.size(); r++) {
+                CompiledRule rule = rules.get(r);
+                rulesEvaluated++;
+                long ruleStart = metered ? System.nanoTime() : 0L;
+                int[] conditionIds = policySet.evaluationOrder(p, r);
+                boolean sampled = metered && conditionIds.length > 1 && statistics.shouldSample();
+                boolean matched;
+                if (sampled) {
+                    matched = ruleEvaluator.matches(rule, conditionIds, matcher, statistics);
+                    reorderDue |= policySet.completeSample();
+                    evaluationMetrics.recordRuleMatch(plan.getPolicyCode(), rule.getName(), matched);
+                } else {
+                    matched = ruleEvaluator.matches(rule, conditionIds, matcher);
+                    if (metered) {
+                        evaluationMetrics.recordRule(plan.getPolicyCode(), rule.getName(),
+                                System.nanoTime() - ruleStart, matched);
+                    }
+                }
+                if (matched) {
+                    anyRuleMatched = true;
+                    rulesMatched++;
+                    triggeredActions.addAll(ruleEvaluator.buildTriggeredActions(rule, plan.getPolicyCode()));
+                }
+            }
+            if (metered) {
+                evaluationMetrics.recordPolicy(plan.getPolicyCode(), System.nanoTime() - policyStart);
+            }
+            if (anyRuleMatched) {
+                policiesMatched++;
+            }
+        }
+        if (metered) {
+            evaluationMetrics.recordTriggeredActions(false, triggeredActions.size());
+        }
+        if (reorderDue && policySet.reorder()) {
+            evaluationMetrics.recordConditionReorder();
+        }
+
+        return new Decision(
+                actionResolver.resolveDecision(triggeredActions),
+                actionResolver.resolveActions(triggeredActions),
+                policiesMatched,
+                rulesEvaluated,
+                rulesMatched);
+    }
+
+    /**
+     * Outcome of a decision-only evaluation
+     */
+    public record Decision(String overallDecision,
+                           List<TriggeredAction> triggeredActions,
+                           int policiesMatched,
+                           int rulesEvaluated,
+                           int rulesMatched) {
+    }
+}
@@ -0,0 +1,218 @@
+package com.loanflow.policy.evaluation.engine;
+
+import com.loanflow.policy.domain.enums.LogicalOperator;
+import com.loanflow.policy.domain.valueobject.PolicyRule;
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse.ConditionResult;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse.RuleMatchResult;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse.TriggeredAction;
+import com.loanflow.policy.evaluation.plan.CompiledCondition;
+import com.loanflow.policy.evaluation.plan.CompiledRule;
+import com.loanflow.policy.evaluation.plan.ConditionIndex;
+import com.loanflow.policy.evaluation.plan.ConditionStatistics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+/**
+ * Evaluates a complete policy rule (conditions + actions) against an evaluation context.
+ * Handles AND/OR logical operators for combining condition results.
+ *
+ * Two modes:
+ * - {@link #evaluate} (explain): evaluates every condition and returns per-condition results for audit
+ * - {@link #matches} (decision-only): short-circuits AND/OR and allocates nothing per condition;
+ *   the indexed overload answers conditions from a shared {@link ConditionIndex}
+ *
+ * The sampled overload of {@link #matches} feeds {@link ConditionStatistics} (pass rate per
+ * condition), from which the policy set reorders conditions on the decision path.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RuleEvaluator {
+
+    private final ConditionEvaluator conditionEvaluator;
+
+    /**
+     * Evaluate a policy rule against the context.
+     * Compiles the rule on the fly — prefer the {@link CompiledRule} overload on hot paths.
+     *
+     * @param rule        the policy rule to evaluate
+     * @param context     the evaluation context
+     * @param policyCode  the source policy code (for action tracking)
+     * @return RuleMatchResult with condition details and triggered actions
+     */
+    public RuleMatchResult evaluate(PolicyRule rule, EvaluationContext context, String policyCode) {
+        return evaluate(CompiledRule.compile(rule), context, policyCode);
+    }
+
+    /**
+     * Evaluate a compiled policy rule against the context.
+     *
+     * @param rule        the compiled rule to evaluate
+     * @param context     the evaluation context
+     * @param policyCode  the source policy code (for action tracking)
+     * @return RuleMatchResult with condition details and triggered actions
+     */
+    public RuleMatchResult evaluate(CompiledRule rule, EvaluationContext context, String policyCode) {
+        log.debug("Evaluating rule: '{}' (operator: {})", rule.getName(), rule.getLogicalOperator());
+
+        List<ConditionResult> conditionResults = new ArrayList<>(rule.getConditions().size());
+
+        // Evaluate all conditions
+        for (CompiledCondition condition : rule.getConditions()) {
+            conditionResults.add(conditionEvaluator.evaluate(condition, context));
+        }
+
+        // Determine if the rule matches based on logical operator
+        boolean ruleMatched = evaluateLogicalResult(rule.getLogicalOperator(), conditionResults);
+
+        // Build triggered actions if rule matched
+        List<TriggeredAction> triggeredActions = ruleMatched
+                ? buildTriggeredActions(rule, policyCode)
+                : new ArrayList<>();
+
+        log.debug("Rule '{}' evaluation result: {} ({} conditions, {} matched)",
+                rule.getName(), ruleMatched ? "MATCHED" : "NOT MATCHED",
+                conditionResults.size(),
+                conditionResults.stream().filter(ConditionResult::isMatched).count());
+
+        return RuleMatchResult.builder()
+                .ruleName(rule.getName())
+                .matched(ruleMatched)
+                .logicalOperator(rule.getLogicalOperator().name())
+                .conditionResults(conditionResults)
+                .triggeredActions(triggeredActions)
+                .build();
+    }
+
+    /**
+     * Decision-only evaluation of a compiled rule.
+     * AND stops at the first failing condition, OR at the first passing one.
+     * Empty conditions list → matches (vacuously true)
+     *
+     * @return true if the rule matches
+     */
+    public boolean matches(CompiledRule rule, EvaluationContext context) {
+        List<CompiledCondition> conditions = rule.getConditions();
+        if (conditions.isEmpty()) {
+            return true;
+        }
+
+        if (rule.getLogicalOperator() == LogicalOperator.OR) {
+            for (CompiledCondition condition : conditions) {
+                if (conditionEvaluator.matches(condition, context)) return true;
+            }
+            return false;
+        }
+
+        for (CompiledCondition condition : conditions) {
+            if (!conditionEvaluator.matches(condition, context)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Create the per-request matcher for a policy set's condition index.
+     * Conditions the index cannot answer fall back to {@link ConditionEvaluator#matches}.
+     */
+    public ConditionIndex.Matcher matcher(ConditionIndex index, EvaluationContext context) {
+        return index.matcher(context, conditionEvaluator::matches);
+    }
+
+    /**
+     * Decision-only evaluation of a compiled rule through a condition index.
+     * Same semantics and short-circuiting as {@link #matches(CompiledRule, EvaluationContext)}.
+     *
+     * @param conditionIds the index ids of the rule's conditions
+     * @return true if the rule matches
+     */
+    public boolean matches(CompiledRule rule, int[] conditionIds, ConditionIndex.Matcher matcher) {
+        if (conditionIds.length == 0) {
+            return true;
+        }
+
+        if (rule.getLogicalOperator() == LogicalOperator.OR) {
+            for (int id : conditionIds) {
+                if (matcher.test(id)) return true;
+            }
+            return false;
+        }
+
+        for (int id : conditionIds) {
+            if (!matcher.test(id)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sampled decision-only evaluation through a condition index. Tests every condition (no
+     * short-circuit, so pass rates are not skewed by condition order) and records each outcome.
+     * Same result as the short-circuiting overload; conditions tested only after the outcome was
+     * decided are tested quietly, so sampling never adds evaluation error logs or metrics.
+     *
+     * @param conditionIds the index ids of the rule's conditions
+     * @param statistics   where condition outcomes are recorded
+     * @return true if the rule matches
+     */
+    public boolean matches(CompiledRule rule, int[] conditionIds, ConditionIndex.Matcher matcher,
+                           ConditionStatistics statistics) {
+        if (conditionIds.length == 0) {
+            return true;
+        }
+
+        BiPredicate<CompiledCondition, EvaluationContext> quietFallback = conditionEvaluator::matchesQuietly;
+        boolean or = rule.getLogicalOperator() == LogicalOperator.OR;
+        boolean decided = false;
+        boolean matched = !or;
+        for (int id : conditionIds) {
+            boolean passed = decided ? matcher.test(id, quietFallback) : matcher.test(id);
+            statistics.record(id, passed);
+            if (!decided && passed == or) {
+                decided = true;
+                matched = or;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Build the triggered actions for a matched rule
+     */
+    public List<TriggeredAction> buildTriggeredActions(CompiledRule rule, String policyCode) {
+        List<TriggeredAction> triggeredActions = new ArrayList<>(rule.getActions().size());
+        for (var action : rule.getActions()) {
+            triggeredActions.add(TriggeredAction.builder()
+                    .actionType(action.getType().name())
+                    .parameters(action.getParameters())
+                    .description(action.getDescription())
+                    .sourcePolicyCode(policyCode)
+                    .sourceRuleName(rule.getName())
+                    .priority(rule.getPriority())
+                    .build());
+        }
+        return triggeredActions;
+    }
+
+    /**
+     * Evaluate combined condition results using logical operator.
+     * AND: all conditions must match
+     * OR: at least one condition must match
+     * Empty conditions list → matches (vacuously true)
+     */
+    private boolean evaluateLogicalResult(LogicalOperator operator, List<ConditionResult> results) {
+        if (results.isEmpty()) {
+            return true; // No conditions = always matches
+        }
+
+        if (operator == null || operator == LogicalOperator.AND) {
+            return results.stream().allMatch(ConditionResult::isMatched);
+        } else {
+            return results.stream().anyMatch(ConditionResult::isMatched);
+        }
+    }
+}
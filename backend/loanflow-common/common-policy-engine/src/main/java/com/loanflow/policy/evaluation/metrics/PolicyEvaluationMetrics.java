@@ -0,0 +1,147 @@
+package com.loanflow.policy.evaluation.metrics;
+
+import com.loanflow.policy.evaluation.plan.CompiledCondition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for the evaluation engine, published through /actuator/prometheus.
+ *
+ * - policy.evaluation.policy.duration{policy}         time spent evaluating each policy
+ * - policy.evaluation.rule.duration{policy,rule}      time spent evaluating each rule
+ * - policy.evaluation.rule.matches{policy,rule}       rules that matched
+ * - policy.evaluation.condition.errors{field,operator} conditions that failed to evaluate
+ *   (unparseable numbers/booleans — the "Evaluation error:" path of ConditionEvaluator)
+ * - policy.evaluation.triggered.actions{mode}         triggered actions per evaluation, before conflict resolution
+ * - policy.evaluation.condition.reorders              adaptive reorders that changed a rule's condition order
+ *
+ * Meters are resolved once per policy/rule/condition and cached, so recording on the hot path
+ * is a map lookup plus the meter update.
+ */
+@Component
+public class PolicyEvaluationMetrics {
+
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> policyTimers = new ConcurrentHashMap<>();
+    private final Map<RuleKey, RuleMeters> ruleMeters = new ConcurrentHashMap<>();
+    private final Map<ConditionKey, Counter> conditionErrors = new ConcurrentHashMap<>();
+    private final DistributionSummary explainActions;
+    private final DistributionSummary decisionActions;
+    private final Counter conditionReorders;
+
+    public PolicyEvaluationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.explainActions = triggeredActions("explain");
+        this.decisionActions = triggeredActions("decision");
+        this.conditionReorders = Counter.builder("policy.evaluation.condition.reorders")
+                .description("Adaptive reorders that changed the condition order of at least one rule")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record the time spent evaluating one policy
+     */
+    public void recordPolicy(String policyCode, long durationNanos) {
+        policyTimers.computeIfAbsent(tagValue(policyCode), code -> Timer.builder("policy.evaluation.policy.duration")
+                        .description("Time spent evaluating a policy's rules")
+                        .tag("policy", code)
+                        .register(meterRegistry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record the time spent evaluating one rule, and count it if it matched
+     */
+    public void recordRule(String policyCode, String ruleName, long durationNanos, boolean matched) {
+        RuleMeters meters = ruleMeters.computeIfAbsent(
+                new RuleKey(tagValue(policyCode), tagValue(ruleName)), this::ruleMeters);
+        meters.duration().record(durationNanos, TimeUnit.NANOSECONDS);
+        if (matched) {
+            meters.matches().increment();
+        }
+    }
+
+    /**
+     * Count a rule evaluation that matched without timing it
+     * (a sampled evaluation tests every condition, so its time is not representative)
+     */
+    public void recordRuleMatch(String policyCode, String ruleName, boolean matched) {
+        if (matched) {
+            ruleMeters.computeIfAbsent(new RuleKey(tagValue(policyCode), tagValue(ruleName)), this::ruleMeters)
+                    .matches().increment();
+        }
+    }
+
+    /**
+     * Count a condition that could not be evaluated
+     */
+    public void recordConditionError(CompiledCondition condition) {
+        conditionErrors.computeIfAbsent(
+                        new ConditionKey(tagValue(condition.getField()), String.valueOf(condition.getOperator())),
+                        key -> Counter.builder("policy.evaluation.condition.errors")
+                                .description("Conditions that failed to evaluate")
+                                .tag("field", key.field())
+                                .tag("operator", key.operator())
+                                .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * Record the number of actions triggered by one evaluation, before conflict resolution
+     */
+    public void recordTriggeredActions(boolean explain, int count) {
+        (explain ? explainActions : decisionActions).record(count);
+    }
+
+    /**
+     * Count an adaptive reorder that changed the decision-path condition order
+     */
+    public void recordConditionReorder() {
+        conditionReorders.increment();
+    }
+
+    // ==================== Internals ====================
+
+    private RuleMeters ruleMeters(RuleKey key) {
+        return new RuleMeters(
+                Timer.builder("policy.evaluation.rule.duration")
+                        .description("Time spent evaluating a rule")
+                        .tag("policy", key.policyCode())
+                        .tag("rule", key.ruleName())
+                        .register(meterRegistry),
+                Counter.builder("policy.evaluation.rule.matches")
+                        .description("Rule evaluations that matched")
+                        .tag("policy", key.policyCode())
+                        .tag("rule", key.ruleName())
+                        .register(meterRegistry));
+    }
+
+    private DistributionSummary triggeredActions(String mode) {
+        return DistributionSummary.builder("policy.evaluation.triggered.actions")
+                .description("Actions triggered per evaluation, before conflict resolution")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+
+    private static String tagValue(String value) {
+        return value != null ? value : UNKNOWN;
+    }
+
+    private record RuleKey(String policyCode, String ruleName) {
+    }
+
+    private record ConditionKey(String field, String operator) {
+    }
+
+    private record RuleMeters(Timer duration, Counter matches) {
+    }
+}
@@ -0,0 +1,217 @@
+package com.loanflow.policy.evaluation.plan;
+
+import com.loanflow.policy.domain.enums.ConditionOperator;
+import com.loanflow.policy.domain.valueobject.Condition;
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import com.loanflow.policy.evaluation.dto.FieldSlots;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable, pre-parsed form of a {@link Condition}.
+ *
+ * Everything that depends only on the policy definition is resolved once at compile time:
+ * - The field path is interned into an {@link EvaluationContext} slot
+ * - Numeric thresholds (value, minValue, maxValue) are parsed to doubles
+ * - EQUALS/IN operands are held in normalized (trimmed, lowercased) form, IN numbers in a sorted array
+ * - CONTAINS/STARTS_WITH operands are pre-lowercased
+ * - The expected-value display string used in audit output is pre-built
+ *
+ * Numeric operators read the context's pre-parsed numeric view, so nothing is parsed per call.
+ * All numeric comparisons use the {@link Double#compare} ordering, which {@link ConditionIndex} relies on.
+ */
+@Getter
+public final class CompiledCondition {
+
+    private final String field;
+    private final int slot;
+    private final ConditionOperator operator;
+    private final String value;
+    private final String minValue;
+    private final String maxValue;
+    private final String expectedValueDisplay;
+
+    private final Double number;
+    private final String trimmedValue;
+    private final String normalizedValue;
+    private final Double min;
+    private final Double max;
+    private final boolean hasValues;
+    private final double[] numericValues;
+    private final Set<String> normalizedValues;
+    private final String lowerValue;
+
+    private CompiledCondition(Condition condition) {
+        this.field = condition.getField();
+        this.slot = FieldSlots.intern(field);
+        this.operator = condition.getOperator();
+        this.value = condition.getValue();
+        this.minValue = condition.getMinValue();
+        this.maxValue = condition.getMaxValue();
+        this.expectedValueDisplay = buildExpectedValueDisplay(condition);
+
+        this.number = parseNumber(value);
+        this.trimmedValue = value != null ? value.trim() : null;
+        this.normalizedValue = value != null ? normalize(value) : null;
+        this.min = parseNumber(minValue);
+        this.max = parseNumber(maxValue);
+        this.lowerValue = value != null ? value.toLowerCase() : null;
+
+        List<String> values = condition.getValues();
+        this.hasValues = values != null && !values.isEmpty();
+        double[] numbers = new double[values != null ? values.size() : 0];
+        int numberCount = 0;
+        Set<String> strings = new HashSet<>();
+        if (values != null) {
+            for (String v : values) {
+                if (v == null) continue;
+                Double parsed = parseNumber(v);
+                if (parsed != null) numbers[numberCount++] = parsed;
+                strings.add(normalize(v));
+            }
+        }
+        this.numericValues = Arrays.copyOf(numbers, numberCount);
+        Arrays.sort(this.numericValues);
+        this.normalizedValues = Collections.unmodifiableSet(strings);
+    }
+
+    /**
+     * Compile a condition definition into its pre-parsed form
+     */
+    public static CompiledCondition compile(Condition condition) {
+        return new CompiledCondition(condition);
+    }
+
+    /**
+     * Test the operator against the value held in this condition's context slot.
+     * The caller has already checked the slot is present; IS_NULL / IS_NOT_NULL are
+     * resolved by the caller before this is invoked.
+     *
+     * @throws IllegalArgumentException when the actual value or a threshold cannot be interpreted
+     */
+    public boolean test(EvaluationContext context) {
+        return switch (operator) {
+            case EQUALS -> testEquals(context);
+            case NOT_EQUALS -> !testEquals(context);
+            case GREATER_THAN -> compareNumeric(context) > 0;
+            case GREATER_THAN_OR_EQUAL -> compareNumeric(context) >= 0;
+            case LESS_THAN -> compareNumeric(context) < 0;
+            case LESS_THAN_OR_EQUAL -> compareNumeric(context) <= 0;
+            case IN -> testIn(context);
+            case NOT_IN -> !testIn(context);
+            case BETWEEN -> testBetween(context);
+            case CONTAINS -> context.getString(slot).toLowerCase().contains(requireOperand());
+            case STARTS_WITH -> context.getString(slot).toLowerCase().startsWith(requireOperand());
+            case IS_TRUE -> testBoolean(context.getString(slot), true);
+            case IS_FALSE -> testBoolean(context.getString(slot), false);
+            case IS_NULL, IS_NOT_NULL -> throw new IllegalStateException("Null operators handled earlier");
+        };
+    }
+
+    // ==================== Operator Implementations ====================
+
+    /**
+     * Equality — numeric comparison when both sides are numbers, otherwise case-insensitive string
+     */
+    private boolean testEquals(EvaluationContext context) {
+        if (trimmedValue == null) return false;
+
+        if (number != null && context.isNumeric(slot)) {
+            return Double.compare(context.getNumber(slot), number) == 0;
+        }
+        return normalize(context.getString(slot)).equals(normalizedValue);
+    }
+
+    private int compareNumeric(EvaluationContext context) {
+        if (!context.isNumeric(slot)) {
+            throw new IllegalArgumentException(
+                    "Cannot parse '" + context.getString(slot) + "' as a number for comparison");
+        }
+        if (number == null) {
+            throw new IllegalArgumentException("Cannot parse '" + value + "' as a number for comparison");
+        }
+        return Double.compare(context.getNumber(slot), number);
+    }
+
+    private boolean testIn(EvaluationContext context) {
+        if (!hasValues) return false;
+
+        if (context.isNumeric(slot)) {
+            return Arrays.binarySearch(numericValues, context.getNumber(slot)) >= 0;
+        }
+        return normalizedValues.contains(normalize(context.getString(slot)));
+    }
+
+    private boolean testBetween(EvaluationContext context) {
+        if (!context.isNumeric(slot)) {
+            throw new IllegalArgumentException(
+                    "Cannot parse '" + context.getString(slot) + "' as a number for BETWEEN");
+        }
+        if (min == null) {
+            throw new IllegalArgumentException("Cannot parse min value '" + minValue + "' as a number");
+        }
+        if (max == null) {
+            throw new IllegalArgumentException("Cannot parse max value '" + maxValue + "' as a number");
+        }
+        double actual = context.getNumber(slot);
+        return Double.compare(actual, min) >= 0 && Double.compare(actual, max) <= 0;
+    }
+
+    private static boolean testBoolean(String actual, boolean expected) {
+        if ("true".equalsIgnoreCase(actual) || "1".equals(actual) || "yes".equalsIgnoreCase(actual)) {
+            return expected;
+        }
+        if ("false".equalsIgnoreCase(actual) || "0".equals(actual) || "no".equalsIgnoreCase(actual)) {
+            return !expected;
+        }
+        throw new IllegalArgumentException("Cannot parse '" + actual + "' as a boolean");
+    }
+
+    private String requireOperand() {
+        if (lowerValue == null) {
+            throw new IllegalArgumentException("No value configured for " + operator);
+        }
+        return lowerValue;
+    }
+
+    // ==================== Compile-time Helpers ====================
+
+    private static Double parseNumber(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Normalized form used for case-insensitive string comparison (EQUALS, IN)
+     */
+    static String normalize(String value) {
+        return value.trim().toLowerCase();
+    }
+
+    /**
+     * Display string for the expected value (for logging/audit)
+     */
+    private static String buildExpectedValueDisplay(Condition condition) {
+        ConditionOperator op = condition.getOperator();
+        if (op == ConditionOperator.BETWEEN) {
+            return "[" + condition.getMinValue() + ", " + condition.getMaxValue() + "]";
+        }
+        if (op == ConditionOperator.IN || op == ConditionOperator.NOT_IN) {
+            return condition.getValues() != null ? condition.getValues().toString() : "[]";
+        }
+        if (op == ConditionOperator.IS_NULL || op == ConditionOperator.IS_NOT_NULL
+                || op == ConditionOperator.IS_TRUE || op == ConditionOperator.IS_FALSE) {
+            return "";
+        }
+        return condition.getValue() != null ? condition.getValue() : "";
+    }
+}
@@ -0,0 +1,33 @@
+package com.loanflow.policy.evaluation.plan;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Immutable execution plan for one version of a policy.
+ * Holds only the enabled rules, already sorted by priority, minus any pruned as unsatisfiable.
+ *
+ * The {@code lockVersion} of the source document is captured so a cached plan
+ * can be recognized as stale if the same policy version was modified elsewhere.
+ */
+@Getter
+@Builder
+public final class CompiledPolicy {
+
+    private final String policyId;
+    private final String policyCode;
+    private final String policyName;
+    private final String category;
+    private final int priority;
+    private final Integer versionNumber;
+    private final Long lockVersion;
+    private final List<CompiledRule> rules;
+
+    /**
+     * Names of enabled rules left out of the plan because they can never match
+     */
+    @Builder.Default
+    private final List<String> prunedRules = List.of();
+}
@@ -0,0 +1,137 @@
+package com.loanflow.policy.evaluation.plan;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compiled form of the active policy set for one loan type: the per-policy plans in
+ * evaluation order, plus a {@link ConditionIndex} shared by all of their conditions.
+ *
+ * {@code conditionIds[policy][rule]} holds the index ids of a rule's conditions, in the
+ * same order as {@link CompiledRule#getConditions()}.
+ *
+ * The decision path tests conditions in {@link #evaluationOrder}, which starts as the declared
+ * order and is periodically re-ranked from {@link ConditionStatistics}. Reordering only changes
+ * how fast a rule short-circuits, never its outcome; explain evaluation and the audit trail keep
+ * the declared order.
+ */
+@Getter
+public final class CompiledPolicySet {
+
+    private final List<CompiledPolicy> plans;
+    private final ConditionIndex index;
+    private final int[][][] conditionIds;
+    private final ConditionStatistics statistics;
+    private volatile int[][][] evaluationOrder;
+
+    private CompiledPolicySet(List<CompiledPolicy> plans, ConditionIndex index, int[][][] conditionIds,
+                              ConditionStatistics.Settings settings) {
+        this.plans = plans;
+        this.index = index;
+        this.conditionIds = conditionIds;
+        this.statistics = new ConditionStatistics(index.conditionCount(), settings);
+        this.evaluationOrder = conditionIds;
+    }
+
+    /**
+     * Build the shared condition index over a list of plans, without adaptive ordering
+     */
+    public static CompiledPolicySet build(List<CompiledPolicy> plans) {
+        return build(plans, ConditionStatistics.Settings.DISABLED);
+    }
+
+    /**
+     * Build the shared condition index over a list of plans
+     *
+     * @param settings how conditions are sampled and reordered on the decision path
+     */
+    public static CompiledPolicySet build(List<CompiledPolicy> plans, ConditionStatistics.Settings settings) {
+        ConditionIndex.Builder builder = ConditionIndex.builder();
+        int[][][] ids = new int[plans.size()][][];
+        for (int p = 0; p < plans.size(); p++) {
+            List<CompiledRule> rules = plans.get(p).getRules();
+            ids[p] = new int[rules.size()][];
+            for (int r = 0; r < rules.size(); r++) {
+                ids[p][r] = rules.get(r).getConditions().stream().mapToInt(builder::add).toArray();
+            }
+        }
+        return new CompiledPolicySet(List.copyOf(plans), builder.build(), ids, settings);
+    }
+
+    /**
+     * Condition ids of a rule, by policy and rule position, in declared order
+     */
+    public int[] conditionIds(int policy, int rule) {
+        return conditionIds[policy][rule];
+    }
+
+    /**
+     * Condition ids of a rule, by policy and rule position, in the order the decision path tests them
+     */
+    public int[] evaluationOrder(int policy, int rule) {
+        return evaluationOrder[policy][rule];
+    }
+
+    /**
+     * Count a sampled rule evaluation
+     *
+     * @return true for exactly one caller each time a {@link #reorder} is due
+     */
+    public boolean completeSample() {
+        return statistics.completeSample();
+    }
+
+    /**
+     * Re-rank the conditions of every rule whose conditions all have enough samples, then decay
+     * the statistics. Ties keep the declared order.
+     *
+     * @return true if any rule's evaluation order changed
+     */
+    public boolean reorder() {
+        int[][][] current = evaluationOrder;
+        int[][][] next = new int[current.length][][];
+        boolean changed = false;
+        for (int p = 0; p < current.length; p++) {
+            List<CompiledRule> rules = plans.get(p).getRules();
+            next[p] = current[p].clone();
+            for (int r = 0; r < current[p].length; r++) {
+                int[] ranked = rank(conditionIds[p][r], rules.get(r));
+                if (ranked != null && !Arrays.equals(ranked, current[p][r])) {
+                    next[p][r] = ranked;
+                    changed = true;
+                }
+            }
+        }
+        if (changed) {
+            evaluationOrder = next;
+        }
+        statistics.decay();
+        return changed;
+    }
+
+    private int[] rank(int[] declared, CompiledRule rule) {
+        if (declared.length < 2) {
+            return null;
+        }
+        for (int id : declared) {
+            if (!statistics.isRanked(id)) {
+                return null;
+            }
+        }
+        double[] ranks = new double[declared.length];
+        Integer[] positions = new Integer[declared.length];
+        for (int i = 0; i < declared.length; i++) {
+            ranks[i] = statistics.rank(declared[i], rule.getLogicalOperator(), index.cost(declared[i]));
+            positions[i] = i;
+        }
+        Arrays.sort(positions, Comparator.comparingDouble(i -> ranks[i]));
+        int[] ranked = new int[declared.length];
+        for (int i = 0; i < declared.length; i++) {
+            ranked[i] = declared[positions[i]];
+        }
+        return ranked;
+    }
+}
@@ -0,0 +1,39 @@
+package com.loanflow.policy.evaluation.plan;
+
+import com.loanflow.policy.domain.enums.LogicalOperator;
+import com.loanflow.policy.domain.valueobject.Action;
+import com.loanflow.policy.domain.valueobject.PolicyRule;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Immutable, compiled form of a {@link PolicyRule}: its conditions pre-parsed
+ * and its defaults (logical operator, priority) resolved.
+ */
+@Getter
+public final class CompiledRule {
+
+    private final String name;
+    private final LogicalOperator logicalOperator;
+    private final int priority;
+    private final List<CompiledCondition> conditions;
+    private final List<Action> actions;
+
+    private CompiledRule(PolicyRule rule) {
+        this.name = rule.getName();
+        this.logicalOperator = rule.getLogicalOperator() != null ? rule.getLogicalOperator() : LogicalOperator.AND;
+        this.priority = rule.getPriority() != null ? rule.getPriority() : 100;
+        this.conditions = rule.getConditions() != null
+                ? rule.getConditions().stream().map(CompiledCondition::compile).toList()
+                : List.of();
+        this.actions = rule.getActions() != null ? List.copyOf(rule.getActions()) : List.of();
+    }
+
+    /**
+     * Compile a rule definition into its pre-parsed form
+     */
+    public static CompiledRule compile(PolicyRule rule) {
+        return new CompiledRule(rule);
+    }
+}
@@ -0,0 +1,430 @@
+package com.loanflow.policy.evaluation.plan;
+
+import com.loanflow.policy.domain.enums.ConditionOperator;
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.BiPredicate;
+
+/**
+ * Discrimination index over every condition of an active policy set, shared across
+ * policies and rules (the equivalent of Rete alpha-node sharing).
+ *
+ * Conditions are grouped by field:
+ * - Numeric operands (GREATER_THAN*, LESS_THAN*, BETWEEN, numeric EQUALS/IN) go into one sorted,
+ *   distinct threshold array per field; each condition keeps the position of its threshold
+ * - String operands (EQUALS, IN) go into one hash bucket table per field
+ *
+ * Per request, a {@link Matcher} resolves each field at most once — a single binary search
+ * for its numeric value and a single bucket lookup for its string value — after which every
+ * condition on that field is answered by an integer comparison. Identical conditions in
+ * different policies share one id. Work therefore scales with the number of distinct fields
+ * a request touches, not with the total number of conditions.
+ *
+ * Conditions the index cannot answer (CONTAINS, STARTS_WITH, IS_TRUE/FALSE, IS_NULL/NOT_NULL,
+ * unparseable thresholds) are delegated to a fallback predicate with the usual semantics, as are
+ * numeric thresholds tested against a non-numeric value, so evaluation errors surface the same way.
+ */
+public final class ConditionIndex {
+
+    private static final byte GREATER_THAN = 0;
+    private static final byte GREATER_THAN_OR_EQUAL = 1;
+    private static final byte LESS_THAN = 2;
+    private static final byte LESS_THAN_OR_EQUAL = 3;
+    private static final byte BETWEEN = 4;
+    private static final byte EQUALS = 5;
+    private static final byte IN = 6;
+    private static final byte FALLBACK = 7;
+
+    private static final byte UNRESOLVED = 0;
+    private static final byte ABSENT = 1;
+    private static final byte NUMERIC = 2;
+    private static final byte TEXT = 3;
+
+    // Relative cost of an indexed condition: an int comparison once its field is resolved
+    private static final double INDEXED_COST = 1.0;
+
+    private static final int NO_BUCKET = -1;
+    private static final int UNRESOLVED_BUCKET = -2;
+
+    // Per field
+    private final int[] fieldSlots;
+    private final double[][] thresholds;
+    private final List<Map<String, Integer>> buckets;
+
+    // Per condition id
+    private final CompiledCondition[] conditions;
+    private final byte[] kinds;
+    private final boolean[] negated;
+    private final int[] fields;
+    private final int[] thresholdKeys;
+    private final int[] upperThresholdKeys;
+    private final int[] bucketKeys;
+    private final int[][] thresholdSets;
+    private final int[][] bucketSets;
+
+    private ConditionIndex(Builder builder) {
+        int fieldCount = builder.fieldSlots.size();
+        this.fieldSlots = builder.fieldSlots.stream().mapToInt(Integer::intValue).toArray();
+        this.thresholds = new double[fieldCount][];
+        this.buckets = new ArrayList<>(fieldCount);
+        for (int f = 0; f < fieldCount; f++) {
+            thresholds[f] = builder.fieldThresholds.get(f).stream().mapToDouble(Double::doubleValue).toArray();
+            Map<String, Integer> table = new HashMap<>();
+            for (String value : builder.fieldBuckets.get(f)) {
+                table.putIfAbsent(value, table.size());
+            }
+            buckets.add(table);
+        }
+
+        int count = builder.conditions.size();
+        this.conditions = builder.conditions.toArray(new CompiledCondition[0]);
+        this.kinds = new byte[count];
+        this.negated = new boolean[count];
+        this.fields = new int[count];
+        this.thresholdKeys = new int[count];
+        this.upperThresholdKeys = new int[count];
+        this.bucketKeys = new int[count];
+        this.thresholdSets = new int[count][];
+        this.bucketSets = new int[count][];
+        for (int id = 0; id < count; id++) {
+            assign(id, conditions[id], builder.conditionFields.get(id));
+        }
+    }
+
+    /**
+     * Start building an index; conditions are added in policy/rule order
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create the per-request matcher for a context
+     *
+     * @param fallback evaluates conditions the index cannot answer
+     */
+    public Matcher matcher(EvaluationContext context, BiPredicate<CompiledCondition, EvaluationContext> fallback) {
+        return new Matcher(context, fallback);
+    }
+
+    /**
+     * Number of distinct conditions in the index
+     */
+    public int conditionCount() {
+        return conditions.length;
+    }
+
+    /**
+     * Number of distinct fields with at least one indexed condition
+     */
+    public int fieldCount() {
+        return fieldSlots.length;
+    }
+
+    /**
+     * Static estimate of the relative cost of testing a condition, used to order conditions.
+     * Indexed conditions cost an int comparison; the rest cost what their operator costs in the fallback.
+     */
+    public double cost(int id) {
+        return kinds[id] == FALLBACK ? fallbackCost(conditions[id].getOperator()) : INDEXED_COST;
+    }
+
+    private static double fallbackCost(ConditionOperator operator) {
+        if (operator == null) {
+            return 2.0;
+        }
+        return switch (operator) {
+            case IS_NULL, IS_NOT_NULL, IS_TRUE, IS_FALSE -> 1.0;
+            case EQUALS, NOT_EQUALS, GREATER_THAN, GREATER_THAN_OR_EQUAL,
+                 LESS_THAN, LESS_THAN_OR_EQUAL, BETWEEN -> 2.0;
+            case IN, NOT_IN -> 3.0;
+            case CONTAINS, STARTS_WITH -> 4.0;
+        };
+    }
+
+    // ==================== Build ====================
+
+    private void assign(int id, CompiledCondition condition, int field) {
+        fields[id] = field;
+        thresholdKeys[id] = -1;
+        upperThresholdKeys[id] = -1;
+        bucketKeys[id] = NO_BUCKET;
+        kinds[id] = kindOf(condition);
+        negated[id] = switch (condition.getOperator()) {
+            case NOT_EQUALS, NOT_IN -> true;
+            default -> false;
+        };
+
+        switch (kinds[id]) {
+            case GREATER_THAN, GREATER_THAN_OR_EQUAL, LESS_THAN, LESS_THAN_OR_EQUAL ->
+                    thresholdKeys[id] = thresholdKey(field, condition.getNumber());
+            case BETWEEN -> {
+                thresholdKeys[id] = thresholdKey(field, condition.getMin());
+                upperThresholdKeys[id] = thresholdKey(field, condition.getMax());
+            }
+            case EQUALS -> {
+                if (condition.getNumber() != null) {
+                    thresholdKeys[id] = thresholdKey(field, condition.getNumber());
+                }
+                bucketKeys[id] = buckets.get(field).get(condition.getNormalizedValue());
+            }
+            case IN -> {
+                double[] values = condition.getNumericValues();
+                int[] keys = new int[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    keys[i] = thresholdKey(field, values[i]);
+                }
+                Arrays.sort(keys);
+                thresholdSets[id] = keys;
+
+                int[] bucketIds = condition.getNormalizedValues().stream()
+                        .mapToInt(v -> buckets.get(field).get(v))
+                        .sorted()
+                        .toArray();
+                bucketSets[id] = bucketIds;
+            }
+            default -> {
+                // FALLBACK — nothing to pre-resolve
+            }
+        }
+    }
+
+    private int thresholdKey(int field, double value) {
+        return Arrays.binarySearch(thresholds[field], value);
+    }
+
+    /**
+     * Number of thresholds strictly less than the value, in {@link Double#compare} order
+     */
+    private static int lowerBound(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(sorted[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static byte kindOf(CompiledCondition condition) {
+        return switch (condition.getOperator()) {
+            case GREATER_THAN -> condition.getNumber() != null ? GREATER_THAN : FALLBACK;
+            case GREATER_THAN_OR_EQUAL -> condition.getNumber() != null ? GREATER_THAN_OR_EQUAL : FALLBACK;
+            case LESS_THAN -> condition.getNumber() != null ? LESS_THAN : FALLBACK;
+            case LESS_THAN_OR_EQUAL -> condition.getNumber() != null ? LESS_THAN_OR_EQUAL : FALLBACK;
+            case BETWEEN -> condition.getMin() != null && condition.getMax() != null ? BETWEEN : FALLBACK;
+            case EQUALS, NOT_EQUALS -> condition.getTrimmedValue() != null ? EQUALS : FALLBACK;
+            case IN, NOT_IN -> IN;
+            default -> FALLBACK;
+        };
+    }
+
+    /**
+     * Collects distinct conditions and their operands per field
+     */
+    public static final class Builder {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<CompiledCondition> conditions = new ArrayList<>();
+        private final List<Integer> conditionFields = new ArrayList<>();
+
+        private final Map<Integer, Integer> fieldsBySlot = new HashMap<>();
+        private final List<Integer> fieldSlots = new ArrayList<>();
+        private final List<TreeSet<Double>> fieldThresholds = new ArrayList<>();
+        private final List<TreeSet<String>> fieldBuckets = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add a condition and return its id; identical conditions share an id
+         */
+        public int add(CompiledCondition condition) {
+            String key = identity(condition);
+            Integer existing = ids.get(key);
+            if (existing != null) {
+                return existing;
+            }
+
+            int id = conditions.size();
+            ids.put(key, id);
+            conditions.add(condition);
+
+            if (kindOf(condition) == FALLBACK) {
+                conditionFields.add(-1);
+                return id;
+            }
+
+            int field = fieldsBySlot.computeIfAbsent(condition.getSlot(), slot -> {
+                fieldSlots.add(slot);
+                fieldThresholds.add(new TreeSet<>());
+                fieldBuckets.add(new TreeSet<>());
+                return fieldSlots.size() - 1;
+            });
+            conditionFields.add(field);
+
+            TreeSet<Double> numbers = fieldThresholds.get(field);
+            TreeSet<String> strings = fieldBuckets.get(field);
+            switch (kindOf(condition)) {
+                case GREATER_THAN, GREATER_THAN_OR_EQUAL, LESS_THAN, LESS_THAN_OR_EQUAL ->
+                        numbers.add(condition.getNumber());
+                case BETWEEN -> {
+                    numbers.add(condition.getMin());
+                    numbers.add(condition.getMax());
+                }
+                case EQUALS -> {
+                    if (condition.getNumber() != null) {
+                        numbers.add(condition.getNumber());
+                    }
+                    strings.add(condition.getNormalizedValue());
+                }
+                case IN -> {
+                    for (double value : condition.getNumericValues()) {
+                        numbers.add(value);
+                    }
+                    strings.addAll(condition.getNormalizedValues());
+                }
+                default -> {
+                }
+            }
+            return id;
+        }
+
+        public ConditionIndex build() {
+            return new ConditionIndex(this);
+        }
+
+        private static String identity(CompiledCondition condition) {
+            return condition.getSlot() + "|" + condition.getOperator()
+                    + "|" + condition.getValue() + "|" + condition.getMinValue() + "|" + condition.getMaxValue()
+                    + "|" + Arrays.toString(condition.getNumericValues())
+                    + "|" + new TreeSet<>(condition.getNormalizedValues());
+        }
+    }
+
+    // ==================== Match ====================
+
+    /**
+     * Per-request view of the index. Fields are resolved lazily, at most once each,
+     * so short-circuited rules never pay for fields they do not reach. Not thread-safe.
+     */
+    public final class Matcher {
+
+        private final EvaluationContext context;
+        private final BiPredicate<CompiledCondition, EvaluationContext> fallback;
+        private final byte[] fieldStates;
+        private final int[] below;
+        private final int[] atOrBelow;
+        private final int[] actualBuckets;
+
+        private Matcher(EvaluationContext context, BiPredicate<CompiledCondition, EvaluationContext> fallback) {
+            this.context = context;
+            this.fallback = fallback;
+            this.fieldStates = new byte[fieldSlots.length];
+            this.below = new int[fieldSlots.length];
+            this.atOrBelow = new int[fieldSlots.length];
+            this.actualBuckets = new int[fieldSlots.length];
+            Arrays.fill(actualBuckets, UNRESOLVED_BUCKET);
+        }
+
+        /**
+         * Truth value of a condition by id.
+         * Same semantics as ConditionEvaluator.matches: a missing field never matches.
+         */
+        public boolean test(int id) {
+            return test(id, fallback);
+        }
+
+        /**
+         * Truth value of a condition by id, with the given fallback for conditions the index cannot answer
+         */
+        public boolean test(int id, BiPredicate<CompiledCondition, EvaluationContext> fallback) {
+            byte kind = kinds[id];
+            if (kind == FALLBACK) {
+                return fallback.test(conditions[id], context);
+            }
+
+            int field = fields[id];
+            byte state = resolve(field);
+            if (state == ABSENT) {
+                return false;
+            }
+
+            boolean numeric = state == NUMERIC;
+            if (!numeric && kind <= BETWEEN) {
+                // Text against a numeric threshold is an evaluation error — let the fallback report it
+                return fallback.test(conditions[id], context);
+            }
+
+            boolean result = switch (kind) {
+                case GREATER_THAN -> thresholdKeys[id] < below[field];
+                case GREATER_THAN_OR_EQUAL -> thresholdKeys[id] < atOrBelow[field];
+                case LESS_THAN -> thresholdKeys[id] >= atOrBelow[field];
+                case LESS_THAN_OR_EQUAL -> thresholdKeys[id] >= below[field];
+                case BETWEEN -> thresholdKeys[id] < atOrBelow[field]
+                        && upperThresholdKeys[id] >= below[field];
+                case EQUALS -> numeric && thresholdKeys[id] >= 0
+                        ? isExact(field) && thresholdKeys[id] == below[field]
+                        : bucket(field) == bucketKeys[id];
+                case IN -> numeric
+                        ? isExact(field) && Arrays.binarySearch(thresholdSets[id], below[field]) >= 0
+                        : Arrays.binarySearch(bucketSets[id], bucket(field)) >= 0;
+                default -> throw new IllegalStateException("Unexpected condition kind " + kind);
+            };
+            return negated[id] != result;
+        }
+
+        /**
+         * Resolve a field once: presence, and for numbers its position among the field's thresholds
+         * (count strictly below, count at or below)
+         */
+        private byte resolve(int field) {
+            byte state = fieldStates[field];
+            if (state != UNRESOLVED) {
+                return state;
+            }
+
+            int slot = fieldSlots[field];
+            if (!context.isPresent(slot)) {
+                state = ABSENT;
+            } else if (context.isNumeric(slot)) {
+                double actual = context.getNumber(slot);
+                double[] sorted = thresholds[field];
+                int position = lowerBound(sorted, actual);
+                below[field] = position;
+                atOrBelow[field] = position < sorted.length && Double.compare(sorted[position], actual) == 0
+                        ? position + 1
+                        : position;
+                state = NUMERIC;
+            } else {
+                state = TEXT;
+            }
+            fieldStates[field] = state;
+            return state;
+        }
+
+        private boolean isExact(int field) {
+            return atOrBelow[field] > below[field];
+        }
+
+        private int bucket(int field) {
+            int bucket = actualBuckets[field];
+            if (bucket == UNRESOLVED_BUCKET) {
+                Integer id = buckets.get(field).get(CompiledCondition.normalize(context.getString(fieldSlots[field])));
+                bucket = id != null ? id : NO_BUCKET;
+                actualBuckets[field] = bucket;
+            }
+            return bucket;
+        }
+    }
+}
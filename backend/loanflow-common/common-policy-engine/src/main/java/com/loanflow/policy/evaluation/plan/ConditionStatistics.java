@@ -0,0 +1,129 @@
+package com.loanflow.policy.evaluation.plan;
+
+import com.loanflow.policy.domain.enums.LogicalOperator;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Observed pass rate of every condition in a {@link CompiledPolicySet}, keyed by
+ * {@link ConditionIndex} id, used to order conditions on the decision path.
+ *
+ * Only a sample of rule evaluations is measured (1 in {@code sampleRate}). A sampled evaluation
+ * tests every condition of the rule, so pass rates are not skewed by short-circuiting. Every
+ * {@code reorderInterval} sampled evaluations the set is reordered and the counts are halved,
+ * so the statistics follow shifts in traffic.
+ *
+ * Conditions are ranked with the classic ordering for independent predicates:
+ * AND rules by {@code cost / (1 - passRate)}, OR rules by {@code cost / passRate}, where cost is
+ * the static estimate from {@link ConditionIndex#cost} — a single condition test takes tens of
+ * nanoseconds, too little to time reliably.
+ */
+public final class ConditionStatistics {
+
+    private final Settings settings;
+    private final AtomicLongArray samples;
+    private final AtomicLongArray passes;
+    private final AtomicLong sampledRules = new AtomicLong();
+    private final AtomicLong nextReorderAt;
+
+    ConditionStatistics(int conditionCount, Settings settings) {
+        this.settings = settings;
+        this.samples = new AtomicLongArray(conditionCount);
+        this.passes = new AtomicLongArray(conditionCount);
+        this.nextReorderAt = new AtomicLong(settings.reorderInterval());
+    }
+
+    /**
+     * Whether this rule evaluation should be measured
+     */
+    public boolean shouldSample() {
+        int rate = settings.sampleRate();
+        return rate > 0 && (rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0);
+    }
+
+    /**
+     * Record one sampled condition outcome
+     */
+    public void record(int id, boolean passed) {
+        samples.incrementAndGet(id);
+        if (passed) {
+            passes.incrementAndGet(id);
+        }
+    }
+
+    /**
+     * Count a sampled rule evaluation; true for exactly one caller once a reorder is due
+     */
+    boolean completeSample() {
+        long sampled = sampledRules.incrementAndGet();
+        long due = nextReorderAt.get();
+        return sampled >= due && nextReorderAt.compareAndSet(due, sampled + settings.reorderInterval());
+    }
+
+    /**
+     * Whether a condition has enough samples to be ranked
+     */
+    boolean isRanked(int id) {
+        return samples.get(id) >= settings.minSamples();
+    }
+
+    /**
+     * Expected cost of testing a condition before the rule's outcome is decided — lower goes first
+     *
+     * @param cost static cost estimate of testing the condition
+     */
+    double rank(int id, LogicalOperator operator, double cost) {
+        long count = samples.get(id);
+        if (count == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double passRate = (double) passes.get(id) / count;
+        double decisive = operator == LogicalOperator.OR ? passRate : 1.0 - passRate;
+        return decisive > 0 ? cost / decisive : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Halve every count so older traffic weighs less
+     */
+    void decay() {
+        for (int id = 0; id < samples.length(); id++) {
+            samples.addAndGet(id, -samples.get(id) / 2);
+            passes.addAndGet(id, -passes.get(id) / 2);
+        }
+    }
+
+    /**
+     * Observed pass rate of a condition, or NaN if it was never sampled
+     */
+    public double passRate(int id) {
+        long count = samples.get(id);
+        return count > 0 ? (double) passes.get(id) / count : Double.NaN;
+    }
+
+    /**
+     * Number of measured evaluations of a condition
+     */
+    public long sampleCount(int id) {
+        return samples.get(id);
+    }
+
+    /**
+     * Sampling and reordering settings
+     *
+     * @param sampleRate      measure 1 in this many rule evaluations; 0 disables adaptive ordering
+     * @param reorderInterval sampled rule evaluations between reorders
+     * @param minSamples      samples a condition needs before its rule is reordered
+     */
+    public record Settings(int sampleRate, int reorderInterval, int minSamples) {
+
+        public static final Settings DEFAULT = new Settings(64, 2048, 100);
+        public static final Settings DISABLED = new Settings(0, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        public Settings {
+            reorderInterval = Math.max(1, reorderInterval);
+            minSamples = Math.max(1, minSamples);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.loanflow.policy.evaluation.snapshot;
+
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import com.loanflow.policy.evaluation.engine.PolicySetEvaluator;
+import com.loanflow.policy.evaluation.engine.PolicySetEvaluator.Decision;
+import com.loanflow.policy.evaluation.plan.CompiledPolicySet;
+import com.loanflow.policy.evaluation.plan.ConditionStatistics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decision-only policy evaluation inside a consuming service, against the latest
+ * {@link PolicySnapshot} received per loan type — no call to policy-service.
+ *
+ * Each installed snapshot is compiled once into a {@link CompiledPolicySet}; evaluation is the same
+ * fast path policy-service uses for decision-only requests. Older or repeated versions are ignored.
+ *
+ * Staleness is observable per loan type through two gauges:
+ * - policy.snapshot.version{loanType}      version of the installed snapshot
+ * - policy.snapshot.age.seconds{loanType}  time since that snapshot was published
+ */
+@Slf4j
+public class EmbeddedPolicyEngine {
+
+    private final PolicySetEvaluator policySetEvaluator;
+    private final MeterRegistry meterRegistry;
+    private final ConditionStatistics.Settings orderingSettings;
+    private final Map<String, Installed> installed = new ConcurrentHashMap<>();
+
+    public EmbeddedPolicyEngine(PolicySetEvaluator policySetEvaluator,
+                                MeterRegistry meterRegistry,
+                                ConditionStatistics.Settings orderingSettings) {
+        this.policySetEvaluator = policySetEvaluator;
+        this.meterRegistry = meterRegistry;
+        this.orderingSettings = orderingSettings;
+    }
+
+    /**
+     * Install a snapshot unless the same or a newer version is already installed
+     *
+     * @return true if the snapshot was installed
+     */
+    public boolean apply(PolicySnapshot snapshot) {
+        if (snapshot == null || snapshot.loanType() == null) {
+            return false;
+        }
+
+        Installed current = installed.get(snapshot.loanType());
+        if (current != null && current.snapshot().version() >= snapshot.version()) {
+            return false;
+        }
+
+        Installed compiled = new Installed(snapshot, CompiledPolicySet.build(
+                snapshot.policies().stream().map(PolicySnapshot.Entry::compile).toList(), orderingSettings));
+        Installed result = installed.merge(snapshot.loanType(), compiled,
+                (existing, candidate) -> existing.snapshot().version() >= candidate.snapshot().version()
+                        ? existing : candidate);
+        if (result != compiled) {
+            return false;
+        }
+
+        if (current == null) {
+            registerGauges(snapshot.loanType());
+        }
+        log.info("Installed policy snapshot v{} for {} ({} policies)",
+                snapshot.version(), snapshot.loanType(), snapshot.policies().size());
+        return true;
+    }
+
+    /**
+     * Evaluate the context against the installed snapshot for a loan type.
+     * Only policies inside their effective window at the time of the call are evaluated.
+     *
+     * @return empty if no snapshot has been received for the loan type yet
+     */
+    public Optional<Result> evaluate(String loanType, EvaluationContext context) {
+        Installed current = installed.get(loanType);
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PolicySnapshot.Entry> policies = current.snapshot().policies();
+        Decision decision = policySetEvaluator.evaluate(current.policySet(),
+                p -> policies.get(p).isWithinEffectiveWindow(now), context);
+        return Optional.of(new Result(decision, loanType, current.snapshot().version(),
+                current.snapshot().publishedAt()));
+    }
+
+    /**
+     * Version of the installed snapshot for a loan type, or -1 if none
+     */
+    public long getVersion(String loanType) {
+        Installed current = installed.get(loanType);
+        return current != null ? current.snapshot().version() : -1;
+    }
+
+    private void registerGauges(String loanType) {
+        Gauge.builder("policy.snapshot.version", this, engine -> engine.getVersion(loanType))
+                .description("Version of the installed policy snapshot")
+                .tag("loanType", loanType)
+                .register(meterRegistry);
+        Gauge.builder("policy.snapshot.age.seconds", this, engine -> engine.ageSeconds(loanType))
+                .description("Seconds since the installed policy snapshot was published")
+                .tag("loanType", loanType)
+                .register(meterRegistry);
+    }
+
+    private double ageSeconds(String loanType) {
+        Installed current = installed.get(loanType);
+        if (current == null || current.snapshot().publishedAt() == null) {
+            return Double.NaN;
+        }
+        return Duration.between(current.snapshot().publishedAt(), LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    /**
+     * Outcome of an in-process evaluation, with the snapshot it was made against
+     */
+    public record Result(Decision decision, String loanType, long snapshotVersion, LocalDateTime publishedAt) {
+    }
+
+    private record Installed(PolicySnapshot snapshot, CompiledPolicySet policySet) {
+    }
+}
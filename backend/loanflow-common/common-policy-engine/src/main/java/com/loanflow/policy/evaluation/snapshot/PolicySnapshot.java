@@ -0,0 +1,70 @@
+package com.loanflow.policy.evaluation.snapshot;
+
+import com.loanflow.policy.domain.valueobject.PolicyRule;
+import com.loanflow.policy.evaluation.plan.CompiledPolicy;
+import com.loanflow.policy.evaluation.plan.CompiledRule;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Self-contained copy of the active policy set for one loan type, published by policy-service
+ * so other services can evaluate in-process with {@link EmbeddedPolicyEngine}.
+ *
+ * Snapshots are stored in the Redis hash {@link #REDIS_KEY} (field = loan type) and announced on
+ * {@link #CHANNEL} with the loan type as payload. {@code version} is taken from the Redis counter
+ * {@link #VERSION_KEY}, so versions increase across all publishers and a consumer can tell how far
+ * behind it is. A snapshot is only stored over one with a lower version, so the hash never regresses.
+ *
+ * Policies are listed in evaluation order (priority), each with only its enabled rules, also in
+ * priority order. Effective windows are carried along and applied at evaluation time.
+ */
+public record PolicySnapshot(String loanType,
+                             long version,
+                             LocalDateTime publishedAt,
+                             List<Entry> policies) {
+
+    public static final String REDIS_KEY = "policy:snapshots";
+    public static final String VERSION_KEY = "policy:snapshots:version";
+    public static final String CHANNEL = "policy:snapshots:published";
+
+    /**
+     * One active policy version in a snapshot
+     */
+    public record Entry(String policyId,
+                        String policyCode,
+                        String name,
+                        String category,
+                        int priority,
+                        Integer versionNumber,
+                        Long lockVersion,
+                        LocalDateTime effectiveFrom,
+                        LocalDateTime effectiveUntil,
+                        List<PolicyRule> rules) {
+
+        /**
+         * Whether the effective date range contains the given time (both ends inclusive)
+         */
+        public boolean isWithinEffectiveWindow(LocalDateTime at) {
+            boolean afterStart = effectiveFrom == null || !at.isBefore(effectiveFrom);
+            boolean beforeEnd = effectiveUntil == null || !at.isAfter(effectiveUntil);
+            return afterStart && beforeEnd;
+        }
+
+        /**
+         * Compile this policy's rules (already enabled-only and in priority order) into a plan
+         */
+        public CompiledPolicy compile() {
+            return CompiledPolicy.builder()
+                    .policyId(policyId)
+                    .policyCode(policyCode)
+                    .policyName(name)
+                    .category(category)
+                    .priority(priority)
+                    .versionNumber(versionNumber)
+                    .lockVersion(lockVersion)
+                    .rules(rules != null ? rules.stream().map(CompiledRule::compile).toList() : List.of())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.loanflow.util.redis;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compact binary {@link RedisSerializer} shared by the service caches.
+ *
+ * Values are written as Smile (binary JSON) with the same polymorphic type handling as
+ * {@link GenericJackson2JsonRedisSerializer}; repeated property names and class names are
+ * back-referenced instead of repeated. Payloads larger than the compression threshold are
+ * LZ4-compressed when that makes them smaller.
+ *
+ * Wire format: {@code [MAGIC][flags][original length, if compressed][payload]}. The magic byte
+ * can never start a JSON document, so values written by {@link GenericJackson2JsonRedisSerializer}
+ * are still read.
+ *
+ * Migration: deploy with binary writes disabled first (the default), so every node reads both
+ * formats while still writing JSON; then enable binary writes. Existing JSON keys are read until
+ * their TTL expires. The Smile and LZ4 dependencies are optional here and declared by the services
+ * that use this serializer.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+    static final byte MAGIC = (byte) 0xCB;
+    static final byte FLAG_LZ4 = 0x01;
+
+    private static final int HEADER_LENGTH = 2;
+    private static final int LENGTH_PREFIX = Integer.BYTES;
+    private static final int MAX_VALUE_BYTES = 256 * 1024 * 1024;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final boolean binaryWrites;
+    private final int compressionThreshold;
+    private final ObjectMapper smileMapper;
+    private final GenericJackson2JsonRedisSerializer json;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+
+    /**
+     * Reads both formats and writes JSON (the first rollout step)
+     */
+    public CompactRedisSerializer() {
+        this(false, DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * @param binaryWrites         write the binary format (false = write JSON, read both)
+     * @param compressionThreshold compress payloads above this many bytes; 0 or less disables compression
+     */
+    public CompactRedisSerializer(boolean binaryWrites, int compressionThreshold) {
+        this.binaryWrites = binaryWrites;
+        this.compressionThreshold = compressionThreshold;
+
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        this.smileMapper = configure(SmileMapper.builder(smileFactory));
+        this.json = new GenericJackson2JsonRedisSerializer(configure(JsonMapper.builder()));
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (!binaryWrites) {
+            return json.serialize(value);
+        }
+
+        byte[] payload;
+        try {
+            payload = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+        }
+        if (compressionThreshold > 0 && payload.length > compressionThreshold) {
+            byte[] compressed = new byte[HEADER_LENGTH + LENGTH_PREFIX + compressor.maxCompressedLength(payload.length)];
+            int compressedLength = compressor.compress(payload, 0, payload.length,
+                    compressed, HEADER_LENGTH + LENGTH_PREFIX);
+            if (compressedLength < payload.length) {
+                compressed[0] = MAGIC;
+                compressed[1] = FLAG_LZ4;
+                ByteBuffer.wrap(compressed, HEADER_LENGTH, LENGTH_PREFIX).putInt(payload.length);
+                return Arrays.copyOf(compressed, HEADER_LENGTH + LENGTH_PREFIX + compressedLength);
+            }
+        }
+
+        byte[] bytes = new byte[HEADER_LENGTH + payload.length];
+        bytes[0] = MAGIC;
+        System.arraycopy(payload, 0, bytes, HEADER_LENGTH, payload.length);
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return json.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH) {
+            throw new SerializationException("Truncated compact Redis value");
+        }
+
+        if ((bytes[1] & FLAG_LZ4) == 0) {
+            return readSmile(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+        }
+
+        if (bytes.length < HEADER_LENGTH + LENGTH_PREFIX) {
+            throw new SerializationException("Truncated compressed Redis value");
+        }
+        int length = ByteBuffer.wrap(bytes, HEADER_LENGTH, LENGTH_PREFIX).getInt();
+        if (length < 0 || length > MAX_VALUE_BYTES) {
+            throw new SerializationException("Invalid compressed Redis value length: " + length);
+        }
+        byte[] payload = new byte[length];
+        try {
+            decompressor.decompress(bytes, HEADER_LENGTH + LENGTH_PREFIX, payload, 0, length);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not decompress Redis value", e);
+        }
+        return readSmile(payload, 0, length);
+    }
+
+    private Object readSmile(byte[] bytes, int offset, int length) {
+        try {
+            return smileMapper.readValue(bytes, offset, length, Object.class);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read Smile: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Type handling as in GenericJackson2JsonRedisSerializer, plus java.time support and
+     * tolerance of derived getters (e.g. isEffective, getEnabledRules) that have no matching setter
+     */
+    private static ObjectMapper configure(MapperBuilder<?, ?> builder) {
+        ObjectMapper mapper = builder
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(MapperFeature.USE_GETTERS_AS_SETTERS)
+                .build();
+        mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(mapper, null);
+        return mapper;
+    }
+}
@@ -0,0 +1,186 @@
+package com.loanflow.util.redis;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CompactRedisSerializer
+ */
+@DisplayName("CompactRedisSerializer Tests")
+class CompactRedisSerializerTest {
+
+    @Nested
+    @DisplayName("Round Trip")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("Should round-trip nested values including date and decimal fields")
+        void shouldRoundTripNestedValues() {
+            CompactRedisSerializer serializer = new CompactRedisSerializer(true, 1024);
+            CachedReport report = report("RPT-1");
+
+            byte[] bytes = serializer.serialize(report);
+            CachedReport restored = (CachedReport) serializer.deserialize(bytes);
+
+            assertEquals(CompactRedisSerializer.MAGIC, bytes[0]);
+            assertEquals(report, restored);
+        }
+
+        @Test
+        @DisplayName("Should write a smaller payload than JSON and compress large values")
+        @SuppressWarnings("unchecked")
+        void shouldWriteSmallerPayloadThanJson() {
+            List<CachedReport> reports = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                reports.add(report("RPT-" + i));
+            }
+
+            byte[] uncompressed = new CompactRedisSerializer(true, 0).serialize(reports);
+            byte[] compressed = new CompactRedisSerializer(true, 1024).serialize(reports);
+            byte[] json = new CompactRedisSerializer(false, 1024).serialize(reports);
+
+            assertTrue(uncompressed.length < json.length);
+            assertTrue(compressed.length < uncompressed.length);
+            assertEquals(CompactRedisSerializer.FLAG_LZ4, compressed[1]);
+            assertEquals(reports, (List<CachedReport>) new CompactRedisSerializer(true, 1024).deserialize(compressed));
+        }
+
+        @Test
+        @DisplayName("Should treat null and empty values as absent")
+        void shouldHandleNullAndEmpty() {
+            CompactRedisSerializer serializer = new CompactRedisSerializer(true, 1024);
+
+            assertEquals(0, serializer.serialize(null).length);
+            assertNull(serializer.deserialize(null));
+            assertNull(serializer.deserialize(new byte[0]));
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON Fallback")
+    class JsonFallback {
+
+        @Test
+        @DisplayName("Should write JSON by default")
+        void shouldWriteJsonByDefault() {
+            byte[] bytes = new CompactRedisSerializer().serialize(report("RPT-1"));
+
+            assertEquals('{', bytes[0]);
+        }
+
+        @Test
+        @DisplayName("Should read values written as JSON before the rollout")
+        void shouldReadLegacyJsonValues() {
+            CompactRedisSerializer serializer = new CompactRedisSerializer(true, 1024);
+            byte[] legacy = new GenericJackson2JsonRedisSerializer()
+                    .serialize(new ArrayList<>(List.of("PERSONAL_LOAN", "HOME_LOAN")));
+
+            assertEquals(List.of("PERSONAL_LOAN", "HOME_LOAN"), serializer.deserialize(legacy));
+            assertEquals("PERSONAL_LOAN", serializer.deserialize(serializer.serialize("PERSONAL_LOAN")));
+        }
+
+        @Test
+        @DisplayName("Should keep reading binary values when writes are switched back to JSON")
+        void shouldReadBinaryValuesWhenWritingJson() {
+            byte[] binary = new CompactRedisSerializer(true, 1024).serialize(report("RPT-1"));
+
+            CachedReport restored = (CachedReport) new CompactRedisSerializer(false, 1024).deserialize(binary);
+
+            assertEquals("RPT-1", restored.getReference());
+        }
+    }
+
+    @Nested
+    @DisplayName("Truncated Values")
+    class TruncatedValues {
+
+        private final CompactRedisSerializer serializer = new CompactRedisSerializer(true, 0);
+
+        @Test
+        @DisplayName("Should reject a value that stops after the magic byte")
+        void shouldRejectMissingFlags() {
+            byte[] bytes = {CompactRedisSerializer.MAGIC};
+
+            assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+        }
+
+        @Test
+        @DisplayName("Should reject a compressed value without its length prefix")
+        void shouldRejectMissingLengthPrefix() {
+            byte[] bytes = {CompactRedisSerializer.MAGIC, CompactRedisSerializer.FLAG_LZ4, 0, 0};
+
+            assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+        }
+
+        @Test
+        @DisplayName("Should reject a compressed value with an invalid length prefix")
+        void shouldRejectInvalidLength() {
+            byte[] bytes = {CompactRedisSerializer.MAGIC, CompactRedisSerializer.FLAG_LZ4, -1, -1, -1, -1, 0};
+
+            assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+        }
+
+        @Test
+        @DisplayName("Should reject a compressed value cut short")
+        void shouldRejectTruncatedCompressedPayload() {
+            List<CachedReport> reports = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                reports.add(report("RPT-" + i));
+            }
+            byte[] compressed = new CompactRedisSerializer(true, 1024).serialize(reports);
+
+            byte[] truncated = Arrays.copyOf(compressed, compressed.length / 2);
+
+            assertThrows(SerializationException.class, () -> serializer.deserialize(truncated));
+        }
+
+        @Test
+        @DisplayName("Should reject an uncompressed value cut short")
+        void shouldRejectTruncatedSmilePayload() {
+            byte[] bytes = serializer.serialize(report("RPT-1"));
+
+            byte[] truncated = Arrays.copyOf(bytes, bytes.length - 10);
+
+            assertThrows(SerializationException.class, () -> serializer.deserialize(truncated));
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static CachedReport report(String reference) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("bureau", "CIBIL");
+        attributes.put("source", "cache");
+        return new CachedReport(reference, 742, new BigDecimal("125000.50"),
+                LocalDateTime.of(2026, 1, 1, 10, 30),
+                new ArrayList<>(List.of("personal-loan", "eligibility")), attributes);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CachedReport {
+        private String reference;
+        private int score;
+        private BigDecimal monthlyIncome;
+        private LocalDateTime fetchedAt;
+        private List<String> tags;
+        private Map<String, String> attributes;
+    }
+}
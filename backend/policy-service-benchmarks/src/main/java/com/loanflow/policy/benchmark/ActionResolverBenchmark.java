@@ -0,0 +1,76 @@
+package com.loanflow.policy.benchmark;
+
+import com.loanflow.policy.domain.enums.LoanType;
+import com.loanflow.policy.evaluation.analysis.PolicyAnalyzer;
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse.TriggeredAction;
+import com.loanflow.policy.evaluation.engine.ActionResolver;
+import com.loanflow.policy.evaluation.engine.ConditionEvaluator;
+import com.loanflow.policy.evaluation.engine.RuleEvaluator;
+import com.loanflow.policy.evaluation.plan.CompiledPolicy;
+import com.loanflow.policy.evaluation.plan.CompiledRule;
+import com.loanflow.policy.evaluation.plan.PolicyCompiler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of conflict resolution over the actions actually triggered by each request.
+ * Always uses ALL_MATCH contexts: the other shapes trigger no actions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActionResolverBenchmark {
+
+    private static final int REQUESTS = 1024;
+
+    @Param({"1", "10"})
+    public int copies;
+
+    private ActionResolver actionResolver;
+    private List<List<TriggeredAction>> triggeredActions;
+
+    @Setup
+    public void setUp() {
+        actionResolver = new ActionResolver();
+        RuleEvaluator ruleEvaluator = new RuleEvaluator(new ConditionEvaluator(EvaluationFixtures.metrics()));
+        PolicyCompiler compiler = new PolicyCompiler(new PolicyAnalyzer());
+
+        Map<LoanType, List<CompiledPolicy>> plansByLoanType = new EnumMap<>(LoanType.class);
+        EvaluationFixtures.byLoanType(EvaluationFixtures.activePolicies(copies)).forEach((loanType, policies) ->
+                plansByLoanType.put(loanType, policies.stream().map(compiler::compile).toList()));
+
+        triggeredActions = new ArrayList<>(REQUESTS);
+        for (PolicyEvaluationRequest request : EvaluationFixtures.requests(ContextShape.ALL_MATCH, REQUESTS)) {
+            EvaluationContext context = request.toEvaluationContext();
+            List<TriggeredAction> actions = new ArrayList<>();
+            for (CompiledPolicy plan : plansByLoanType.get(LoanType.valueOf(request.getLoanType()))) {
+                for (CompiledRule rule : plan.getRules()) {
+                    if (ruleEvaluator.matches(rule, context)) {
+                        actions.addAll(ruleEvaluator.buildTriggeredActions(rule, plan.getPolicyCode()));
+                    }
+                }
+            }
+            triggeredActions.add(actions);
+        }
+    }
+
+    @Benchmark
+    public String resolveDecision(RequestCursor cursor) {
+        return actionResolver.resolveDecision(triggeredActions.get(cursor.next(triggeredActions.size())));
+    }
+
+    @Benchmark
+    public List<TriggeredAction> resolveActions(RequestCursor cursor) {
+        return actionResolver.resolveActions(triggeredActions.get(cursor.next(triggeredActions.size())));
+    }
+}
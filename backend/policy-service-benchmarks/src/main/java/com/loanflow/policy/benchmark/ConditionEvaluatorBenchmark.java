@@ -0,0 +1,92 @@
+package com.loanflow.policy.benchmark;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.LoanType;
+import com.loanflow.policy.evaluation.analysis.PolicyAnalyzer;
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
+import com.loanflow.policy.evaluation.engine.ConditionEvaluator;
+import com.loanflow.policy.evaluation.plan.CompiledCondition;
+import com.loanflow.policy.evaluation.plan.CompiledRule;
+import com.loanflow.policy.evaluation.plan.PolicyCompiler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of single-condition evaluation over every condition of the templates
+ * applicable to each request.
+ *
+ * matches  - decision-only path (boolean result)
+ * evaluate - explain path (builds a ConditionResult per condition)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConditionEvaluatorBenchmark {
+
+    private static final int REQUESTS = 1024;
+
+    @Param({"ALL_MATCH", "NO_MATCH", "MISSING_FIELDS"})
+    public ContextShape shape;
+
+    private ConditionEvaluator conditionEvaluator;
+    private EvaluationContext[] contexts;
+    private CompiledCondition[][] conditions;
+
+    @Setup
+    public void setUp() {
+        conditionEvaluator = new ConditionEvaluator(EvaluationFixtures.metrics());
+        PolicyCompiler compiler = new PolicyCompiler(new PolicyAnalyzer());
+
+        Map<LoanType, CompiledCondition[]> conditionsByLoanType = new EnumMap<>(LoanType.class);
+        EvaluationFixtures.byLoanType(EvaluationFixtures.activePolicies(1)).forEach((loanType, policies) ->
+                conditionsByLoanType.put(loanType, conditionsOf(compiler, policies)));
+
+        PolicyEvaluationRequest[] requests = EvaluationFixtures.requests(shape, REQUESTS);
+        contexts = new EvaluationContext[requests.length];
+        conditions = new CompiledCondition[requests.length][];
+        for (int i = 0; i < requests.length; i++) {
+            contexts[i] = requests[i].toEvaluationContext();
+            conditions[i] = conditionsByLoanType.get(LoanType.valueOf(requests[i].getLoanType()));
+        }
+    }
+
+    @Benchmark
+    public int matches(RequestCursor cursor) {
+        int i = cursor.next(contexts.length);
+        EvaluationContext context = contexts[i];
+        int matched = 0;
+        for (CompiledCondition condition : conditions[i]) {
+            if (conditionEvaluator.matches(condition, context)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public void evaluate(RequestCursor cursor, Blackhole blackhole) {
+        int i = cursor.next(contexts.length);
+        EvaluationContext context = contexts[i];
+        for (CompiledCondition condition : conditions[i]) {
+            blackhole.consume(conditionEvaluator.evaluate(condition, context));
+        }
+    }
+
+    private static CompiledCondition[] conditionsOf(PolicyCompiler compiler, List<Policy> policies) {
+        return policies.stream()
+                .map(compiler::compile)
+                .flatMap(plan -> plan.getRules().stream())
+                .map(CompiledRule::getConditions)
+                .flatMap(List::stream)
+                .toArray(CompiledCondition[]::new);
+    }
+}
@@ -0,0 +1,23 @@
+package com.loanflow.policy.benchmark;
+
+/**
+ * Shape of the synthetic evaluation contexts fed to the benchmarks
+ */
+public enum ContextShape {
+
+    /**
+     * Every field present; at least one approval rule fires in every policy
+     */
+    ALL_MATCH,
+
+    /**
+     * Fields present but outside every rule's thresholds, so no rule fires
+     * (KCC omits the crop type, as its standard approval only checks for presence)
+     */
+    NO_MATCH,
+
+    /**
+     * Only the mandatory loan fields; every applicant/property condition sees a missing value
+     */
+    MISSING_FIELDS
+}
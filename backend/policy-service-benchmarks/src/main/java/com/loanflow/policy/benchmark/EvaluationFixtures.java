@@ -0,0 +1,163 @@
+package com.loanflow.policy.benchmark;
+
+import com.loanflow.policy.config.PolicyTemplateInitializer;
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.LoanType;
+import com.loanflow.policy.domain.enums.PolicyStatus;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
+import com.loanflow.policy.evaluation.metrics.PolicyEvaluationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Policies and requests shared by the evaluation benchmarks.
+ *
+ * Policies are the real pre-built templates from {@link PolicyTemplateInitializer}, activated
+ * and optionally replicated to simulate a growing rule base. Requests cycle through the
+ * template loan types with seeded, shape-preserving variation so the JIT cannot constant-fold them.
+ */
+final class EvaluationFixtures {
+
+    static final LoanType[] LOAN_TYPES = {LoanType.PERSONAL_LOAN, LoanType.HOME_LOAN, LoanType.KCC};
+
+    private static final long SEED = 42L;
+
+    private EvaluationFixtures() {
+    }
+
+    /**
+     * Evaluation metrics backed by an in-memory registry, so metering cost is part of the measurement
+     */
+    static PolicyEvaluationMetrics metrics() {
+        return new PolicyEvaluationMetrics(new SimpleMeterRegistry());
+    }
+
+    /**
+     * Active copies of every template; each copy gets its own id, code and priority
+     */
+    static List<Policy> activePolicies(int copies) {
+        PolicyTemplateInitializer initializer = new PolicyTemplateInitializer(null, null);
+        List<Policy> policies = new ArrayList<>();
+        for (int copy = 0; copy < copies; copy++) {
+            for (Policy template : initializer.buildTemplates()) {
+                String code = String.format("BENCH-%s-%03d", template.getLoanType(), copy);
+                template.setId(code.toLowerCase());
+                template.setPolicyCode(code);
+                template.setStatus(PolicyStatus.ACTIVE);
+                template.setPriority(template.getPriority() + copy);
+                template.setLockVersion(0L);
+                policies.add(template);
+            }
+        }
+        return policies;
+    }
+
+    /**
+     * Active policies grouped by loan type, sorted by priority as the repository returns them
+     */
+    static Map<LoanType, List<Policy>> byLoanType(List<Policy> policies) {
+        Map<LoanType, List<Policy>> grouped = new EnumMap<>(LoanType.class);
+        for (LoanType loanType : LOAN_TYPES) {
+            grouped.put(loanType, policies.stream()
+                    .filter(policy -> policy.getLoanType() == loanType || policy.getLoanType() == LoanType.ALL)
+                    .sorted(Comparator.comparing(Policy::getPriority))
+                    .toList());
+        }
+        return grouped;
+    }
+
+    /**
+     * Requests of the given shape, round-robin across the template loan types
+     */
+    static PolicyEvaluationRequest[] requests(ContextShape shape, int count) {
+        Random random = new Random(SEED);
+        PolicyEvaluationRequest[] requests = new PolicyEvaluationRequest[count];
+        for (int i = 0; i < count; i++) {
+            LoanType loanType = LOAN_TYPES[i % LOAN_TYPES.length];
+            PolicyEvaluationRequest.PolicyEvaluationRequestBuilder builder = PolicyEvaluationRequest.builder()
+                    .applicationId("BENCH-APP-" + i)
+                    .loanType(loanType.name())
+                    .tenureMonths(12 * (1 + random.nextInt(20)));
+            requests[i] = switch (shape) {
+                case ALL_MATCH -> allMatch(builder, loanType, random).build();
+                case NO_MATCH -> noMatch(builder, loanType, random).build();
+                case MISSING_FIELDS -> builder
+                        .requestedAmount(amount(random, 100_000, 1_000_000))
+                        .build();
+            };
+        }
+        return requests;
+    }
+
+    // ==================== Shapes ====================
+
+    private static PolicyEvaluationRequest.PolicyEvaluationRequestBuilder allMatch(
+            PolicyEvaluationRequest.PolicyEvaluationRequestBuilder builder, LoanType loanType, Random random) {
+        return switch (loanType) {
+            // Salaried approval: SALARIED + CIBIL >= 650 + age 21-60 + income >= 25K
+            case PERSONAL_LOAN -> builder
+                    .requestedAmount(amount(random, 100_000, 2_000_000))
+                    .employmentType(random.nextBoolean() ? "SALARIED" : "PROFESSIONAL")
+                    .cibilScore(700 + random.nextInt(200))
+                    .applicantAge(25 + random.nextInt(30))
+                    .monthlyIncome(amount(random, 30_000, 300_000));
+            // Standard approval: CIBIL >= 700 + age 21-65 + income >= 40K + property value present
+            case HOME_LOAN -> builder
+                    .requestedAmount(amount(random, 1_000_000, 5_000_000))
+                    .employmentType("SALARIED")
+                    .cibilScore(720 + random.nextInt(180))
+                    .applicantAge(25 + random.nextInt(35))
+                    .monthlyIncome(amount(random, 60_000, 500_000))
+                    .propertyValue(amount(random, 5_000_000, 20_000_000))
+                    .propertyType("APARTMENT");
+            // Large farmer + standard approval: owned, irrigated land > 5 acres with a crop
+            default -> builder
+                    .requestedAmount(amount(random, 50_000, 500_000))
+                    .additionalFields(Map.of(
+                            "applicant.landOwnership", "true",
+                            "applicant.landArea", String.valueOf(6 + random.nextInt(20)),
+                            "applicant.irrigatedLand", "true",
+                            "applicant.cropType", random.nextBoolean() ? "PADDY" : "WHEAT"));
+        };
+    }
+
+    private static PolicyEvaluationRequest.PolicyEvaluationRequestBuilder noMatch(
+            PolicyEvaluationRequest.PolicyEvaluationRequestBuilder builder, LoanType loanType, Random random) {
+        return switch (loanType) {
+            // Employment type outside both approval rules, CIBIL above the referral band
+            case PERSONAL_LOAN -> builder
+                    .requestedAmount(amount(random, 100_000, 2_000_000))
+                    .employmentType("RETIRED")
+                    .cibilScore(650 + random.nextInt(250))
+                    .applicantAge(25 + random.nextInt(30))
+                    .monthlyIncome(amount(random, 30_000, 300_000));
+            // CIBIL 600-699: neither rejected nor approved; income and amount inside the limits
+            case HOME_LOAN -> builder
+                    .requestedAmount(amount(random, 1_000_000, 5_000_000))
+                    .employmentType("SALARIED")
+                    .cibilScore(600 + random.nextInt(100))
+                    .applicantAge(25 + random.nextInt(35))
+                    .monthlyIncome(amount(random, 60_000, 500_000))
+                    .propertyValue(amount(random, 5_000_000, 20_000_000))
+                    .propertyType("HOUSE");
+            // Owned, small, unirrigated land with no crop declared
+            default -> builder
+                    .requestedAmount(amount(random, 50_000, 500_000))
+                    .additionalFields(Map.of(
+                            "applicant.landOwnership", "true",
+                            "applicant.landArea", String.valueOf(1 + random.nextInt(5)),
+                            "applicant.irrigatedLand", "false"));
+        };
+    }
+
+    private static BigDecimal amount(Random random, int min, int max) {
+        return BigDecimal.valueOf(min + random.nextInt(max - min));
+    }
+}
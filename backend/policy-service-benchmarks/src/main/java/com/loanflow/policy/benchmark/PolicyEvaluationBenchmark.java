@@ -0,0 +1,100 @@
+package com.loanflow.policy.benchmark;
+
+import com.loanflow.policy.evaluation.analysis.PolicyAnalyzer;
+import com.loanflow.policy.evaluation.backtest.ContextArchive;
+import com.loanflow.policy.evaluation.cache.ActivePolicyNearCache;
+import com.loanflow.policy.evaluation.cache.EvaluationResultCache;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse;
+import com.loanflow.policy.evaluation.engine.ActionResolver;
+import com.loanflow.policy.evaluation.engine.ConditionEvaluator;
+import com.loanflow.policy.evaluation.engine.PolicySetEvaluator;
+import com.loanflow.policy.evaluation.engine.RuleEvaluator;
+import com.loanflow.policy.evaluation.metrics.PolicyEvaluationMetrics;
+import com.loanflow.policy.evaluation.plan.PolicyCompiler;
+import com.loanflow.policy.evaluation.plan.PolicyPlanCache;
+import com.loanflow.policy.evaluation.service.impl.PolicyEvaluationServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end throughput of {@link PolicyEvaluationServiceImpl} with the real templates.
+ *
+ * The active policy near cache is pre-warmed, so neither Redis nor MongoDB is touched;
+ * result memoization is bypassed and the context archive is disabled, so every invocation
+ * is a full evaluation. Run with {@code -prof gc} to report allocation per evaluation.
+ *
+ * explain      - full audit trail (condition results, rule results, evaluation log)
+ * decisionOnly - decision-only fast path through the shared condition index
+ * The *MultiThreaded variants run on every available core against the same service instance.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PolicyEvaluationBenchmark {
+
+    private static final int REQUESTS = 1024;
+    private static final long NEAR_CACHE_TTL_SECONDS = 86_400;
+
+    @Param({"ALL_MATCH", "NO_MATCH", "MISSING_FIELDS"})
+    public ContextShape shape;
+
+    @Param({"1", "10"})
+    public int copies;
+
+    private PolicyEvaluationServiceImpl evaluationService;
+    private PolicyEvaluationRequest[] requests;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+
+        ActivePolicyNearCache nearCache =
+                new ActivePolicyNearCache(redisTemplate, meterRegistry, NEAR_CACHE_TTL_SECONDS);
+        EvaluationFixtures.byLoanType(EvaluationFixtures.activePolicies(copies))
+                .forEach((loanType, policies) -> nearCache.get(loanType, type -> policies));
+
+        PolicyEvaluationMetrics evaluationMetrics = new PolicyEvaluationMetrics(meterRegistry);
+        RuleEvaluator ruleEvaluator = new RuleEvaluator(new ConditionEvaluator(evaluationMetrics));
+        ActionResolver actionResolver = new ActionResolver();
+        evaluationService = new PolicyEvaluationServiceImpl(
+                null, ruleEvaluator, actionResolver, redisTemplate,
+                new PolicyPlanCache(new PolicyCompiler(new PolicyAnalyzer()), 64, 2048, 100, 4),
+                nearCache,
+                new EvaluationResultCache(nearCache, meterRegistry, 1, 1),
+                new PolicySetEvaluator(ruleEvaluator, actionResolver, evaluationMetrics),
+                new ContextArchive(false, "unused", 1, 1, 60, 30, 4096, 8),
+                evaluationMetrics);
+
+        requests = EvaluationFixtures.requests(shape, REQUESTS);
+    }
+
+    @Benchmark
+    public PolicyEvaluationResponse explain(RequestCursor cursor) {
+        return evaluationService.evaluate(requests[cursor.next(requests.length)], true, false);
+    }
+
+    @Benchmark
+    public PolicyEvaluationResponse decisionOnly(RequestCursor cursor) {
+        return evaluationService.evaluate(requests[cursor.next(requests.length)], false, false);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public PolicyEvaluationResponse explainMultiThreaded(RequestCursor cursor) {
+        return evaluationService.evaluate(requests[cursor.next(requests.length)], true, false);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public PolicyEvaluationResponse decisionOnlyMultiThreaded(RequestCursor cursor) {
+        return evaluationService.evaluate(requests[cursor.next(requests.length)], false, false);
+    }
+}
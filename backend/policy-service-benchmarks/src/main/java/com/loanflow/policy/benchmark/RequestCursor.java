@@ -0,0 +1,19 @@
+package com.loanflow.policy.benchmark;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-thread position in a benchmark's request array, so threads walk the inputs independently
+ */
+@State(Scope.Thread)
+public class RequestCursor {
+
+    private int next;
+
+    int next(int length) {
+        int current = next;
+        next = current + 1 == length ? 0 : current + 1;
+        return current;
+    }
+}
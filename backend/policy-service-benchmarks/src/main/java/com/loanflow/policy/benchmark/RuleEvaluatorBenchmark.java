@@ -0,0 +1,112 @@
+package com.loanflow.policy.benchmark;
+
+import com.loanflow.policy.domain.enums.LoanType;
+import com.loanflow.policy.evaluation.analysis.PolicyAnalyzer;
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
+import com.loanflow.policy.evaluation.engine.ConditionEvaluator;
+import com.loanflow.policy.evaluation.engine.RuleEvaluator;
+import com.loanflow.policy.evaluation.plan.CompiledPolicy;
+import com.loanflow.policy.evaluation.plan.CompiledPolicySet;
+import com.loanflow.policy.evaluation.plan.CompiledRule;
+import com.loanflow.policy.evaluation.plan.ConditionIndex;
+import com.loanflow.policy.evaluation.plan.PolicyCompiler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of rule evaluation over every rule of the policies applicable to each request.
+ *
+ * matches        - short-circuit rule logic, condition by condition
+ * matchesIndexed - short-circuit rule logic through the policy set's shared condition index
+ * evaluate       - explain path (per-condition results and triggered actions)
+ *
+ * {@code copies} replicates the templates to show how cost grows with the rule base.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RuleEvaluatorBenchmark {
+
+    private static final int REQUESTS = 1024;
+
+    @Param({"ALL_MATCH", "NO_MATCH", "MISSING_FIELDS"})
+    public ContextShape shape;
+
+    @Param({"1", "10"})
+    public int copies;
+
+    private RuleEvaluator ruleEvaluator;
+    private EvaluationContext[] contexts;
+    private CompiledPolicySet[] policySets;
+
+    @Setup
+    public void setUp() {
+        ruleEvaluator = new RuleEvaluator(new ConditionEvaluator(EvaluationFixtures.metrics()));
+        PolicyCompiler compiler = new PolicyCompiler(new PolicyAnalyzer());
+
+        Map<LoanType, CompiledPolicySet> setsByLoanType = new EnumMap<>(LoanType.class);
+        EvaluationFixtures.byLoanType(EvaluationFixtures.activePolicies(copies)).forEach((loanType, policies) ->
+                setsByLoanType.put(loanType, CompiledPolicySet.build(policies.stream().map(compiler::compile).toList())));
+
+        PolicyEvaluationRequest[] requests = EvaluationFixtures.requests(shape, REQUESTS);
+        contexts = new EvaluationContext[requests.length];
+        policySets = new CompiledPolicySet[requests.length];
+        for (int i = 0; i < requests.length; i++) {
+            contexts[i] = requests[i].toEvaluationContext();
+            policySets[i] = setsByLoanType.get(LoanType.valueOf(requests[i].getLoanType()));
+        }
+    }
+
+    @Benchmark
+    public int matches(RequestCursor cursor) {
+        int i = cursor.next(contexts.length);
+        EvaluationContext context = contexts[i];
+        int matched = 0;
+        for (CompiledPolicy plan : policySets[i].getPlans()) {
+            for (CompiledRule rule : plan.getRules()) {
+                if (ruleEvaluator.matches(rule, context)) {
+                    matched++;
+                }
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int matchesIndexed(RequestCursor cursor) {
+        int i = cursor.next(contexts.length);
+        CompiledPolicySet policySet = policySets[i];
+        ConditionIndex.Matcher matcher = ruleEvaluator.matcher(policySet.getIndex(), contexts[i]);
+        List<CompiledPolicy> plans = policySet.getPlans();
+        int matched = 0;
+        for (int p = 0; p < plans.size(); p++) {
+            List<CompiledRule> rules = plans.get(p).getRules();
+            for (int r = 0; r < rules.size(); r++) {
+                if (ruleEvaluator.matches(rules.get(r), policySet.conditionIds(p, r), matcher)) {
+                    matched++;
+                }
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public void evaluate(RequestCursor cursor, Blackhole blackhole) {
+        int i = cursor.next(contexts.length);
+        EvaluationContext context = contexts[i];
+        for (CompiledPolicy plan : policySets[i].getPlans()) {
+            for (CompiledRule rule : plan.getRules()) {
+                blackhole.consume(ruleEvaluator.evaluate(rule, context, plan.getPolicyCode()));
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.loanflow.policy.config;
+
+import com.loanflow.policy.repository.PolicySearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfills search terms on application startup for policies saved before they were derived.
+ * Idempotent: only policies without search terms are touched. A failure is logged only;
+ * those policies stay searchable by whole words until they are next saved.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PolicySearchTermsInitializer implements ApplicationRunner {
+
+    private final PolicySearchRepository policySearchRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            policySearchRepository.backfillSearchTerms();
+        } catch (Exception e) {
+            log.warn("Policy search terms backfill failed: {}", e.getMessage());
+        }
+    }
+}
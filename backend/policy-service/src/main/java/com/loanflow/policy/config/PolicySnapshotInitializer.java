@@ -0,0 +1,28 @@
+package com.loanflow.policy.config;
+
+import com.loanflow.policy.evaluation.snapshot.PolicySnapshotPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes a policy snapshot for every loan type on application startup.
+ *
+ * Runs after {@link PolicyTemplateInitializer}, so consumers of the snapshots start from the
+ * current active set even if a change was made while no policy-service node was running.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class PolicySnapshotInitializer implements ApplicationRunner {
+
+    private final PolicySnapshotPublisher policySnapshotPublisher;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        policySnapshotPublisher.publishAll();
+    }
+}
@@ -0,0 +1,36 @@
+package com.loanflow.policy.config;
+
+import com.loanflow.policy.repository.PolicyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the materialized policy stats document on application startup if it does not exist.
+ *
+ * Runs after {@link PolicyTemplateInitializer} so seeded templates are counted. An existing document
+ * is left alone: it is kept current by incremental updates from every node, which a rebuild on each
+ * boot could overwrite. Drift is repaired explicitly with POST /api/v1/policies/stats/rebuild.
+ * A failure here is logged only; getStats creates the document on demand if it is missing.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyStatsInitializer implements ApplicationRunner {
+
+    private final PolicyStatsRepository policyStatsRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            policyStatsRepository.createIfMissing();
+        } catch (Exception e) {
+            log.warn("Policy stats initialization failed: {}", e.getMessage());
+        }
+    }
+}
@@ -5,13 +5,18 @@ import com.loanflow.policy.domain.enums.*;
 import com.loanflow.policy.domain.valueobject.Action;
 import com.loanflow.policy.domain.valueobject.Condition;
 import com.loanflow.policy.domain.valueobject.PolicyRule;
-import com.loanflow.policy.repository.PolicyRepository;
+import com.loanflow.policy.repository.PolicySearchTerms;
+import com.loanflow.policy.repository.PolicyStatsRepository;
+import com.loanflow.policy.repository.PolicyTemplateSeedRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -24,54 +29,83 @@ import java.util.Map;
  * - Home Loan (4 rules: standard approval, high-value referral, low CIBIL rejection, income rejection)
  * - KCC / Kisan Credit Card (3 rules: standard approval, large farmer enhanced, no land rejection)
  *
- * Idempotent: skips templates that already exist (by name).
+ * Idempotent and cheap on restart: a checksum of the template set is compared with the one stored
+ * by the last successful seeding, and the step is skipped when they match. Otherwise templates that
+ * don't exist yet (by name) are inserted in a single bulk upsert; existing ones are never touched.
+ * The bulk write bypasses PolicyService, so each inserted template is added to the policy stats here
+ * (a no-op on first boot, when {@link PolicyStatsInitializer} then counts them from scratch).
  */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 @RequiredArgsConstructor
 @Slf4j
 public class PolicyTemplateInitializer implements ApplicationRunner {
 
-    private final PolicyRepository policyRepository;
+    static final String SEED_NAME = "policy-templates";
+
+    private final PolicyTemplateSeedRepository seedRepository;
+    private final PolicyStatsRepository policyStatsRepository;
 
     private static final String CREATED_BY = "system";
 
     @Override
     public void run(ApplicationArguments args) {
-        log.info("Checking for policy templates to initialize...");
-        int created = 0;
+        List<Policy> templates = buildTemplates();
+        String checksum = seedRepository.checksum(templates);
+        if (checksum.equals(seedRepository.findChecksum(SEED_NAME))) {
+            log.info("Policy templates unchanged since last seeding (checksum {}), skipping.", checksum.substring(0, 12));
+            return;
+        }
 
-        created += createIfNotExists(buildPersonalLoanEligibilityTemplate());
-        created += createIfNotExists(buildHomeLoanEligibilityTemplate());
-        created += createIfNotExists(buildKccEligibilityTemplate());
+        log.info("Seeding {} policy template(s)...", templates.size());
+        templates.forEach(this::prepare);
+        List<Policy> created = seedRepository.insertMissing(templates);
+        seedRepository.saveChecksum(SEED_NAME, checksum);
+        created.forEach(this::recordCreated);
 
-        if (created > 0) {
-            log.info("Policy template initialization complete. Created {} new template(s).", created);
+        if (!created.isEmpty()) {
+            log.info("Policy template initialization complete. Created {} new template(s).", created.size());
         } else {
             log.info("All policy templates already exist. No new templates created.");
         }
     }
 
-    /**
-     * Create a template if it doesn't already exist.
-     * @return 1 if created, 0 if skipped
-     */
-    private int createIfNotExists(Policy template) {
-        if (policyRepository.existsByNameIgnoreCase(template.getName())) {
-            log.debug("Template already exists: '{}', skipping.", template.getName());
-            return 0;
+    private void recordCreated(Policy template) {
+        try {
+            policyStatsRepository.recordTransition(null, null, template.getStatus(), template.getCategory());
+        } catch (Exception e) {
+            log.warn("Policy stats update failed for template {}: {}", template.getName(), e.getMessage());
         }
+    }
 
+    /**
+     * Fill in what saving through the repository would (code, audit fields, search terms),
+     * since the bulk upsert bypasses save callbacks and auditing
+     */
+    private void prepare(Policy template) {
+        LocalDateTime now = LocalDateTime.now();
         template.prePersist();
         template.setCreatedBy(CREATED_BY);
         template.setModifiedBy(CREATED_BY);
-
-        Policy saved = policyRepository.save(template);
-        log.info("Created policy template: '{}' (code: {}, loanType: {}, rules: {})",
-                saved.getName(), saved.getPolicyCode(), saved.getLoanType(), saved.getRuleCount());
-        return 1;
+        template.setCreatedAt(now);
+        template.setUpdatedAt(now);
+        template.setLockVersion(0L);
+        template.setSearchTerms(PolicySearchTerms.forPolicy(template));
     }
 
     // ==================== Template Builders ====================
+
+    /**
+     * Build fresh, unsaved instances of every pre-built template.
+     * Also used by the evaluation benchmarks as a realistic rule set.
+     */
+    public List<Policy> buildTemplates() {
+        return List.of(
+                buildPersonalLoanEligibilityTemplate(),
+                buildHomeLoanEligibilityTemplate(),
+                buildKccEligibilityTemplate());
+    }
+
     // Package-private for testability
 
     /**
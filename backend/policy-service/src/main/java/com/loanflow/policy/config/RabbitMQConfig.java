@@ -0,0 +1,115 @@
+package com.loanflow.policy.config;
+
+import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RabbitMQ configuration for queue-driven policy evaluation.
+ *
+ * Producers publish PolicyEvaluationRequest JSON to {@link #EVALUATION_EXCHANGE} with a routing key
+ * under "policy.evaluation.request."; results are published to {@link #RESULT_EXCHANGE} with the
+ * application ID as routing key and the request's correlation ID copied over.
+ *
+ * Requests are consumed in micro-batches: a batch is handed over once it holds batch-size messages,
+ * or when no further message arrives within receive-timeout-ms.
+ * Disable with policy.evaluation.async.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "policy.evaluation.async.enabled", havingValue = "true", matchIfMissing = true)
+public class RabbitMQConfig {
+
+    public static final String EVALUATION_EXCHANGE = "loanflow.policy.evaluation";
+    public static final String EVALUATION_QUEUE = "policy.evaluation.requests";
+    public static final String EVALUATION_ROUTING_KEY = "policy.evaluation.request.#";
+
+    public static final String RESULT_EXCHANGE = "loanflow.policy.evaluation.results";
+
+    public static final String DLQ_EXCHANGE = "loanflow.policy.evaluation.dlx";
+    public static final String DLQ_QUEUE = "policy.evaluation.dlq";
+    public static final String DLQ_ROUTING_KEY = "dlq";
+
+    @Bean
+    public TopicExchange evaluationExchange() {
+        return new TopicExchange(EVALUATION_EXCHANGE);
+    }
+
+    @Bean
+    public Queue evaluationQueue() {
+        return QueueBuilder.durable(EVALUATION_QUEUE)
+                .withArgument("x-dead-letter-exchange", DLQ_EXCHANGE)
+                .withArgument("x-dead-letter-routing-key", DLQ_ROUTING_KEY)
+                .build();
+    }
+
+    @Bean
+    public Binding evaluationBinding(Queue evaluationQueue, TopicExchange evaluationExchange) {
+        return BindingBuilder.bind(evaluationQueue)
+                .to(evaluationExchange)
+                .with(EVALUATION_ROUTING_KEY);
+    }
+
+    @Bean
+    public TopicExchange resultExchange() {
+        return new TopicExchange(RESULT_EXCHANGE);
+    }
+
+    // Dead Letter Queue
+    @Bean
+    public TopicExchange dlqExchange() {
+        return new TopicExchange(DLQ_EXCHANGE);
+    }
+
+    @Bean
+    public Queue dlqQueue() {
+        return QueueBuilder.durable(DLQ_QUEUE).build();
+    }
+
+    @Bean
+    public Binding dlqBinding(Queue dlqQueue, TopicExchange dlqExchange) {
+        return BindingBuilder.bind(dlqQueue)
+                .to(dlqExchange)
+                .with(DLQ_ROUTING_KEY);
+    }
+
+    @Bean
+    public MessageConverter jsonMessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter jsonMessageConverter) {
+        RabbitTemplate template = new RabbitTemplate(connectionFactory);
+        template.setMessageConverter(jsonMessageConverter);
+        return template;
+    }
+
+    /**
+     * Listener container for evaluation requests, delivering consumer-side batches to a
+     * List&lt;Message&gt; listener. Failed batches are dead-lettered rather than requeued.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory policyEvaluationBatchContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${policy.evaluation.async.batch-size:100}") int batchSize,
+            @Value("${policy.evaluation.async.receive-timeout-ms:50}") long receiveTimeoutMs,
+            @Value("${policy.evaluation.async.concurrency:2}") int concurrency) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(Math.max(batchSize, 1));
+        factory.setPrefetchCount(Math.max(batchSize, 1));
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        factory.setConcurrentConsumers(Math.max(concurrency, 1));
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+}
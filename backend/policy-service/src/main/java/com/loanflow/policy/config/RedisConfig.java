@@ -1,11 +1,14 @@
 package com.loanflow.policy.config;
 
+import com.loanflow.policy.evaluation.cache.ActivePolicyNearCache;
+import com.loanflow.util.redis.CompactRedisSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -20,17 +23,36 @@ public class RedisConfig {
     private int cacheTtlMinutes;
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       @Value("${loanflow.redis.serializer.binary-writes:false}") boolean binaryWrites,
+                                                       @Value("${loanflow.redis.serializer.compression-threshold-bytes:1024}") int compressionThreshold) {
+        CompactRedisSerializer valueSerializer = new CompactRedisSerializer(binaryWrites, compressionThreshold);
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(valueSerializer);
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setHashValueSerializer(valueSerializer);
         template.afterPropertiesSet();
         return template;
     }
 
+    /**
+     * Subscribes to active policy invalidations published by any policy-service node
+     */
+    @Bean
+    public RedisMessageListenerContainer policyCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                      RedisTemplate<String, Object> redisTemplate,
+                                                                      ActivePolicyNearCache activePolicyNearCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> activePolicyNearCache.onInvalidationMessage(
+                        redisTemplate.getValueSerializer().deserialize(message.getBody())),
+                new ChannelTopic(ActivePolicyNearCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+
     public Duration getCacheTtl() {
         return Duration.ofMinutes(cacheTtlMinutes);
     }
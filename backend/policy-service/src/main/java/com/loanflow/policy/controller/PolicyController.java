@@ -2,11 +2,17 @@ package com.loanflow.policy.controller;
 
 import com.loanflow.dto.request.PolicyRequest;
 import com.loanflow.dto.response.ApiResponse;
+import com.loanflow.dto.response.CursorPageResponse;
 import com.loanflow.dto.response.PolicyResponse;
+import com.loanflow.dto.response.PolicySummaryResponse;
 import com.loanflow.policy.domain.enums.LoanType;
 import com.loanflow.policy.domain.enums.PolicyCategory;
+import com.loanflow.policy.evaluation.dto.BacktestReport;
+import com.loanflow.policy.evaluation.dto.PolicyAnalysisReport;
 import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
 import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse;
+import com.loanflow.policy.evaluation.service.PolicyBacktestService;
+import com.loanflow.policy.evaluation.service.PolicyBatchEvaluationService;
 import com.loanflow.policy.evaluation.service.PolicyEvaluationService;
 import com.loanflow.policy.service.PolicyService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,12 +24,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -38,6 +47,8 @@ public class PolicyController {
 
     private final PolicyService policyService;
     private final PolicyEvaluationService policyEvaluationService;
+    private final PolicyBatchEvaluationService policyBatchEvaluationService;
+    private final PolicyBacktestService policyBacktestService;
 
     // ==================== CRUD Endpoints ====================
 
@@ -77,6 +88,17 @@ public class PolicyController {
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 
+    @GetMapping("/code/{policyCode}/versions/summaries")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
+    @Operation(summary = "Get version summaries of a policy, newest first (keyset pagination)")
+    public ResponseEntity<ApiResponse<CursorPageResponse<PolicySummaryResponse>>> getVersionSummaries(
+            @PathVariable String policyCode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<PolicySummaryResponse> response = policyService.getVersionSummaries(policyCode, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
     @Operation(summary = "Update a policy (DRAFT/INACTIVE only)")
@@ -133,6 +155,15 @@ public class PolicyController {
         return ResponseEntity.ok(ApiResponse.success("Policy deactivated", response));
     }
 
+    @GetMapping("/{id}/analysis")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
+    @Operation(summary = "Static analysis of a policy's rules",
+            description = "Reports unsatisfiable, redundant, shadowed and overlapping rules. " +
+                    "Unsatisfiable rules are left out of the execution plan.")
+    public ResponseEntity<ApiResponse<PolicyAnalysisReport>> analyze(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(policyService.analyze(id)));
+    }
+
     // ==================== Query Endpoints ====================
 
     @GetMapping
@@ -144,6 +175,18 @@ public class PolicyController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/summaries")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR', 'LOAN_OFFICER', 'UNDERWRITER')")
+    @Operation(summary = "List policy summaries, optionally by category (keyset pagination)")
+    public ResponseEntity<ApiResponse<CursorPageResponse<PolicySummaryResponse>>> listSummaries(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        PolicyCategory cat = category != null ? PolicyCategory.valueOf(category.toUpperCase()) : null;
+        CursorPageResponse<PolicySummaryResponse> response = policyService.listSummaries(cat, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/category/{category}")
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR', 'LOAN_OFFICER', 'UNDERWRITER')")
     @Operation(summary = "List policies by category")
@@ -157,7 +200,7 @@ public class PolicyController {
 
     @GetMapping("/search")
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR', 'LOAN_OFFICER', 'UNDERWRITER')")
-    @Operation(summary = "Search policies by text")
+    @Operation(summary = "Search policies by text, best match first")
     public ResponseEntity<ApiResponse<Page<PolicyResponse>>> search(
             @RequestParam String q,
             @PageableDefault(size = 20) Pageable pageable) {
@@ -183,18 +226,62 @@ public class PolicyController {
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
 
+    @PostMapping("/stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild policy statistics from the policies collection")
+    public ResponseEntity<ApiResponse<PolicyService.PolicyStatsResponse>> rebuildStats() {
+        PolicyService.PolicyStatsResponse stats = policyService.rebuildStats();
+        return ResponseEntity.ok(ApiResponse.success("Policy stats rebuilt", stats));
+    }
+
     // ==================== Evaluation Endpoint ====================
 
     @PostMapping("/evaluate")
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR', 'LOAN_OFFICER', 'UNDERWRITER', 'SENIOR_UNDERWRITER')")
     @Operation(summary = "Evaluate a loan application against active policies",
             description = "Evaluates all active policies for the given loan type against the provided application data. " +
-                    "Returns matched policies, triggered actions, and an overall decision.")
+                    "Returns matched policies, triggered actions, and an overall decision. " +
+                    "With explain=false only the decision and resolved actions are returned (faster, no audit trail). " +
+                    "Repeat evaluations of unchanged data are served from a memo; send X-Bypass-Cache: true to force re-evaluation.")
     public ResponseEntity<ApiResponse<PolicyEvaluationResponse>> evaluate(
-            @Valid @RequestBody PolicyEvaluationRequest request) {
-        log.info("Policy evaluation request for application: {}, loanType: {}",
-                request.getApplicationId(), request.getLoanType());
-        PolicyEvaluationResponse response = policyEvaluationService.evaluate(request);
+            @Valid @RequestBody PolicyEvaluationRequest request,
+            @RequestParam(defaultValue = "true") boolean explain,
+            @RequestHeader(value = "X-Bypass-Cache", defaultValue = "false") boolean bypassCache) {
+        log.info("Policy evaluation request for application: {}, loanType: {}, explain: {}, bypassCache: {}",
+                request.getApplicationId(), request.getLoanType(), explain, bypassCache);
+        PolicyEvaluationResponse response = policyEvaluationService.evaluate(request, explain, !bypassCache);
         return ResponseEntity.ok(ApiResponse.success("Policy evaluation completed", response));
     }
+
+    @PostMapping(value = "/evaluate/batch",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
+    @Operation(summary = "Batch-evaluate loan applications against one snapshot of active policies",
+            description = "Accepts newline-delimited JSON evaluation requests and streams back one evaluation " +
+                    "response per line, in input order. Items are evaluated in parallel against a single " +
+                    "snapshot of the active policy set. Decision-only by default; pass explain=true for audit output.")
+    public ResponseEntity<StreamingResponseBody> evaluateBatch(
+            InputStream body,
+            @RequestParam(defaultValue = "false") boolean explain) {
+        log.info("Batch policy evaluation request received, explain: {}", explain);
+        StreamingResponseBody stream = output -> policyBatchEvaluationService.evaluateBatch(body, output, explain);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(stream);
+    }
+
+    @PostMapping("/{id}/backtest")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
+    @Operation(summary = "Backtest a DRAFT policy against archived evaluations",
+            description = "Replays archived evaluation contexts against the current active set with and without " +
+                    "the draft policy, and reports decision flips and action deltas. " +
+                    "Use maxContexts to bound the replay.")
+    public ResponseEntity<ApiResponse<BacktestReport>> backtest(
+            @PathVariable String id,
+            @RequestParam(required = false) Long maxContexts) {
+        log.info("Backtest request for policy: {}, maxContexts: {}", id, maxContexts);
+        BacktestReport report = policyBacktestService.backtest(id, maxContexts);
+        return ResponseEntity.ok(ApiResponse.success("Backtest completed", report));
+    }
 }
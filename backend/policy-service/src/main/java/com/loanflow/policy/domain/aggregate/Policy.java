@@ -1,5 +1,6 @@
 package com.loanflow.policy.domain.aggregate;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.loanflow.policy.domain.enums.LoanType;
 import com.loanflow.policy.domain.enums.PolicyCategory;
 import com.loanflow.policy.domain.enums.PolicyStatus;
@@ -14,6 +15,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -31,11 +33,15 @@ import java.util.concurrent.atomic.AtomicLong;
  *
  * Policies support versioning: when updated, a new version is created
  * while the previous version is archived.
+ *
+ * Name, description, tags and the derived search terms share one text index (no stemming,
+ * {@code language = "none"}) used by policy search.
  */
-@Document(collection = "policies")
+@Document(collection = "policies", language = "none")
 @CompoundIndex(name = "category_status_idx", def = "{'category': 1, 'status': 1}")
 @CompoundIndex(name = "loan_type_status_idx", def = "{'loanType': 1, 'status': 1}")
 @CompoundIndex(name = "code_version_idx", def = "{'policyCode': 1, 'versionNumber': -1}", unique = true)
+@CompoundIndex(name = "category_id_idx", def = "{'category': 1, '_id': 1}")
 @Data
 @Builder
 @NoArgsConstructor
@@ -58,12 +64,14 @@ public class Policy {
     /**
      * Human-readable name
      */
+    @TextIndexed(weight = 10)
     @Field("name")
     private String name;
 
     /**
      * Detailed description of what this policy does
      */
+    @TextIndexed(weight = 2)
     @Field("description")
     private String description;
 
@@ -132,10 +140,21 @@ public class Policy {
     /**
      * Tags for searching/filtering
      */
+    @TextIndexed(weight = 5)
     @Field("tags")
     @Builder.Default
     private List<String> tags = new ArrayList<>();
 
+    /**
+     * Prefix n-grams of the name, description, tags and rule names, for partial-word search.
+     * Derived on every save (see PolicySearchTerms); never set directly, and kept out of the Redis caches.
+     */
+    @JsonIgnore
+    @TextIndexed
+    @Field("search_terms")
+    @Builder.Default
+    private List<String> searchTerms = new ArrayList<>();
+
     /**
      * Who created this policy
      */
@@ -247,15 +266,36 @@ public class Policy {
      * Check if this policy is currently effective
      */
     public boolean isEffective() {
-        if (this.status != PolicyStatus.ACTIVE) {
-            return false;
-        }
-        LocalDateTime now = LocalDateTime.now();
-        boolean afterStart = (effectiveFrom == null || !now.isBefore(effectiveFrom));
-        boolean beforeEnd = (effectiveUntil == null || !now.isAfter(effectiveUntil));
+        return this.status == PolicyStatus.ACTIVE && isWithinEffectiveWindow(LocalDateTime.now());
+    }
+
+    /**
+     * Check if the effective date range (ignoring status) contains the given time
+     */
+    public boolean isWithinEffectiveWindow(LocalDateTime at) {
+        boolean afterStart = (effectiveFrom == null || !at.isBefore(effectiveFrom));
+        boolean beforeEnd = (effectiveUntil == null || !at.isAfter(effectiveUntil));
         return afterStart && beforeEnd;
     }
 
+    /**
+     * The first time after {@code at} at which {@link #isWithinEffectiveWindow} changes,
+     * or null if it never changes again
+     */
+    public LocalDateTime nextEffectiveBoundary(LocalDateTime at) {
+        LocalDateTime next = null;
+        if (effectiveFrom != null && effectiveFrom.isAfter(at)) {
+            next = effectiveFrom;
+        }
+        if (effectiveUntil != null) {
+            LocalDateTime end = effectiveUntil.plusNanos(1);
+            if (end.isAfter(at) && (next == null || end.isBefore(next))) {
+                next = end;
+            }
+        }
+        return next;
+    }
+
     /**
      * Get the number of rules
      */
@@ -0,0 +1,132 @@
+package com.loanflow.policy.evaluation.analysis;
+
+import com.loanflow.policy.evaluation.analysis.NumericInterval.Bound;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Static augmented interval tree: intervals sorted by lower bound, laid out as an implicit balanced
+ * binary search tree over the sorted array, each node holding the largest upper bound in its subtree.
+ *
+ * Built once in O(n log n). Overlap and containment queries prune every subtree whose upper bounds
+ * all end before the query, and everything right of a node starting after it, so a query visits
+ * O(log n) nodes per result (O(log n) when nothing matches) instead of every interval.
+ *
+ * @param <T> value attached to each interval
+ */
+final class IntervalTree<T> {
+
+    private final List<NumericInterval> intervals;
+    private final List<T> values;
+    private final Bound[] maxHigh;
+
+    private IntervalTree(List<NumericInterval> intervals, List<T> values) {
+        this.intervals = intervals;
+        this.values = values;
+        this.maxHigh = new Bound[intervals.size()];
+        buildMaxHigh(0, intervals.size());
+    }
+
+    /**
+     * Build a tree over the given entries; empty intervals are left out
+     */
+    static <T> IntervalTree<T> build(List<Entry<T>> entries) {
+        List<Entry<T>> sorted = new ArrayList<>(entries.size());
+        for (Entry<T> entry : entries) {
+            if (!entry.interval().isEmpty()) {
+                sorted.add(entry);
+            }
+        }
+        sorted.sort(Comparator.comparing((Entry<T> entry) -> entry.interval().getLow()));
+        return new IntervalTree<>(sorted.stream().map(Entry::interval).toList(),
+                sorted.stream().map(Entry::value).toList());
+    }
+
+    int size() {
+        return intervals.size();
+    }
+
+    /**
+     * Values whose interval shares at least one number with the query
+     */
+    List<T> overlapping(NumericInterval query) {
+        List<T> result = new ArrayList<>();
+        if (!query.isEmpty()) {
+            collectOverlapping(0, intervals.size(), query, result);
+        }
+        return result;
+    }
+
+    /**
+     * Values whose interval contains every number of the query
+     */
+    List<T> containing(NumericInterval query) {
+        List<T> result = new ArrayList<>();
+        if (!query.isEmpty()) {
+            collectContaining(0, intervals.size(), query, result);
+        }
+        return result;
+    }
+
+    // ==================== Tree Walks ====================
+
+    private Bound buildMaxHigh(int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        Bound max = intervals.get(mid).getHigh();
+        Bound left = buildMaxHigh(from, mid);
+        Bound right = buildMaxHigh(mid + 1, to);
+        if (left != null) max = Bound.max(max, left);
+        if (right != null) max = Bound.max(max, right);
+        maxHigh[mid] = max;
+        return max;
+    }
+
+    private void collectOverlapping(int from, int to, NumericInterval query, List<T> result) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        if (maxHigh[mid].compareTo(query.getLow()) < 0) {
+            return; // every interval in this subtree ends before the query starts
+        }
+        collectOverlapping(from, mid, query, result);
+        NumericInterval interval = intervals.get(mid);
+        if (interval.getLow().compareTo(query.getHigh()) > 0) {
+            return; // this node and everything right of it start after the query ends
+        }
+        if (interval.overlaps(query)) {
+            result.add(values.get(mid));
+        }
+        collectOverlapping(mid + 1, to, query, result);
+    }
+
+    private void collectContaining(int from, int to, NumericInterval query, List<T> result) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        if (maxHigh[mid].compareTo(query.getHigh()) < 0) {
+            return; // nothing in this subtree reaches the end of the query
+        }
+        collectContaining(from, mid, query, result);
+        NumericInterval interval = intervals.get(mid);
+        if (interval.getLow().compareTo(query.getLow()) > 0) {
+            return; // this node and everything right of it start inside the query
+        }
+        if (interval.contains(query)) {
+            result.add(values.get(mid));
+        }
+        collectContaining(mid + 1, to, query, result);
+    }
+
+    /**
+     * An interval with its attached value
+     */
+    record Entry<T>(NumericInterval interval, T value) {
+    }
+}
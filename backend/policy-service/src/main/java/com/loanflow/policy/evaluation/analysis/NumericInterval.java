@@ -0,0 +1,132 @@
+package com.loanflow.policy.evaluation.analysis;
+
+import com.loanflow.policy.evaluation.plan.CompiledCondition;
+
+import java.math.BigDecimal;
+
+/**
+ * Set of numbers a numeric condition accepts, as an interval in the {@link Double#compare} ordering
+ * the engine evaluates with (-Infinity is the smallest value, NaN the largest).
+ *
+ * Each end is a {@link Bound}: a value plus a side marker, so inclusive and exclusive ends compare
+ * correctly against each other and emptiness, overlap and containment are plain bound comparisons.
+ */
+final class NumericInterval {
+
+    static final NumericInterval ALL = new NumericInterval(Bound.MIN, Bound.MAX);
+
+    private final Bound low;
+    private final Bound high;
+
+    private NumericInterval(Bound low, Bound high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * Interval accepted by a numeric comparison (GREATER_THAN*, LESS_THAN*, BETWEEN, numeric EQUALS)
+     *
+     * @return null when the condition is not a numeric comparison or its threshold does not parse
+     */
+    static NumericInterval of(CompiledCondition condition) {
+        Double number = condition.getNumber();
+        return switch (condition.getOperator()) {
+            case GREATER_THAN -> number != null ? new NumericInterval(Bound.lower(number, false), Bound.MAX) : null;
+            case GREATER_THAN_OR_EQUAL -> number != null ? new NumericInterval(Bound.lower(number, true), Bound.MAX) : null;
+            case LESS_THAN -> number != null ? new NumericInterval(Bound.MIN, Bound.upper(number, false)) : null;
+            case LESS_THAN_OR_EQUAL -> number != null ? new NumericInterval(Bound.MIN, Bound.upper(number, true)) : null;
+            case BETWEEN -> condition.getMin() != null && condition.getMax() != null
+                    ? new NumericInterval(Bound.lower(condition.getMin(), true), Bound.upper(condition.getMax(), true))
+                    : null;
+            // A non-numeric value can still equal a non-finite operand ("infinity", "nan") as text
+            case EQUALS -> number != null && Double.isFinite(number)
+                    ? new NumericInterval(Bound.lower(number, true), Bound.upper(number, true))
+                    : null;
+            default -> null;
+        };
+    }
+
+    /**
+     * Whether the condition is a numeric comparison (its context value must be a number to pass)
+     */
+    static boolean isNumericComparison(CompiledCondition condition) {
+        return switch (condition.getOperator()) {
+            case GREATER_THAN, GREATER_THAN_OR_EQUAL, LESS_THAN, LESS_THAN_OR_EQUAL, BETWEEN -> true;
+            default -> false;
+        };
+    }
+
+    Bound getLow() {
+        return low;
+    }
+
+    Bound getHigh() {
+        return high;
+    }
+
+    boolean isEmpty() {
+        return low.compareTo(high) > 0;
+    }
+
+    NumericInterval intersect(NumericInterval other) {
+        return new NumericInterval(Bound.max(low, other.low), Bound.min(high, other.high));
+    }
+
+    boolean overlaps(NumericInterval other) {
+        return !intersect(other).isEmpty();
+    }
+
+    /**
+     * Whether every value of the other interval is also in this one
+     */
+    boolean contains(NumericInterval other) {
+        return other.isEmpty() || (low.compareTo(other.low) <= 0 && other.high.compareTo(high) <= 0);
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "{}";
+        }
+        String from = low == Bound.MIN ? "(-inf" : (low.side() == 0 ? "[" : "(") + format(low.value());
+        String to = high == Bound.MAX ? "+inf)" : format(high.value()) + (high.side() == 0 ? "]" : ")");
+        return from + ", " + to;
+    }
+
+    private static String format(double value) {
+        return Double.isFinite(value) ? BigDecimal.valueOf(value).stripTrailingZeros().toPlainString()
+                : String.valueOf(value);
+    }
+
+    /**
+     * One end of an interval. Lower ends use side 0 (inclusive) or +1 (exclusive), upper ends
+     * 0 (inclusive) or -1 (exclusive), so "(5" sorts after "[5" and "5)" before "5]".
+     */
+    record Bound(double value, int side) implements Comparable<Bound> {
+
+        static final Bound MIN = new Bound(Double.NEGATIVE_INFINITY, 0);
+        static final Bound MAX = new Bound(Double.NaN, 0);
+
+        static Bound lower(double value, boolean inclusive) {
+            return new Bound(value, inclusive ? 0 : 1);
+        }
+
+        static Bound upper(double value, boolean inclusive) {
+            return new Bound(value, inclusive ? 0 : -1);
+        }
+
+        static Bound max(Bound a, Bound b) {
+            return a.compareTo(b) >= 0 ? a : b;
+        }
+
+        static Bound min(Bound a, Bound b) {
+            return a.compareTo(b) <= 0 ? a : b;
+        }
+
+        @Override
+        public int compareTo(Bound other) {
+            int byValue = Double.compare(value, other.value);
+            return byValue != 0 ? byValue : Integer.compare(side, other.side);
+        }
+    }
+}
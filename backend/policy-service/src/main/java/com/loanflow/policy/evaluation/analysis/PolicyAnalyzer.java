@@ -0,0 +1,380 @@
+package com.loanflow.policy.evaluation.analysis;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.ActionType;
+import com.loanflow.policy.domain.enums.ConditionOperator;
+import com.loanflow.policy.domain.enums.LogicalOperator;
+import com.loanflow.policy.domain.valueobject.Action;
+import com.loanflow.policy.evaluation.dto.PolicyAnalysisReport;
+import com.loanflow.policy.evaluation.dto.PolicyAnalysisReport.FindingType;
+import com.loanflow.policy.evaluation.dto.PolicyAnalysisReport.RuleFinding;
+import com.loanflow.policy.evaluation.plan.CompiledCondition;
+import com.loanflow.policy.evaluation.plan.CompiledRule;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Static analysis of a policy's enabled rules, run when a policy is compiled (on activation and
+ * whenever its plan is rebuilt) and on demand.
+ *
+ * Numeric conditions (GREATER_THAN*, LESS_THAN*, BETWEEN, numeric EQUALS) are reduced to one
+ * {@link NumericInterval} per field and rule, in the same Double.compare ordering the engine uses.
+ * The analysis reports:
+ * - UNSATISFIABLE: an AND rule whose ranges on some field do not intersect, that requires a field to
+ *   be both empty (or a non-numeric text) and a number, or two different texts, or that has an
+ *   unparseable numeric threshold; an OR rule none of whose conditions can pass. These rules can
+ *   never match and are pruned by PolicyCompiler.
+ * - REDUNDANT_CONDITION: a condition implied by the rule's other conditions on the same field
+ * - SHADOWED: an AND rule whose match set lies inside that of a higher-priority AND rule triggering
+ *   the same action types; since the higher-priority action wins conflict resolution, the rule
+ *   never changes the outcome (accumulating actions such as REQUIRE_DOCUMENT are never shadowed)
+ * - OVERLAPPING: two AND rules with different decision actions whose ranges intersect
+ *
+ * Shadowing and overlap candidates come from one {@link IntervalTree} per field, so a rule is only
+ * compared against the rules whose ranges contain or overlap its own: building the trees is
+ * O(n log n) and each query is logarithmic in the number of rules plus its results.
+ */
+@Component
+public class PolicyAnalyzer {
+
+    private static final Set<ActionType> ACCUMULATING_ACTIONS = EnumSet.of(ActionType.REQUIRE_DOCUMENT, ActionType.NOTIFY);
+    private static final Set<ActionType> DECISION_ACTIONS =
+            EnumSet.of(ActionType.APPROVE, ActionType.REJECT, ActionType.REFER, ActionType.FLAG_RISK);
+
+    /**
+     * Analyze the enabled rules of a policy
+     */
+    public PolicyAnalysisReport analyze(Policy policy) {
+        return analyze(policy.getPolicyCode(), policy.getVersionNumber(),
+                policy.getEnabledRules().stream().map(CompiledRule::compile).toList());
+    }
+
+    /**
+     * Analyze compiled rules, given in priority order
+     */
+    public PolicyAnalysisReport analyze(String policyCode, Integer versionNumber, List<CompiledRule> rules) {
+        List<RuleFinding> findings = new ArrayList<>();
+        List<RuleShape> satisfiableAndRules = new ArrayList<>();
+        for (int i = 0; i < rules.size(); i++) {
+            RuleShape shape = new RuleShape(i, rules.get(i));
+            boolean satisfiable = shape.rule.getLogicalOperator() == LogicalOperator.OR
+                    ? analyzeOr(shape, findings)
+                    : analyzeAnd(shape, findings);
+            if (satisfiable && shape.rule.getLogicalOperator() != LogicalOperator.OR) {
+                satisfiableAndRules.add(shape);
+            }
+        }
+
+        Map<String, IntervalTree<RuleShape>> trees = buildTrees(satisfiableAndRules);
+        Set<Long> shadowedPairs = findShadowed(satisfiableAndRules, trees, findings);
+        findOverlapping(satisfiableAndRules, trees, shadowedPairs, findings);
+
+        findings.sort(Comparator.comparingInt(RuleFinding::getRuleIndex).thenComparing(RuleFinding::getType));
+        return PolicyAnalysisReport.builder()
+                .policyCode(policyCode)
+                .versionNumber(versionNumber)
+                .rulesAnalyzed(rules.size())
+                .findings(findings)
+                .build();
+    }
+
+    // ==================== Per-Rule Analysis ====================
+
+    /**
+     * @return false if the rule can never match
+     */
+    private boolean analyzeAnd(RuleShape shape, List<RuleFinding> findings) {
+        Map<String, List<CompiledCondition>> numericConditions = new LinkedHashMap<>();
+        Set<String> nullFields = new HashSet<>();
+
+        for (CompiledCondition condition : shape.rule.getConditions()) {
+            String field = condition.getField();
+            NumericInterval interval = NumericInterval.of(condition);
+            if (interval == null && NumericInterval.isNumericComparison(condition)) {
+                findings.add(finding(FindingType.UNSATISFIABLE, shape, null, field,
+                        "'" + describe(condition) + "' has a threshold that is not a number, so it never passes"));
+                return false;
+            }
+            if (interval != null) {
+                shape.intervals.merge(field, interval, NumericInterval::intersect);
+                numericConditions.computeIfAbsent(field, f -> new ArrayList<>()).add(condition);
+                continue;
+            }
+
+            if (condition.getOperator() == ConditionOperator.IS_NULL) {
+                nullFields.add(field);
+            } else if (isTextEquals(condition)) {
+                String previous = shape.textEquals.putIfAbsent(field, condition.getNormalizedValue());
+                if (previous != null && !previous.equals(condition.getNormalizedValue())) {
+                    findings.add(finding(FindingType.UNSATISFIABLE, shape, null, field,
+                            field + " cannot equal both '" + previous + "' and '" + condition.getNormalizedValue() + "'"));
+                    return false;
+                }
+            }
+            if (!shape.opaqueConditions.add(key(condition))) {
+                findings.add(finding(FindingType.REDUNDANT_CONDITION, shape, null, field,
+                        "'" + describe(condition) + "' appears more than once"));
+            }
+        }
+
+        for (Map.Entry<String, NumericInterval> entry : shape.intervals.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                findings.add(finding(FindingType.UNSATISFIABLE, shape, null, entry.getKey(),
+                        "No value of " + entry.getKey() + " satisfies " + numericConditions.get(entry.getKey())
+                                .stream().map(c -> "'" + describe(c) + "'").collect(Collectors.joining(" and "))));
+                return false;
+            }
+            if (nullFields.contains(entry.getKey())) {
+                findings.add(finding(FindingType.UNSATISFIABLE, shape, null, entry.getKey(),
+                        entry.getKey() + " must be both empty and a number"));
+                return false;
+            }
+            if (shape.textEquals.containsKey(entry.getKey())) {
+                findings.add(finding(FindingType.UNSATISFIABLE, shape, null, entry.getKey(),
+                        entry.getKey() + " must be both the text '" + shape.textEquals.get(entry.getKey())
+                                + "' and a number"));
+                return false;
+            }
+        }
+
+        numericConditions.forEach((field, conditions) -> findRedundant(shape, field, conditions, findings));
+        return true;
+    }
+
+    /**
+     * @return false if the rule can never match
+     */
+    private boolean analyzeOr(RuleShape shape, List<RuleFinding> findings) {
+        List<CompiledCondition> conditions = shape.rule.getConditions();
+        if (conditions.isEmpty()) {
+            return true;
+        }
+        for (CompiledCondition condition : conditions) {
+            NumericInterval interval = NumericInterval.of(condition);
+            boolean neverPasses = interval != null ? interval.isEmpty() : NumericInterval.isNumericComparison(condition);
+            if (!neverPasses) {
+                return true;
+            }
+        }
+        findings.add(finding(FindingType.UNSATISFIABLE, shape, null, null,
+                "None of the rule's OR conditions can pass (empty ranges or unparseable thresholds)"));
+        return false;
+    }
+
+    /**
+     * Report each numeric condition whose range contains the range of the remaining ones on its field
+     */
+    private void findRedundant(RuleShape shape, String field, List<CompiledCondition> conditions,
+                               List<RuleFinding> findings) {
+        if (conditions.size() < 2) {
+            return;
+        }
+        List<CompiledCondition> kept = new ArrayList<>(conditions);
+        for (CompiledCondition condition : conditions) {
+            NumericInterval others = NumericInterval.ALL;
+            for (CompiledCondition other : kept) {
+                if (other != condition) {
+                    others = others.intersect(NumericInterval.of(other));
+                }
+            }
+            if (kept.size() > 1 && NumericInterval.of(condition).contains(others)) {
+                kept.remove(condition);
+                findings.add(finding(FindingType.REDUNDANT_CONDITION, shape, null, field,
+                        "'" + describe(condition) + "' is implied by the rule's other conditions on " + field
+                                + " (" + field + " in " + others + ")"));
+            }
+        }
+    }
+
+    // ==================== Cross-Rule Analysis ====================
+
+    private Map<String, IntervalTree<RuleShape>> buildTrees(List<RuleShape> rules) {
+        Map<String, List<IntervalTree.Entry<RuleShape>>> entries = new HashMap<>();
+        for (RuleShape shape : rules) {
+            shape.intervals.forEach((field, interval) ->
+                    entries.computeIfAbsent(field, f -> new ArrayList<>()).add(new IntervalTree.Entry<>(interval, shape)));
+        }
+        Map<String, IntervalTree<RuleShape>> trees = new HashMap<>();
+        entries.forEach((field, fieldEntries) -> trees.put(field, IntervalTree.build(fieldEntries)));
+        return trees;
+    }
+
+    /**
+     * For each rule, find a higher-priority rule whose every range contains the rule's range on the
+     * same field (counted through the per-field trees), then check its other conditions and actions
+     *
+     * @return the (shadowing, shadowed) index pairs found
+     */
+    private Set<Long> findShadowed(List<RuleShape> rules, Map<String, IntervalTree<RuleShape>> trees,
+                                   List<RuleFinding> findings) {
+        Set<Long> pairs = new HashSet<>();
+        List<RuleShape> unconstrained = rules.stream().filter(r -> r.intervals.isEmpty()).toList();
+
+        for (RuleShape lower : rules) {
+            if (!canBeShadowed(lower)) {
+                continue;
+            }
+            Map<RuleShape, Integer> containingFields = new LinkedHashMap<>();
+            lower.intervals.forEach((field, interval) -> {
+                for (RuleShape higher : trees.get(field).containing(interval)) {
+                    if (higher.index < lower.index) {
+                        containingFields.merge(higher, 1, Integer::sum);
+                    }
+                }
+            });
+
+            Set<RuleShape> candidates = new LinkedHashSet<>();
+            for (RuleShape higher : unconstrained) {
+                if (higher.index < lower.index) candidates.add(higher);
+            }
+            containingFields.forEach((higher, fields) -> {
+                if (fields == higher.intervals.size()) candidates.add(higher);
+            });
+
+            candidates.stream()
+                    .filter(higher -> lower.opaqueConditions.containsAll(higher.opaqueConditions))
+                    .filter(higher -> higher.actionTypes.containsAll(lower.actionTypes))
+                    .min(Comparator.comparingInt(r -> r.index))
+                    .ifPresent(higher -> {
+                        pairs.add(pair(higher, lower));
+                        findings.add(finding(FindingType.SHADOWED, lower, higher, null,
+                                "Whenever this rule matches, higher-priority rule '" + higher.rule.getName()
+                                        + "' also matches and triggers " + lower.actionTypes
+                                        + ", so this rule never changes the outcome"));
+                    });
+        }
+        return pairs;
+    }
+
+    private boolean canBeShadowed(RuleShape shape) {
+        if (shape.actionTypes.isEmpty()) {
+            return false;
+        }
+        for (ActionType type : shape.actionTypes) {
+            if (ACCUMULATING_ACTIONS.contains(type)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Report pairs of rules with different decision actions whose ranges intersect on every shared
+     * field (and whose text equalities do not exclude each other)
+     */
+    private void findOverlapping(List<RuleShape> rules, Map<String, IntervalTree<RuleShape>> trees,
+                                 Set<Long> shadowedPairs, List<RuleFinding> findings) {
+        for (RuleShape lower : rules) {
+            Set<ActionType> lowerDecisions = decisions(lower);
+            if (lowerDecisions.isEmpty()) {
+                continue;
+            }
+            Set<RuleShape> reported = new HashSet<>();
+            lower.intervals.forEach((field, interval) -> {
+                for (RuleShape higher : trees.get(field).overlapping(interval)) {
+                    if (higher.index >= lower.index || reported.contains(higher)
+                            || shadowedPairs.contains(pair(higher, lower))) {
+                        continue;
+                    }
+                    Set<ActionType> higherDecisions = decisions(higher);
+                    if (higherDecisions.isEmpty() || higherDecisions.equals(lowerDecisions) || !canOverlap(higher, lower)) {
+                        continue;
+                    }
+                    reported.add(higher);
+                    findings.add(finding(FindingType.OVERLAPPING, lower, higher, field,
+                            "Can match together with higher-priority rule '" + higher.rule.getName() + "' (e.g. "
+                                    + field + " in " + interval.intersect(higher.intervals.get(field)) + "): "
+                                    + lowerDecisions + " vs " + higherDecisions));
+                }
+            });
+        }
+    }
+
+    private boolean canOverlap(RuleShape a, RuleShape b) {
+        for (Map.Entry<String, NumericInterval> entry : a.intervals.entrySet()) {
+            NumericInterval other = b.intervals.get(entry.getKey());
+            if (other != null && !other.overlaps(entry.getValue())) return false;
+        }
+        for (Map.Entry<String, String> entry : a.textEquals.entrySet()) {
+            String other = b.textEquals.get(entry.getKey());
+            if (other != null && !other.equals(entry.getValue())) return false;
+            if (b.intervals.containsKey(entry.getKey())) return false;
+        }
+        for (String field : b.textEquals.keySet()) {
+            if (a.intervals.containsKey(field)) return false;
+        }
+        return true;
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * EQUALS against a non-numeric operand: passes only for that (non-numeric) text
+     */
+    private static boolean isTextEquals(CompiledCondition condition) {
+        return condition.getOperator() == ConditionOperator.EQUALS
+                && condition.getNormalizedValue() != null && condition.getNumber() == null;
+    }
+
+    private Set<ActionType> decisions(RuleShape shape) {
+        Set<ActionType> decisions = EnumSet.noneOf(ActionType.class);
+        for (ActionType type : shape.actionTypes) {
+            if (DECISION_ACTIONS.contains(type)) decisions.add(type);
+        }
+        return decisions;
+    }
+
+    private static long pair(RuleShape higher, RuleShape lower) {
+        return ((long) higher.index << 32) | lower.index;
+    }
+
+    private static String key(CompiledCondition condition) {
+        return condition.getField() + '\u0000' + condition.getOperator() + '\u0000' + condition.getExpectedValueDisplay();
+    }
+
+    private static String describe(CompiledCondition condition) {
+        return (condition.getField() + " " + condition.getOperator() + " " + condition.getExpectedValueDisplay()).trim();
+    }
+
+    private static RuleFinding finding(FindingType type, RuleShape shape, RuleShape related, String field,
+                                       String message) {
+        return RuleFinding.builder()
+                .type(type)
+                .ruleIndex(shape.index)
+                .ruleName(shape.rule.getName())
+                .relatedRuleName(related != null ? related.rule.getName() : null)
+                .field(field)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * What the analysis knows about one rule: per-field numeric ranges (intersected), the conditions
+     * it can only compare by identity, and the action types it triggers
+     */
+    private static final class RuleShape {
+        private final int index;
+        private final CompiledRule rule;
+        private final Map<String, NumericInterval> intervals = new LinkedHashMap<>();
+        private final Set<String> opaqueConditions = new HashSet<>();
+        private final Map<String, String> textEquals = new HashMap<>();
+        private final Set<ActionType> actionTypes = EnumSet.noneOf(ActionType.class);
+
+        private RuleShape(int index, CompiledRule rule) {
+            this.index = index;
+            this.rule = rule;
+            for (Action action : rule.getActions()) {
+                if (action.getType() != null) actionTypes.add(action.getType());
+            }
+        }
+    }
+}
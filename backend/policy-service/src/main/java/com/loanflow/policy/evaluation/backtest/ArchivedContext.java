@@ -0,0 +1,9 @@
+package com.loanflow.policy.evaluation.backtest;
+
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+
+/**
+ * One archived evaluation: the application it belonged to and its evaluation context
+ */
+public record ArchivedContext(String applicationId, EvaluationContext context) {
+}
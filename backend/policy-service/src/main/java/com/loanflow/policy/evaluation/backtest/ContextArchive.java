@@ -0,0 +1,391 @@
+package com.loanflow.policy.evaluation.backtest;
+
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, local-disk archive of evaluated {@link EvaluationContext}s, used for backtesting.
+ * Off by default: contexts carry applicant data (CIBIL scores, income), so enabling it requires an
+ * explicit directory, and segments are pruned by age and by total size.
+ *
+ * Contexts are buffered and handed to a single background writer that encodes them as compressed
+ * columnar blocks ({@link ContextBlockCodec}) and appends them to segment files
+ * {@code contexts-<millis>.lfc}; a new segment is started when the current one exceeds the
+ * configured size. A block is handed off when it reaches {@code block-rows} rows; the writer also
+ * flushes a partial buffer every flush interval, and on shutdown. The evaluating thread never
+ * encodes or touches the disk.
+ *
+ * Archiving never fails an evaluation: write errors are logged and the block is dropped, and blocks
+ * are dropped (and logged) while the writer is {@code max-pending-blocks} behind.
+ */
+@Component
+@Slf4j
+public class ContextArchive {
+
+    static final String SEGMENT_PREFIX = "contexts-";
+    static final String SEGMENT_SUFFIX = ".lfc";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int blockRows;
+    private final long segmentMaxBytes;
+    private final Duration retention;
+    private final long maxTotalBytes;
+    private final int maxPendingBlocks;
+
+    private final Object bufferLock = new Object();
+    private List<ArchivedContext> buffer;
+
+    private final ScheduledExecutorService writer;
+    private final AtomicInteger pendingBlocks = new AtomicInteger();
+
+    private final Object writeLock = new Object();
+    private FileChannel segment;
+    private Path segmentPath;
+
+    public ContextArchive(@Value("${policy.backtest.archive.enabled:false}") boolean enabled,
+                          @Value("${policy.backtest.archive.directory:}") String directory,
+                          @Value("${policy.backtest.archive.block-rows:4096}") int blockRows,
+                          @Value("${policy.backtest.archive.segment-max-mb:256}") long segmentMaxMb,
+                          @Value("${policy.backtest.archive.flush-interval-seconds:60}") long flushIntervalSeconds,
+                          @Value("${policy.backtest.archive.retention-days:30}") long retentionDays,
+                          @Value("${policy.backtest.archive.max-total-mb:4096}") long maxTotalMb,
+                          @Value("${policy.backtest.archive.max-pending-blocks:8}") int maxPendingBlocks) {
+        if (enabled && (directory == null || directory.isBlank())) {
+            throw new IllegalStateException(
+                    "policy.backtest.archive.directory must be set when the context archive is enabled");
+        }
+        this.enabled = enabled;
+        this.directory = enabled ? Paths.get(directory) : null;
+        this.blockRows = Math.max(1, blockRows);
+        this.segmentMaxBytes = segmentMaxMb * 1024 * 1024;
+        this.retention = Duration.ofDays(retentionDays);
+        this.maxTotalBytes = maxTotalMb * 1024 * 1024;
+        this.maxPendingBlocks = Math.max(1, maxPendingBlocks);
+        this.buffer = new ArrayList<>(this.blockRows);
+
+        if (enabled) {
+            this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "policy-context-archive");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = Math.max(1, flushIntervalSeconds);
+            writer.scheduleWithFixedDelay(this::flushOnWriter, interval, interval, TimeUnit.SECONDS);
+        } else {
+            this.writer = null;
+        }
+    }
+
+    /**
+     * Archive one evaluated context. Only buffers; a full block is handed to the background writer.
+     * A copy is buffered: the caller goes on evaluating the context, and evaluation mutates it.
+     */
+    public void append(String applicationId, EvaluationContext context) {
+        if (!enabled) {
+            return;
+        }
+
+        EvaluationContext snapshot = context.copy();
+        List<ArchivedContext> full = null;
+        synchronized (bufferLock) {
+            buffer.add(new ArchivedContext(applicationId, snapshot));
+            if (buffer.size() >= blockRows) {
+                full = buffer;
+                buffer = new ArrayList<>(blockRows);
+            }
+        }
+        if (full != null) {
+            submit(full);
+        }
+    }
+
+    /**
+     * Write any buffered contexts as a block and wait until every block handed off so far is on disk
+     */
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        List<ArchivedContext> pending = drain();
+        try {
+            writer.submit(() -> {
+                if (pending != null) {
+                    write(pending);
+                }
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RejectedExecutionException e) {
+            log.warn("Failed to flush the evaluation context archive: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stream every archived block, oldest segment first, one block in memory at a time.
+     * A truncated trailing block (e.g. from a crash or a concurrent write) ends that segment.
+     *
+     * @param consumer receives each block; returns false to stop reading
+     * @return number of rows read
+     */
+    public long forEachBlock(Predicate<List<ArchivedContext>> consumer) throws IOException {
+        if (!enabled || !Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        List<Path> segments = listSegments();
+
+        long rows = 0;
+        for (Path path : segments) {
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+                while (true) {
+                    List<ArchivedContext> block;
+                    try {
+                        block = ContextBlockCodec.decode(in);
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    rows += block.size();
+                    if (!consumer.test(block)) {
+                        return rows;
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Skipping unreadable archive segment {}: {}", path.getFileName(), e.getMessage());
+            }
+        }
+        return rows;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!enabled) {
+            return;
+        }
+        flush();
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        synchronized (writeLock) {
+            closeSegment();
+        }
+    }
+
+    // ==================== Internals ====================
+
+    private List<ArchivedContext> drain() {
+        synchronized (bufferLock) {
+            if (buffer.isEmpty()) {
+                return null;
+            }
+            List<ArchivedContext> pending = buffer;
+            buffer = new ArrayList<>(blockRows);
+            return pending;
+        }
+    }
+
+    private void submit(List<ArchivedContext> rows) {
+        if (pendingBlocks.incrementAndGet() > maxPendingBlocks) {
+            pendingBlocks.decrementAndGet();
+            log.warn("Context archive writer is {} blocks behind; dropping {} evaluation contexts",
+                    maxPendingBlocks, rows.size());
+            return;
+        }
+        try {
+            writer.execute(() -> {
+                try {
+                    write(rows);
+                } finally {
+                    pendingBlocks.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingBlocks.decrementAndGet();
+            log.warn("Context archive is closed; dropping {} evaluation contexts", rows.size());
+        }
+    }
+
+    /**
+     * Scheduled on the writer thread: write a partial buffer and apply retention
+     */
+    private void flushOnWriter() {
+        List<ArchivedContext> pending = drain();
+        if (pending != null) {
+            write(pending);
+        }
+        prune();
+    }
+
+    private void write(List<ArchivedContext> rows) {
+        try {
+            byte[] block = ContextBlockCodec.encode(rows);
+            boolean rolled;
+            synchronized (writeLock) {
+                rolled = segment == null || segment.size() >= segmentMaxBytes;
+                FileChannel channel = currentSegment();
+                ByteBuffer bytes = ByteBuffer.wrap(block);
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+            }
+            log.debug("Archived {} evaluation contexts ({} bytes)", rows.size(), block.length);
+            if (rolled) {
+                prune();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to archive {} evaluation contexts: {}", rows.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Delete closed segments older than the retention period, then the oldest closed segments
+     * until the archive fits in the size limit. The segment being written is never deleted.
+     */
+    void prune() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Path> segments;
+        try {
+            segments = listSegments();
+        } catch (IOException e) {
+            log.warn("Failed to list archive segments for retention: {}", e.getMessage());
+            return;
+        }
+        Path current;
+        synchronized (writeLock) {
+            current = segmentPath;
+        }
+
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        long totalBytes = 0;
+        List<Path> kept = new ArrayList<>(segments.size());
+        for (Path path : segments) {
+            if (!path.equals(current) && !retention.isZero() && stampOf(path) < cutoff) {
+                delete(path, "older than " + retention.toDays() + " days");
+                continue;
+            }
+            kept.add(path);
+            totalBytes += sizeOf(path);
+        }
+
+        for (Path path : kept) {
+            if (maxTotalBytes <= 0 || totalBytes <= maxTotalBytes) {
+                break;
+            }
+            if (path.equals(current)) {
+                continue;
+            }
+            long size = sizeOf(path);
+            if (delete(path, "archive over " + (maxTotalBytes / (1024 * 1024)) + " MB")) {
+                totalBytes -= size;
+            }
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(ContextArchive::stampOf))
+                    .toList();
+        }
+    }
+
+    private static long stampOf(Path segment) {
+        String name = segment.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static boolean delete(Path path, String reason) {
+        try {
+            Files.deleteIfExists(path);
+            log.info("Deleted archive segment {} ({})", path.getFileName(), reason);
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to delete archive segment {}: {}", path.getFileName(), e.getMessage());
+            return false;
+        }
+    }
+
+    private FileChannel currentSegment() throws IOException {
+        if (segment != null && segment.size() >= segmentMaxBytes) {
+            closeSegment();
+        }
+        if (segment == null) {
+            Files.createDirectories(directory);
+            long stamp = System.currentTimeMillis();
+            Path path = directory.resolve(SEGMENT_PREFIX + stamp + SEGMENT_SUFFIX);
+            while (Files.exists(path)) {
+                path = directory.resolve(SEGMENT_PREFIX + (++stamp) + SEGMENT_SUFFIX);
+            }
+            segment = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            segmentPath = path;
+            log.info("Opened evaluation context archive segment {}", path);
+        }
+        return segment;
+    }
+
+    private void closeSegment() {
+        if (segment == null) {
+            return;
+        }
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("Failed to close archive segment: {}", e.getMessage());
+        }
+        segment = null;
+        segmentPath = null;
+    }
+}
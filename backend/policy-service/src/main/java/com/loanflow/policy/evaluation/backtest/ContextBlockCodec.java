@@ -0,0 +1,303 @@
+package com.loanflow.policy.evaluation.backtest;
+
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Columnar encoding of a block of archived evaluation contexts.
+ *
+ * Block on disk:
+ *   int magic, int rawLength, int compressedLength, byte[compressedLength] (deflate)
+ *
+ * Raw block:
+ *   varint rowCount, varint columnCount, then per column:
+ *     string name, byte type, long[] presence bitmap (one bit per row), then the present values:
+ *       LONG   — zigzag varints (Integer/Long/Short/Byte values)
+ *       DOUBLE — 8-byte doubles (Double/Float values)
+ *       DECIMAL — zigzag varint unscaled value + varint scale per row (BigDecimal values whose
+ *                unscaled value fits in a long, mixed with integral values)
+ *       STRING — varint dictionary size, dictionary strings, varint dictionary index per row
+ *                (anything else, as String.valueOf — identical to what evaluation sees)
+ *
+ * The application id is stored as the {@link #APPLICATION_ID_COLUMN} column.
+ */
+final class ContextBlockCodec {
+
+    static final int MAGIC = 0x4C46_4342; // "LFCB"
+    static final String APPLICATION_ID_COLUMN = "@applicationId";
+
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte STRING = 3;
+    private static final byte DECIMAL = 4;
+
+    private ContextBlockCodec() {
+    }
+
+    /**
+     * Encode and compress a block of rows, header included
+     */
+    static byte[] encode(List<ArchivedContext> rows) throws IOException {
+        byte[] raw = encodeRaw(rows);
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 4 + 64);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                compressed.write(chunk, 0, deflater.deflate(chunk));
+            }
+        } finally {
+            deflater.end();
+        }
+
+        ByteArrayOutputStream block = new ByteArrayOutputStream(compressed.size() + 12);
+        DataOutputStream out = new DataOutputStream(block);
+        out.writeInt(MAGIC);
+        out.writeInt(raw.length);
+        out.writeInt(compressed.size());
+        compressed.writeTo(out);
+        out.flush();
+        return block.toByteArray();
+    }
+
+    /**
+     * Read and decode the next block from a stream.
+     *
+     * @throws EOFException at end of stream, including a truncated trailing block
+     */
+    static List<ArchivedContext> decode(DataInputStream in) throws IOException {
+        int magic = in.readInt();
+        if (magic != MAGIC) {
+            throw new IOException("Not a context archive block (magic " + Integer.toHexString(magic) + ")");
+        }
+        int rawLength = in.readInt();
+        byte[] compressed = new byte[in.readInt()];
+        in.readFully(compressed);
+
+        byte[] raw = new byte[rawLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                read += inflater.inflate(raw, read, rawLength - read);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt context archive block", e);
+        } finally {
+            inflater.end();
+        }
+        return decodeRaw(new DataInputStream(new ByteArrayInputStream(raw)));
+    }
+
+    // ==================== Raw Encoding ====================
+
+    private static byte[] encodeRaw(List<ArchivedContext> rows) throws IOException {
+        int rowCount = rows.size();
+        Map<String, Object[]> columns = new LinkedHashMap<>();
+        Object[] applicationIds = new Object[rowCount];
+        columns.put(APPLICATION_ID_COLUMN, applicationIds);
+
+        for (int row = 0; row < rowCount; row++) {
+            ArchivedContext archived = rows.get(row);
+            applicationIds[row] = archived.applicationId();
+            int current = row;
+            archived.context().forEach((field, value) ->
+                    columns.computeIfAbsent(field, f -> new Object[rowCount])[current] = value);
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(rowCount * 32);
+        DataOutputStream out = new DataOutputStream(buffer);
+        writeVarint(out, rowCount);
+        writeVarint(out, columns.size());
+        for (Map.Entry<String, Object[]> column : columns.entrySet()) {
+            writeString(out, column.getKey());
+            writeColumn(out, column.getValue());
+        }
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    private static void writeColumn(DataOutputStream out, Object[] values) throws IOException {
+        byte type = typeOf(values);
+        out.writeByte(type);
+
+        long[] present = new long[(values.length + 63) >>> 6];
+        for (int row = 0; row < values.length; row++) {
+            if (values[row] != null) {
+                present[row >>> 6] |= 1L << row;
+            }
+        }
+        for (long word : present) {
+            out.writeLong(word);
+        }
+
+        switch (type) {
+            case LONG -> {
+                for (Object value : values) {
+                    if (value != null) writeVarint(out, zigzag(((Number) value).longValue()));
+                }
+            }
+            case DOUBLE -> {
+                for (Object value : values) {
+                    if (value != null) out.writeDouble(((Number) value).doubleValue());
+                }
+            }
+            case DECIMAL -> {
+                for (Object value : values) {
+                    if (value == null) continue;
+                    BigDecimal decimal = value instanceof BigDecimal d ? d : BigDecimal.valueOf(((Number) value).longValue());
+                    writeVarint(out, zigzag(decimal.unscaledValue().longValue()));
+                    writeVarint(out, zigzag(decimal.scale()));
+                }
+            }
+            default -> {
+                Map<String, Integer> dictionary = new LinkedHashMap<>();
+                int[] indexes = new int[values.length];
+                for (int row = 0; row < values.length; row++) {
+                    if (values[row] != null) {
+                        String value = String.valueOf(values[row]);
+                        indexes[row] = dictionary.computeIfAbsent(value, v -> dictionary.size());
+                    }
+                }
+                writeVarint(out, dictionary.size());
+                for (String value : dictionary.keySet()) {
+                    writeString(out, value);
+                }
+                for (int row = 0; row < values.length; row++) {
+                    if (values[row] != null) writeVarint(out, indexes[row]);
+                }
+            }
+        }
+    }
+
+    private static byte typeOf(Object[] values) {
+        boolean integral = true;
+        boolean floating = true;
+        boolean decimal = true;
+        for (Object value : values) {
+            if (value == null) continue;
+            boolean isIntegral = value instanceof Integer || value instanceof Long
+                    || value instanceof Short || value instanceof Byte;
+            integral &= isIntegral;
+            floating &= value instanceof Double || value instanceof Float;
+            decimal &= isIntegral || value instanceof BigDecimal d && d.unscaledValue().bitLength() < Long.SIZE;
+        }
+        return integral ? LONG : floating ? DOUBLE : decimal ? DECIMAL : STRING;
+    }
+
+    // ==================== Raw Decoding ====================
+
+    private static List<ArchivedContext> decodeRaw(DataInputStream in) throws IOException {
+        int rowCount = (int) readVarint(in);
+        int columnCount = (int) readVarint(in);
+
+        EvaluationContext[] contexts = new EvaluationContext[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            contexts[row] = new EvaluationContext();
+        }
+        String[] applicationIds = new String[rowCount];
+
+        for (int c = 0; c < columnCount; c++) {
+            String name = readString(in);
+            byte type = in.readByte();
+            long[] present = new long[(rowCount + 63) >>> 6];
+            for (int w = 0; w < present.length; w++) {
+                present[w] = in.readLong();
+            }
+
+            String[] dictionary = null;
+            if (type == STRING) {
+                dictionary = new String[(int) readVarint(in)];
+                for (int i = 0; i < dictionary.length; i++) {
+                    dictionary[i] = readString(in);
+                }
+            }
+
+            boolean applicationIdColumn = APPLICATION_ID_COLUMN.equals(name);
+            for (int row = 0; row < rowCount; row++) {
+                if ((present[row >>> 6] & (1L << row)) == 0) continue;
+
+                Object value = switch (type) {
+                    case LONG -> unzigzag(readVarint(in));
+                    case DOUBLE -> in.readDouble();
+                    case DECIMAL -> BigDecimal.valueOf(unzigzag(readVarint(in)), (int) unzigzag(readVarint(in)));
+                    case STRING -> dictionary[(int) readVarint(in)];
+                    default -> throw new IOException("Unknown column type " + type + " for " + name);
+                };
+                if (applicationIdColumn) {
+                    applicationIds[row] = (String) value;
+                } else {
+                    contexts[row].put(name, value);
+                }
+            }
+        }
+
+        List<ArchivedContext> rows = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            rows.add(new ArchivedContext(applicationIds[row], contexts[row]));
+        }
+        return rows;
+    }
+
+    // ==================== Primitives ====================
+
+    private static void writeVarint(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new EOFException();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[(int) readVarint(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
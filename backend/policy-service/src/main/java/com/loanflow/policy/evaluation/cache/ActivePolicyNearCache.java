@@ -0,0 +1,340 @@
+package com.loanflow.policy.evaluation.cache;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.LoanType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-JVM near cache (L1) of active policy entities per loan type, in front of the Redis L2 cache.
+ *
+ * - Bounded by the LoanType enum, with a TTL as a safety net for missed invalidations
+ * - Invalidated on every node through the Redis pub/sub channel {@link #INVALIDATION_CHANNEL}
+ *   whenever PolicyServiceImpl evicts the active cache
+ * - A change to an ALL-type policy invalidates every loan type (ALL policies appear in every list)
+ * - Hits, misses and invalidations are published as Micrometer counters
+ * - {@link #getVersion()} exposes a per-node active policy set version bumped on every invalidation,
+ *   every effective window boundary and every TTL reload that changes the effective policies
+ *
+ * Each entry holds the loaded active policies and the subset currently inside its
+ * effectiveFrom/effectiveUntil window, so callers never re-check dates. A scheduler swaps in a
+ * recomputed subset at the next window boundary of any cached policy, without reloading.
+ *
+ * Concurrent misses for the same loan type share a single load. A load is installed only if no
+ * invalidation happened since it started (checked atomically with the install); a load racing with
+ * an invalidation is returned to the callers already waiting on it but not cached, and callers
+ * arriving after the invalidation start a fresh load.
+ */
+@Component
+@Slf4j
+public class ActivePolicyNearCache {
+
+    public static final String INVALIDATION_CHANNEL = "policy:active:invalidate";
+
+    // Far-off boundaries are re-checked daily rather than scheduled exactly
+    private static final Duration MAX_BOUNDARY_DELAY = Duration.ofDays(1);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final long ttlNanos;
+    private final Map<LoanType, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<LoanType, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+    private final Counter boundarySwaps;
+
+    private final ScheduledExecutorService boundaryScheduler;
+    private final Object boundaryLock = new Object();
+    private ScheduledFuture<?> boundaryTask;
+    private LocalDateTime scheduledBoundary;
+
+    public ActivePolicyNearCache(RedisTemplate<String, Object> redisTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${policy.cache.near.ttl-seconds:300}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.hits = Counter.builder("policy.cache.near.requests")
+                .description("Active policy near cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("policy.cache.near.requests")
+                .description("Active policy near cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("policy.cache.near.invalidations")
+                .description("Active policy near cache invalidations (local and remote)")
+                .register(meterRegistry);
+        this.boundarySwaps = Counter.builder("policy.cache.near.boundary.swaps")
+                .description("Active policy near cache swaps at effective window boundaries")
+                .register(meterRegistry);
+        Gauge.builder("policy.cache.near.size", entries, Map::size)
+                .description("Loan types currently held in the active policy near cache")
+                .register(meterRegistry);
+        this.boundaryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "policy-effective-boundary");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get the currently effective active policies for a loan type,
+     * loading through the given loader (L2/DB) on a miss
+     */
+    public List<Policy> get(LoanType loanType, Function<LoanType, List<Policy>> loader) {
+        Entry entry = entries.get(loanType);
+        if (entry != null && System.nanoTime() - entry.loadedAt() < ttlNanos) {
+            hits.increment();
+            return entry.effective();
+        }
+
+        misses.increment();
+        CompletableFuture<Entry> load = new CompletableFuture<>();
+        CompletableFuture<Entry> running = inFlight.putIfAbsent(loanType, load);
+        if (running != null) {
+            return await(running).effective();
+        }
+        try {
+            Entry loaded = load(loanType, loader);
+            load.complete(loaded);
+            return loaded.effective();
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(loanType, load);
+        }
+    }
+
+    /**
+     * Load through the loader and install the entry unless an invalidation happened since the load
+     * started. The generation check and the install run inside compute, so an invalidation either
+     * bumps the generation before the check or removes the entry after the install.
+     *
+     * A reload replacing an expired entry bumps the version when its effective subset differs,
+     * so results memoized against the expired entry (e.g. after a missed invalidation) are dropped.
+     */
+    private Entry load(LoanType loanType, Function<LoanType, List<Policy>> loader) {
+        long loadGeneration = generation.get();
+        Entry loaded = Entry.of(List.copyOf(loader.apply(loanType)), System.nanoTime(), LocalDateTime.now());
+        Entry installed = entries.compute(loanType, (type, current) -> {
+            if (generation.get() != loadGeneration) {
+                return current;
+            }
+            if (current != null && !current.effective().equals(loaded.effective())) {
+                generation.incrementAndGet();
+                log.debug("Near cache effective policies for {} changed on reload", type);
+            }
+            return loaded;
+        });
+        if (installed == loaded) {
+            scheduleBoundary(loaded.nextBoundary());
+        }
+        return loaded;
+    }
+
+    private static Entry await(CompletableFuture<Entry> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Version of the active policy set as seen by this node.
+     * Incremented on every invalidation and every change of an effective subset, so anything
+     * derived from the active set (e.g. memoized evaluation results) can be keyed on it.
+     */
+    public long getVersion() {
+        return generation.get();
+    }
+
+    /**
+     * Invalidate locally and notify every other policy-service node
+     */
+    public void publishInvalidation(LoanType loanType) {
+        invalidate(loanType);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, loanType.name());
+        } catch (Exception e) {
+            log.warn("Failed to publish near cache invalidation for {}: {}", loanType, e.getMessage());
+        }
+    }
+
+    /**
+     * Handle an invalidation message received from the Redis channel
+     */
+    public void onInvalidationMessage(Object payload) {
+        if (payload == null) {
+            return;
+        }
+        try {
+            invalidate(LoanType.valueOf(payload.toString()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring near cache invalidation for unknown loan type: {}", payload);
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Invalidate the local entry for a loan type (all entries for ALL)
+     */
+    public void invalidate(LoanType loanType) {
+        if (loanType == LoanType.ALL) {
+            invalidateAll();
+            return;
+        }
+        generation.incrementAndGet();
+        inFlight.remove(loanType);
+        entries.remove(loanType);
+        invalidations.increment();
+        log.debug("Near cache invalidated for {}", loanType);
+    }
+
+    /**
+     * Invalidate every local entry
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        inFlight.clear();
+        entries.clear();
+        invalidations.increment();
+        log.debug("Near cache invalidated for all loan types");
+    }
+
+    @PreDestroy
+    public void close() {
+        boundaryScheduler.shutdownNow();
+    }
+
+    // ==================== Effective Window Boundaries ====================
+
+    /**
+     * Schedule a swap at the given boundary unless an earlier one is already scheduled
+     */
+    private void scheduleBoundary(LocalDateTime boundary) {
+        if (boundary == null) {
+            return;
+        }
+        synchronized (boundaryLock) {
+            if (scheduledBoundary != null && !boundary.isBefore(scheduledBoundary)) {
+                return;
+            }
+            if (boundaryTask != null) {
+                boundaryTask.cancel(false);
+            }
+            Duration delay = Duration.between(LocalDateTime.now(), boundary);
+            if (delay.compareTo(MAX_BOUNDARY_DELAY) > 0) {
+                delay = MAX_BOUNDARY_DELAY;
+            }
+            scheduledBoundary = boundary;
+            boundaryTask = boundaryScheduler.schedule(this::onBoundary,
+                    Math.max(0, delay.toNanos()), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Recompute every entry's effective subset from its loaded policies (no reload), then bump
+     * the version so results memoized against the previous subset are no longer reachable
+     */
+    void onBoundary() {
+        synchronized (boundaryLock) {
+            scheduledBoundary = null;
+            boundaryTask = null;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean changed = false;
+        LocalDateTime next = null;
+        for (LoanType loanType : entries.keySet()) {
+            Entry previous = entries.get(loanType);
+            Entry current = entries.computeIfPresent(loanType, (type, entry) -> entry.at(now));
+            if (current == null) {
+                continue;
+            }
+            if (previous == null || !sameElements(previous.effective(), current.effective())) {
+                changed = true;
+                log.debug("Near cache effective policies for {} changed at boundary: {} -> {}", loanType,
+                        previous != null ? previous.effective().size() : 0, current.effective().size());
+            }
+            if (current.nextBoundary() != null && (next == null || current.nextBoundary().isBefore(next))) {
+                next = current.nextBoundary();
+            }
+        }
+
+        if (changed) {
+            generation.incrementAndGet();
+            boundarySwaps.increment();
+        }
+        scheduleBoundary(next);
+    }
+
+    private static boolean sameElements(List<Policy> a, List<Policy> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            if (a.get(i) != b.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Loaded active policies, the subset effective at the time the entry was computed,
+     * and the next time that subset changes (null if never)
+     */
+    private record Entry(List<Policy> active, List<Policy> effective, LocalDateTime nextBoundary, long loadedAt) {
+
+        static Entry of(List<Policy> active, long loadedAt, LocalDateTime at) {
+            List<Policy> effective = new ArrayList<>(active.size());
+            LocalDateTime next = null;
+            for (Policy policy : active) {
+                if (policy.isWithinEffectiveWindow(at)) {
+                    effective.add(policy);
+                }
+                LocalDateTime boundary = policy.nextEffectiveBoundary(at);
+                if (boundary != null && (next == null || boundary.isBefore(next))) {
+                    next = boundary;
+                }
+            }
+            return new Entry(active, effective.size() == active.size() ? active : List.copyOf(effective),
+                    next, loadedAt);
+        }
+
+        Entry at(LocalDateTime at) {
+            return of(active, loadedAt, at);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.loanflow.policy.evaluation.cache;
+
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, in-process memo of evaluation responses for repeat evaluations of the same
+ * application (UI refreshes, workflow retries, underwriter re-checks).
+ *
+ * Key: active policy set version + explain flag + SHA-256 fingerprint of the application id
+ * and the sorted evaluation context data. The version comes from {@link ActivePolicyNearCache},
+ * which bumps it on every activate/deactivate on any node, so older entries simply stop being
+ * reachable and age out of the LRU. A TTL bounds staleness if an invalidation is missed.
+ *
+ * Hits return a copy of the memoized response with fresh timing and {@code memoized=true}, so
+ * callers never share (or mutate) the stored instance. ERROR responses are never memoized.
+ * Hits, misses and bypasses are published as Micrometer counters.
+ */
+@Component
+@Slf4j
+public class EvaluationResultCache {
+
+    private final ActivePolicyNearCache activePolicyNearCache;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypasses;
+
+    public EvaluationResultCache(ActivePolicyNearCache activePolicyNearCache,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${policy.evaluation.memo.max-entries:10000}") int maxEntries,
+                                 @Value("${policy.evaluation.memo.ttl-seconds:300}") long ttlSeconds) {
+        this.activePolicyNearCache = activePolicyNearCache;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, EvaluationResultCache.Entry> eldest) {
+                return size() > EvaluationResultCache.this.maxEntries;
+            }
+        };
+
+        this.hits = Counter.builder("policy.evaluation.memo.requests")
+                .description("Evaluation result memo lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("policy.evaluation.memo.requests")
+                .description("Evaluation result memo lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.bypasses = Counter.builder("policy.evaluation.memo.requests")
+                .description("Evaluation result memo lookups")
+                .tag("result", "bypass")
+                .register(meterRegistry);
+        Gauge.builder("policy.evaluation.memo.size", this, EvaluationResultCache::size)
+                .description("Evaluation responses currently memoized")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Return the memoized response for this request and the current policy set version,
+     * evaluating (and memoizing) on a miss. The context is the one the caller already built
+     * for the evaluation; it is only read here.
+     */
+    public PolicyEvaluationResponse getOrEvaluate(PolicyEvaluationRequest request, EvaluationContext context,
+                                                  boolean explain, Supplier<PolicyEvaluationResponse> evaluation) {
+        if (maxEntries <= 0) {
+            return evaluation.get();
+        }
+
+        long startTime = System.currentTimeMillis();
+        // Read the version before evaluating: a change during evaluation leaves this entry unreachable
+        String key = activePolicyNearCache.getVersion() + ":" + explain + ":"
+                + fingerprint(request.getApplicationId(), context);
+
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && System.nanoTime() - entry.createdAt() < ttlNanos) {
+            hits.increment();
+            log.debug("Memoized evaluation hit for application: {}", request.getApplicationId());
+            return copyOf(entry.response(), System.currentTimeMillis() - startTime);
+        }
+
+        misses.increment();
+        PolicyEvaluationResponse response = evaluation.get();
+        if (!"ERROR".equals(response.getOverallDecision())) {
+            synchronized (entries) {
+                entries.put(key, new Entry(response, System.nanoTime()));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Evaluate without consulting or populating the memo (per-request bypass)
+     */
+    public PolicyEvaluationResponse bypass(Supplier<PolicyEvaluationResponse> evaluation) {
+        bypasses.increment();
+        return evaluation.get();
+    }
+
+    /**
+     * Number of memoized responses
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Copy of a memoized response stamped with this lookup's time and duration. Top-level lists
+     * are copied so callers can add to or reorder them without touching the stored response.
+     */
+    private static PolicyEvaluationResponse copyOf(PolicyEvaluationResponse response, long durationMs) {
+        return response.toBuilder()
+                .matchedPolicies(new ArrayList<>(response.getMatchedPolicies()))
+                .triggeredActions(new ArrayList<>(response.getTriggeredActions()))
+                .evaluationLog(new ArrayList<>(response.getEvaluationLog()))
+                .evaluatedAt(LocalDateTime.now())
+                .evaluationDurationMs(durationMs)
+                .memoized(true)
+                .build();
+    }
+
+    /**
+     * Stable fingerprint of the application id and evaluation context (field order independent)
+     */
+    private static String fingerprint(String applicationId, EvaluationContext context) {
+        // Length-prefixed so values containing separators cannot collide
+        StringBuilder canonical = new StringBuilder();
+        append(canonical, "applicationId", String.valueOf(applicationId));
+        new TreeMap<>(context.getData()).forEach((field, value) ->
+                append(canonical, field, value));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void append(StringBuilder canonical, String field, String value) {
+        canonical.append(field).append('=').append(value.length()).append(':').append(value).append('\n');
+    }
+
+    private record Entry(PolicyEvaluationResponse response, long createdAt) {
+    }
+}
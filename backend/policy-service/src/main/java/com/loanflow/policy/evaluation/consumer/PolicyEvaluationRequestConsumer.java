@@ -0,0 +1,166 @@
+package com.loanflow.policy.evaluation.consumer;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loanflow.policy.config.RabbitMQConfig;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse;
+import com.loanflow.policy.evaluation.service.PolicyBatchEvaluationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RabbitMQ consumer for queue-driven policy evaluation.
+ *
+ * Each micro-batch delivered by the container is evaluated against one snapshot of the active
+ * policy set through PolicyBatchEvaluationService, and every result is published to the result
+ * exchange keyed by application ID. This absorbs bursts (e.g. month-end submissions) in the queue
+ * instead of in HTTP request threads.
+ *
+ * - Unreadable messages (including a JSON null body) are forwarded to the dead letter queue and
+ *   counted; there is no application ID to reply to
+ * - Invalid requests get an ERROR result, like in the NDJSON batch endpoint
+ * - A batch that fails as a whole is rejected to the dead letter queue
+ * - Results are published one by one; the request of a result that cannot be published is
+ *   forwarded to the dead letter queue on its own. The batch is acknowledged, so a replay of the
+ *   dead letters never re-publishes the results that did go out.
+ *
+ * Dead-lettered messages carry the failure in the {@value #EXCEPTION_HEADER} header.
+ *
+ * Meters:
+ * - policy.evaluation.async.batch.size         requests per consumed batch
+ * - policy.evaluation.async.unreadable         messages that could not be parsed
+ * - policy.evaluation.async.publish.failures   results that could not be published
+ */
+@Component
+@ConditionalOnProperty(name = "policy.evaluation.async.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class PolicyEvaluationRequestConsumer {
+
+    static final String EXCEPTION_HEADER = "x-exception-message";
+
+    private static final String UNKNOWN_APPLICATION = "unknown";
+
+    private final PolicyBatchEvaluationService batchEvaluationService;
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean explain;
+    private final DistributionSummary batchSizes;
+    private final Counter unreadable;
+    private final Counter publishFailures;
+
+    public PolicyEvaluationRequestConsumer(PolicyBatchEvaluationService batchEvaluationService,
+                                           RabbitTemplate rabbitTemplate,
+                                           ObjectMapper objectMapper,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${policy.evaluation.async.explain:false}") boolean explain) {
+        this.batchEvaluationService = batchEvaluationService;
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.explain = explain;
+        this.batchSizes = DistributionSummary.builder("policy.evaluation.async.batch.size")
+                .description("Evaluation requests per consumed queue batch")
+                .register(meterRegistry);
+        this.unreadable = Counter.builder("policy.evaluation.async.unreadable")
+                .description("Evaluation request messages that could not be parsed")
+                .register(meterRegistry);
+        this.publishFailures = Counter.builder("policy.evaluation.async.publish.failures")
+                .description("Evaluation results that could not be published")
+                .register(meterRegistry);
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.EVALUATION_QUEUE, containerFactory = "policyEvaluationBatchContainerFactory")
+    public void handleEvaluationBatch(List<Message> messages) {
+        List<PolicyEvaluationRequest> requests = new ArrayList<>(messages.size());
+        List<Message> sources = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            try {
+                PolicyEvaluationRequest request = objectMapper.readValue(message.getBody(), PolicyEvaluationRequest.class);
+                if (request == null) {
+                    throw new JsonMappingException(null, "Request body is JSON null");
+                }
+                requests.add(request);
+                sources.add(message);
+            } catch (IOException e) {
+                unreadable.increment();
+                log.warn("Dead-lettering unreadable policy evaluation request: {}", e.getMessage());
+                try {
+                    deadLetter(message, e);
+                } catch (AmqpException dlqFailure) {
+                    // Nothing published yet: the whole batch can go to the dead letter queue instead
+                    throw new AmqpRejectAndDontRequeueException("Cannot dead-letter unreadable request", dlqFailure);
+                }
+            }
+        }
+        batchSizes.record(messages.size());
+
+        List<PolicyEvaluationResponse> responses;
+        try {
+            responses = batchEvaluationService.evaluateAll(requests, explain);
+        } catch (IOException e) {
+            log.error("Failed to evaluate queued batch of {} requests: {}", requests.size(), e.getMessage());
+            throw new AmqpRejectAndDontRequeueException("Policy evaluation batch failed", e);
+        }
+
+        int published = 0;
+        for (int i = 0; i < responses.size(); i++) {
+            if (publish(responses.get(i), sources.get(i))) {
+                published++;
+            }
+        }
+        log.debug("Evaluated queued batch: {} messages, {} results published", messages.size(), published);
+    }
+
+    /**
+     * Publish one result, or dead-letter its request if that fails
+     *
+     * @return true if the result was published
+     */
+    private boolean publish(PolicyEvaluationResponse response, Message source) {
+        String correlationId = source.getMessageProperties().getCorrelationId();
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.RESULT_EXCHANGE, routingKey(response), response, reply -> {
+                if (correlationId != null) {
+                    reply.getMessageProperties().setCorrelationId(correlationId);
+                }
+                return reply;
+            });
+            return true;
+        } catch (AmqpException e) {
+            publishFailures.increment();
+            log.warn("Failed to publish policy evaluation result for {}, dead-lettering its request: {}",
+                    response.getApplicationId(), e.getMessage());
+            try {
+                deadLetter(source, e);
+            } catch (AmqpException dlqFailure) {
+                log.error("Lost policy evaluation request for {}: result and dead letter both failed: {}",
+                        response.getApplicationId(), dlqFailure.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private void deadLetter(Message message, Exception cause) {
+        message.getMessageProperties().setHeader(EXCEPTION_HEADER, cause.getMessage());
+        rabbitTemplate.send(RabbitMQConfig.DLQ_EXCHANGE, RabbitMQConfig.DLQ_ROUTING_KEY, message);
+    }
+
+    private String routingKey(PolicyEvaluationResponse response) {
+        String applicationId = response.getApplicationId();
+        return applicationId != null && !applicationId.isBlank() ? applicationId : UNKNOWN_APPLICATION;
+    }
+}
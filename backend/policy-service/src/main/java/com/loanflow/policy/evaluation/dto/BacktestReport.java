@@ -0,0 +1,106 @@
+package com.loanflow.policy.evaluation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Result of backtesting a DRAFT policy against archived evaluation contexts.
+ *
+ * Each archived context of an affected loan type is evaluated twice (decision-only):
+ * baseline = the current active set, candidate = the active set with the draft added
+ * (replacing the active version of the same policy code, if any).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestReport {
+
+    private String policyId;
+    private String policyCode;
+    private String policyName;
+    private Integer versionNumber;
+    private String loanType;
+
+    /**
+     * Archived contexts read
+     */
+    private long contextsScanned;
+
+    /**
+     * Contexts of an affected loan type, replayed against baseline and candidate
+     */
+    private long contextsReplayed;
+
+    /**
+     * Replayed contexts whose overall decision changed
+     */
+    private long decisionsChanged;
+
+    /**
+     * Replayed contexts whose resolved actions changed (added, removed or different parameters)
+     */
+    private long actionsChanged;
+
+    /**
+     * Decision distribution under the current active set
+     */
+    @Builder.Default
+    private Map<String, Long> baselineDecisions = new TreeMap<>();
+
+    /**
+     * Decision distribution with the draft policy applied
+     */
+    @Builder.Default
+    private Map<String, Long> candidateDecisions = new TreeMap<>();
+
+    /**
+     * Count per decision transition, e.g. "APPROVED->REJECTED"
+     */
+    @Builder.Default
+    private Map<String, Long> decisionFlips = new TreeMap<>();
+
+    /**
+     * Per action type: how many contexts gained, lost, or saw different parameters for it
+     */
+    @Builder.Default
+    private Map<String, ActionDelta> actionDeltas = new TreeMap<>();
+
+    /**
+     * A bounded sample of applications whose decision flipped
+     */
+    @Builder.Default
+    private List<DecisionFlip> sampleFlips = new ArrayList<>();
+
+    private LocalDateTime startedAt;
+    private long durationMs;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ActionDelta {
+        private long added;
+        private long removed;
+        private long changed;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DecisionFlip {
+        private String applicationId;
+        private String loanType;
+        private String baselineDecision;
+        private String candidateDecision;
+    }
+}
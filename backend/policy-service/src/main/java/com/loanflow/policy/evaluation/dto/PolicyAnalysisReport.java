@@ -0,0 +1,86 @@
+package com.loanflow.policy.evaluation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Static analysis of a policy's enabled rules (see PolicyAnalyzer).
+ *
+ * Rules are referred to by their position in priority order, as evaluated.
+ * UNSATISFIABLE rules are pruned from the execution plan; the other findings are advisory.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyAnalysisReport {
+
+    private String policyCode;
+    private Integer versionNumber;
+
+    /**
+     * Enabled rules analyzed
+     */
+    private int rulesAnalyzed;
+
+    @Builder.Default
+    private List<RuleFinding> findings = new ArrayList<>();
+
+    /**
+     * Positions of the rules that can never match
+     */
+    public Set<Integer> unsatisfiableRules() {
+        Set<Integer> positions = new TreeSet<>();
+        for (RuleFinding finding : findings) {
+            if (finding.getType() == FindingType.UNSATISFIABLE) {
+                positions.add(finding.getRuleIndex());
+            }
+        }
+        return positions;
+    }
+
+    public enum FindingType {
+        /**
+         * The rule's conditions can never all hold; it never matches
+         */
+        UNSATISFIABLE,
+        /**
+         * A condition is implied by the rule's other conditions
+         */
+        REDUNDANT_CONDITION,
+        /**
+         * Whenever the rule matches, a higher-priority rule also matches and triggers the same
+         * (non-accumulating) action types, so the rule never changes the outcome
+         */
+        SHADOWED,
+        /**
+         * Two rules with different decision actions can match the same application
+         */
+        OVERLAPPING
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RuleFinding {
+        private FindingType type;
+        private int ruleIndex;
+        private String ruleName;
+
+        /**
+         * The higher-priority rule involved (SHADOWED, OVERLAPPING)
+         */
+        private String relatedRuleName;
+
+        private String field;
+        private String message;
+    }
+}
@@ -101,31 +101,32 @@ public class PolicyEvaluationRequest {
     private Map<String, String> additionalFields;
 
     /**
-     * Build an EvaluationContext from this request
+     * Build an EvaluationContext from this request.
+     * Standard fields are written straight into their slots, keeping numbers numeric.
      */
     public EvaluationContext toEvaluationContext() {
         EvaluationContext context = new EvaluationContext();
 
         // Loan fields
-        context.put("loan.type", loanType);
-        context.put("loan.requestedAmount", requestedAmount);
-        context.put("loan.tenureMonths", tenureMonths);
-        if (purpose != null) context.put("loan.purpose", purpose);
-        if (branchCode != null) context.put("loan.branchCode", branchCode);
+        context.put(FieldSlots.LOAN_TYPE, loanType);
+        context.put(FieldSlots.LOAN_REQUESTED_AMOUNT, requestedAmount);
+        context.put(FieldSlots.LOAN_TENURE_MONTHS, tenureMonths);
+        context.put(FieldSlots.LOAN_PURPOSE, purpose);
+        context.put(FieldSlots.LOAN_BRANCH_CODE, branchCode);
 
         // Applicant fields
-        if (cibilScore != null) context.put("applicant.cibilScore", cibilScore);
-        if (riskCategory != null) context.put("applicant.riskCategory", riskCategory);
-        if (applicantAge != null) context.put("applicant.age", applicantAge);
+        context.put(FieldSlots.APPLICANT_CIBIL_SCORE, cibilScore);
+        context.put(FieldSlots.APPLICANT_RISK_CATEGORY, riskCategory);
+        context.put(FieldSlots.APPLICANT_AGE, applicantAge);
 
         // Employment fields
-        if (employmentType != null) context.put("applicant.employmentType", employmentType);
-        if (monthlyIncome != null) context.put("applicant.monthlyIncome", monthlyIncome);
-        if (yearsOfExperience != null) context.put("applicant.yearsOfExperience", yearsOfExperience);
+        context.put(FieldSlots.APPLICANT_EMPLOYMENT_TYPE, employmentType);
+        context.put(FieldSlots.APPLICANT_MONTHLY_INCOME, monthlyIncome);
+        context.put(FieldSlots.APPLICANT_YEARS_OF_EXPERIENCE, yearsOfExperience);
 
         // Property fields
-        if (propertyValue != null) context.put("property.estimatedValue", propertyValue);
-        if (propertyType != null) context.put("property.type", propertyType);
+        context.put(FieldSlots.PROPERTY_ESTIMATED_VALUE, propertyValue);
+        context.put(FieldSlots.PROPERTY_TYPE, propertyType);
 
         // Additional custom fields
         if (additionalFields != null) {
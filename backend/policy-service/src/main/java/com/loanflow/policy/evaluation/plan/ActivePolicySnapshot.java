@@ -0,0 +1,42 @@
+package com.loanflow.policy.evaluation.plan;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.LoanType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A consistent view of the active policy set, resolved at most once per loan type.
+ *
+ * A single request uses a fresh snapshot; a batch shares one snapshot across all of its
+ * requests so every item is evaluated against the same policies and the cache/DB is hit
+ * once per loan type instead of once per request. Safe for concurrent use.
+ */
+public class ActivePolicySnapshot {
+
+    private final Function<LoanType, List<Policy>> loader;
+    private final Map<LoanType, List<Policy>> byLoanType = new ConcurrentHashMap<>();
+
+    public ActivePolicySnapshot(Function<LoanType, List<Policy>> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Active policies for a loan type as supplied by the loader (the evaluation service supplies
+     * only currently effective ones), sorted by priority (lower = evaluated first)
+     */
+    public List<Policy> getActivePolicies(LoanType loanType) {
+        return byLoanType.computeIfAbsent(loanType, this::load);
+    }
+
+    private List<Policy> load(LoanType loanType) {
+        List<Policy> policies = new ArrayList<>(loader.apply(loanType));
+        policies.sort(Comparator.comparingInt(Policy::getPriority));
+        return List.copyOf(policies);
+    }
+}
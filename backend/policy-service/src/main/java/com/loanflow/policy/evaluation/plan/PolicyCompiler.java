@@ -0,0 +1,60 @@
+package com.loanflow.policy.evaluation.plan;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.evaluation.analysis.PolicyAnalyzer;
+import com.loanflow.policy.evaluation.dto.PolicyAnalysisReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compiles a {@link Policy} document into an immutable {@link CompiledPolicy} execution plan.
+ * Rules the {@link PolicyAnalyzer} proves unsatisfiable are left out of the plan.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyCompiler {
+
+    private final PolicyAnalyzer policyAnalyzer;
+
+    /**
+     * Compile all enabled rules of the policy (priority-ordered) into a plan
+     */
+    public CompiledPolicy compile(Policy policy) {
+        List<CompiledRule> enabledRules = policy.getEnabledRules().stream().map(CompiledRule::compile).toList();
+        PolicyAnalysisReport analysis = policyAnalyzer.analyze(
+                policy.getPolicyCode(), policy.getVersionNumber(), enabledRules);
+        Set<Integer> unsatisfiable = analysis.unsatisfiableRules();
+
+        List<CompiledRule> rules = new ArrayList<>(enabledRules.size() - unsatisfiable.size());
+        List<String> prunedRules = new ArrayList<>(unsatisfiable.size());
+        for (int i = 0; i < enabledRules.size(); i++) {
+            if (unsatisfiable.contains(i)) {
+                prunedRules.add(enabledRules.get(i).getName());
+            } else {
+                rules.add(enabledRules.get(i));
+            }
+        }
+
+        CompiledPolicy plan = CompiledPolicy.builder()
+                .policyId(policy.getId())
+                .policyCode(policy.getPolicyCode())
+                .policyName(policy.getName())
+                .category(policy.getCategory() != null ? policy.getCategory().name() : null)
+                .priority(policy.getPriority() != null ? policy.getPriority() : 100)
+                .versionNumber(policy.getVersionNumber())
+                .lockVersion(policy.getLockVersion())
+                .rules(List.copyOf(rules))
+                .prunedRules(List.copyOf(prunedRules))
+                .build();
+
+        log.debug("Compiled policy {} v{} ({} enabled rules, {} pruned as unsatisfiable)",
+                plan.getPolicyCode(), plan.getVersionNumber(), plan.getRules().size(), prunedRules.size());
+        return plan;
+    }
+}
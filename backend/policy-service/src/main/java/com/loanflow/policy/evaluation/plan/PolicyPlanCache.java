@@ -0,0 +1,177 @@
+package com.loanflow.policy.evaluation.plan;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.LoanType;
+import com.loanflow.policy.domain.enums.PolicyStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory cache of compiled execution plans, keyed by policyCode + versionNumber.
+ *
+ * Plans are rebuilt by PolicyServiceImpl on activate/deactivate/createNewVersion.
+ * A cached plan whose lockVersion differs from the policy being evaluated
+ * (e.g. modified on another node) is recompiled on access.
+ *
+ * Also holds the {@link CompiledPolicySet}s for the last few active version sets of each
+ * loan type (oldest evicted first). Each set adapts its decision-path condition order to
+ * live traffic ({@link ConditionStatistics}); keeping more than one means callers that
+ * alternate between version sets (e.g. snapshots of different ages on a rollout) reuse
+ * their learned order instead of starting over from the declared order on every switch.
+ */
+@Component
+@Slf4j
+public class PolicyPlanCache {
+
+    private final PolicyCompiler policyCompiler;
+    private final ConditionStatistics.Settings orderingSettings;
+    private final int retainedSets;
+
+    private final Map<String, CompiledPolicy> plans = new ConcurrentHashMap<>();
+    // Newest first; replaced as a whole, so readers scan without locking
+    private final Map<LoanType, List<CompiledPolicySet>> policySets = new ConcurrentHashMap<>();
+
+    public PolicyPlanCache(PolicyCompiler policyCompiler,
+                           @Value("${policy.evaluation.adaptive-ordering.sample-rate:64}") int sampleRate,
+                           @Value("${policy.evaluation.adaptive-ordering.reorder-interval:2048}") int reorderInterval,
+                           @Value("${policy.evaluation.adaptive-ordering.min-samples:100}") int minSamples,
+                           @Value("${policy.evaluation.adaptive-ordering.retained-sets:4}") int retainedSets) {
+        this.policyCompiler = policyCompiler;
+        this.orderingSettings = new ConditionStatistics.Settings(sampleRate, reorderInterval, minSamples);
+        this.retainedSets = Math.max(1, retainedSets);
+    }
+
+    /**
+     * Get the compiled plan for a policy, compiling it on first use or when stale
+     */
+    public CompiledPolicy getPlan(Policy policy) {
+        if (policy.getPolicyCode() == null) {
+            // Not yet persisted — nothing stable to key on
+            return policyCompiler.compile(policy);
+        }
+
+        String key = cacheKey(policy.getPolicyCode(), policy.getVersionNumber());
+        CompiledPolicy plan = plans.get(key);
+        if (plan != null && Objects.equals(plan.getLockVersion(), policy.getLockVersion())) {
+            return plan;
+        }
+
+        CompiledPolicy compiled = policyCompiler.compile(policy);
+        plans.put(key, compiled);
+        return compiled;
+    }
+
+    /**
+     * Get the compiled policy set (with its shared condition index) for the active policies
+     * of a loan type. A set is built for policy versions not among the last few retained for
+     * the loan type, and the oldest retained set is evicted to make room.
+     */
+    public CompiledPolicySet getPolicySet(LoanType loanType, List<Policy> policies) {
+        CompiledPolicySet policySet = findCompiledFrom(policySets.get(loanType), policies);
+        if (policySet != null) {
+            return policySet;
+        }
+
+        CompiledPolicySet compiled = CompiledPolicySet.build(
+                policies.stream().map(this::getPlan).toList(), orderingSettings);
+        if (policies.stream().allMatch(policy -> policy.getPolicyCode() != null)) {
+            CompiledPolicySet[] retained = {compiled};
+            policySets.compute(loanType, (type, sets) -> {
+                // Another thread may have built the same versions meanwhile; keep the first
+                CompiledPolicySet existing = findCompiledFrom(sets, policies);
+                if (existing != null) {
+                    retained[0] = existing;
+                    return sets;
+                }
+                List<CompiledPolicySet> updated = new ArrayList<>(retainedSets);
+                updated.add(compiled);
+                if (sets != null) {
+                    updated.addAll(sets.subList(0, Math.min(sets.size(), retainedSets - 1)));
+                }
+                return List.copyOf(updated);
+            });
+            if (retained[0] != compiled) {
+                return retained[0];
+            }
+        }
+        log.debug("Built condition index for {}: {} policies, {} distinct conditions over {} fields",
+                loanType, policies.size(), compiled.getIndex().conditionCount(), compiled.getIndex().fieldCount());
+        return compiled;
+    }
+
+    /**
+     * Rebuild the plan for a policy after a lifecycle change.
+     * Active policies are recompiled eagerly; anything else is evicted.
+     */
+    public void refresh(Policy policy) {
+        if (policy.getPolicyCode() == null) {
+            return;
+        }
+        String key = cacheKey(policy.getPolicyCode(), policy.getVersionNumber());
+        if (policy.getStatus() == PolicyStatus.ACTIVE) {
+            plans.put(key, policyCompiler.compile(policy));
+            log.debug("Rebuilt execution plan for {}", key);
+        } else if (plans.remove(key) != null) {
+            log.debug("Evicted execution plan for {}", key);
+        }
+    }
+
+    /**
+     * Number of cached plans
+     */
+    public int size() {
+        return plans.size();
+    }
+
+    /**
+     * Number of compiled policy sets retained for a loan type
+     */
+    public int policySetCount(LoanType loanType) {
+        List<CompiledPolicySet> sets = policySets.get(loanType);
+        return sets == null ? 0 : sets.size();
+    }
+
+    private static CompiledPolicySet findCompiledFrom(List<CompiledPolicySet> sets, List<Policy> policies) {
+        if (sets == null) {
+            return null;
+        }
+        for (CompiledPolicySet policySet : sets) {
+            if (isCompiledFrom(policySet, policies)) {
+                return policySet;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether a set was compiled from exactly these policy versions, in this order
+     */
+    private static boolean isCompiledFrom(CompiledPolicySet policySet, List<Policy> policies) {
+        List<CompiledPolicy> plans = policySet.getPlans();
+        if (policies.size() != plans.size()) {
+            return false;
+        }
+        for (int i = 0; i < policies.size(); i++) {
+            Policy policy = policies.get(i);
+            CompiledPolicy plan = plans.get(i);
+            if (policy.getPolicyCode() == null
+                    || !policy.getPolicyCode().equals(plan.getPolicyCode())
+                    || !Objects.equals(policy.getVersionNumber(), plan.getVersionNumber())
+                    || !Objects.equals(policy.getLockVersion(), plan.getLockVersion())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String cacheKey(String policyCode, Integer versionNumber) {
+        return policyCode + ":v" + versionNumber;
+    }
+}
@@ -0,0 +1,19 @@
+package com.loanflow.policy.evaluation.service;
+
+import com.loanflow.policy.evaluation.dto.BacktestReport;
+
+/**
+ * Replays a DRAFT policy against archived evaluation contexts to show how decisions
+ * would change if it were activated.
+ */
+public interface PolicyBacktestService {
+
+    /**
+     * Backtest a DRAFT policy against the archived evaluation contexts.
+     *
+     * @param policyId    id of the DRAFT policy
+     * @param maxContexts stop after reading this many archived contexts (null or <= 0 = all)
+     * @return decision flips and action deltas versus the current active set
+     */
+    BacktestReport backtest(String policyId, Long maxContexts);
+}
@@ -0,0 +1,41 @@
+package com.loanflow.policy.evaluation.service;
+
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Service interface for bulk policy evaluation (e.g. portfolio re-underwriting).
+ */
+public interface PolicyBatchEvaluationService {
+
+    /**
+     * Evaluate a stream of newline-delimited JSON PolicyEvaluationRequests and write one
+     * PolicyEvaluationResponse per input line, in input order, as newline-delimited JSON.
+     *
+     * All items are evaluated against one snapshot of the active policy set.
+     * Malformed or invalid lines produce an ERROR response instead of failing the batch.
+     *
+     * @param input   NDJSON request stream
+     * @param output  NDJSON response stream
+     * @param explain true for full audit output per item, false for decision-only
+     * @return number of items processed
+     */
+    long evaluateBatch(InputStream input, OutputStream output, boolean explain) throws IOException;
+
+    /**
+     * Evaluate already-parsed requests (e.g. a micro-batch from the evaluation queue) against
+     * one snapshot of the active policy set.
+     *
+     * Invalid requests produce an ERROR response instead of failing the batch.
+     *
+     * @param requests requests to evaluate
+     * @param explain  true for full audit output per item, false for decision-only
+     * @return one response per request, in request order
+     */
+    List<PolicyEvaluationResponse> evaluateAll(List<PolicyEvaluationRequest> requests, boolean explain) throws IOException;
+}
@@ -2,6 +2,7 @@ package com.loanflow.policy.evaluation.service;
 
 import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
 import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse;
+import com.loanflow.policy.evaluation.plan.ActivePolicySnapshot;
 
 /**
  * Service interface for policy evaluation.
@@ -17,4 +18,42 @@ public interface PolicyEvaluationService {
      * @return evaluation response with decision, matched policies, and triggered actions
      */
     PolicyEvaluationResponse evaluate(PolicyEvaluationRequest request);
+
+    /**
+     * Evaluate a loan application, optionally skipping the explain output.
+     *
+     * With {@code explain=false} rule logic short-circuits and only the overall decision,
+     * resolved triggered actions and counts are returned — no per-policy/rule/condition
+     * results and no evaluation log.
+     *
+     * @param request the evaluation request containing application data
+     * @param explain true for the full audit trail, false for decision-only evaluation
+     * @return evaluation response
+     */
+    PolicyEvaluationResponse evaluate(PolicyEvaluationRequest request, boolean explain);
+
+    /**
+     * Evaluate a loan application, optionally bypassing the evaluation result memo.
+     *
+     * Repeat evaluations of the same application data against the same active policy set
+     * version are served from an in-process memo; {@code useCache=false} forces a fresh evaluation.
+     *
+     * @param request  the evaluation request containing application data
+     * @param explain  true for the full audit trail, false for decision-only evaluation
+     * @param useCache false to bypass the memo for this request
+     * @return evaluation response
+     */
+    PolicyEvaluationResponse evaluate(PolicyEvaluationRequest request, boolean explain, boolean useCache);
+
+    /**
+     * Evaluate a loan application against a given snapshot of the active policy set.
+     * Used by batch evaluation so all items see the same policies.
+     */
+    PolicyEvaluationResponse evaluate(PolicyEvaluationRequest request, boolean explain,
+                                      ActivePolicySnapshot snapshot);
+
+    /**
+     * Open a new snapshot of the active policy set
+     */
+    ActivePolicySnapshot snapshot();
 }
@@ -0,0 +1,309 @@
+package com.loanflow.policy.evaluation.service.impl;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.LoanType;
+import com.loanflow.policy.domain.enums.PolicyStatus;
+import com.loanflow.policy.evaluation.backtest.ArchivedContext;
+import com.loanflow.policy.evaluation.backtest.ContextArchive;
+import com.loanflow.policy.evaluation.dto.BacktestReport;
+import com.loanflow.policy.evaluation.dto.BacktestReport.ActionDelta;
+import com.loanflow.policy.evaluation.dto.BacktestReport.DecisionFlip;
+import com.loanflow.policy.evaluation.dto.FieldSlots;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse.TriggeredAction;
+import com.loanflow.policy.evaluation.engine.PolicySetEvaluator;
+import com.loanflow.policy.evaluation.engine.PolicySetEvaluator.Decision;
+import com.loanflow.policy.evaluation.plan.ActivePolicySnapshot;
+import com.loanflow.policy.evaluation.plan.CompiledPolicy;
+import com.loanflow.policy.evaluation.plan.CompiledPolicySet;
+import com.loanflow.policy.evaluation.plan.PolicyCompiler;
+import com.loanflow.policy.evaluation.plan.PolicyPlanCache;
+import com.loanflow.policy.evaluation.service.PolicyBacktestService;
+import com.loanflow.policy.evaluation.service.PolicyEvaluationService;
+import com.loanflow.policy.repository.PolicyRepository;
+import com.loanflow.util.exception.BusinessException;
+import com.loanflow.util.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of PolicyBacktestService.
+ *
+ * Backtest flow:
+ * 1. Compile baseline (effective active policies) and candidate (baseline + draft) policy sets
+ *    for every loan type the draft applies to
+ * 2. Flush pending archive writes, then stream archived blocks one at a time
+ * 3. Replay each block in parallel on a dedicated ForkJoinPool through the decision-only fast path
+ * 4. Aggregate decision flips and action deltas into thread-safe counters
+ */
+@Service
+@Slf4j
+public class PolicyBacktestServiceImpl implements PolicyBacktestService {
+
+    private final PolicyRepository policyRepository;
+    private final PolicyEvaluationService policyEvaluationService;
+    private final PolicyPlanCache policyPlanCache;
+    private final PolicyCompiler policyCompiler;
+    private final PolicySetEvaluator policySetEvaluator;
+    private final ContextArchive contextArchive;
+    private final ForkJoinPool pool;
+    private final int sampleSize;
+
+    public PolicyBacktestServiceImpl(PolicyRepository policyRepository,
+                                     PolicyEvaluationService policyEvaluationService,
+                                     PolicyPlanCache policyPlanCache,
+                                     PolicyCompiler policyCompiler,
+                                     PolicySetEvaluator policySetEvaluator,
+                                     ContextArchive contextArchive,
+                                     @Value("${policy.backtest.parallelism:0}") int parallelism,
+                                     @Value("${policy.backtest.sample-size:100}") int sampleSize) {
+        this.policyRepository = policyRepository;
+        this.policyEvaluationService = policyEvaluationService;
+        this.policyPlanCache = policyPlanCache;
+        this.policyCompiler = policyCompiler;
+        this.policySetEvaluator = policySetEvaluator;
+        this.contextArchive = contextArchive;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.sampleSize = Math.max(sampleSize, 0);
+    }
+
+    @Override
+    public BacktestReport backtest(String policyId, Long maxContexts) {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        Policy draft = policyRepository.findById(policyId)
+                .orElseThrow(() -> new ResourceNotFoundException("Policy not found with id: " + policyId));
+        if (draft.getStatus() != PolicyStatus.DRAFT) {
+            throw BusinessException.invalidStatus(String.valueOf(draft.getStatus()), PolicyStatus.DRAFT.name());
+        }
+        log.info("Starting backtest of {} v{} ({})", draft.getPolicyCode(), draft.getVersionNumber(), draft.getLoanType());
+
+        Map<LoanType, PolicySets> setsByLoanType = compileSets(draft);
+        Tally tally = new Tally(sampleSize);
+        long limit = maxContexts != null && maxContexts > 0 ? maxContexts : Long.MAX_VALUE;
+
+        contextArchive.flush();
+        try {
+            contextArchive.forEachBlock(block -> {
+                long remaining = limit - tally.scanned.sum();
+                List<ArchivedContext> rows = remaining < block.size()
+                        ? block.subList(0, (int) remaining)
+                        : block;
+                replay(rows, setsByLoanType, tally);
+                return tally.scanned.sum() < limit;
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read evaluation context archive", e);
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        log.info("Backtest of {} v{} complete: {} scanned, {} replayed, {} decisions changed, duration={}ms",
+                draft.getPolicyCode(), draft.getVersionNumber(), tally.scanned.sum(), tally.replayed.sum(),
+                tally.decisionsChanged.sum(), duration);
+
+        return BacktestReport.builder()
+                .policyId(draft.getId())
+                .policyCode(draft.getPolicyCode())
+                .policyName(draft.getName())
+                .versionNumber(draft.getVersionNumber())
+                .loanType(String.valueOf(draft.getLoanType()))
+                .contextsScanned(tally.scanned.sum())
+                .contextsReplayed(tally.replayed.sum())
+                .decisionsChanged(tally.decisionsChanged.sum())
+                .actionsChanged(tally.actionsChanged.sum())
+                .baselineDecisions(sums(tally.baselineDecisions))
+                .candidateDecisions(sums(tally.candidateDecisions))
+                .decisionFlips(sums(tally.decisionFlips))
+                .actionDeltas(actionDeltas(tally))
+                .sampleFlips(new ArrayList<>(tally.samples))
+                .startedAt(startedAt)
+                .durationMs(duration)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // ==================== Private Helpers ====================
+
+    /**
+     * Baseline and candidate sets for every loan type the draft applies to
+     */
+    private Map<LoanType, PolicySets> compileSets(Policy draft) {
+        ActivePolicySnapshot snapshot = policyEvaluationService.snapshot();
+        CompiledPolicy draftPlan = policyCompiler.compile(draft);
+
+        Map<LoanType, PolicySets> sets = new EnumMap<>(LoanType.class);
+        for (LoanType loanType : LoanType.values()) {
+            if (draft.getLoanType() != LoanType.ALL && draft.getLoanType() != loanType) {
+                continue;
+            }
+
+            List<CompiledPolicy> baseline = snapshot.getActivePolicies(loanType).stream()
+                    .map(policyPlanCache::getPlan)
+                    .toList();
+
+            List<CompiledPolicy> candidate = new ArrayList<>(baseline.size() + 1);
+            baseline.stream()
+                    .filter(plan -> !Objects.equals(plan.getPolicyCode(), draft.getPolicyCode()))
+                    .forEach(candidate::add);
+            candidate.add(draftPlan);
+            candidate.sort(Comparator.comparingInt(CompiledPolicy::getPriority));
+
+            sets.put(loanType, new PolicySets(CompiledPolicySet.build(baseline), CompiledPolicySet.build(candidate)));
+        }
+        return sets;
+    }
+
+    /**
+     * Replay one block in parallel on the backtest pool
+     */
+    private void replay(List<ArchivedContext> rows, Map<LoanType, PolicySets> setsByLoanType, Tally tally) {
+        try {
+            pool.submit(() -> rows.parallelStream().forEach(row -> replay(row, setsByLoanType, tally))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Backtest interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Backtest failed", e.getCause());
+        }
+    }
+
+    private void replay(ArchivedContext row, Map<LoanType, PolicySets> setsByLoanType, Tally tally) {
+        tally.scanned.increment();
+
+        PolicySets sets = setsByLoanType.get(loanTypeOf(row));
+        if (sets == null) {
+            return; // Draft does not apply to this loan type — decision cannot change
+        }
+
+        Decision baseline = policySetEvaluator.evaluate(sets.baseline(), p -> true, row.context(), false);
+        Decision candidate = policySetEvaluator.evaluate(sets.candidate(), p -> true, row.context(), false);
+        tally.record(row, baseline, candidate);
+    }
+
+    private LoanType loanTypeOf(ArchivedContext row) {
+        String loanType = row.context().getString(FieldSlots.LOAN_TYPE);
+        if (loanType == null) {
+            return null;
+        }
+        try {
+            return LoanType.valueOf(loanType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, Long> sums(Map<String, LongAdder> counters) {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((key, counter) -> result.put(key, counter.sum()));
+        return result;
+    }
+
+    private static Map<String, ActionDelta> actionDeltas(Tally tally) {
+        Map<String, ActionDelta> result = new TreeMap<>();
+        tally.actionsAdded.forEach((type, n) -> delta(result, type).setAdded(n.sum()));
+        tally.actionsRemoved.forEach((type, n) -> delta(result, type).setRemoved(n.sum()));
+        tally.actionsModified.forEach((type, n) -> delta(result, type).setChanged(n.sum()));
+        return result;
+    }
+
+    private static ActionDelta delta(Map<String, ActionDelta> deltas, String type) {
+        return deltas.computeIfAbsent(type, t -> new ActionDelta());
+    }
+
+    private record PolicySets(CompiledPolicySet baseline, CompiledPolicySet candidate) {
+    }
+
+    /**
+     * Thread-safe accumulation of replay outcomes
+     */
+    private static final class Tally {
+
+        private final LongAdder scanned = new LongAdder();
+        private final LongAdder replayed = new LongAdder();
+        private final LongAdder decisionsChanged = new LongAdder();
+        private final LongAdder actionsChanged = new LongAdder();
+        private final Map<String, LongAdder> baselineDecisions = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> candidateDecisions = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> decisionFlips = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> actionsAdded = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> actionsRemoved = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> actionsModified = new ConcurrentHashMap<>();
+        private final ConcurrentLinkedQueue<DecisionFlip> samples = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger sampled = new AtomicInteger();
+        private final int sampleSize;
+
+        private Tally(int sampleSize) {
+            this.sampleSize = sampleSize;
+        }
+
+        private void record(ArchivedContext row, Decision baseline, Decision candidate) {
+            replayed.increment();
+            increment(baselineDecisions, baseline.overallDecision());
+            increment(candidateDecisions, candidate.overallDecision());
+
+            if (!baseline.overallDecision().equals(candidate.overallDecision())) {
+                decisionsChanged.increment();
+                increment(decisionFlips, baseline.overallDecision() + "->" + candidate.overallDecision());
+                if (sampled.getAndIncrement() < sampleSize) {
+                    samples.add(DecisionFlip.builder()
+                            .applicationId(row.applicationId())
+                            .loanType(row.context().getString(FieldSlots.LOAN_TYPE))
+                            .baselineDecision(baseline.overallDecision())
+                            .candidateDecision(candidate.overallDecision())
+                            .build());
+                }
+            }
+
+            Map<String, List<Map<String, String>>> before = parametersByType(baseline.triggeredActions());
+            Map<String, List<Map<String, String>>> after = parametersByType(candidate.triggeredActions());
+            if (before.equals(after)) {
+                return;
+            }
+            actionsChanged.increment();
+            before.forEach((type, parameters) -> {
+                if (!after.containsKey(type)) {
+                    increment(actionsRemoved, type);
+                } else if (!parameters.equals(after.get(type))) {
+                    increment(actionsModified, type);
+                }
+            });
+            after.keySet().stream()
+                    .filter(type -> !before.containsKey(type))
+                    .forEach(type -> increment(actionsAdded, type));
+        }
+
+        private static Map<String, List<Map<String, String>>> parametersByType(List<TriggeredAction> actions) {
+            return actions.stream().collect(Collectors.groupingBy(TriggeredAction::getActionType,
+                    Collectors.mapping(action -> action.getParameters() != null ? action.getParameters() : Map.of(),
+                            Collectors.toList())));
+        }
+
+        private static void increment(Map<String, LongAdder> counters, String key) {
+            counters.computeIfAbsent(key, k -> new LongAdder()).increment();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.loanflow.policy.evaluation.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse.EvaluationLogEntry;
+import com.loanflow.policy.evaluation.plan.ActivePolicySnapshot;
+import com.loanflow.policy.evaluation.service.PolicyBatchEvaluationService;
+import com.loanflow.policy.evaluation.service.PolicyEvaluationService;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of PolicyBatchEvaluationService.
+ *
+ * Batch flow:
+ * 1. Open one snapshot of the active policy set for the whole batch
+ * 2. Read input lines in chunks (bounded memory regardless of batch size)
+ * 3. Parse, validate and evaluate each chunk in parallel on a dedicated ForkJoinPool
+ * 4. Write the chunk's responses in input order and flush, then read the next chunk
+ *
+ * Queue micro-batches (evaluateAll) take the same path for a single in-memory chunk.
+ */
+@Service
+@Slf4j
+public class PolicyBatchEvaluationServiceImpl implements PolicyBatchEvaluationService {
+
+    private static final byte[] NEWLINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final PolicyEvaluationService policyEvaluationService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public PolicyBatchEvaluationServiceImpl(PolicyEvaluationService policyEvaluationService,
+                                            ObjectMapper objectMapper,
+                                            Validator validator,
+                                            @Value("${policy.evaluation.batch.parallelism:0}") int parallelism,
+                                            @Value("${policy.evaluation.batch.chunk-size:1000}") int chunkSize) {
+        this.policyEvaluationService = policyEvaluationService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    @Override
+    public long evaluateBatch(InputStream input, OutputStream output, boolean explain) throws IOException {
+        long startTime = System.currentTimeMillis();
+        ActivePolicySnapshot snapshot = policyEvaluationService.snapshot();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<BatchLine> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        long processed = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) continue;
+            chunk.add(new BatchLine(lineNumber, line));
+            if (chunk.size() == chunkSize) {
+                processed += writeChunk(evaluateChunk(chunk, explain, snapshot), output);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processed += writeChunk(evaluateChunk(chunk, explain, snapshot), output);
+        }
+
+        log.info("Batch policy evaluation complete: {} items, explain={}, parallelism={}, duration={}ms",
+                processed, explain, pool.getParallelism(), System.currentTimeMillis() - startTime);
+        return processed;
+    }
+
+    @Override
+    public List<PolicyEvaluationResponse> evaluateAll(List<PolicyEvaluationRequest> requests, boolean explain)
+            throws IOException {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        ActivePolicySnapshot snapshot = policyEvaluationService.snapshot();
+        return runInPool(() -> IntStream.range(0, requests.size()).parallel()
+                .mapToObj(i -> evaluateRequest(requests.get(i), "Item " + (i + 1), explain, snapshot))
+                .toList());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // ==================== Private Helpers ====================
+
+    /**
+     * Evaluate a chunk in parallel on the batch pool, preserving input order
+     */
+    private List<PolicyEvaluationResponse> evaluateChunk(List<BatchLine> lines, boolean explain,
+                                                         ActivePolicySnapshot snapshot) throws IOException {
+        return runInPool(() -> lines.parallelStream()
+                .map(line -> evaluateLine(line.json(), line.number(), explain, snapshot))
+                .toList());
+    }
+
+    private List<PolicyEvaluationResponse> runInPool(Callable<List<PolicyEvaluationResponse>> task) throws IOException {
+        try {
+            return pool.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Batch evaluation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Batch evaluation failed", e.getCause());
+        }
+    }
+
+    private PolicyEvaluationResponse evaluateLine(String line, long lineNumber, boolean explain,
+                                                  ActivePolicySnapshot snapshot) {
+        PolicyEvaluationRequest request;
+        try {
+            request = objectMapper.readValue(line, PolicyEvaluationRequest.class);
+        } catch (JsonProcessingException e) {
+            return errorResponse(null, null, "Line " + lineNumber + ": invalid JSON - " + e.getOriginalMessage());
+        }
+        return evaluateRequest(request, "Line " + lineNumber, explain, snapshot);
+    }
+
+    private PolicyEvaluationResponse evaluateRequest(PolicyEvaluationRequest request, String position, boolean explain,
+                                                     ActivePolicySnapshot snapshot) {
+        if (request == null) {
+            // A JSON null line, or a null list element
+            return errorResponse(null, null, position + ": request is null");
+        }
+        Set<ConstraintViolation<PolicyEvaluationRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return errorResponse(request.getApplicationId(), request.getLoanType(), position + ": " + message);
+        }
+
+        try {
+            return policyEvaluationService.evaluate(request, explain, snapshot);
+        } catch (Exception e) {
+            log.error("Batch evaluation failed for application {}: {}", request.getApplicationId(), e.getMessage());
+            return errorResponse(request.getApplicationId(), request.getLoanType(), position + ": " + e.getMessage());
+        }
+    }
+
+    private long writeChunk(List<PolicyEvaluationResponse> responses, OutputStream output) throws IOException {
+        for (PolicyEvaluationResponse response : responses) {
+            output.write(objectMapper.writeValueAsBytes(response));
+            output.write(NEWLINE);
+        }
+        output.flush();
+        return responses.size();
+    }
+
+    private record BatchLine(long number, String json) {
+    }
+
+    private PolicyEvaluationResponse errorResponse(String applicationId, String loanType, String message) {
+        return PolicyEvaluationResponse.builder()
+                .overallDecision("ERROR")
+                .applicationId(applicationId)
+                .loanType(loanType)
+                .evaluationLog(new ArrayList<>(List.of(EvaluationLogEntry.warn("Evaluation error: " + message))))
+                .evaluatedAt(LocalDateTime.now())
+                .build();
+    }
+}
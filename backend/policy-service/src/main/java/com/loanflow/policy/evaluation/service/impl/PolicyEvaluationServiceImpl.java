@@ -2,13 +2,23 @@ package com.loanflow.policy.evaluation.service.impl;
 
 import com.loanflow.policy.domain.aggregate.Policy;
 import com.loanflow.policy.domain.enums.LoanType;
-import com.loanflow.policy.domain.valueobject.PolicyRule;
+import com.loanflow.policy.evaluation.cache.ActivePolicyNearCache;
+import com.loanflow.policy.evaluation.cache.EvaluationResultCache;
 import com.loanflow.policy.evaluation.dto.EvaluationContext;
 import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
 import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse;
 import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse.*;
+import com.loanflow.policy.evaluation.backtest.ContextArchive;
 import com.loanflow.policy.evaluation.engine.ActionResolver;
+import com.loanflow.policy.evaluation.engine.PolicySetEvaluator;
+import com.loanflow.policy.evaluation.engine.PolicySetEvaluator.Decision;
 import com.loanflow.policy.evaluation.engine.RuleEvaluator;
+import com.loanflow.policy.evaluation.metrics.PolicyEvaluationMetrics;
+import com.loanflow.policy.evaluation.plan.ActivePolicySnapshot;
+import com.loanflow.policy.evaluation.plan.CompiledPolicy;
+import com.loanflow.policy.evaluation.plan.CompiledPolicySet;
+import com.loanflow.policy.evaluation.plan.CompiledRule;
+import com.loanflow.policy.evaluation.plan.PolicyPlanCache;
 import com.loanflow.policy.evaluation.service.PolicyEvaluationService;
 import com.loanflow.policy.repository.PolicyRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +29,6 @@ import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -27,12 +36,19 @@ import java.util.List;
  *
  * Evaluation flow:
  * 1. Build evaluation context from request
- * 2. Fetch active policies for the loan type (from cache or DB)
+ * 2. Fetch active policies for the loan type that are currently effective (from cache or DB);
+ *    the near cache swaps its effective subset at effectiveFrom/effectiveUntil boundaries
  * 3. Sort policies by priority
- * 4. For each policy, evaluate enabled rules against context
+ * 4. For each policy, evaluate the enabled rules of its compiled plan against context
  * 5. Collect all triggered actions
  * 6. Resolve conflicts and determine overall decision
  * 7. Build and return evaluation response with audit trail
+ *
+ * Decision-only mode (explain=false) follows the same flow but short-circuits rule logic
+ * and skips condition results, rule/policy match results and the evaluation log.
+ *
+ * Both modes record per-policy and per-rule timings, rule matches and triggered action
+ * counts in {@link PolicyEvaluationMetrics}.
  */
 @Service
 @RequiredArgsConstructor
@@ -43,12 +59,54 @@ public class PolicyEvaluationServiceImpl implements PolicyEvaluationService {
     private final RuleEvaluator ruleEvaluator;
     private final ActionResolver actionResolver;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final PolicyPlanCache policyPlanCache;
+    private final ActivePolicyNearCache activePolicyNearCache;
+    private final EvaluationResultCache evaluationResultCache;
+    private final PolicySetEvaluator policySetEvaluator;
+    private final ContextArchive contextArchive;
+    private final PolicyEvaluationMetrics evaluationMetrics;
 
     private static final String CACHE_ACTIVE_PREFIX = "policy:active:entities:";
     private static final Duration CACHE_TTL = Duration.ofMinutes(30);
 
     @Override
     public PolicyEvaluationResponse evaluate(PolicyEvaluationRequest request) {
+        return evaluate(request, true);
+    }
+
+    @Override
+    public PolicyEvaluationResponse evaluate(PolicyEvaluationRequest request, boolean explain) {
+        return evaluate(request, explain, true);
+    }
+
+    @Override
+    public PolicyEvaluationResponse evaluate(PolicyEvaluationRequest request, boolean explain, boolean useCache) {
+        // Built once: fingerprinted by the memo and reused by the evaluation on a miss
+        EvaluationContext context = request.toEvaluationContext();
+        if (!useCache) {
+            return evaluationResultCache.bypass(() -> evaluate(request, context, explain, snapshot()));
+        }
+        return evaluationResultCache.getOrEvaluate(request, context, explain,
+                () -> evaluate(request, context, explain, snapshot()));
+    }
+
+    @Override
+    public ActivePolicySnapshot snapshot() {
+        return new ActivePolicySnapshot(this::getActivePolicies);
+    }
+
+    @Override
+    public PolicyEvaluationResponse evaluate(PolicyEvaluationRequest request, boolean explain,
+                                             ActivePolicySnapshot snapshot) {
+        return evaluate(request, request.toEvaluationContext(), explain, snapshot);
+    }
+
+    private PolicyEvaluationResponse evaluate(PolicyEvaluationRequest request, EvaluationContext context,
+                                              boolean explain, ActivePolicySnapshot snapshot) {
+        if (!explain) {
+            return evaluateDecisionOnly(request, context, snapshot);
+        }
+
         long startTime = System.currentTimeMillis();
         log.info("Starting policy evaluation for application: {}, loanType: {}",
                 request.getApplicationId(), request.getLoanType());
@@ -57,10 +115,9 @@ public class PolicyEvaluationServiceImpl implements PolicyEvaluationService {
         evaluationLog.add(EvaluationLogEntry.info(
                 "Starting evaluation for application " + request.getApplicationId()));
 
-        // Step 1: Build evaluation context
-        EvaluationContext context = request.toEvaluationContext();
+        // Step 1: Evaluation context (built from the request by the caller)
         evaluationLog.add(EvaluationLogEntry.info(
-                "Evaluation context built with " + context.getData().size() + " fields"));
+                "Evaluation context built with " + context.size() + " fields"));
 
         // Step 2: Parse loan type
         LoanType loanType;
@@ -71,9 +128,10 @@ public class PolicyEvaluationServiceImpl implements PolicyEvaluationService {
             return buildErrorResponse(request, "Invalid loan type: " + request.getLoanType(),
                     startTime, evaluationLog);
         }
+        contextArchive.append(request.getApplicationId(), context);
 
-        // Step 3: Fetch active policies (from cache or DB)
-        List<Policy> activePolicies = new ArrayList<>(getActivePolicies(loanType));
+        // Step 3: Fetch active policies (from snapshot, backed by cache or DB)
+        List<Policy> activePolicies = snapshot.getActivePolicies(loanType);
         evaluationLog.add(EvaluationLogEntry.info(
                 "Found " + activePolicies.size() + " active policies for " + loanType));
 
@@ -82,8 +140,7 @@ public class PolicyEvaluationServiceImpl implements PolicyEvaluationService {
             return buildNoMatchResponse(request, startTime, evaluationLog);
         }
 
-        // Step 4: Sort policies by priority (lower = evaluated first)
-        activePolicies.sort(Comparator.comparingInt(Policy::getPriority));
+        // Step 4: Policies arrive from the snapshot sorted by priority (lower = evaluated first)
 
         // Step 5: Evaluate each policy
         List<PolicyMatchResult> matchResults = new ArrayList<>();
@@ -92,12 +149,6 @@ public class PolicyEvaluationServiceImpl implements PolicyEvaluationService {
         int totalRulesMatched = 0;
 
         for (Policy policy : activePolicies) {
-            if (!policy.isEffective()) {
-                evaluationLog.add(EvaluationLogEntry.info(
-                        "Skipping policy " + policy.getPolicyCode() + " (not effective)"));
-                continue;
-            }
-
             PolicyMatchResult policyResult = evaluatePolicy(policy, context, evaluationLog);
             matchResults.add(policyResult);
 
@@ -115,6 +166,8 @@ public class PolicyEvaluationServiceImpl implements PolicyEvaluationService {
             }
         }
 
+        evaluationMetrics.recordTriggeredActions(true, allTriggeredActions.size());
+
         // Step 6: Resolve actions and determine overall decision
         List<TriggeredAction> resolvedActions = actionResolver.resolveActions(allTriggeredActions);
         String overallDecision = actionResolver.resolveDecision(allTriggeredActions);
@@ -147,7 +200,51 @@ public class PolicyEvaluationServiceImpl implements PolicyEvaluationService {
     }
 
     /**
-     * Evaluate a single policy against the context
+     * Decision-only evaluation: short-circuit rule logic, no explain output.
+     * Only the overall decision, resolved actions and counts are populated.
+     * Conditions are answered through the policy set's shared condition index.
+     */
+    private PolicyEvaluationResponse evaluateDecisionOnly(PolicyEvaluationRequest request,
+                                                          EvaluationContext context,
+                                                          ActivePolicySnapshot snapshot) {
+        long startTime = System.currentTimeMillis();
+
+        LoanType loanType;
+        try {
+            loanType = LoanType.valueOf(request.getLoanType().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid loan type: {}", request.getLoanType());
+            return buildErrorResponse(request, "Invalid loan type: " + request.getLoanType(),
+                    startTime, new ArrayList<>());
+        }
+
+        List<Policy> activePolicies = snapshot.getActivePolicies(loanType);
+
+        contextArchive.append(request.getApplicationId(), context);
+
+        CompiledPolicySet policySet = policyPlanCache.getPolicySet(loanType, activePolicies);
+        Decision decision = policySetEvaluator.evaluate(policySet, p -> true, context);
+        long duration = System.currentTimeMillis() - startTime;
+
+        log.debug("Decision-only evaluation complete for {}: decision={}, duration={}ms",
+                request.getApplicationId(), decision.overallDecision(), duration);
+
+        return PolicyEvaluationResponse.builder()
+                .overallDecision(decision.overallDecision())
+                .applicationId(request.getApplicationId())
+                .loanType(request.getLoanType())
+                .policiesEvaluated(activePolicies.size())
+                .policiesMatched(decision.policiesMatched())
+                .rulesEvaluated(decision.rulesEvaluated())
+                .rulesMatched(decision.rulesMatched())
+                .triggeredActions(decision.triggeredActions())
+                .evaluatedAt(LocalDateTime.now())
+                .evaluationDurationMs(duration)
+                .build();
+    }
+
+    /**
+     * Evaluate a single policy against the context using its compiled execution plan
      */
     private PolicyMatchResult evaluatePolicy(Policy policy, EvaluationContext context,
                                               List<EvaluationLogEntry> evaluationLog) {
@@ -155,12 +252,16 @@ public class PolicyEvaluationServiceImpl implements PolicyEvaluationService {
         evaluationLog.add(EvaluationLogEntry.info(
                 "Evaluating policy: " + policy.getName() + " [" + policy.getPolicyCode() + "]"));
 
-        List<PolicyRule> enabledRules = policy.getEnabledRules();
-        List<RuleMatchResult> ruleResults = new ArrayList<>();
+        long policyStart = System.nanoTime();
+        CompiledPolicy plan = policyPlanCache.getPlan(policy);
+        List<RuleMatchResult> ruleResults = new ArrayList<>(plan.getRules().size());
         boolean anyRuleMatched = false;
 
-        for (PolicyRule rule : enabledRules) {
-            RuleMatchResult ruleResult = ruleEvaluator.evaluate(rule, context, policy.getPolicyCode());
+        for (CompiledRule rule : plan.getRules()) {
+            long ruleStart = System.nanoTime();
+            RuleMatchResult ruleResult = ruleEvaluator.evaluate(rule, context, plan.getPolicyCode());
+            evaluationMetrics.recordRule(plan.getPolicyCode(), rule.getName(),
+                    System.nanoTime() - ruleStart, ruleResult.isMatched());
             ruleResults.add(ruleResult);
 
             if (ruleResult.isMatched()) {
@@ -173,24 +274,37 @@ public class PolicyEvaluationServiceImpl implements PolicyEvaluationService {
                         "  Rule not matched: " + rule.getName()));
             }
         }
+        for (String prunedRule : plan.getPrunedRules()) {
+            evaluationLog.add(EvaluationLogEntry.info(
+                    "  Rule skipped (can never match): " + prunedRule));
+        }
+        evaluationMetrics.recordPolicy(plan.getPolicyCode(), System.nanoTime() - policyStart);
 
         return PolicyMatchResult.builder()
-                .policyId(policy.getId())
-                .policyCode(policy.getPolicyCode())
-                .policyName(policy.getName())
-                .category(policy.getCategory() != null ? policy.getCategory().name() : null)
-                .priority(policy.getPriority())
+                .policyId(plan.getPolicyId())
+                .policyCode(plan.getPolicyCode())
+                .policyName(plan.getPolicyName())
+                .category(plan.getCategory())
+                .priority(plan.getPriority())
                 .matched(anyRuleMatched)
                 .ruleResults(ruleResults)
                 .build();
     }
 
     /**
-     * Fetch active policies for a loan type, with Redis caching.
+     * Fetch the currently effective active policies for a loan type from the in-process near cache,
+     * falling back to Redis and then the database on a miss.
+     */
+    private List<Policy> getActivePolicies(LoanType loanType) {
+        return activePolicyNearCache.get(loanType, this::loadActivePolicies);
+    }
+
+    /**
+     * Load active policies for a loan type, with Redis caching.
      * Caches the Policy entities directly (not PolicyResponse DTOs).
      */
     @SuppressWarnings("unchecked")
-    private List<Policy> getActivePolicies(LoanType loanType) {
+    private List<Policy> loadActivePolicies(LoanType loanType) {
         String cacheKey = CACHE_ACTIVE_PREFIX + loanType.name();
 
         // Try cache first
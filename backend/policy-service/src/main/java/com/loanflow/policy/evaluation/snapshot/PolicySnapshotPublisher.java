@@ -0,0 +1,249 @@
+package com.loanflow.policy.evaluation.snapshot;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.LoanType;
+import com.loanflow.policy.domain.valueobject.PolicyRule;
+import com.loanflow.policy.evaluation.analysis.PolicyAnalyzer;
+import com.loanflow.policy.repository.PolicyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes {@link PolicySnapshot}s of the active policy set per loan type to Redis, for services
+ * that evaluate in-process with {@link EmbeddedPolicyEngine}.
+ *
+ * Called by PolicyServiceImpl whenever the active set of a loan type changes, and for every loan
+ * type on startup. A change to an ALL-type policy republishes every loan type (ALL policies appear
+ * in every list).
+ *
+ * - Publishing is asynchronous: {@link #publish} queues the loan type (after commit when a
+ *   transaction is active) and a single background thread builds and writes the snapshots, so
+ *   repeated changes to one loan type coalesce into one publish
+ * - A snapshot is written only if its version is greater than the one stored for the loan type
+ *   (compare-and-set in a Lua script), so concurrent publishers never regress the stored snapshot
+ * - Failed publishes are counted, logged and retried after {@code policy.snapshot.retry-seconds};
+ *   consumers keep their previous snapshot meanwhile
+ */
+@Component
+@Slf4j
+public class PolicySnapshotPublisher {
+
+    // Stored snapshot versions per loan type, readable by the script (the snapshots are serialized)
+    static final String STORED_VERSIONS_KEY = PolicySnapshot.REDIS_KEY + ":stored-versions";
+
+    static final RedisScript<Long> STORE_IF_NEWER = RedisScript.of("""
+            local stored = redis.call('HGET', KEYS[2], ARGV[1])
+            if stored and tonumber(stored) >= tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final PolicyRepository policyRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final PolicyAnalyzer policyAnalyzer;
+    private final long retryDelayMillis;
+    private final Counter failures;
+
+    private final Set<LoanType> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService executor;
+
+    public PolicySnapshotPublisher(PolicyRepository policyRepository,
+                                   RedisTemplate<String, Object> redisTemplate,
+                                   PolicyAnalyzer policyAnalyzer,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${policy.snapshot.retry-seconds:5}") long retrySeconds) {
+        this.policyRepository = policyRepository;
+        this.redisTemplate = redisTemplate;
+        this.policyAnalyzer = policyAnalyzer;
+        this.retryDelayMillis = Duration.ofSeconds(retrySeconds).toMillis();
+        this.failures = Counter.builder("policy.snapshot.publish.failures")
+                .description("Policy snapshot publishes that failed and were queued for retry")
+                .register(meterRegistry);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "policy-snapshot-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queue a publish of the snapshot of a loan type (every loan type for ALL).
+     * Inside a transaction the publish is queued once it commits, and dropped on rollback.
+     */
+    public void publish(LoanType loanType) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(loanType);
+                }
+            });
+            return;
+        }
+        enqueue(loanType);
+    }
+
+    /**
+     * Queue a publish of the snapshot of every concrete loan type
+     */
+    public void publishAll() {
+        publish(LoanType.ALL);
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void enqueue(LoanType loanType) {
+        if (loanType == LoanType.ALL) {
+            for (LoanType type : LoanType.values()) {
+                if (type != LoanType.ALL) {
+                    pending.add(type);
+                }
+            }
+        } else {
+            pending.add(loanType);
+        }
+        scheduleDrain(0);
+    }
+
+    private void scheduleDrain(long delayMillis) {
+        if (drainScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::drain, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Publish every queued loan type; failed ones stay queued for a delayed retry
+     */
+    void drain() {
+        drainScheduled.set(false);
+        boolean failed = false;
+        for (LoanType loanType : List.copyOf(pending)) {
+            pending.remove(loanType);
+            if (!publishNow(loanType)) {
+                pending.add(loanType);
+                failed = true;
+            }
+        }
+        if (failed) {
+            scheduleDrain(retryDelayMillis);
+        }
+    }
+
+    /**
+     * Build, store and announce the snapshot of a concrete loan type.
+     * Returns false if the publish failed and should be retried.
+     */
+    boolean publishNow(LoanType loanType) {
+        try {
+            // Versioned after the read, so a snapshot built from older data gets the lower version
+            List<PolicySnapshot.Entry> entries = buildEntries(loanType);
+            PolicySnapshot snapshot = new PolicySnapshot(loanType.name(), nextVersion(), LocalDateTime.now(), entries);
+            if (!storeIfNewer(snapshot)) {
+                log.debug("Skipped policy snapshot v{} for {}: a newer version is already stored",
+                        snapshot.version(), loanType);
+                return true;
+            }
+            redisTemplate.convertAndSend(PolicySnapshot.CHANNEL, loanType.name());
+            log.debug("Published policy snapshot v{} for {} ({} policies)",
+                    snapshot.version(), loanType, snapshot.policies().size());
+            return true;
+        } catch (Exception e) {
+            failures.increment();
+            log.error("Failed to publish policy snapshot for {}, retrying in {} ms: {}",
+                    loanType, retryDelayMillis, e.getMessage());
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean storeIfNewer(PolicySnapshot snapshot) {
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getHashValueSerializer();
+        Long stored = redisTemplate.execute(STORE_IF_NEWER,
+                RedisSerializer.byteArray(),
+                new GenericToStringSerializer<>(Long.class),
+                List.of(PolicySnapshot.REDIS_KEY, STORED_VERSIONS_KEY),
+                snapshot.loanType().getBytes(StandardCharsets.UTF_8),
+                Long.toString(snapshot.version()).getBytes(StandardCharsets.UTF_8),
+                valueSerializer.serialize(snapshot));
+        return stored != null && stored == 1L;
+    }
+
+    /**
+     * Build the snapshot of the active policies for a loan type, in evaluation order
+     */
+    PolicySnapshot buildSnapshot(LoanType loanType, long version) {
+        return new PolicySnapshot(loanType.name(), version, LocalDateTime.now(), buildEntries(loanType));
+    }
+
+    private List<PolicySnapshot.Entry> buildEntries(LoanType loanType) {
+        List<Policy> policies = new ArrayList<>(policyRepository.findActivePoliciesForLoanType(loanType));
+        policies.sort(Comparator.comparingInt(Policy::getPriority));
+
+        // Mutable lists throughout: the Redis serializer records concrete collection types
+        List<PolicySnapshot.Entry> entries = new ArrayList<>(policies.size());
+        for (Policy policy : policies) {
+            entries.add(new PolicySnapshot.Entry(
+                    policy.getId(),
+                    policy.getPolicyCode(),
+                    policy.getName(),
+                    policy.getCategory() != null ? policy.getCategory().name() : null,
+                    policy.getPriority() != null ? policy.getPriority() : 100,
+                    policy.getVersionNumber(),
+                    policy.getLockVersion(),
+                    policy.getEffectiveFrom(),
+                    policy.getEffectiveUntil(),
+                    liveRules(policy)));
+        }
+        return entries;
+    }
+
+    /**
+     * Enabled rules, minus those the analyzer proves can never match (as PolicyCompiler prunes them)
+     */
+    private List<PolicyRule> liveRules(Policy policy) {
+        List<PolicyRule> enabledRules = policy.getEnabledRules();
+        Set<Integer> unsatisfiable = policyAnalyzer.analyze(policy).unsatisfiableRules();
+        List<PolicyRule> rules = new ArrayList<>(enabledRules.size());
+        for (int i = 0; i < enabledRules.size(); i++) {
+            if (!unsatisfiable.contains(i)) {
+                rules.add(enabledRules.get(i));
+            }
+        }
+        return rules;
+    }
+
+    private long nextVersion() {
+        Long version = redisTemplate.opsForValue().increment(PolicySnapshot.VERSION_KEY);
+        return version != null ? version : 0L;
+    }
+}
@@ -2,11 +2,13 @@ package com.loanflow.policy.mapper;
 
 import com.loanflow.dto.request.PolicyRequest;
 import com.loanflow.dto.response.PolicyResponse;
+import com.loanflow.dto.response.PolicySummaryResponse;
 import com.loanflow.policy.domain.aggregate.Policy;
 import com.loanflow.policy.domain.enums.*;
 import com.loanflow.policy.domain.valueobject.Action;
 import com.loanflow.policy.domain.valueobject.Condition;
 import com.loanflow.policy.domain.valueobject.PolicyRule;
+import com.loanflow.policy.repository.PolicySummary;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -54,6 +56,23 @@ public class PolicyMapper {
         return policies.stream().map(this::toResponse).collect(Collectors.toList());
     }
 
+    public PolicySummaryResponse toSummaryResponse(PolicySummary summary) {
+        if (summary == null) return null;
+
+        return PolicySummaryResponse.builder()
+                .id(summary.id())
+                .policyCode(summary.policyCode())
+                .name(summary.name())
+                .category(summary.category() != null ? summary.category().name() : null)
+                .loanType(summary.loanType() != null ? summary.loanType().name() : null)
+                .status(summary.status() != null ? summary.status().name() : null)
+                .versionNumber(summary.versionNumber())
+                .priority(summary.priority())
+                .ruleCount(summary.ruleCount())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
+
     // ==================== Request to Entity ====================
 
     public Policy toEntity(PolicyRequest request) {
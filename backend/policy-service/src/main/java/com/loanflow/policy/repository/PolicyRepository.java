@@ -14,7 +14,8 @@ import java.util.List;
 import java.util.Optional;
 
 /**
- * MongoDB repository for Policy aggregate
+ * MongoDB repository for Policy aggregate.
+ * Text search lives in {@link PolicySearchRepository}.
  */
 @Repository
 public interface PolicyRepository extends MongoRepository<Policy, String> {
@@ -66,12 +67,6 @@ public interface PolicyRepository extends MongoRepository<Policy, String> {
      */
     boolean existsByNameIgnoreCase(String name);
 
-    /**
-     * Search policies by name or description containing text
-     */
-    @Query("{ '$or': [ { 'name': { '$regex': ?0, '$options': 'i' } }, { 'description': { '$regex': ?0, '$options': 'i' } } ] }")
-    Page<Policy> searchByText(String searchText, Pageable pageable);
-
     /**
      * Find policies by category with pagination
      */
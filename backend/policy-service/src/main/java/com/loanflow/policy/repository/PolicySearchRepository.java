@@ -0,0 +1,70 @@
+package com.loanflow.policy.repository;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Relevance-ranked policy search over the policies text index.
+ *
+ * Matches any query term against name (weight 10), tags (5), description (2) and the derived
+ * prefix n-grams (1), ordered by text score; see {@link PolicySearchTerms} for tokenization.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class PolicySearchRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Search policies, best match first
+     */
+    public Page<Policy> search(String text, Pageable pageable) {
+        List<String> terms = PolicySearchTerms.forQuery(text);
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        TextCriteria criteria = TextCriteria.forDefaultLanguage().matchingAny(terms.toArray(String[]::new));
+        Query query = TextQuery.queryText(criteria).sortByScore().with(pageable);
+        List<Policy> policies = mongoTemplate.find(query, Policy.class);
+        return PageableExecutionUtils.getPage(policies, pageable,
+                () -> mongoTemplate.count(TextQuery.queryText(criteria), Policy.class));
+    }
+
+    /**
+     * Derive search terms for policies written before search terms existed.
+     * Updates only the search terms, leaving version and audit fields untouched.
+     *
+     * @return number of policies updated
+     */
+    public long backfillSearchTerms() {
+        Query missing = Query.query(Criteria.where("searchTerms").exists(false));
+        long updated = 0;
+        try (Stream<Policy> policies = mongoTemplate.stream(missing, Policy.class)) {
+            for (Policy policy : (Iterable<Policy>) policies::iterator) {
+                mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(policy.getId())),
+                        Update.update("searchTerms", PolicySearchTerms.forPolicy(policy)), Policy.class);
+                updated++;
+            }
+        }
+        if (updated > 0) {
+            log.info("Backfilled search terms for {} policies", updated);
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,85 @@
+package com.loanflow.policy.repository;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.valueobject.PolicyRule;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Tokenization for policy search.
+ *
+ * Text is lower-cased and split on anything that is not a letter or digit. A policy is indexed
+ * with the prefix n-grams (3..15 characters) of every token in its name, description, tags and
+ * rule names, so a query for "elig" matches "Eligibility". Query tokens are truncated to the
+ * longest indexed prefix, so long query words still match longer indexed words.
+ */
+public final class PolicySearchTerms {
+
+    static final int MIN_GRAM = 3;
+    static final int MAX_GRAM = 15;
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private PolicySearchTerms() {
+    }
+
+    /**
+     * Distinct search terms for a policy, in first-seen order
+     */
+    public static List<String> forPolicy(Policy policy) {
+        Set<String> terms = new LinkedHashSet<>();
+        addPrefixes(terms, policy.getName());
+        addPrefixes(terms, policy.getDescription());
+        if (policy.getTags() != null) {
+            policy.getTags().forEach(tag -> addPrefixes(terms, tag));
+        }
+        if (policy.getRules() != null) {
+            for (PolicyRule rule : policy.getRules()) {
+                addPrefixes(terms, rule.getName());
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * Distinct search terms for a query; empty if the query has no searchable tokens
+     */
+    public static List<String> forQuery(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : tokenize(text)) {
+            terms.add(token.length() > MAX_GRAM ? token.substring(0, MAX_GRAM) : token);
+        }
+        return new ArrayList<>(terms);
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static void addPrefixes(Set<String> terms, String text) {
+        for (String token : tokenize(text)) {
+            if (token.length() <= MIN_GRAM) {
+                terms.add(token);
+                continue;
+            }
+            int longest = Math.min(token.length(), MAX_GRAM);
+            for (int length = MIN_GRAM; length <= longest; length++) {
+                terms.add(token.substring(0, length));
+            }
+        }
+    }
+}
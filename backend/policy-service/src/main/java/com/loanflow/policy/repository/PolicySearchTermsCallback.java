@@ -0,0 +1,18 @@
+package com.loanflow.policy.repository;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Derives {@link Policy#getSearchTerms()} on every save, whichever path wrote the policy
+ */
+@Component
+public class PolicySearchTermsCallback implements BeforeConvertCallback<Policy> {
+
+    @Override
+    public Policy onBeforeConvert(Policy policy, String collection) {
+        policy.setSearchTerms(PolicySearchTerms.forPolicy(policy));
+        return policy;
+    }
+}
@@ -0,0 +1,190 @@
+package com.loanflow.policy.repository;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.PolicyCategory;
+import com.loanflow.policy.domain.enums.PolicyStatus;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Policy counts by status and category, for the admin dashboard.
+ *
+ * Counts are computed by a single $group over the policies collection and materialized into one
+ * document in {@code policy_stats}:
+ * <pre>
+ * { _id: "policy-stats", counts: { ACTIVE: { ELIGIBILITY: 3, PRICING: 1 }, DRAFT: { ... } },
+ *   version: 42, rebuiltAt: ..., updatedAt: ... }
+ * </pre>
+ * Lifecycle changes apply {@code $inc} deltas to the existing document and bump its version; they
+ * never create it. The document is created empty, without {@code rebuiltAt}, and then filled by
+ * {@link #rebuild()}, which only replaces the counts if no delta was applied while it aggregated.
+ * Until that first rebuild succeeds the counts are treated as missing, so deltas recorded during
+ * creation are either in the aggregation or force another attempt, never dropped.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyStatsRepository {
+
+    static final String COLLECTION = "policy_stats";
+    static final String STATS_ID = "policy-stats";
+
+    private static final String COUNTS = "counts";
+    private static final String VERSION = "version";
+    private static final int MAX_REBUILD_ATTEMPTS = 5;
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Count policies by status and category in one pass over the collection
+     */
+    public List<PolicyStatusCount> aggregateCounts() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.group("status", "category").count().as("count"));
+
+        List<PolicyStatusCount> counts = new ArrayList<>();
+        for (Document row : mongoTemplate.aggregate(aggregation, Policy.class, Document.class)) {
+            Document id = row.get("_id", Document.class);
+            String status = id.getString("status");
+            String category = id.getString("category");
+            if (status == null || category == null) {
+                log.warn("Skipping {} policies without status/category in stats", row.get("count"));
+                continue;
+            }
+            counts.add(new PolicyStatusCount(PolicyStatus.valueOf(status), PolicyCategory.valueOf(category),
+                    ((Number) row.get("count")).longValue()));
+        }
+        return counts;
+    }
+
+    /**
+     * Materialized counts, if the stats document exists and has been rebuilt at least once
+     */
+    public Optional<List<PolicyStatusCount>> findCounts() {
+        return Optional.ofNullable(mongoTemplate.findById(STATS_ID, Document.class, COLLECTION))
+                .filter(PolicyStatsRepository::isRebuilt)
+                .map(PolicyStatsRepository::toCounts);
+    }
+
+    /**
+     * Materialized counts, rebuilt first if the stats document does not exist or was never filled.
+     * Existing counts, including ones rebuilt concurrently, are returned as they are.
+     */
+    public List<PolicyStatusCount> createIfMissing() {
+        return findCounts().orElseGet(this::rebuild);
+    }
+
+    /**
+     * Recompute the counts from the policies collection and replace them in the stats document,
+     * creating it empty first if needed. The replace is conditional on the version read before the
+     * aggregation, so a lifecycle change applied meanwhile is not lost; the rebuild is retried instead.
+     */
+    public List<PolicyStatusCount> rebuild() {
+        for (int attempt = 1; attempt <= MAX_REBUILD_ATTEMPTS; attempt++) {
+            Document current = mongoTemplate.findById(STATS_ID, Document.class, COLLECTION);
+            if (current == null) {
+                insertEmpty();
+                continue;
+            }
+
+            Object version = current.get(VERSION);
+            List<PolicyStatusCount> counts = aggregateCounts();
+            Date now = new Date();
+            UpdateResult result = mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(STATS_ID).and(VERSION).is(version)),
+                    new Update()
+                            .set(COUNTS, toDocument(counts))
+                            .inc(VERSION, 1)
+                            .set("rebuiltAt", now)
+                            .set("updatedAt", now), COLLECTION);
+            if (result.getMatchedCount() > 0) {
+                log.info("Rebuilt policy stats from {} status/category groups", counts.size());
+                return counts;
+            }
+            log.debug("Policy stats changed during rebuild attempt {}, retrying", attempt);
+        }
+        throw new IllegalStateException("Policy stats kept changing during rebuild, try again later");
+    }
+
+    /**
+     * Move one policy between status/category buckets.
+     * A null source means the policy was created, a null target that it was deleted.
+     * No-op if the stats document does not exist yet.
+     */
+    public void recordTransition(PolicyStatus fromStatus, PolicyCategory fromCategory,
+                                 PolicyStatus toStatus, PolicyCategory toCategory) {
+        String from = fromStatus != null && fromCategory != null ? path(fromStatus, fromCategory) : null;
+        String to = toStatus != null && toCategory != null ? path(toStatus, toCategory) : null;
+        if (from == null && to == null || from != null && from.equals(to)) {
+            return;
+        }
+
+        Update update = new Update().inc(VERSION, 1).currentDate("updatedAt");
+        if (from != null) {
+            update.inc(from, -1);
+        }
+        if (to != null) {
+            update.inc(to, 1);
+        }
+        mongoTemplate.updateFirst(byId(), update, COLLECTION);
+    }
+
+    /**
+     * Create the stats document with no counts, unless it exists already
+     */
+    private void insertEmpty() {
+        mongoTemplate.upsert(byId(), new Update()
+                .setOnInsert(COUNTS, new Document())
+                .setOnInsert(VERSION, 0L)
+                .setOnInsert("updatedAt", new Date()), COLLECTION);
+    }
+
+    private static boolean isRebuilt(Document stats) {
+        return stats.get("rebuiltAt") != null;
+    }
+
+    private static List<PolicyStatusCount> toCounts(Document stats) {
+        List<PolicyStatusCount> counts = new ArrayList<>();
+        Document byStatus = stats.get(COUNTS, Document.class);
+        if (byStatus != null) {
+            byStatus.forEach((status, byCategory) -> ((Document) byCategory).forEach((category, count) ->
+                    counts.add(new PolicyStatusCount(PolicyStatus.valueOf(status), PolicyCategory.valueOf(category),
+                            Math.max(0, ((Number) count).longValue())))));
+        }
+        return counts;
+    }
+
+    private static Document toDocument(List<PolicyStatusCount> counts) {
+        Document byStatus = new Document();
+        for (PolicyStatusCount count : counts) {
+            Document byCategory = byStatus.get(count.status().name(), Document.class);
+            if (byCategory == null) {
+                byCategory = new Document();
+                byStatus.put(count.status().name(), byCategory);
+            }
+            byCategory.put(count.category().name(), count.count());
+        }
+        return byStatus;
+    }
+
+    private static Query byId() {
+        return Query.query(Criteria.where("_id").is(STATS_ID));
+    }
+
+    private static String path(PolicyStatus status, PolicyCategory category) {
+        return COUNTS + "." + status.name() + "." + category.name();
+    }
+}
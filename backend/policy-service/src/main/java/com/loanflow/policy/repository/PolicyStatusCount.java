@@ -0,0 +1,10 @@
+package com.loanflow.policy.repository;
+
+import com.loanflow.policy.domain.enums.PolicyCategory;
+import com.loanflow.policy.domain.enums.PolicyStatus;
+
+/**
+ * Number of policies with a given status and category
+ */
+public record PolicyStatusCount(PolicyStatus status, PolicyCategory category, long count) {
+}
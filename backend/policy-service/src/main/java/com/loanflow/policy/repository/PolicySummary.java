@@ -0,0 +1,24 @@
+package com.loanflow.policy.repository;
+
+import com.loanflow.policy.domain.enums.LoanType;
+import com.loanflow.policy.domain.enums.PolicyCategory;
+import com.loanflow.policy.domain.enums.PolicyStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a policy for list screens; the rules array is reduced to its size in MongoDB
+ */
+public record PolicySummary(
+        String id,
+        String policyCode,
+        String name,
+        PolicyCategory category,
+        LoanType loanType,
+        PolicyStatus status,
+        Integer versionNumber,
+        Integer priority,
+        int ruleCount,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,111 @@
+package com.loanflow.policy.repository;
+
+import com.loanflow.policy.domain.enums.LoanType;
+import com.loanflow.policy.domain.enums.PolicyCategory;
+import com.loanflow.policy.domain.enums.PolicyStatus;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Keyset-paginated {@link PolicySummary} queries.
+ *
+ * Only the summary fields leave MongoDB: the rules array is reduced to its size server-side.
+ * Pages continue from the last key seen instead of skipping, so a deep page costs the same as
+ * the first one. Queries use the stored field names of the policies collection.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PolicySummaryRepository {
+
+    private static final String COLLECTION = "policies";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Policies in {@code _id} (creation) order, optionally filtered by category
+     *
+     * @param category filter, or null for all categories
+     * @param afterId  last id of the previous page, or null for the first page
+     * @param limit    maximum rows to return
+     */
+    public List<PolicySummary> findAfter(PolicyCategory category, ObjectId afterId, int limit) {
+        Criteria criteria = new Criteria();
+        if (category != null) {
+            criteria.and("category").is(category.name());
+        }
+        if (afterId != null) {
+            criteria.and("_id").gt(afterId);
+        }
+        return query(criteria, Sort.by(Sort.Direction.ASC, "_id"), limit);
+    }
+
+    /**
+     * Versions of a policy, newest first
+     *
+     * @param policyCode    policy code
+     * @param beforeVersion last version number of the previous page, or null for the first page
+     * @param limit         maximum rows to return
+     */
+    public List<PolicySummary> findVersionsBefore(String policyCode, Integer beforeVersion, int limit) {
+        Criteria criteria = Criteria.where("policy_code").is(policyCode);
+        if (beforeVersion != null) {
+            criteria.and("version_number").lt(beforeVersion);
+        }
+        return query(criteria, Sort.by(Sort.Direction.DESC, "version_number"), limit);
+    }
+
+    private List<PolicySummary> query(Criteria criteria, Sort sort, int limit) {
+        AggregationOperation project = Aggregation.project(
+                        "policy_code", "name", "category", "loan_type", "status",
+                        "version_number", "priority", "updated_at")
+                .and(ArrayOperators.Size.lengthOfArray(ConditionalOperators.ifNull("rules").then(List.of())))
+                .as("rule_count");
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.sort(sort),
+                Aggregation.limit(limit),
+                project);
+
+        List<PolicySummary> summaries = new ArrayList<>();
+        for (Document row : mongoTemplate.aggregate(aggregation, COLLECTION, Document.class)) {
+            summaries.add(toSummary(row));
+        }
+        return summaries;
+    }
+
+    private static PolicySummary toSummary(Document row) {
+        Object id = row.get("_id");
+        Date updatedAt = row.getDate("updated_at");
+        return new PolicySummary(
+                id instanceof ObjectId objectId ? objectId.toHexString() : String.valueOf(id),
+                row.getString("policy_code"),
+                row.getString("name"),
+                toEnum(PolicyCategory.class, row.getString("category")),
+                toEnum(LoanType.class, row.getString("loan_type")),
+                toEnum(PolicyStatus.class, row.getString("status")),
+                row.getInteger("version_number"),
+                row.getInteger("priority"),
+                row.getInteger("rule_count", 0),
+                updatedAt != null ? LocalDateTime.ofInstant(updatedAt.toInstant(), ZoneId.systemDefault()) : null);
+    }
+
+    private static <E extends Enum<E>> E toEnum(Class<E> type, String value) {
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+}
@@ -0,0 +1,115 @@
+package com.loanflow.policy.repository;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Startup seeding of pre-built policy templates.
+ *
+ * The checksum of the seeded template set is kept in the {@code seed_checksums} collection, one
+ * document per seed, so a restart with unchanged templates costs a single lookup. Templates are
+ * written with one unordered bulk upsert keyed by name (case-insensitive) whose fields are all
+ * {@code $setOnInsert}: missing templates are inserted, existing ones (possibly edited since) are
+ * left untouched.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PolicyTemplateSeedRepository {
+
+    static final String CHECKSUM_COLLECTION = "seed_checksums";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * SHA-256 over the stored (BSON) form of the templates, in order. Keys are sorted first, since
+     * maps such as action parameters iterate in a different order on every JVM start.
+     */
+    @SuppressWarnings("unchecked")
+    public String checksum(List<Policy> templates) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        for (Policy template : templates) {
+            Document canonical = new Document((Map<String, Object>) canonical(toDocument(template)));
+            digest.update(canonical.toJson().getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Checksum recorded by the last successful run of the seed, or null if it never ran
+     */
+    public String findChecksum(String seed) {
+        Document stored = mongoTemplate.findById(seed, Document.class, CHECKSUM_COLLECTION);
+        return stored != null ? stored.getString("checksum") : null;
+    }
+
+    public void saveChecksum(String seed, String checksum) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(seed)),
+                Update.update("checksum", checksum).set("seeded_at", new Date()), CHECKSUM_COLLECTION);
+    }
+
+    /**
+     * Insert the templates whose name does not exist yet, in one bulk write.
+     * Templates must be fully prepared (code, audit fields, search terms): no save callbacks run.
+     *
+     * @return the templates that were inserted, in input order
+     */
+    public List<Policy> insertMissing(List<Policy> templates) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Policy.class);
+        for (Policy template : templates) {
+            Document document = toDocument(template);
+            document.remove("_id");
+            Update update = new Update();
+            document.forEach(update::setOnInsert);
+            bulk.upsert(Query.query(Criteria.where("name")
+                    .regex("^" + Pattern.quote(template.getName()) + "$", "i")), update);
+        }
+        BulkWriteResult result = bulk.execute();
+        return result.getUpserts().stream()
+                .sorted(Comparator.comparingInt(BulkWriteUpsert::getIndex))
+                .map(upsert -> templates.get(upsert.getIndex()))
+                .toList();
+    }
+
+    private static Object canonical(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            map.forEach((key, nested) -> sorted.put(String.valueOf(key), canonical(nested)));
+            return sorted;
+        }
+        if (value instanceof List<?> list) {
+            return list.stream().map(PolicyTemplateSeedRepository::canonical).toList();
+        }
+        return value;
+    }
+
+    private Document toDocument(Policy policy) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(policy, document);
+        return document;
+    }
+}
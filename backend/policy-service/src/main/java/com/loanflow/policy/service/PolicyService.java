@@ -1,9 +1,12 @@
 package com.loanflow.policy.service;
 
 import com.loanflow.dto.request.PolicyRequest;
+import com.loanflow.dto.response.CursorPageResponse;
 import com.loanflow.dto.response.PolicyResponse;
+import com.loanflow.dto.response.PolicySummaryResponse;
 import com.loanflow.policy.domain.enums.LoanType;
 import com.loanflow.policy.domain.enums.PolicyCategory;
+import com.loanflow.policy.evaluation.dto.PolicyAnalysisReport;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -49,6 +52,11 @@ public interface PolicyService {
      */
     PolicyResponse activate(String id, String modifiedBy);
 
+    /**
+     * Static analysis of a policy's enabled rules (unsatisfiable, redundant, shadowed, overlapping)
+     */
+    PolicyAnalysisReport analyze(String id);
+
     /**
      * Deactivate a policy
      */
@@ -70,7 +78,22 @@ public interface PolicyService {
     Page<PolicyResponse> listByCategory(PolicyCategory category, Pageable pageable);
 
     /**
-     * Search policies by text
+     * List policy summaries in creation order, keyset-paginated
+     *
+     * @param category filter, or null for all categories
+     * @param cursor   nextCursor of the previous page, or null for the first page
+     */
+    CursorPageResponse<PolicySummaryResponse> listSummaries(PolicyCategory category, String cursor, int size);
+
+    /**
+     * List version summaries of a policy, newest first, keyset-paginated
+     *
+     * @param cursor nextCursor of the previous page, or null for the first page
+     */
+    CursorPageResponse<PolicySummaryResponse> getVersionSummaries(String policyCode, String cursor, int size);
+
+    /**
+     * Search policies by name, description, tags and rule names, best match first
      */
     Page<PolicyResponse> search(String searchText, Pageable pageable);
 
@@ -89,6 +112,11 @@ public interface PolicyService {
      */
     PolicyStatsResponse getStats();
 
+    /**
+     * Recompute policy statistics from the policies collection (repairs drift in the stored counts)
+     */
+    PolicyStatsResponse rebuildStats();
+
     /**
      * Inner class for stats response
      */
@@ -1,33 +1,47 @@
 package com.loanflow.policy.service.impl;
 
 import com.loanflow.dto.request.PolicyRequest;
+import com.loanflow.dto.response.CursorPageResponse;
 import com.loanflow.dto.response.PolicyResponse;
+import com.loanflow.dto.response.PolicySummaryResponse;
 import com.loanflow.policy.domain.aggregate.Policy;
 import com.loanflow.policy.domain.enums.LoanType;
 import com.loanflow.policy.domain.enums.PolicyCategory;
 import com.loanflow.policy.domain.enums.PolicyStatus;
+import com.loanflow.policy.evaluation.analysis.PolicyAnalyzer;
+import com.loanflow.policy.evaluation.cache.ActivePolicyNearCache;
+import com.loanflow.policy.evaluation.dto.PolicyAnalysisReport;
+import com.loanflow.policy.evaluation.plan.PolicyPlanCache;
+import com.loanflow.policy.evaluation.snapshot.PolicySnapshotPublisher;
 import com.loanflow.policy.mapper.PolicyMapper;
 import com.loanflow.policy.repository.PolicyRepository;
+import com.loanflow.policy.repository.PolicySearchRepository;
+import com.loanflow.policy.repository.PolicyStatsRepository;
+import com.loanflow.policy.repository.PolicyStatusCount;
+import com.loanflow.policy.repository.PolicySummary;
+import com.loanflow.policy.repository.PolicySummaryRepository;
 import com.loanflow.policy.service.PolicyService;
 import com.loanflow.util.exception.BusinessException;
 import com.loanflow.util.exception.DuplicateResourceException;
 import com.loanflow.util.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
- * Implementation of PolicyService with MongoDB persistence and Redis caching
+ * Implementation of PolicyService with MongoDB persistence and Redis caching.
+ * Lifecycle changes keep the materialized policy stats in step (see {@link PolicyStatsRepository}).
  */
 @Service
 @RequiredArgsConstructor
@@ -37,10 +51,19 @@ public class PolicyServiceImpl implements PolicyService {
     private final PolicyRepository policyRepository;
     private final PolicyMapper policyMapper;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final PolicyPlanCache policyPlanCache;
+    private final ActivePolicyNearCache activePolicyNearCache;
+    private final PolicySnapshotPublisher policySnapshotPublisher;
+    private final PolicyAnalyzer policyAnalyzer;
+    private final PolicyStatsRepository policyStatsRepository;
+    private final PolicySearchRepository policySearchRepository;
+    private final PolicySummaryRepository policySummaryRepository;
 
     private static final String CACHE_PREFIX = "policy:";
     private static final String CACHE_ACTIVE_PREFIX = "policy:active:";
+    private static final String CACHE_ACTIVE_ENTITIES_PREFIX = "policy:active:entities:";
     private static final Duration CACHE_TTL = Duration.ofMinutes(30);
+    private static final int MAX_SUMMARY_PAGE_SIZE = 100;
 
     // ==================== CRUD Operations ====================
 
@@ -58,6 +81,7 @@ public class PolicyServiceImpl implements PolicyService {
         policy.setModifiedBy(createdBy);
 
         Policy saved = policyRepository.save(policy);
+        recordStatsTransition(null, null, saved.getStatus(), saved.getCategory());
         log.info("Created policy: {} (code: {})", saved.getId(), saved.getPolicyCode());
 
         return policyMapper.toResponse(saved);
@@ -109,11 +133,13 @@ public class PolicyServiceImpl implements PolicyService {
                     "Cannot update an " + policy.getStatus() + " policy. Create a new version instead.");
         }
 
+        PolicyCategory previousCategory = policy.getCategory();
         policyMapper.updateEntity(policy, request);
         policy.setModifiedBy(modifiedBy);
 
         Policy saved = policyRepository.save(policy);
         evictCache(id);
+        recordStatsTransition(saved.getStatus(), previousCategory, saved.getStatus(), saved.getCategory());
 
         log.info("Updated policy: {} (v{})", saved.getPolicyCode(), saved.getVersionNumber());
         return policyMapper.toResponse(saved);
@@ -129,8 +155,11 @@ public class PolicyServiceImpl implements PolicyService {
         if (currentPolicy.getStatus() == PolicyStatus.ACTIVE) {
             currentPolicy.archive();
             policyRepository.save(currentPolicy);
+            policyPlanCache.refresh(currentPolicy);
             evictCache(id);
             evictActiveCache(currentPolicy.getLoanType());
+            recordStatsTransition(PolicyStatus.ACTIVE, currentPolicy.getCategory(),
+                    PolicyStatus.ARCHIVED, currentPolicy.getCategory());
         }
 
         // Create new version
@@ -139,6 +168,7 @@ public class PolicyServiceImpl implements PolicyService {
         newVersion.setModifiedBy(createdBy);
 
         Policy saved = policyRepository.save(newVersion);
+        recordStatsTransition(null, null, saved.getStatus(), saved.getCategory());
         log.info("Created new version: {} v{}", saved.getPolicyCode(), saved.getVersionNumber());
 
         return policyMapper.toResponse(saved);
@@ -149,28 +179,40 @@ public class PolicyServiceImpl implements PolicyService {
         log.info("Activating policy: {} by {}", id, modifiedBy);
 
         Policy policy = findPolicyById(id);
+        PolicyStatus previousStatus = policy.getStatus();
         policy.activate(); // Throws if no rules
         policy.setModifiedBy(modifiedBy);
 
         Policy saved = policyRepository.save(policy);
+        policyPlanCache.refresh(saved);
         evictCache(id);
         evictActiveCache(policy.getLoanType());
+        recordStatsTransition(previousStatus, policy.getCategory(), saved.getStatus(), saved.getCategory());
 
         log.info("Activated policy: {} v{}", saved.getPolicyCode(), saved.getVersionNumber());
+        logAnalysisFindings(saved);
         return policyMapper.toResponse(saved);
     }
 
+    @Override
+    public PolicyAnalysisReport analyze(String id) {
+        return policyAnalyzer.analyze(findPolicyById(id));
+    }
+
     @Override
     public PolicyResponse deactivate(String id, String modifiedBy) {
         log.info("Deactivating policy: {} by {}", id, modifiedBy);
 
         Policy policy = findPolicyById(id);
+        PolicyStatus previousStatus = policy.getStatus();
         policy.deactivate();
         policy.setModifiedBy(modifiedBy);
 
         Policy saved = policyRepository.save(policy);
+        policyPlanCache.refresh(saved);
         evictCache(id);
         evictActiveCache(policy.getLoanType());
+        recordStatsTransition(previousStatus, policy.getCategory(), saved.getStatus(), saved.getCategory());
 
         log.info("Deactivated policy: {} v{}", saved.getPolicyCode(), saved.getVersionNumber());
         return policyMapper.toResponse(saved);
@@ -189,6 +231,7 @@ public class PolicyServiceImpl implements PolicyService {
 
         policyRepository.delete(policy);
         evictCache(id);
+        recordStatsTransition(policy.getStatus(), policy.getCategory(), null, null);
         log.info("Deleted policy: {} (code: {})", id, policy.getPolicyCode());
     }
 
@@ -204,9 +247,43 @@ public class PolicyServiceImpl implements PolicyService {
         return policyRepository.findByCategory(category, pageable).map(policyMapper::toResponse);
     }
 
+    @Override
+    public CursorPageResponse<PolicySummaryResponse> listSummaries(PolicyCategory category, String cursor, int size) {
+        ObjectId afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            if (!ObjectId.isValid(cursor)) {
+                throw BusinessException.invalidOperation("Invalid cursor: " + cursor);
+            }
+            afterId = new ObjectId(cursor);
+        }
+
+        int limit = summaryPageSize(size);
+        List<PolicySummary> rows = policySummaryRepository.findAfter(category, afterId, limit + 1);
+        return toCursorPage(rows, limit, PolicySummary::id);
+    }
+
+    @Override
+    public CursorPageResponse<PolicySummaryResponse> getVersionSummaries(String policyCode, String cursor, int size) {
+        Integer beforeVersion = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                beforeVersion = Integer.valueOf(cursor);
+            } catch (NumberFormatException e) {
+                throw BusinessException.invalidOperation("Invalid cursor: " + cursor);
+            }
+        }
+
+        int limit = summaryPageSize(size);
+        List<PolicySummary> rows = policySummaryRepository.findVersionsBefore(policyCode, beforeVersion, limit + 1);
+        if (rows.isEmpty() && beforeVersion == null) {
+            throw new ResourceNotFoundException("Policy not found with code: " + policyCode);
+        }
+        return toCursorPage(rows, limit, summary -> String.valueOf(summary.versionNumber()));
+    }
+
     @Override
     public Page<PolicyResponse> search(String searchText, Pageable pageable) {
-        return policyRepository.searchByText(searchText, pageable).map(policyMapper::toResponse);
+        return policySearchRepository.search(searchText, pageable).map(policyMapper::toResponse);
     }
 
     @Override
@@ -241,16 +318,39 @@ public class PolicyServiceImpl implements PolicyService {
 
     @Override
     public PolicyStatsResponse getStats() {
-        long total = policyRepository.count();
-        long active = countByStatus(PolicyStatus.ACTIVE);
-        long draft = countByStatus(PolicyStatus.DRAFT);
-        long inactive = countByStatus(PolicyStatus.INACTIVE);
+        // Materialized counts; created from a single aggregation if the stats document is missing
+        List<PolicyStatusCount> counts = policyStatsRepository.findCounts()
+                .orElseGet(policyStatsRepository::createIfMissing);
+        return toStatsResponse(counts);
+    }
 
+    @Override
+    public PolicyStatsResponse rebuildStats() {
+        log.info("Rebuilding policy stats on request");
+        return toStatsResponse(policyStatsRepository.rebuild());
+    }
+
+    private static PolicyStatsResponse toStatsResponse(List<PolicyStatusCount> counts) {
+        long total = 0;
+        long active = 0;
+        long draft = 0;
+        long inactive = 0;
         Map<String, Long> byCategory = new HashMap<>();
-        for (PolicyCategory cat : PolicyCategory.values()) {
-            long count = policyRepository.countByCategoryAndStatus(cat, PolicyStatus.ACTIVE);
-            if (count > 0) {
-                byCategory.put(cat.name(), count);
+        for (PolicyStatusCount count : counts) {
+            if (count.count() <= 0) {
+                continue;
+            }
+            total += count.count();
+            switch (count.status()) {
+                case ACTIVE -> {
+                    active += count.count();
+                    byCategory.merge(count.category().name(), count.count(), Long::sum);
+                }
+                case DRAFT -> draft += count.count();
+                case INACTIVE -> inactive += count.count();
+                default -> {
+                    // ARCHIVED only contributes to the total
+                }
             }
         }
 
@@ -264,10 +364,41 @@ public class PolicyServiceImpl implements PolicyService {
                 .orElseThrow(() -> new ResourceNotFoundException("Policy not found with id: " + id));
     }
 
-    private long countByStatus(PolicyStatus status) {
-        return Arrays.stream(PolicyCategory.values())
-                .mapToLong(cat -> policyRepository.countByCategoryAndStatus(cat, status))
-                .sum();
+    /**
+     * Report static analysis findings for a newly activated policy; unsatisfiable rules are already
+     * pruned from its plan, the rest is for the author to act on
+     */
+    private void logAnalysisFindings(Policy policy) {
+        PolicyAnalysisReport analysis = policyAnalyzer.analyze(policy);
+        for (PolicyAnalysisReport.RuleFinding finding : analysis.getFindings()) {
+            log.warn("Policy {} v{} rule '{}': {} - {}", policy.getPolicyCode(), policy.getVersionNumber(),
+                    finding.getRuleName(), finding.getType(), finding.getMessage());
+        }
+    }
+
+    private static int summaryPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SUMMARY_PAGE_SIZE));
+    }
+
+    /**
+     * Build a cursor page from up to limit + 1 rows; the extra row only signals that another page exists
+     */
+    private CursorPageResponse<PolicySummaryResponse> toCursorPage(List<PolicySummary> rows, int limit,
+                                                                   Function<PolicySummary, String> cursorOf) {
+        boolean hasNext = rows.size() > limit;
+        List<PolicySummary> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return CursorPageResponse.of(page.stream().map(policyMapper::toSummaryResponse).toList(), limit, nextCursor);
+    }
+
+    private void recordStatsTransition(PolicyStatus fromStatus, PolicyCategory fromCategory,
+                                       PolicyStatus toStatus, PolicyCategory toCategory) {
+        try {
+            policyStatsRepository.recordTransition(fromStatus, fromCategory, toStatus, toCategory);
+        } catch (Exception e) {
+            log.warn("Policy stats update failed ({} {} -> {} {}): {}",
+                    fromStatus, fromCategory, toStatus, toCategory, e.getMessage());
+        }
     }
 
     private PolicyResponse getCachedResponse(String cacheKey) {
@@ -300,8 +431,23 @@ public class PolicyServiceImpl implements PolicyService {
             // Evict specific loan type cache and ALL cache
             redisTemplate.delete(CACHE_ACTIVE_PREFIX + loanType.name());
             redisTemplate.delete(CACHE_ACTIVE_PREFIX + "ALL");
+
+            // Evict evaluation entity caches; ALL policies appear in every loan type's list
+            if (loanType == LoanType.ALL) {
+                for (LoanType type : LoanType.values()) {
+                    redisTemplate.delete(CACHE_ACTIVE_ENTITIES_PREFIX + type.name());
+                }
+            } else {
+                redisTemplate.delete(CACHE_ACTIVE_ENTITIES_PREFIX + loanType.name());
+            }
         } catch (Exception e) {
             log.warn("Redis active cache eviction failed: {}", e.getMessage());
         }
+
+        // Invalidate near caches on this and every other node
+        activePolicyNearCache.publishInvalidation(loanType);
+
+        // Republish (asynchronously) the snapshot evaluated in-process by other services
+        policySnapshotPublisher.publish(loanType);
     }
 }
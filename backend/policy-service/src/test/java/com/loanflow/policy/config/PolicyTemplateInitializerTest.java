@@ -3,16 +3,20 @@ package com.loanflow.policy.config;
 import com.loanflow.policy.domain.aggregate.Policy;
 import com.loanflow.policy.domain.enums.*;
 import com.loanflow.policy.domain.valueobject.PolicyRule;
-import com.loanflow.policy.repository.PolicyRepository;
+import com.loanflow.policy.repository.PolicyStatsRepository;
+import com.loanflow.policy.repository.PolicyTemplateSeedRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.DefaultApplicationArguments;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -26,8 +30,13 @@ import static org.mockito.Mockito.*;
 @DisplayName("PolicyTemplateInitializer Tests")
 class PolicyTemplateInitializerTest {
 
+    private static final String CHECKSUM = "0123456789abcdef0123456789abcdef";
+
+    @Mock
+    private PolicyTemplateSeedRepository seedRepository;
+
     @Mock
-    private PolicyRepository policyRepository;
+    private PolicyStatsRepository policyStatsRepository;
 
     @InjectMocks
     private PolicyTemplateInitializer initializer;
@@ -37,38 +46,114 @@ class PolicyTemplateInitializerTest {
     class TemplateInitialization {
 
         @Test
-        @DisplayName("Should create all 3 templates when none exist")
-        void shouldCreateAllTemplatesWhenNoneExist() {
-            when(policyRepository.existsByNameIgnoreCase(anyString())).thenReturn(false);
-            when(policyRepository.save(any(Policy.class))).thenAnswer(inv -> inv.getArgument(0));
+        @DisplayName("Should insert all 3 templates in one bulk write and record the checksum on first run")
+        void shouldSeedAllTemplatesOnFirstRun() {
+            when(seedRepository.checksum(anyList())).thenReturn(CHECKSUM);
+            when(seedRepository.findChecksum(PolicyTemplateInitializer.SEED_NAME)).thenReturn(null);
+            when(seedRepository.insertMissing(anyList())).thenAnswer(inv -> inv.getArgument(0));
 
             initializer.run(new DefaultApplicationArguments());
 
-            verify(policyRepository, times(3)).save(any(Policy.class));
+            ArgumentCaptor<List<Policy>> captor = ArgumentCaptor.forClass(List.class);
+            verify(seedRepository, times(1)).insertMissing(captor.capture());
+            verify(seedRepository).saveChecksum(PolicyTemplateInitializer.SEED_NAME, CHECKSUM);
+            assertEquals(3, captor.getValue().size());
         }
 
         @Test
-        @DisplayName("Should skip all templates when they already exist")
-        void shouldSkipAllTemplatesWhenExist() {
-            when(policyRepository.existsByNameIgnoreCase(anyString())).thenReturn(true);
+        @DisplayName("Should prepare templates as a repository save would")
+        void shouldPrepareTemplatesForBulkWrite() {
+            when(seedRepository.checksum(anyList())).thenReturn(CHECKSUM);
+            when(seedRepository.insertMissing(anyList())).thenAnswer(inv -> inv.getArgument(0));
 
             initializer.run(new DefaultApplicationArguments());
 
-            verify(policyRepository, never()).save(any(Policy.class));
+            ArgumentCaptor<List<Policy>> captor = ArgumentCaptor.forClass(List.class);
+            verify(seedRepository).insertMissing(captor.capture());
+            for (Policy template : captor.getValue()) {
+                assertNotNull(template.getPolicyCode());
+                assertEquals("system", template.getCreatedBy());
+                assertNotNull(template.getCreatedAt());
+                assertEquals(0L, template.getLockVersion());
+                assertFalse(template.getSearchTerms().isEmpty());
+            }
         }
 
         @Test
-        @DisplayName("Should create only missing templates")
-        void shouldCreateOnlyMissingTemplates() {
-            // Personal Loan exists, Home Loan and KCC don't
-            when(policyRepository.existsByNameIgnoreCase("Personal Loan - Eligibility Template")).thenReturn(true);
-            when(policyRepository.existsByNameIgnoreCase("Home Loan - Eligibility Template")).thenReturn(false);
-            when(policyRepository.existsByNameIgnoreCase("KCC - Eligibility Template")).thenReturn(false);
-            when(policyRepository.save(any(Policy.class))).thenAnswer(inv -> inv.getArgument(0));
+        @DisplayName("Should skip seeding entirely when the checksum is unchanged")
+        void shouldSkipWhenChecksumUnchanged() {
+            when(seedRepository.checksum(anyList())).thenReturn(CHECKSUM);
+            when(seedRepository.findChecksum(PolicyTemplateInitializer.SEED_NAME)).thenReturn(CHECKSUM);
 
             initializer.run(new DefaultApplicationArguments());
 
-            verify(policyRepository, times(2)).save(any(Policy.class));
+            verify(seedRepository, never()).insertMissing(anyList());
+            verify(seedRepository, never()).saveChecksum(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should reseed when the templates changed and record the new checksum")
+        void shouldReseedWhenChecksumChanged() {
+            when(seedRepository.checksum(anyList())).thenReturn(CHECKSUM);
+            when(seedRepository.findChecksum(PolicyTemplateInitializer.SEED_NAME)).thenReturn("previous");
+            when(seedRepository.insertMissing(anyList())).thenReturn(List.of());
+
+            initializer.run(new DefaultApplicationArguments());
+
+            verify(seedRepository).insertMissing(anyList());
+            verify(seedRepository).saveChecksum(PolicyTemplateInitializer.SEED_NAME, CHECKSUM);
+            verifyNoInteractions(policyStatsRepository);
+        }
+
+        @Test
+        @DisplayName("Should add each newly inserted template to the policy stats as a DRAFT")
+        void shouldRecordInsertedTemplatesInStats() {
+            when(seedRepository.checksum(anyList())).thenReturn(CHECKSUM);
+            when(seedRepository.findChecksum(PolicyTemplateInitializer.SEED_NAME)).thenReturn("previous");
+            when(seedRepository.insertMissing(anyList())).thenAnswer(inv -> List.of(inv.<List<Policy>>getArgument(0).get(2)));
+
+            initializer.run(new DefaultApplicationArguments());
+
+            verify(policyStatsRepository, times(1))
+                    .recordTransition(null, null, PolicyStatus.DRAFT, PolicyCategory.ELIGIBILITY);
+            verifyNoMoreInteractions(policyStatsRepository);
+        }
+
+        @Test
+        @DisplayName("Should still record the checksum when the stats update fails")
+        void shouldToleratePolicyStatsFailure() {
+            when(seedRepository.checksum(anyList())).thenReturn(CHECKSUM);
+            when(seedRepository.insertMissing(anyList())).thenAnswer(inv -> inv.getArgument(0));
+            doThrow(new RuntimeException("Mongo down")).when(policyStatsRepository)
+                    .recordTransition(any(), any(), any(), any());
+
+            initializer.run(new DefaultApplicationArguments());
+
+            verify(seedRepository).saveChecksum(PolicyTemplateInitializer.SEED_NAME, CHECKSUM);
+            verify(policyStatsRepository, times(3)).recordTransition(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should not record the checksum when the bulk write fails")
+        void shouldNotRecordChecksumOnFailure() {
+            when(seedRepository.checksum(anyList())).thenReturn(CHECKSUM);
+            when(seedRepository.insertMissing(anyList())).thenThrow(new RuntimeException("Mongo down"));
+
+            assertThrows(RuntimeException.class, () -> initializer.run(new DefaultApplicationArguments()));
+            verify(seedRepository, never()).saveChecksum(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should build fresh instances of every template without touching the repository")
+        void shouldBuildFreshTemplateInstances() {
+            List<Policy> first = initializer.buildTemplates();
+            List<Policy> second = initializer.buildTemplates();
+
+            assertEquals(3, first.size());
+            assertEquals(List.of(LoanType.PERSONAL_LOAN, LoanType.HOME_LOAN, LoanType.KCC),
+                    first.stream().map(Policy::getLoanType).toList());
+            assertNotSame(first.get(0), second.get(0));
+            verifyNoInteractions(seedRepository);
         }
     }
 
@@ -0,0 +1,98 @@
+package com.loanflow.policy.config;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.*;
+import com.loanflow.policy.domain.valueobject.Condition;
+import com.loanflow.policy.domain.valueobject.PolicyRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for the Redis value serializer configured by RedisConfig.
+ * Format, fallback and truncation cases are covered by CompactRedisSerializerTest in common-utils.
+ */
+@DisplayName("RedisConfig Tests")
+class RedisConfigTest {
+
+    private final RedisConfig redisConfig = new RedisConfig();
+
+    @Nested
+    @DisplayName("Value Serializer")
+    class ValueSerializer {
+
+        @Test
+        @DisplayName("Should round-trip cached policies including date fields")
+        @SuppressWarnings("unchecked")
+        void shouldRoundTripCachedPolicies() {
+            RedisSerializer<Object> serializer = valueSerializer(true, 1024);
+            List<Policy> policies = new ArrayList<>(List.of(policy("POL-1"), policy("POL-2")));
+
+            List<Policy> restored = (List<Policy>) serializer.deserialize(serializer.serialize(policies));
+
+            assertEquals(2, restored.size());
+            assertEquals("POL-1", restored.get(0).getPolicyCode());
+            assertEquals(policies.get(0).getEffectiveFrom(), restored.get(0).getEffectiveFrom());
+            assertEquals(1, restored.get(0).getEnabledRules().size());
+            assertEquals(ConditionOperator.GREATER_THAN_OR_EQUAL,
+                    restored.get(0).getRules().get(0).getConditions().get(0).getOperator());
+        }
+
+        @Test
+        @DisplayName("Should round-trip cached policies while writes are still JSON")
+        void shouldRoundTripCachedPoliciesAsJson() {
+            RedisSerializer<Object> serializer = valueSerializer(false, 1024);
+
+            byte[] bytes = serializer.serialize(policy("POL-1"));
+            Policy restored = (Policy) serializer.deserialize(bytes);
+
+            assertEquals('{', bytes[0]);
+            assertEquals("POL-1", restored.getPolicyCode());
+            assertEquals(LocalDateTime.of(2026, 1, 1, 0, 0), restored.getEffectiveFrom());
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Object> valueSerializer(boolean binaryWrites, int compressionThreshold) {
+        return (RedisSerializer<Object>) redisConfig
+                .redisTemplate(mock(RedisConnectionFactory.class), binaryWrites, compressionThreshold)
+                .getValueSerializer();
+    }
+
+    private Policy policy(String code) {
+        PolicyRule rule = PolicyRule.builder()
+                .name("Minimum CIBIL")
+                .priority(10)
+                .enabled(true)
+                .logicalOperator(LogicalOperator.AND)
+                .conditions(new ArrayList<>(List.of(Condition.builder()
+                        .field("applicant.cibilScore")
+                        .operator(ConditionOperator.GREATER_THAN_OR_EQUAL)
+                        .value("650")
+                        .build())))
+                .actions(new ArrayList<>())
+                .build();
+        return Policy.builder()
+                .policyCode(code)
+                .name("Personal Loan Eligibility " + code)
+                .category(PolicyCategory.ELIGIBILITY)
+                .loanType(LoanType.PERSONAL_LOAN)
+                .status(PolicyStatus.ACTIVE)
+                .effectiveFrom(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .tags(new ArrayList<>(List.of("personal-loan", "eligibility")))
+                .rules(new ArrayList<>(List.of(rule)))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
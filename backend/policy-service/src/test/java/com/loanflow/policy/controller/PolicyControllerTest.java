@@ -3,9 +3,16 @@ package com.loanflow.policy.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.loanflow.dto.request.PolicyRequest;
+import com.loanflow.dto.response.CursorPageResponse;
 import com.loanflow.dto.response.PolicyResponse;
+import com.loanflow.dto.response.PolicySummaryResponse;
+import com.loanflow.policy.domain.enums.PolicyCategory;
+import com.loanflow.policy.evaluation.dto.BacktestReport;
+import com.loanflow.policy.evaluation.dto.PolicyAnalysisReport;
 import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
 import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse;
+import com.loanflow.policy.evaluation.service.PolicyBacktestService;
+import com.loanflow.policy.evaluation.service.PolicyBatchEvaluationService;
 import com.loanflow.policy.evaluation.service.PolicyEvaluationService;
 import com.loanflow.policy.service.PolicyService;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,6 +69,12 @@ class PolicyControllerTest {
     @MockBean
     private PolicyEvaluationService policyEvaluationService;
 
+    @MockBean
+    private PolicyBatchEvaluationService policyBatchEvaluationService;
+
+    @MockBean
+    private PolicyBacktestService policyBacktestService;
+
     @MockBean
     private JwtDecoder jwtDecoder;
 
@@ -286,6 +299,30 @@ class PolicyControllerTest {
                     .andExpect(jsonPath("$.data.totalElements").value(1));
         }
 
+        @Test
+        @DisplayName("GET /summaries - should list policy summaries with a next cursor")
+        void shouldListSummaries() throws Exception {
+            PolicySummaryResponse summary = PolicySummaryResponse.builder()
+                    .id("65f000000000000000000001")
+                    .policyCode("POL-2026-000001")
+                    .name("Personal Loan Eligibility")
+                    .status("ACTIVE")
+                    .ruleCount(4)
+                    .build();
+            when(policyService.listSummaries(PolicyCategory.ELIGIBILITY, null, 1))
+                    .thenReturn(CursorPageResponse.of(List.of(summary), 1, "65f000000000000000000001"));
+
+            mockMvc.perform(get("/api/v1/policies/summaries")
+                            .param("category", "eligibility")
+                            .param("size", "1")
+                            .with(jwt().jwt(j -> j
+                                    .claim("realm_access", Map.of("roles", List.of("ADMIN"))))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content[0].ruleCount").value(4))
+                    .andExpect(jsonPath("$.data.nextCursor").value("65f000000000000000000001"))
+                    .andExpect(jsonPath("$.data.hasNext").value(true));
+        }
+
         @Test
         @DisplayName("GET /active/{loanType} - should get active policies for loan type")
         void shouldGetActivePolicies() throws Exception {
@@ -335,7 +372,7 @@ class PolicyControllerTest {
                     .rulesMatched(2)
                     .build();
 
-            when(policyEvaluationService.evaluate(any(PolicyEvaluationRequest.class)))
+            when(policyEvaluationService.evaluate(any(PolicyEvaluationRequest.class), eq(true), eq(true)))
                     .thenReturn(evalResponse);
 
             PolicyEvaluationRequest request = PolicyEvaluationRequest.builder()
@@ -362,7 +399,71 @@ class PolicyControllerTest {
                     .andExpect(jsonPath("$.data.policiesEvaluated").value(2))
                     .andExpect(jsonPath("$.data.policiesMatched").value(1));
 
-            verify(policyEvaluationService).evaluate(any(PolicyEvaluationRequest.class));
+            verify(policyEvaluationService).evaluate(any(PolicyEvaluationRequest.class), eq(true), eq(true));
+        }
+
+        @Test
+        @DisplayName("should pass explain=false through for decision-only evaluation")
+        void shouldEvaluateDecisionOnly() throws Exception {
+            PolicyEvaluationResponse evalResponse = PolicyEvaluationResponse.builder()
+                    .overallDecision("REJECTED")
+                    .applicationId("APP-002")
+                    .loanType("PERSONAL_LOAN")
+                    .build();
+
+            when(policyEvaluationService.evaluate(any(PolicyEvaluationRequest.class), eq(false), eq(true)))
+                    .thenReturn(evalResponse);
+
+            PolicyEvaluationRequest request = PolicyEvaluationRequest.builder()
+                    .applicationId("APP-002")
+                    .loanType("PERSONAL_LOAN")
+                    .requestedAmount(BigDecimal.valueOf(300000))
+                    .tenureMonths(24)
+                    .cibilScore(400)
+                    .build();
+
+            mockMvc.perform(post("/api/v1/policies/evaluate")
+                            .param("explain", "false")
+                            .with(jwt().jwt(j -> j
+                                    .claim("realm_access", Map.of("roles", List.of("LOAN_OFFICER")))))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.overallDecision").value("REJECTED"));
+
+            verify(policyEvaluationService).evaluate(any(PolicyEvaluationRequest.class), eq(false), eq(true));
+        }
+
+        @Test
+        @DisplayName("should bypass the result memo when X-Bypass-Cache is set")
+        void shouldBypassResultMemo() throws Exception {
+            PolicyEvaluationResponse evalResponse = PolicyEvaluationResponse.builder()
+                    .overallDecision("REJECTED")
+                    .applicationId("APP-003")
+                    .loanType("PERSONAL_LOAN")
+                    .build();
+
+            when(policyEvaluationService.evaluate(any(PolicyEvaluationRequest.class), eq(true), eq(false)))
+                    .thenReturn(evalResponse);
+
+            PolicyEvaluationRequest request = PolicyEvaluationRequest.builder()
+                    .applicationId("APP-003")
+                    .loanType("PERSONAL_LOAN")
+                    .requestedAmount(BigDecimal.valueOf(300000))
+                    .tenureMonths(24)
+                    .cibilScore(400)
+                    .build();
+
+            mockMvc.perform(post("/api/v1/policies/evaluate")
+                            .header("X-Bypass-Cache", "true")
+                            .with(jwt().jwt(j -> j
+                                    .claim("realm_access", Map.of("roles", List.of("UNDERWRITER")))))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.overallDecision").value("REJECTED"));
+
+            verify(policyEvaluationService).evaluate(any(PolicyEvaluationRequest.class), eq(true), eq(false));
         }
 
         @Test
@@ -381,4 +482,63 @@ class PolicyControllerTest {
                     .andExpect(status().isBadRequest());
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/v1/policies/{id}/backtest")
+    class Backtest {
+
+        @Test
+        @DisplayName("should return the backtest report for a draft policy")
+        void shouldReturnBacktestReport() throws Exception {
+            BacktestReport report = BacktestReport.builder()
+                    .policyId("policy-1")
+                    .policyCode("POL-001")
+                    .contextsScanned(1000)
+                    .contextsReplayed(400)
+                    .decisionsChanged(12)
+                    .decisionFlips(Map.of("APPROVED->REJECTED", 12L))
+                    .build();
+            when(policyBacktestService.backtest("policy-1", 5000L)).thenReturn(report);
+
+            mockMvc.perform(post("/api/v1/policies/policy-1/backtest")
+                            .param("maxContexts", "5000")
+                            .with(jwt().jwt(j -> j
+                                    .claim("realm_access", Map.of("roles", List.of("ADMIN"))))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.decisionsChanged").value(12))
+                    .andExpect(jsonPath("$.data.decisionFlips['APPROVED->REJECTED']").value(12));
+
+            verify(policyBacktestService).backtest("policy-1", 5000L);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/policies/{id}/analysis")
+    class Analysis {
+
+        @Test
+        @DisplayName("should return the static analysis findings of a policy")
+        void shouldReturnAnalysisReport() throws Exception {
+            PolicyAnalysisReport report = PolicyAnalysisReport.builder()
+                    .policyCode("POL-001")
+                    .rulesAnalyzed(3)
+                    .findings(List.of(PolicyAnalysisReport.RuleFinding.builder()
+                            .type(PolicyAnalysisReport.FindingType.UNSATISFIABLE)
+                            .ruleIndex(2)
+                            .ruleName("Impossible Age")
+                            .field("applicant.age")
+                            .message("No value of applicant.age satisfies ...")
+                            .build()))
+                    .build();
+            when(policyService.analyze("policy-1")).thenReturn(report);
+
+            mockMvc.perform(get("/api/v1/policies/policy-1/analysis")
+                            .with(jwt().jwt(j -> j
+                                    .claim("realm_access", Map.of("roles", List.of("SUPERVISOR"))))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.rulesAnalyzed").value(3))
+                    .andExpect(jsonPath("$.data.findings[0].type").value("UNSATISFIABLE"))
+                    .andExpect(jsonPath("$.data.findings[0].ruleName").value("Impossible Age"));
+        }
+    }
 }
@@ -307,6 +307,22 @@ class PolicyTest {
             policy.activate();
             assertFalse(policy.isEffective());
         }
+
+        @Test
+        @DisplayName("Should report the next effective window boundary")
+        void shouldReportNextEffectiveBoundary() {
+            LocalDateTime from = LocalDateTime.of(2026, 4, 1, 0, 0);
+            LocalDateTime until = LocalDateTime.of(2026, 9, 30, 23, 59, 59);
+            Policy policy = createPolicyWithRule();
+            policy.setEffectiveFrom(from);
+            policy.setEffectiveUntil(until);
+
+            assertEquals(from, policy.nextEffectiveBoundary(from.minusDays(1)));
+            assertEquals(until.plusNanos(1), policy.nextEffectiveBoundary(from));
+            assertTrue(policy.isWithinEffectiveWindow(until));
+            assertFalse(policy.isWithinEffectiveWindow(until.plusNanos(1)));
+            assertNull(policy.nextEffectiveBoundary(until.plusNanos(1)));
+        }
     }
 
     // ==================== Helper Methods ====================
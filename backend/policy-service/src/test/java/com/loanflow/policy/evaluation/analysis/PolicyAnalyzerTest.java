@@ -0,0 +1,282 @@
+package com.loanflow.policy.evaluation.analysis;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.*;
+import com.loanflow.policy.domain.valueobject.Action;
+import com.loanflow.policy.domain.valueobject.Condition;
+import com.loanflow.policy.domain.valueobject.PolicyRule;
+import com.loanflow.policy.evaluation.dto.PolicyAnalysisReport;
+import com.loanflow.policy.evaluation.dto.PolicyAnalysisReport.FindingType;
+import com.loanflow.policy.evaluation.dto.PolicyAnalysisReport.RuleFinding;
+import com.loanflow.policy.evaluation.plan.CompiledCondition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PolicyAnalyzer, NumericInterval and IntervalTree
+ */
+@DisplayName("PolicyAnalyzer Tests")
+class PolicyAnalyzerTest {
+
+    private PolicyAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        analyzer = new PolicyAnalyzer();
+    }
+
+    @Nested
+    @DisplayName("Unsatisfiable Rules")
+    class Unsatisfiable {
+
+        @Test
+        @DisplayName("Should detect disjoint numeric ranges on one field")
+        void shouldDetectDisjointRanges() {
+            PolicyAnalysisReport report = analyzer.analyze(policy(
+                    rule("Valid", 10, ActionType.APPROVE, gte("applicant.cibilScore", "750")),
+                    rule("Impossible Age", 20, ActionType.REJECT,
+                            gte("applicant.age", "60"), lt("applicant.age", "21"))));
+
+            assertEquals(Set.of(1), report.unsatisfiableRules());
+            RuleFinding finding = only(report, FindingType.UNSATISFIABLE);
+            assertEquals("Impossible Age", finding.getRuleName());
+            assertEquals("applicant.age", finding.getField());
+        }
+
+        @Test
+        @DisplayName("Should treat touching exclusive bounds as empty and inclusive ones as satisfiable")
+        void shouldRespectBoundInclusiveness() {
+            PolicyAnalysisReport report = analyzer.analyze(policy(
+                    rule("Exclusive", 10, ActionType.REJECT, gt("applicant.age", "60"), lte("applicant.age", "60")),
+                    rule("Inclusive", 20, ActionType.REJECT, gte("applicant.age", "60"), lte("applicant.age", "60"))));
+
+            assertEquals(Set.of(0), report.unsatisfiableRules());
+        }
+
+        @Test
+        @DisplayName("Should detect an unparseable numeric threshold")
+        void shouldDetectUnparseableThreshold() {
+            PolicyAnalysisReport report = analyzer.analyze(policy(
+                    rule("Typo", 10, ActionType.REJECT, gt("applicant.cibilScore", "abc"))));
+
+            assertEquals(Set.of(0), report.unsatisfiableRules());
+            assertTrue(only(report, FindingType.UNSATISFIABLE).getMessage().contains("not a number"));
+        }
+
+        @Test
+        @DisplayName("Should detect conflicting text equalities")
+        void shouldDetectConflictingTextEquals() {
+            PolicyAnalysisReport report = analyzer.analyze(policy(
+                    rule("Both", 10, ActionType.REFER,
+                            eq("applicant.employmentType", "SALARIED"), eq("applicant.employmentType", "BUSINESS"))));
+
+            assertEquals(Set.of(0), report.unsatisfiableRules());
+        }
+
+        @Test
+        @DisplayName("Should flag an OR rule only when none of its conditions can pass")
+        void shouldFlagDeadOrRule() {
+            PolicyRule dead = rule("Dead OR", 10, ActionType.REJECT,
+                    gt("applicant.age", "abc"), between("applicant.age", "60", "21"));
+            dead.setLogicalOperator(LogicalOperator.OR);
+            PolicyRule alive = rule("Alive OR", 20, ActionType.REJECT,
+                    gt("applicant.age", "abc"), gte("applicant.age", "60"));
+            alive.setLogicalOperator(LogicalOperator.OR);
+
+            PolicyAnalysisReport report = analyzer.analyze(policy(dead, alive));
+
+            assertEquals(Set.of(0), report.unsatisfiableRules());
+        }
+    }
+
+    @Nested
+    @DisplayName("Redundant Conditions")
+    class Redundant {
+
+        @Test
+        @DisplayName("Should report a condition implied by a tighter one")
+        void shouldReportImpliedCondition() {
+            PolicyAnalysisReport report = analyzer.analyze(policy(
+                    rule("Prime", 10, ActionType.APPROVE,
+                            gte("applicant.cibilScore", "750"), gt("applicant.cibilScore", "700"))));
+
+            RuleFinding finding = only(report, FindingType.REDUNDANT_CONDITION);
+            assertTrue(finding.getMessage().contains("applicant.cibilScore GREATER_THAN 700"));
+            assertTrue(report.unsatisfiableRules().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should report only one of two identical conditions")
+        void shouldReportOneOfDuplicates() {
+            PolicyAnalysisReport report = analyzer.analyze(policy(
+                    rule("Duplicate", 10, ActionType.APPROVE,
+                            gte("applicant.cibilScore", "750"), gte("applicant.cibilScore", "750"))));
+
+            assertEquals(1, count(report, FindingType.REDUNDANT_CONDITION));
+        }
+    }
+
+    @Nested
+    @DisplayName("Shadowed Rules")
+    class Shadowed {
+
+        @Test
+        @DisplayName("Should report a rule whose matches are covered by a higher-priority rule with the same action")
+        void shouldReportShadowedRule() {
+            PolicyAnalysisReport report = analyzer.analyze(policy(
+                    rule("Low CIBIL", 10, ActionType.REJECT, lt("applicant.cibilScore", "650")),
+                    rule("Very Low CIBIL", 20, ActionType.REJECT,
+                            lt("applicant.cibilScore", "500"), eq("applicant.employmentType", "SALARIED"))));
+
+            RuleFinding finding = only(report, FindingType.SHADOWED);
+            assertEquals("Very Low CIBIL", finding.getRuleName());
+            assertEquals("Low CIBIL", finding.getRelatedRuleName());
+        }
+
+        @Test
+        @DisplayName("Should not report a rule whose range is wider than the higher-priority rule's")
+        void shouldNotReportWiderRule() {
+            PolicyAnalysisReport report = analyzer.analyze(policy(
+                    rule("Very Low CIBIL", 10, ActionType.REJECT, lt("applicant.cibilScore", "500")),
+                    rule("Low CIBIL", 20, ActionType.REJECT, lt("applicant.cibilScore", "650"))));
+
+            assertEquals(0, count(report, FindingType.SHADOWED));
+        }
+
+        @Test
+        @DisplayName("Should never report accumulating actions as shadowed")
+        void shouldNotShadowAccumulatingActions() {
+            PolicyAnalysisReport report = analyzer.analyze(policy(
+                    rule("Salary Slips", 10, ActionType.REQUIRE_DOCUMENT, gte("loan.amount", "500000")),
+                    rule("ITR", 20, ActionType.REQUIRE_DOCUMENT, gte("loan.amount", "1000000"))));
+
+            assertEquals(0, count(report, FindingType.SHADOWED));
+        }
+    }
+
+    @Nested
+    @DisplayName("Overlapping Rules")
+    class Overlapping {
+
+        @Test
+        @DisplayName("Should report rules with different decisions whose ranges intersect")
+        void shouldReportConflictingDecisions() {
+            PolicyAnalysisReport report = analyzer.analyze(policy(
+                    rule("Approve Good", 10, ActionType.APPROVE, gte("applicant.cibilScore", "700")),
+                    rule("Reject Mid", 20, ActionType.REJECT, between("applicant.cibilScore", "600", "720"))));
+
+            RuleFinding finding = only(report, FindingType.OVERLAPPING);
+            assertEquals("Reject Mid", finding.getRuleName());
+            assertEquals("Approve Good", finding.getRelatedRuleName());
+            assertTrue(finding.getMessage().contains("[700, 720]"));
+        }
+
+        @Test
+        @DisplayName("Should not report rules that exclude each other on another field")
+        void shouldNotReportExclusiveRules() {
+            PolicyAnalysisReport report = analyzer.analyze(policy(
+                    rule("Approve Salaried", 10, ActionType.APPROVE,
+                            gte("applicant.cibilScore", "700"), eq("applicant.employmentType", "SALARIED")),
+                    rule("Reject Business", 20, ActionType.REJECT,
+                            gte("applicant.cibilScore", "650"), eq("applicant.employmentType", "BUSINESS"))));
+
+            assertEquals(0, count(report, FindingType.OVERLAPPING));
+        }
+    }
+
+    @Nested
+    @DisplayName("Interval Tree")
+    class IntervalTreeQueries {
+
+        @Test
+        @DisplayName("Should find stored intervals containing or overlapping a query")
+        void shouldAnswerContainmentAndOverlapQueries() {
+            IntervalTree<String> tree = IntervalTree.build(List.of(
+                    new IntervalTree.Entry<>(interval(gte("x", "0")), "x>=0"),
+                    new IntervalTree.Entry<>(interval(between("x", "10", "20")), "10..20"),
+                    new IntervalTree.Entry<>(interval(lt("x", "5")), "x<5"),
+                    new IntervalTree.Entry<>(interval(gt("x", "30")), "x>30")));
+
+            NumericInterval query = interval(between("x", "12", "15"));
+
+            assertEquals(Set.of("x>=0", "10..20"), Set.copyOf(tree.containing(query)));
+            assertEquals(Set.of("x>=0", "x<5"), Set.copyOf(tree.overlapping(interval(between("x", "3", "4")))));
+            assertTrue(tree.overlapping(interval(between("x", "21", "30"))).contains("x>=0"));
+            assertFalse(tree.overlapping(interval(between("x", "21", "30"))).contains("x>30"));
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    private RuleFinding only(PolicyAnalysisReport report, FindingType type) {
+        List<RuleFinding> findings = report.getFindings().stream().filter(f -> f.getType() == type).toList();
+        assertEquals(1, findings.size(), "Expected exactly one " + type + " finding: " + report.getFindings());
+        return findings.get(0);
+    }
+
+    private long count(PolicyAnalysisReport report, FindingType type) {
+        return report.getFindings().stream().filter(f -> f.getType() == type).count();
+    }
+
+    private NumericInterval interval(Condition condition) {
+        return NumericInterval.of(CompiledCondition.compile(condition));
+    }
+
+    private Policy policy(PolicyRule... rules) {
+        return Policy.builder()
+                .policyCode("POL-2026-000001")
+                .name("Analyzed Policy")
+                .category(PolicyCategory.ELIGIBILITY)
+                .loanType(LoanType.PERSONAL_LOAN)
+                .status(PolicyStatus.DRAFT)
+                .versionNumber(1)
+                .rules(new ArrayList<>(List.of(rules)))
+                .build();
+    }
+
+    private PolicyRule rule(String name, int priority, ActionType action, Condition... conditions) {
+        return PolicyRule.builder()
+                .name(name)
+                .logicalOperator(LogicalOperator.AND)
+                .conditions(new ArrayList<>(List.of(conditions)))
+                .actions(new ArrayList<>(List.of(Action.builder().type(action).build())))
+                .priority(priority)
+                .build();
+    }
+
+    private Condition gt(String field, String value) {
+        return condition(field, ConditionOperator.GREATER_THAN, value);
+    }
+
+    private Condition gte(String field, String value) {
+        return condition(field, ConditionOperator.GREATER_THAN_OR_EQUAL, value);
+    }
+
+    private Condition lt(String field, String value) {
+        return condition(field, ConditionOperator.LESS_THAN, value);
+    }
+
+    private Condition lte(String field, String value) {
+        return condition(field, ConditionOperator.LESS_THAN_OR_EQUAL, value);
+    }
+
+    private Condition eq(String field, String value) {
+        return condition(field, ConditionOperator.EQUALS, value);
+    }
+
+    private Condition between(String field, String min, String max) {
+        return Condition.builder().field(field).operator(ConditionOperator.BETWEEN).minValue(min).maxValue(max).build();
+    }
+
+    private Condition condition(String field, ConditionOperator operator, String value) {
+        return Condition.builder().field(field).operator(operator).value(value).build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.loanflow.policy.evaluation.backtest;
+
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ContextArchive and its columnar block encoding
+ */
+@DisplayName("ContextArchive Tests")
+class ContextArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should round-trip contexts with their value types preserved")
+    void shouldRoundTripContexts() throws IOException {
+        ContextArchive archive = archive(2);
+        archive.append("APP-001", new EvaluationContext()
+                .put("loan.type", "PERSONAL_LOAN")
+                .put("loan.requestedAmount", new BigDecimal("500000.00"))
+                .put("applicant.cibilScore", 750)
+                .put("applicant.custom", 7.5));
+        archive.append("APP-002", new EvaluationContext()
+                .put("loan.type", "HOME_LOAN")
+                .put("applicant.cibilScore", -20));
+        archive.append("APP-003", new EvaluationContext().put("loan.type", "PERSONAL_LOAN"));
+        archive.close();
+
+        List<ArchivedContext> rows = readAll(archive);
+
+        assertEquals(3, rows.size());
+        assertEquals("APP-001", rows.get(0).applicationId());
+        EvaluationContext first = rows.get(0).context();
+        assertEquals("500000.00", first.get("loan.requestedAmount"));
+        assertEquals("750", first.get("applicant.cibilScore"));
+        assertEquals(7.5, first.getAsNumber("applicant.custom"));
+        assertEquals(4, first.size());
+
+        EvaluationContext second = rows.get(1).context();
+        assertEquals("HOME_LOAN", second.get("loan.type"));
+        assertEquals("-20", second.get("applicant.cibilScore"));
+        assertFalse(second.hasField("loan.requestedAmount"));
+        assertEquals("APP-003", rows.get(2).applicationId());
+    }
+
+    @Test
+    @DisplayName("Should stop at a truncated trailing block")
+    void shouldStopAtTruncatedBlock() throws IOException {
+        ContextArchive archive = archive(1);
+        archive.append("APP-001", new EvaluationContext().put("loan.type", "PERSONAL_LOAN"));
+        archive.close();
+
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        Files.write(segment, new byte[]{0x4C, 0x46}, StandardOpenOption.APPEND);
+
+        assertEquals(1, readAll(archive).size());
+    }
+
+    @Test
+    @DisplayName("Should write nothing when disabled")
+    void shouldWriteNothingWhenDisabled() throws IOException {
+        ContextArchive archive = new ContextArchive(false, directory.toString(), 1, 1, 60, 30, 4096, 8);
+        archive.append("APP-001", new EvaluationContext().put("loan.type", "PERSONAL_LOAN"));
+        archive.close();
+
+        assertEquals(0, archive.forEachBlock(block -> true));
+    }
+
+    @Test
+    @DisplayName("Should require a directory when enabled")
+    void shouldRequireDirectoryWhenEnabled() {
+        assertThrows(IllegalStateException.class, () -> new ContextArchive(true, " ", 1, 1, 60, 30, 4096, 8));
+    }
+
+    @Test
+    @DisplayName("Should store decimal fields as numeric columns")
+    void shouldStoreDecimalsAsNumbers() throws IOException {
+        ContextArchive archive = archive(3);
+        archive.append("APP-001", new EvaluationContext().put("applicant.monthlyIncome", new BigDecimal("85000.50")));
+        archive.append("APP-002", new EvaluationContext().put("applicant.monthlyIncome", 92000));
+        archive.append("APP-003", new EvaluationContext().put("applicant.monthlyIncome", new BigDecimal("1E+5")));
+        archive.close();
+
+        List<ArchivedContext> rows = readAll(archive);
+
+        List<Object> incomes = new ArrayList<>();
+        rows.forEach(row -> row.context().forEach((field, value) -> incomes.add(value)));
+        assertEquals(List.of(new BigDecimal("85000.50"), new BigDecimal("92000"), new BigDecimal("1E+5")), incomes);
+        assertEquals("85000.50", rows.get(0).context().get("applicant.monthlyIncome"));
+        assertEquals("1E+5", rows.get(2).context().get("applicant.monthlyIncome"));
+    }
+
+    @Test
+    @DisplayName("Should archive the context as it was appended, not as the evaluation leaves it")
+    void shouldArchiveCopyOfContext() throws IOException {
+        ContextArchive archive = archive(2);
+        EvaluationContext context = new EvaluationContext().put("loan.type", "PERSONAL_LOAN");
+        archive.append("APP-001", context);
+        context.put("applicant.cibilScore", 750);
+        archive.close();
+
+        List<ArchivedContext> rows = readAll(archive);
+
+        assertEquals(1, rows.size());
+        assertFalse(rows.get(0).context().hasField("applicant.cibilScore"));
+    }
+
+    @Test
+    @DisplayName("Should write a partial block when the flush interval passes without traffic")
+    void shouldFlushOnSchedule() throws Exception {
+        ContextArchive archive = new ContextArchive(true, directory.toString(), 100, 1, 1, 30, 4096, 8);
+        archive.append("APP-001", new EvaluationContext().put("loan.type", "PERSONAL_LOAN"));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (archive.forEachBlock(block -> true) == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(1, archive.forEachBlock(block -> true));
+        archive.close();
+    }
+
+    @Test
+    @DisplayName("Should delete segments past the retention period or over the size limit")
+    void shouldPruneSegments() throws IOException {
+        long now = System.currentTimeMillis();
+        Path expired = segment(now - Duration.ofDays(31).toMillis(), 10);
+        Path oldest = segment(now - Duration.ofDays(3).toMillis(), 700 * 1024);
+        Path newest = segment(now - Duration.ofDays(1).toMillis(), 700 * 1024);
+
+        ContextArchive archive = new ContextArchive(true, directory.toString(), 100, 1, 60, 30, 1, 8);
+        archive.prune();
+        archive.close();
+
+        assertFalse(Files.exists(expired));
+        assertFalse(Files.exists(oldest));
+        assertTrue(Files.exists(newest));
+    }
+
+    private Path segment(long stamp, int size) throws IOException {
+        Path path = directory.resolve(ContextArchive.SEGMENT_PREFIX + stamp + ContextArchive.SEGMENT_SUFFIX);
+        return Files.write(path, new byte[size]);
+    }
+
+    private ContextArchive archive(int blockRows) {
+        return new ContextArchive(true, directory.toString(), blockRows, 1, 60, 30, 4096, 8);
+    }
+
+    private List<ArchivedContext> readAll(ContextArchive archive) throws IOException {
+        List<ArchivedContext> rows = new ArrayList<>();
+        archive.forEachBlock(rows::addAll);
+        return rows;
+    }
+}
@@ -0,0 +1,248 @@
+package com.loanflow.policy.evaluation.cache;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.LoanType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ActivePolicyNearCache
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivePolicyNearCache Tests")
+class ActivePolicyNearCacheTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ActivePolicyNearCache nearCache;
+    private AtomicInteger loads;
+    private Function<LoanType, List<Policy>> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nearCache = new ActivePolicyNearCache(redisTemplate, meterRegistry, 300);
+        loads = new AtomicInteger();
+        loader = type -> {
+            loads.incrementAndGet();
+            return List.of(Policy.builder().policyCode("POL-" + type).loanType(type).build());
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        nearCache.close();
+    }
+
+    @Test
+    @DisplayName("Should load once and count hits and misses")
+    void shouldLoadOnceAndCountHitsAndMisses() {
+        List<Policy> first = nearCache.get(LoanType.PERSONAL_LOAN, loader);
+        List<Policy> second = nearCache.get(LoanType.PERSONAL_LOAN, loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("policy.cache.near.requests").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("policy.cache.near.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should invalidate locally and publish to other nodes")
+    void shouldPublishInvalidation() {
+        nearCache.get(LoanType.PERSONAL_LOAN, loader);
+
+        nearCache.publishInvalidation(LoanType.PERSONAL_LOAN);
+        nearCache.get(LoanType.PERSONAL_LOAN, loader);
+
+        assertEquals(2, loads.get());
+        verify(redisTemplate).convertAndSend(ActivePolicyNearCache.INVALIDATION_CHANNEL, "PERSONAL_LOAN");
+    }
+
+    @Test
+    @DisplayName("Should invalidate every loan type when an ALL policy changes")
+    void shouldInvalidateAllLoanTypes() {
+        nearCache.get(LoanType.PERSONAL_LOAN, loader);
+        nearCache.get(LoanType.HOME_LOAN, loader);
+
+        nearCache.onInvalidationMessage("ALL");
+        nearCache.get(LoanType.PERSONAL_LOAN, loader);
+        nearCache.get(LoanType.HOME_LOAN, loader);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not cache a load that raced with an invalidation")
+    void shouldNotCacheRacingLoad() {
+        nearCache.get(LoanType.PERSONAL_LOAN, type -> {
+            nearCache.invalidate(type);
+            return loader.apply(type);
+        });
+        nearCache.get(LoanType.PERSONAL_LOAN, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should run a single load for concurrent misses on the same loan type")
+    void shouldShareConcurrentLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<LoanType, List<Policy>> slowLoader = type -> {
+            loading.countDown();
+            await(release);
+            return loader.apply(type);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<List<Policy>> leader = executor.submit(() -> nearCache.get(LoanType.PERSONAL_LOAN, slowLoader));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            List<Future<List<Policy>>> followers = List.of(
+                    executor.submit(() -> nearCache.get(LoanType.PERSONAL_LOAN, slowLoader)),
+                    executor.submit(() -> nearCache.get(LoanType.PERSONAL_LOAN, slowLoader)),
+                    executor.submit(() -> nearCache.get(LoanType.PERSONAL_LOAN, slowLoader)));
+            Thread.sleep(100);
+            release.countDown();
+
+            List<Policy> loaded = leader.get(5, TimeUnit.SECONDS);
+            for (Future<List<Policy>> follower : followers) {
+                assertSame(loaded, follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should start a fresh load for callers arriving after an invalidation")
+    void shouldNotJoinLoadStartedBeforeInvalidation() {
+        nearCache.get(LoanType.PERSONAL_LOAN, type -> {
+            nearCache.invalidate(type);
+            nearCache.get(type, loader);
+            return loader.apply(type);
+        });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should propagate a failed load to every waiting caller and not cache it")
+    void shouldPropagateLoadFailure() {
+        assertThrows(IllegalStateException.class, () -> nearCache.get(LoanType.PERSONAL_LOAN, type -> {
+            throw new IllegalStateException("DB down");
+        }));
+
+        nearCache.get(LoanType.PERSONAL_LOAN, loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should still invalidate locally when publishing fails")
+    void shouldInvalidateWhenPublishFails() {
+        doThrow(new RuntimeException("Redis down"))
+                .when(redisTemplate).convertAndSend(anyString(), any());
+        nearCache.get(LoanType.PERSONAL_LOAN, loader);
+
+        assertDoesNotThrow(() -> nearCache.publishInvalidation(LoanType.PERSONAL_LOAN));
+        nearCache.get(LoanType.PERSONAL_LOAN, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should serve only policies inside their effective window")
+    void shouldFilterByEffectiveWindow() {
+        Policy current = Policy.builder().policyCode("POL-CURRENT").build();
+        Policy expired = Policy.builder().policyCode("POL-EXPIRED")
+                .effectiveUntil(LocalDateTime.now().minusDays(1)).build();
+        Policy future = Policy.builder().policyCode("POL-FUTURE")
+                .effectiveFrom(LocalDateTime.now().plusDays(1)).build();
+
+        List<Policy> policies = nearCache.get(LoanType.PERSONAL_LOAN, type -> List.of(current, expired, future));
+
+        assertEquals(List.of(current), policies);
+    }
+
+    @Test
+    @DisplayName("Should bump the version when a TTL reload changes the effective policies")
+    void shouldBumpVersionOnChangedReload() {
+        ActivePolicyNearCache expiring = new ActivePolicyNearCache(redisTemplate, meterRegistry, 0);
+        try {
+            Policy base = Policy.builder().policyCode("POL-BASE").build();
+            Policy added = Policy.builder().policyCode("POL-ADDED").build();
+
+            expiring.get(LoanType.PERSONAL_LOAN, type -> List.of(base));
+            long loaded = expiring.getVersion();
+
+            expiring.get(LoanType.PERSONAL_LOAN, type -> List.of(Policy.builder().policyCode("POL-BASE").build()));
+            assertEquals(loaded, expiring.getVersion());
+
+            expiring.get(LoanType.PERSONAL_LOAN, type -> List.of(base, added));
+            assertTrue(expiring.getVersion() > loaded);
+        } finally {
+            expiring.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should swap in newly effective policies at the boundary without reloading")
+    void shouldSwapAtEffectiveBoundary() throws InterruptedException {
+        LocalDateTime boundary = LocalDateTime.now().plusNanos(200_000_000);
+        Policy current = Policy.builder().policyCode("POL-CURRENT")
+                .effectiveUntil(boundary.minusNanos(1)).build();
+        Policy upcoming = Policy.builder().policyCode("POL-UPCOMING")
+                .effectiveFrom(boundary).build();
+        Function<LoanType, List<Policy>> boundaryLoader = type -> {
+            loads.incrementAndGet();
+            return List.of(current, upcoming);
+        };
+
+        assertEquals(List.of(current), nearCache.get(LoanType.PERSONAL_LOAN, boundaryLoader));
+        long version = nearCache.getVersion();
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (nearCache.getVersion() == version && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(List.of(upcoming), nearCache.get(LoanType.PERSONAL_LOAN, boundaryLoader));
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("policy.cache.near.boundary.swaps").counter().count());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
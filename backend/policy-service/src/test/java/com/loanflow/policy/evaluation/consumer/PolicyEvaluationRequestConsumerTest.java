@@ -0,0 +1,184 @@
+package com.loanflow.policy.evaluation.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loanflow.policy.config.RabbitMQConfig;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse;
+import com.loanflow.policy.evaluation.service.PolicyBatchEvaluationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PolicyEvaluationRequestConsumer
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyEvaluationRequestConsumer Tests")
+class PolicyEvaluationRequestConsumerTest {
+
+    @Mock
+    private PolicyBatchEvaluationService batchEvaluationService;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PolicyEvaluationRequestConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new PolicyEvaluationRequestConsumer(batchEvaluationService, rabbitTemplate, new ObjectMapper(),
+                meterRegistry, false);
+    }
+
+    @Nested
+    @DisplayName("Batch Handling")
+    class BatchHandling {
+
+        @Test
+        @DisplayName("Should evaluate the batch once and publish each result keyed by application ID")
+        @SuppressWarnings("unchecked")
+        void shouldPublishResultsKeyedByApplicationId() throws Exception {
+            when(batchEvaluationService.evaluateAll(anyList(), eq(false))).thenAnswer(inv -> approveAll(inv.getArgument(0)));
+
+            consumer.handleEvaluationBatch(List.of(message("APP-1", "corr-1"), message("APP-2", null)));
+
+            ArgumentCaptor<List<PolicyEvaluationRequest>> batch = ArgumentCaptor.forClass(List.class);
+            verify(batchEvaluationService, times(1)).evaluateAll(batch.capture(), eq(false));
+            assertEquals(2, batch.getValue().size());
+
+            ArgumentCaptor<MessagePostProcessor> postProcessor = ArgumentCaptor.forClass(MessagePostProcessor.class);
+            verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.RESULT_EXCHANGE), eq("APP-1"),
+                    any(PolicyEvaluationResponse.class), postProcessor.capture());
+            verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.RESULT_EXCHANGE), eq("APP-2"),
+                    any(PolicyEvaluationResponse.class), any(MessagePostProcessor.class));
+
+            Message reply = postProcessor.getValue().postProcessMessage(new Message(new byte[0], new MessageProperties()));
+            assertEquals("corr-1", reply.getMessageProperties().getCorrelationId());
+            assertEquals(2.0, meterRegistry.get("policy.evaluation.async.batch.size").summary().totalAmount());
+        }
+
+        @Test
+        @DisplayName("Should dead-letter unreadable messages and evaluate the rest")
+        @SuppressWarnings("unchecked")
+        void shouldDeadLetterUnreadableMessages() throws Exception {
+            when(batchEvaluationService.evaluateAll(anyList(), eq(false))).thenAnswer(inv -> approveAll(inv.getArgument(0)));
+            Message garbage = new Message("{not json".getBytes(StandardCharsets.UTF_8), new MessageProperties());
+
+            consumer.handleEvaluationBatch(List.of(garbage, message("APP-1", null)));
+
+            ArgumentCaptor<List<PolicyEvaluationRequest>> batch = ArgumentCaptor.forClass(List.class);
+            verify(batchEvaluationService).evaluateAll(batch.capture(), eq(false));
+            assertEquals("APP-1", batch.getValue().get(0).getApplicationId());
+            assertEquals(1.0, meterRegistry.get("policy.evaluation.async.unreadable").counter().count());
+            verify(rabbitTemplate).send(RabbitMQConfig.DLQ_EXCHANGE, RabbitMQConfig.DLQ_ROUTING_KEY, garbage);
+            assertNotNull(garbage.getMessageProperties().getHeader(PolicyEvaluationRequestConsumer.EXCEPTION_HEADER));
+            verify(rabbitTemplate, times(1)).convertAndSend(anyString(), anyString(), any(Object.class),
+                    any(MessagePostProcessor.class));
+        }
+
+        @Test
+        @DisplayName("Should dead-letter a JSON null message and evaluate the rest")
+        @SuppressWarnings("unchecked")
+        void shouldDeadLetterNullMessage() throws Exception {
+            when(batchEvaluationService.evaluateAll(anyList(), eq(false))).thenAnswer(inv -> approveAll(inv.getArgument(0)));
+            Message nullBody = new Message("null".getBytes(StandardCharsets.UTF_8), new MessageProperties());
+
+            consumer.handleEvaluationBatch(List.of(message("APP-1", null), nullBody));
+
+            ArgumentCaptor<List<PolicyEvaluationRequest>> batch = ArgumentCaptor.forClass(List.class);
+            verify(batchEvaluationService).evaluateAll(batch.capture(), eq(false));
+            assertEquals(1, batch.getValue().size());
+            assertEquals(1.0, meterRegistry.get("policy.evaluation.async.unreadable").counter().count());
+            verify(rabbitTemplate).send(RabbitMQConfig.DLQ_EXCHANGE, RabbitMQConfig.DLQ_ROUTING_KEY, nullBody);
+            verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.RESULT_EXCHANGE), eq("APP-1"),
+                    any(Object.class), any(MessagePostProcessor.class));
+        }
+
+        @Test
+        @DisplayName("Should reject the whole batch when an unreadable message cannot be dead-lettered")
+        void shouldRejectBatchWhenDeadLetterFails() {
+            Message garbage = new Message("{not json".getBytes(StandardCharsets.UTF_8), new MessageProperties());
+            doThrow(new AmqpException("channel closed")).when(rabbitTemplate)
+                    .send(anyString(), anyString(), any(Message.class));
+
+            assertThrows(AmqpRejectAndDontRequeueException.class,
+                    () -> consumer.handleEvaluationBatch(List.of(message("APP-1", null), garbage)));
+            verifyNoInteractions(batchEvaluationService);
+        }
+
+        @Test
+        @DisplayName("Should dead-letter only the requests whose result could not be published")
+        void shouldDeadLetterOnlyUnpublishedResults() throws Exception {
+            when(batchEvaluationService.evaluateAll(anyList(), eq(false))).thenAnswer(inv -> approveAll(inv.getArgument(0)));
+            doAnswer(inv -> {
+                if ("APP-2".equals(inv.getArgument(1))) {
+                    throw new AmqpException("channel closed");
+                }
+                return null;
+            }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(MessagePostProcessor.class));
+            Message unpublished = message("APP-2", null);
+
+            consumer.handleEvaluationBatch(List.of(message("APP-1", null), unpublished, message("APP-3", null)));
+
+            verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.RESULT_EXCHANGE), eq("APP-1"),
+                    any(Object.class), any(MessagePostProcessor.class));
+            verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.RESULT_EXCHANGE), eq("APP-3"),
+                    any(Object.class), any(MessagePostProcessor.class));
+            verify(rabbitTemplate, times(1)).send(anyString(), anyString(), any(Message.class));
+            verify(rabbitTemplate).send(RabbitMQConfig.DLQ_EXCHANGE, RabbitMQConfig.DLQ_ROUTING_KEY, unpublished);
+            assertEquals(1.0, meterRegistry.get("policy.evaluation.async.publish.failures").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should reject the batch to the dead letter queue when evaluation fails")
+        void shouldRejectFailedBatch() throws Exception {
+            when(batchEvaluationService.evaluateAll(anyList(), anyBoolean())).thenThrow(new IOException("interrupted"));
+
+            assertThrows(AmqpRejectAndDontRequeueException.class,
+                    () -> consumer.handleEvaluationBatch(List.of(message("APP-1", null))));
+            verifyNoInteractions(rabbitTemplate);
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    private Message message(String applicationId, String correlationId) {
+        String json = "{\"applicationId\":\"" + applicationId + "\",\"loanType\":\"PERSONAL_LOAN\","
+                + "\"requestedAmount\":500000,\"tenureMonths\":36,\"cibilScore\":750}";
+        MessageProperties properties = new MessageProperties();
+        properties.setCorrelationId(correlationId);
+        return new Message(json.getBytes(StandardCharsets.UTF_8), properties);
+    }
+
+    private List<PolicyEvaluationResponse> approveAll(List<PolicyEvaluationRequest> requests) {
+        return requests.stream()
+                .map(request -> PolicyEvaluationResponse.builder()
+                        .overallDecision("APPROVED")
+                        .applicationId(request.getApplicationId())
+                        .loanType(request.getLoanType())
+                        .build())
+                .toList();
+    }
+}
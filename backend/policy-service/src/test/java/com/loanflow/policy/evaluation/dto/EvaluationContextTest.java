@@ -0,0 +1,73 @@
+package com.loanflow.policy.evaluation.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the slot-indexed EvaluationContext
+ */
+@DisplayName("EvaluationContext Tests")
+class EvaluationContextTest {
+
+    @Test
+    @DisplayName("Should keep numbers numeric without a string round-trip")
+    void shouldKeepNumbersNumeric() {
+        EvaluationContext context = new EvaluationContext()
+                .put(FieldSlots.APPLICANT_CIBIL_SCORE, 750)
+                .put(FieldSlots.LOAN_REQUESTED_AMOUNT, new BigDecimal("500000.50"));
+
+        assertTrue(context.isNumeric(FieldSlots.APPLICANT_CIBIL_SCORE));
+        assertEquals(750.0, context.getNumber(FieldSlots.APPLICANT_CIBIL_SCORE));
+        assertEquals(500000.50, context.getNumber(FieldSlots.LOAN_REQUESTED_AMOUNT));
+        assertEquals("750", context.get("applicant.cibilScore"));
+        assertEquals(2, context.size());
+    }
+
+    @Test
+    @DisplayName("Should parse numeric strings once on put")
+    void shouldParseNumericStrings() {
+        EvaluationContext context = new EvaluationContext()
+                .put("applicant.age", " 35 ")
+                .put("applicant.employmentType", "SALARIED");
+
+        assertTrue(context.isNumeric(FieldSlots.APPLICANT_AGE));
+        assertEquals(35.0, context.getAsNumber("applicant.age"));
+        assertTrue(context.isPresent(FieldSlots.APPLICANT_EMPLOYMENT_TYPE));
+        assertFalse(context.isNumeric(FieldSlots.APPLICANT_EMPLOYMENT_TYPE));
+    }
+
+    @Test
+    @DisplayName("Should hold unreferenced fields in overflow and promote them once interned")
+    void shouldPromoteOverflowFields() {
+        String field = "custom.overflowField" + System.nanoTime();
+        EvaluationContext context = new EvaluationContext().put(field, "42");
+
+        assertEquals(-1, FieldSlots.slotOf(field));
+        assertTrue(context.hasField(field));
+
+        int slot = FieldSlots.intern(field);
+
+        assertTrue(context.isNumeric(slot));
+        assertEquals(42.0, context.getNumber(slot));
+        assertEquals(1, context.size());
+    }
+
+    @Test
+    @DisplayName("Should expose a field snapshot for audit")
+    void shouldExposeDataSnapshot() {
+        EvaluationContext context = new EvaluationContext()
+                .put("loan.type", "HOME_LOAN")
+                .put("applicant.kycVerified", true);
+
+        Map<String, String> data = context.getData();
+
+        assertEquals("HOME_LOAN", data.get("loan.type"));
+        assertEquals("true", data.get("applicant.kycVerified"));
+        assertNull(context.get("applicant.cibilScore"));
+    }
+}
@@ -4,6 +4,8 @@ import com.loanflow.policy.domain.enums.ConditionOperator;
 import com.loanflow.policy.domain.valueobject.Condition;
 import com.loanflow.policy.evaluation.dto.EvaluationContext;
 import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse.ConditionResult;
+import com.loanflow.policy.evaluation.metrics.PolicyEvaluationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,10 +24,12 @@ class ConditionEvaluatorTest {
 
     private ConditionEvaluator evaluator;
     private EvaluationContext context;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        evaluator = new ConditionEvaluator();
+        meterRegistry = new SimpleMeterRegistry();
+        evaluator = new ConditionEvaluator(new PolicyEvaluationMetrics(meterRegistry));
         context = new EvaluationContext();
         // Set up a realistic evaluation context
         context.put("applicant.cibilScore", "750");
@@ -431,5 +435,30 @@ class ConditionEvaluatorTest {
 
             assertTrue(result.isMatched());
         }
+
+        @Test
+        @DisplayName("Should count evaluation errors but not missing fields")
+        void shouldCountEvaluationErrors() {
+            Condition numeric = Condition.builder()
+                    .field("applicant.employmentType")
+                    .operator(ConditionOperator.GREATER_THAN)
+                    .value("5")
+                    .build();
+            Condition missing = Condition.builder()
+                    .field("nonexistent.field")
+                    .operator(ConditionOperator.GREATER_THAN)
+                    .value("5")
+                    .build();
+
+            ConditionResult result = evaluator.evaluate(numeric, context);
+            evaluator.evaluate(missing, context);
+
+            assertFalse(result.isMatched());
+            assertTrue(result.getReason().startsWith("Evaluation error:"));
+            assertEquals(1.0, meterRegistry.get("policy.evaluation.condition.errors")
+                    .tags("field", "applicant.employmentType", "operator", "GREATER_THAN")
+                    .counter().count());
+            assertEquals(1, meterRegistry.find("policy.evaluation.condition.errors").counters().size());
+        }
     }
 }
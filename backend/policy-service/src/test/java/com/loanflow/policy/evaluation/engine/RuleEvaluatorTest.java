@@ -8,6 +8,8 @@ import com.loanflow.policy.domain.valueobject.Condition;
 import com.loanflow.policy.domain.valueobject.PolicyRule;
 import com.loanflow.policy.evaluation.dto.EvaluationContext;
 import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse.RuleMatchResult;
+import com.loanflow.policy.evaluation.metrics.PolicyEvaluationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -30,7 +32,8 @@ class RuleEvaluatorTest {
 
     @BeforeEach
     void setUp() {
-        ConditionEvaluator conditionEvaluator = new ConditionEvaluator();
+        ConditionEvaluator conditionEvaluator =
+                new ConditionEvaluator(new PolicyEvaluationMetrics(new SimpleMeterRegistry()));
         ruleEvaluator = new RuleEvaluator(conditionEvaluator);
 
         context = new EvaluationContext();
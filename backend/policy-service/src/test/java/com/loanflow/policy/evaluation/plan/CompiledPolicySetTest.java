@@ -0,0 +1,223 @@
+package com.loanflow.policy.evaluation.plan;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.*;
+import com.loanflow.policy.domain.valueobject.Action;
+import com.loanflow.policy.domain.valueobject.Condition;
+import com.loanflow.policy.domain.valueobject.PolicyRule;
+import com.loanflow.policy.evaluation.analysis.PolicyAnalyzer;
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse.RuleMatchResult;
+import com.loanflow.policy.evaluation.engine.ActionResolver;
+import com.loanflow.policy.evaluation.engine.ConditionEvaluator;
+import com.loanflow.policy.evaluation.engine.PolicySetEvaluator;
+import com.loanflow.policy.evaluation.engine.RuleEvaluator;
+import com.loanflow.policy.evaluation.metrics.PolicyEvaluationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for adaptive condition ordering in CompiledPolicySet
+ */
+@DisplayName("CompiledPolicySet Tests")
+class CompiledPolicySetTest {
+
+    private static final ConditionStatistics.Settings EVERY_EVALUATION = new ConditionStatistics.Settings(1, 50, 20);
+
+    private SimpleMeterRegistry meterRegistry;
+    private RuleEvaluator ruleEvaluator;
+    private PolicySetEvaluator policySetEvaluator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PolicyEvaluationMetrics evaluationMetrics = new PolicyEvaluationMetrics(meterRegistry);
+        ruleEvaluator = new RuleEvaluator(new ConditionEvaluator(evaluationMetrics));
+        policySetEvaluator = new PolicySetEvaluator(ruleEvaluator, new ActionResolver(), evaluationMetrics);
+    }
+
+    @Nested
+    @DisplayName("Adaptive Ordering")
+    class AdaptiveOrdering {
+
+        @Test
+        @DisplayName("Should move the most selective condition of an AND rule first")
+        void shouldMoveSelectiveConditionFirstForAnd() {
+            // Age almost always passes; the CIBIL threshold rejects most traffic
+            CompiledPolicySet policySet = build(LogicalOperator.AND, EVERY_EVALUATION);
+            int[] declared = policySet.conditionIds(0, 0);
+
+            replay(policySet, 100);
+
+            assertArrayEquals(new int[]{declared[1], declared[0]}, policySet.evaluationOrder(0, 0));
+            assertArrayEquals(declared, policySet.conditionIds(0, 0));
+            assertTrue(meterRegistry.get("policy.evaluation.condition.reorders").counter().count() >= 1);
+        }
+
+        @Test
+        @DisplayName("Should move the most likely condition of an OR rule first")
+        void shouldMoveLikelyConditionFirstForOr() {
+            // CIBIL (declared first) never passes on this traffic; age always does
+            CompiledPolicySet policySet = build(LogicalOperator.OR, EVERY_EVALUATION, true);
+            int[] declared = policySet.conditionIds(0, 0);
+
+            for (int i = 0; i < 100; i++) {
+                policySetEvaluator.evaluate(policySet, p -> true, context(1));
+            }
+
+            assertArrayEquals(new int[]{declared[1], declared[0]}, policySet.evaluationOrder(0, 0));
+            assertEquals(0.0, policySet.getStatistics().passRate(declared[0]));
+            assertEquals(1.0, policySet.getStatistics().passRate(declared[1]));
+        }
+
+        @Test
+        @DisplayName("Should keep the declared order until conditions have enough samples")
+        void shouldKeepDeclaredOrderWithoutEnoughSamples() {
+            CompiledPolicySet policySet = build(LogicalOperator.AND, new ConditionStatistics.Settings(1, 10, 1000));
+            int[] declared = policySet.conditionIds(0, 0);
+
+            replay(policySet, 100);
+
+            assertArrayEquals(declared, policySet.evaluationOrder(0, 0));
+        }
+
+        @Test
+        @DisplayName("Should not sample or reorder when disabled")
+        void shouldNotSampleWhenDisabled() {
+            CompiledPolicySet policySet = build(LogicalOperator.AND, ConditionStatistics.Settings.DISABLED);
+            int[] declared = policySet.conditionIds(0, 0);
+
+            replay(policySet, 100);
+
+            assertArrayEquals(declared, policySet.evaluationOrder(0, 0));
+            assertEquals(0, policySet.getStatistics().sampleCount(declared[0]));
+        }
+
+        @Test
+        @DisplayName("Should reach the same decisions after reordering, and keep the explain order")
+        void shouldKeepDecisionsAndExplainOrder() {
+            CompiledPolicySet adaptive = build(LogicalOperator.AND, EVERY_EVALUATION);
+            CompiledPolicySet fixed = build(LogicalOperator.AND, ConditionStatistics.Settings.DISABLED);
+            replay(adaptive, 100);
+
+            for (int i = 0; i < 20; i++) {
+                EvaluationContext context = context(i);
+                assertEquals(policySetEvaluator.evaluate(fixed, p -> true, context).overallDecision(),
+                        policySetEvaluator.evaluate(adaptive, p -> true, context).overallDecision());
+            }
+
+            RuleMatchResult explain = ruleEvaluator.evaluate(adaptive.getPlans().get(0).getRules().get(0),
+                    context(0), "POL-2026-000001");
+            assertEquals(List.of("applicant.age", "applicant.cibilScore"),
+                    explain.getConditionResults().stream().map(c -> c.getField()).toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Sampling")
+    class Sampling {
+
+        @Test
+        @DisplayName("Should not report errors of conditions tested only for sampling")
+        void shouldNotReportErrorsPastTheDecision() {
+            CompiledPolicySet policySet = build(LogicalOperator.AND, EVERY_EVALUATION);
+            int[] declared = policySet.conditionIds(0, 0);
+            EvaluationContext tooOld = new EvaluationContext()
+                    .put("applicant.age", 70)
+                    .put("applicant.cibilScore", "N/A");
+
+            for (int i = 0; i < 10; i++) {
+                policySetEvaluator.evaluate(policySet, p -> true, tooOld);
+            }
+
+            // The age decides the AND rule; the unreadable CIBIL score is still sampled, quietly
+            assertEquals(10, policySet.getStatistics().sampleCount(declared[1]));
+            assertNull(meterRegistry.find("policy.evaluation.condition.errors").counter());
+
+            policySetEvaluator.evaluate(policySet, p -> true, new EvaluationContext()
+                    .put("applicant.age", 35)
+                    .put("applicant.cibilScore", "N/A"));
+            assertEquals(1.0, meterRegistry.get("policy.evaluation.condition.errors").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should rank conditions with a static cost per operator")
+        void shouldUseStaticOperatorCost() {
+            Condition employer = Condition.builder()
+                    .field("employment.employerName")
+                    .operator(ConditionOperator.CONTAINS)
+                    .value("BANK")
+                    .build();
+            CompiledPolicySet policySet = build(LogicalOperator.AND, EVERY_EVALUATION, false, employer);
+            int[] declared = policySet.conditionIds(0, 0);
+
+            assertEquals(1.0, policySet.getIndex().cost(declared[1]));
+            assertTrue(policySet.getIndex().cost(declared[2]) > policySet.getIndex().cost(declared[1]));
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    private void replay(CompiledPolicySet policySet, int evaluations) {
+        for (int i = 0; i < evaluations; i++) {
+            policySetEvaluator.evaluate(policySet, p -> true, context(i));
+        }
+    }
+
+    /**
+     * Age 35 on every request; CIBIL 780 on one request in ten, 600 otherwise
+     */
+    private EvaluationContext context(int i) {
+        return new EvaluationContext()
+                .put("applicant.age", 35)
+                .put("applicant.cibilScore", i % 10 == 0 ? 780 : 600);
+    }
+
+    private CompiledPolicySet build(LogicalOperator operator, ConditionStatistics.Settings settings) {
+        return build(operator, settings, false);
+    }
+
+    private CompiledPolicySet build(LogicalOperator operator, ConditionStatistics.Settings settings,
+                                    boolean cibilFirst, Condition... extra) {
+        Condition age = Condition.builder()
+                .field("applicant.age")
+                .operator(ConditionOperator.BETWEEN)
+                .minValue("21")
+                .maxValue("60")
+                .build();
+        Condition cibil = Condition.builder()
+                .field("applicant.cibilScore")
+                .operator(ConditionOperator.GREATER_THAN_OR_EQUAL)
+                .value("750")
+                .build();
+        List<Condition> conditions = new ArrayList<>(cibilFirst ? List.of(cibil, age) : List.of(age, cibil));
+        conditions.addAll(List.of(extra));
+        List<PolicyRule> rules = new ArrayList<>();
+        rules.add(PolicyRule.builder()
+                .name("Prime Applicant")
+                .logicalOperator(operator)
+                .conditions(conditions)
+                .actions(List.of(Action.builder().type(ActionType.APPROVE).build()))
+                .priority(10)
+                .build());
+        Policy policy = Policy.builder()
+                .policyCode("POL-2026-000001")
+                .name("Adaptive Policy")
+                .category(PolicyCategory.ELIGIBILITY)
+                .loanType(LoanType.PERSONAL_LOAN)
+                .status(PolicyStatus.ACTIVE)
+                .versionNumber(1)
+                .lockVersion(1L)
+                .rules(rules)
+                .build();
+        return CompiledPolicySet.build(List.of(new PolicyCompiler(new PolicyAnalyzer()).compile(policy)), settings);
+    }
+}
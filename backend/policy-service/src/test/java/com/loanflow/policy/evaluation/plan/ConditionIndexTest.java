@@ -0,0 +1,185 @@
+package com.loanflow.policy.evaluation.plan;
+
+import com.loanflow.policy.domain.enums.ConditionOperator;
+import com.loanflow.policy.domain.valueobject.Condition;
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import com.loanflow.policy.evaluation.engine.ConditionEvaluator;
+import com.loanflow.policy.evaluation.metrics.PolicyEvaluationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConditionIndex — the index must agree with ConditionEvaluator.matches
+ */
+@DisplayName("ConditionIndex Tests")
+class ConditionIndexTest {
+
+    private ConditionEvaluator conditionEvaluator;
+
+    @BeforeEach
+    void setUp() {
+        conditionEvaluator = new ConditionEvaluator(new PolicyEvaluationMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Nested
+    @DisplayName("Parity with ConditionEvaluator")
+    class Parity {
+
+        @Test
+        @DisplayName("Should match direct evaluation for numeric thresholds")
+        void shouldMatchDirectEvaluationForNumericThresholds() {
+            List<CompiledCondition> conditions = List.of(
+                    condition("applicant.cibilScore", ConditionOperator.GREATER_THAN, "650"),
+                    condition("applicant.cibilScore", ConditionOperator.GREATER_THAN_OR_EQUAL, "650"),
+                    condition("applicant.cibilScore", ConditionOperator.LESS_THAN, "700"),
+                    condition("applicant.cibilScore", ConditionOperator.LESS_THAN_OR_EQUAL, "700"),
+                    condition("applicant.cibilScore", ConditionOperator.EQUALS, "750"),
+                    condition("applicant.cibilScore", ConditionOperator.NOT_EQUALS, "750"),
+                    between("applicant.cibilScore", "600", "700"),
+                    between("applicant.cibilScore", "650", "900"),
+                    in("applicant.cibilScore", ConditionOperator.IN, "650", "750", "high"),
+                    in("applicant.cibilScore", ConditionOperator.NOT_IN, "650", "750"));
+
+            for (Object value : List.of(300, 599.5, 600, 650, "650.0", 651, 700, 750, 901, "n/a", " ", -0.0)) {
+                assertParity(conditions, context("applicant.cibilScore", value));
+            }
+            assertParity(conditions, new EvaluationContext());
+        }
+
+        @Test
+        @DisplayName("Should match direct evaluation for string buckets")
+        void shouldMatchDirectEvaluationForStringBuckets() {
+            List<CompiledCondition> conditions = List.of(
+                    condition("applicant.employmentType", ConditionOperator.EQUALS, "SALARIED"),
+                    condition("applicant.employmentType", ConditionOperator.NOT_EQUALS, "salaried"),
+                    condition("applicant.employmentType", ConditionOperator.EQUALS, " Self_Employed "),
+                    in("applicant.employmentType", ConditionOperator.IN, "SALARIED", "PROFESSIONAL", "700"),
+                    in("applicant.employmentType", ConditionOperator.NOT_IN, "BUSINESS"),
+                    in("applicant.employmentType", ConditionOperator.IN),
+                    condition("applicant.employmentType", ConditionOperator.CONTAINS, "employ"),
+                    condition("applicant.employmentType", ConditionOperator.IS_NOT_NULL, null));
+
+            for (Object value : List.of("SALARIED", " salaried ", "self_employed", "Business", "700", 700, "")) {
+                assertParity(conditions, context("applicant.employmentType", value));
+            }
+            assertParity(conditions, new EvaluationContext());
+        }
+    }
+
+    @Nested
+    @DisplayName("Sharing")
+    class Sharing {
+
+        @Test
+        @DisplayName("Should share identical conditions and group by field")
+        void shouldShareIdenticalConditions() {
+            ConditionIndex.Builder builder = ConditionIndex.builder();
+            int first = builder.add(condition("applicant.cibilScore", ConditionOperator.GREATER_THAN_OR_EQUAL, "650"));
+            int second = builder.add(condition("applicant.cibilScore", ConditionOperator.GREATER_THAN_OR_EQUAL, "650"));
+            int third = builder.add(condition("applicant.cibilScore", ConditionOperator.GREATER_THAN_OR_EQUAL, "700"));
+            builder.add(between("applicant.age", "21", "60"));
+            ConditionIndex index = builder.build();
+
+            assertEquals(first, second);
+            assertNotEquals(first, third);
+            assertEquals(3, index.conditionCount());
+            assertEquals(2, index.fieldCount());
+        }
+
+        @Test
+        @DisplayName("Should only call the fallback for conditions the index cannot answer")
+        void shouldOnlyFallBackForUnindexedConditions() {
+            ConditionIndex.Builder builder = ConditionIndex.builder();
+            int gte = builder.add(condition("applicant.cibilScore", ConditionOperator.GREATER_THAN_OR_EQUAL, "650"));
+            int contains = builder.add(condition("loan.purpose", ConditionOperator.CONTAINS, "home"));
+            ConditionIndex index = builder.build();
+
+            AtomicInteger fallbacks = new AtomicInteger();
+            EvaluationContext context = new EvaluationContext()
+                    .put("applicant.cibilScore", 700)
+                    .put("loan.purpose", "Home Renovation");
+            ConditionIndex.Matcher matcher = index.matcher(context, (condition, ctx) -> {
+                fallbacks.incrementAndGet();
+                return conditionEvaluator.matches(condition, ctx);
+            });
+
+            assertTrue(matcher.test(gte));
+            assertEquals(0, fallbacks.get());
+            assertTrue(matcher.test(contains));
+            assertEquals(1, fallbacks.get());
+        }
+
+        @Test
+        @DisplayName("Should fall back for a numeric threshold tested against text, so the error is reported")
+        void shouldFallBackForTextAgainstThreshold() {
+            ConditionIndex.Builder builder = ConditionIndex.builder();
+            int gte = builder.add(condition("applicant.cibilScore", ConditionOperator.GREATER_THAN_OR_EQUAL, "650"));
+            int equals = builder.add(condition("applicant.cibilScore", ConditionOperator.EQUALS, "n/a"));
+            ConditionIndex index = builder.build();
+
+            AtomicInteger fallbacks = new AtomicInteger();
+            ConditionIndex.Matcher matcher = index.matcher(context("applicant.cibilScore", "n/a"), (condition, ctx) -> {
+                fallbacks.incrementAndGet();
+                return conditionEvaluator.matches(condition, ctx);
+            });
+
+            assertFalse(matcher.test(gte));
+            assertEquals(1, fallbacks.get());
+            assertTrue(matcher.test(equals));
+            assertEquals(1, fallbacks.get());
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void assertParity(List<CompiledCondition> conditions, EvaluationContext context) {
+        ConditionIndex.Builder builder = ConditionIndex.builder();
+        List<Integer> ids = new ArrayList<>();
+        conditions.forEach(condition -> ids.add(builder.add(condition)));
+        ConditionIndex.Matcher matcher = builder.build().matcher(context, conditionEvaluator::matches);
+
+        for (int i = 0; i < conditions.size(); i++) {
+            CompiledCondition condition = conditions.get(i);
+            assertEquals(conditionEvaluator.matches(condition, context), matcher.test(ids.get(i)),
+                    condition.getOperator() + " " + condition.getExpectedValueDisplay() + " vs " + context.getData());
+        }
+    }
+
+    private CompiledCondition condition(String field, ConditionOperator operator, String value) {
+        return CompiledCondition.compile(Condition.builder()
+                .field(field)
+                .operator(operator)
+                .value(value)
+                .build());
+    }
+
+    private CompiledCondition between(String field, String min, String max) {
+        return CompiledCondition.compile(Condition.builder()
+                .field(field)
+                .operator(ConditionOperator.BETWEEN)
+                .minValue(min)
+                .maxValue(max)
+                .build());
+    }
+
+    private CompiledCondition in(String field, ConditionOperator operator, String... values) {
+        return CompiledCondition.compile(Condition.builder()
+                .field(field)
+                .operator(operator)
+                .values(List.of(values))
+                .build());
+    }
+
+    private EvaluationContext context(String field, Object value) {
+        return new EvaluationContext().put(field, value);
+    }
+}
@@ -0,0 +1,273 @@
+package com.loanflow.policy.evaluation.plan;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.*;
+import com.loanflow.policy.domain.valueobject.Action;
+import com.loanflow.policy.domain.valueobject.Condition;
+import com.loanflow.policy.domain.valueobject.PolicyRule;
+import com.loanflow.policy.evaluation.analysis.PolicyAnalyzer;
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PolicyCompiler, CompiledCondition and PolicyPlanCache
+ */
+@DisplayName("PolicyCompiler Tests")
+class PolicyCompilerTest {
+
+    private PolicyCompiler compiler;
+
+    @BeforeEach
+    void setUp() {
+        compiler = new PolicyCompiler(new PolicyAnalyzer());
+    }
+
+    @Nested
+    @DisplayName("Condition Compilation")
+    class ConditionCompilation {
+
+        @Test
+        @DisplayName("Should pre-parse numeric thresholds")
+        void shouldPreParseNumericThresholds() {
+            CompiledCondition gte = CompiledCondition.compile(Condition.builder()
+                    .field("applicant.cibilScore")
+                    .operator(ConditionOperator.GREATER_THAN_OR_EQUAL)
+                    .value(" 650 ")
+                    .build());
+            CompiledCondition between = CompiledCondition.compile(Condition.builder()
+                    .field("applicant.age")
+                    .operator(ConditionOperator.BETWEEN)
+                    .minValue("21")
+                    .maxValue("60")
+                    .build());
+
+            assertEquals(650.0, gte.getNumber());
+            assertEquals(21.0, between.getMin());
+            assertEquals(60.0, between.getMax());
+            assertEquals("[21, 60]", between.getExpectedValueDisplay());
+            assertTrue(gte.test(context("applicant.cibilScore", 650)));
+            assertFalse(gte.test(context("applicant.cibilScore", "649.99")));
+            assertTrue(between.test(context("applicant.age", 60)));
+        }
+
+        @Test
+        @DisplayName("Should build numeric and string sets for IN")
+        void shouldBuildSetsForIn() {
+            CompiledCondition in = CompiledCondition.compile(Condition.builder()
+                    .field("applicant.employmentType")
+                    .operator(ConditionOperator.IN)
+                    .values(List.of("SALARIED", " Professional ", "700"))
+                    .build());
+
+            assertEquals(1, in.getNumericValues().length);
+            assertTrue(in.getNormalizedValues().contains("professional"));
+            assertTrue(in.test(context("applicant.employmentType", "professional")));
+            assertTrue(in.test(context("applicant.employmentType", "700.0")));
+            assertFalse(in.test(context("applicant.employmentType", "BUSINESS")));
+        }
+
+        @Test
+        @DisplayName("Should pre-lowercase CONTAINS operand")
+        void shouldPreLowercaseContainsOperand() {
+            CompiledCondition contains = CompiledCondition.compile(Condition.builder()
+                    .field("loan.purpose")
+                    .operator(ConditionOperator.CONTAINS)
+                    .value("RENOVATION")
+                    .build());
+
+            assertEquals("renovation", contains.getLowerValue());
+            assertTrue(contains.test(context("loan.purpose", "Home Renovation")));
+        }
+
+        @Test
+        @DisplayName("Should report unparseable threshold at evaluation time")
+        void shouldReportUnparseableThreshold() {
+            CompiledCondition gt = CompiledCondition.compile(Condition.builder()
+                    .field("applicant.cibilScore")
+                    .operator(ConditionOperator.GREATER_THAN)
+                    .value("abc")
+                    .build());
+
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                    () -> gt.test(context("applicant.cibilScore", 700)));
+            assertTrue(ex.getMessage().contains("'abc'"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Policy Compilation")
+    class PolicyCompilation {
+
+        @Test
+        @DisplayName("Should keep only enabled rules in priority order")
+        void shouldKeepEnabledRulesInPriorityOrder() {
+            Policy policy = createPolicy();
+            policy.getRules().add(rule("Disabled", 1, false));
+
+            CompiledPolicy plan = compiler.compile(policy);
+
+            assertEquals(2, plan.getRules().size());
+            assertEquals("First", plan.getRules().get(0).getName());
+            assertEquals("Second", plan.getRules().get(1).getName());
+            assertEquals(LogicalOperator.AND, plan.getRules().get(0).getLogicalOperator());
+        }
+
+        @Test
+        @DisplayName("Should prune rules that can never match")
+        void shouldPruneUnsatisfiableRules() {
+            Policy policy = createPolicy();
+            policy.getRules().add(PolicyRule.builder()
+                    .name("Impossible")
+                    .logicalOperator(LogicalOperator.AND)
+                    .conditions(List.of(
+                            Condition.builder().field("applicant.age").operator(ConditionOperator.GREATER_THAN_OR_EQUAL)
+                                    .value("60").build(),
+                            Condition.builder().field("applicant.age").operator(ConditionOperator.LESS_THAN)
+                                    .value("21").build()))
+                    .actions(List.of(Action.builder().type(ActionType.REJECT).build()))
+                    .priority(5)
+                    .build());
+
+            CompiledPolicy plan = compiler.compile(policy);
+
+            assertEquals(List.of("First", "Second"), plan.getRules().stream().map(CompiledRule::getName).toList());
+            assertEquals(List.of("Impossible"), plan.getPrunedRules());
+        }
+
+        @Test
+        @DisplayName("Should intern condition field into a context slot")
+        void shouldInternFieldSlot() {
+            CompiledCondition condition = CompiledCondition.compile(Condition.builder()
+                    .field("applicant.landArea")
+                    .operator(ConditionOperator.GREATER_THAN)
+                    .value("5")
+                    .build());
+
+            EvaluationContext context = context("applicant.landArea", "7.5");
+
+            assertTrue(condition.getSlot() >= 0);
+            assertTrue(context.isNumeric(condition.getSlot()));
+            assertEquals(7.5, context.getNumber(condition.getSlot()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Plan Cache")
+    class PlanCache {
+
+        @Test
+        @DisplayName("Should reuse plan for the same policy code and version")
+        void shouldReusePlan() {
+            PolicyPlanCache cache = new PolicyPlanCache(compiler, 0, 1, 1, 4);
+            Policy policy = createPolicy();
+
+            CompiledPolicy first = cache.getPlan(policy);
+            CompiledPolicy second = cache.getPlan(createPolicy());
+
+            assertSame(first, second);
+            assertEquals(1, cache.size());
+        }
+
+        @Test
+        @DisplayName("Should recompile when the document lock version changes")
+        void shouldRecompileOnLockVersionChange() {
+            PolicyPlanCache cache = new PolicyPlanCache(compiler, 0, 1, 1, 4);
+            Policy policy = createPolicy();
+            CompiledPolicy first = cache.getPlan(policy);
+
+            policy.setLockVersion(2L);
+
+            assertNotSame(first, cache.getPlan(policy));
+        }
+
+        @Test
+        @DisplayName("Should evict plan when policy is deactivated")
+        void shouldEvictOnDeactivate() {
+            PolicyPlanCache cache = new PolicyPlanCache(compiler, 0, 1, 1, 4);
+            Policy policy = createPolicy();
+            cache.getPlan(policy);
+
+            policy.deactivate();
+            cache.refresh(policy);
+
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("Should keep the policy set of an earlier version set when versions alternate")
+        void shouldRetainPolicySetAcrossVersions() {
+            PolicyPlanCache cache = new PolicyPlanCache(compiler, 0, 1, 1, 4);
+            Policy current = createPolicy();
+            Policy next = createPolicy();
+            next.setVersionNumber(2);
+
+            CompiledPolicySet first = cache.getPolicySet(LoanType.PERSONAL_LOAN, List.of(current));
+            CompiledPolicySet second = cache.getPolicySet(LoanType.PERSONAL_LOAN, List.of(next));
+
+            assertNotSame(first, second);
+            assertSame(first, cache.getPolicySet(LoanType.PERSONAL_LOAN, List.of(createPolicy())));
+            assertSame(second, cache.getPolicySet(LoanType.PERSONAL_LOAN, List.of(next)));
+            assertEquals(2, cache.policySetCount(LoanType.PERSONAL_LOAN));
+        }
+
+        @Test
+        @DisplayName("Should evict the oldest policy set beyond the retained count")
+        void shouldEvictOldestPolicySet() {
+            PolicyPlanCache cache = new PolicyPlanCache(compiler, 0, 1, 1, 2);
+            CompiledPolicySet oldest = cache.getPolicySet(LoanType.PERSONAL_LOAN, List.of(createPolicy()));
+            for (int version = 2; version <= 3; version++) {
+                Policy policy = createPolicy();
+                policy.setVersionNumber(version);
+                cache.getPolicySet(LoanType.PERSONAL_LOAN, List.of(policy));
+            }
+
+            assertEquals(2, cache.policySetCount(LoanType.PERSONAL_LOAN));
+            assertNotSame(oldest, cache.getPolicySet(LoanType.PERSONAL_LOAN, List.of(createPolicy())));
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    private EvaluationContext context(String field, Object value) {
+        return new EvaluationContext().put(field, value);
+    }
+
+    private Policy createPolicy() {
+        List<PolicyRule> rules = new ArrayList<>();
+        rules.add(rule("Second", 20, true));
+        rules.add(rule("First", 10, true));
+        return Policy.builder()
+                .policyCode("POL-2026-000001")
+                .name("Compiled Policy")
+                .category(PolicyCategory.ELIGIBILITY)
+                .loanType(LoanType.PERSONAL_LOAN)
+                .status(PolicyStatus.ACTIVE)
+                .versionNumber(1)
+                .lockVersion(1L)
+                .rules(rules)
+                .build();
+    }
+
+    private PolicyRule rule(String name, int priority, boolean enabled) {
+        return PolicyRule.builder()
+                .name(name)
+                .logicalOperator(LogicalOperator.AND)
+                .conditions(List.of(Condition.builder()
+                        .field("applicant.cibilScore")
+                        .operator(ConditionOperator.GREATER_THAN)
+                        .value("600")
+                        .build()))
+                .actions(List.of(Action.builder().type(ActionType.APPROVE).build()))
+                .priority(priority)
+                .enabled(enabled)
+                .build();
+    }
+}
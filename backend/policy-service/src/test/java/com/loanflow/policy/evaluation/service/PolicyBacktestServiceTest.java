@@ -0,0 +1,184 @@
+package com.loanflow.policy.evaluation.service;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.*;
+import com.loanflow.policy.domain.valueobject.Action;
+import com.loanflow.policy.domain.valueobject.Condition;
+import com.loanflow.policy.domain.valueobject.PolicyRule;
+import com.loanflow.policy.evaluation.analysis.PolicyAnalyzer;
+import com.loanflow.policy.evaluation.backtest.ContextArchive;
+import com.loanflow.policy.evaluation.dto.BacktestReport;
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import com.loanflow.policy.evaluation.engine.ActionResolver;
+import com.loanflow.policy.evaluation.engine.ConditionEvaluator;
+import com.loanflow.policy.evaluation.engine.PolicySetEvaluator;
+import com.loanflow.policy.evaluation.engine.RuleEvaluator;
+import com.loanflow.policy.evaluation.metrics.PolicyEvaluationMetrics;
+import com.loanflow.policy.evaluation.plan.ActivePolicySnapshot;
+import com.loanflow.policy.evaluation.plan.PolicyCompiler;
+import com.loanflow.policy.evaluation.plan.PolicyPlanCache;
+import com.loanflow.policy.evaluation.service.impl.PolicyBacktestServiceImpl;
+import com.loanflow.policy.repository.PolicyRepository;
+import com.loanflow.util.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PolicyBacktestServiceImpl — real evaluators and archive, mocked repository
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyBacktestService Tests")
+class PolicyBacktestServiceTest {
+
+    @Mock
+    private PolicyRepository policyRepository;
+
+    @Mock
+    private PolicyEvaluationService policyEvaluationService;
+
+    @TempDir
+    Path archiveDirectory;
+
+    private ContextArchive contextArchive;
+    private PolicyBacktestServiceImpl backtestService;
+
+    @BeforeEach
+    void setUp() {
+        PolicyEvaluationMetrics evaluationMetrics = new PolicyEvaluationMetrics(new SimpleMeterRegistry());
+        RuleEvaluator ruleEvaluator = new RuleEvaluator(new ConditionEvaluator(evaluationMetrics));
+        PolicySetEvaluator policySetEvaluator =
+                new PolicySetEvaluator(ruleEvaluator, new ActionResolver(), evaluationMetrics);
+        PolicyCompiler compiler = new PolicyCompiler(new PolicyAnalyzer());
+        contextArchive = new ContextArchive(true, archiveDirectory.toString(), 2, 1, 60, 30, 4096, 8);
+
+        backtestService = new PolicyBacktestServiceImpl(policyRepository, policyEvaluationService,
+                new PolicyPlanCache(compiler, 0, 1, 1, 4), compiler, policySetEvaluator, contextArchive, 2, 10);
+
+        Policy active = policy("policy-active", "POL-APPROVE", PolicyStatus.ACTIVE,
+                ConditionOperator.GREATER_THAN_OR_EQUAL, "650", ActionType.APPROVE);
+        lenient().when(policyEvaluationService.snapshot()).thenReturn(new ActivePolicySnapshot(
+                loanType -> loanType == LoanType.PERSONAL_LOAN ? List.of(active) : List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        backtestService.shutdown();
+        contextArchive.close();
+    }
+
+    @Test
+    @DisplayName("Should report decision flips and action deltas for the draft's loan type")
+    void shouldReportDecisionFlips() {
+        Policy draft = policy("policy-draft", "POL-REJECT", PolicyStatus.DRAFT,
+                ConditionOperator.LESS_THAN, "700", ActionType.REJECT);
+        when(policyRepository.findById("policy-draft")).thenReturn(Optional.of(draft));
+
+        archive("APP-1", "PERSONAL_LOAN", 750);
+        archive("APP-2", "PERSONAL_LOAN", 680);
+        archive("APP-3", "PERSONAL_LOAN", 600);
+        archive("APP-4", "HOME_LOAN", 680);
+
+        BacktestReport report = backtestService.backtest("policy-draft", null);
+
+        assertEquals(4, report.getContextsScanned());
+        assertEquals(3, report.getContextsReplayed());
+        assertEquals(2, report.getDecisionsChanged());
+        assertEquals(1L, report.getDecisionFlips().get("APPROVED->REJECTED"));
+        assertEquals(1L, report.getDecisionFlips().get("NO_MATCH->REJECTED"));
+        assertEquals(2L, report.getBaselineDecisions().get("APPROVED"));
+        assertEquals(2L, report.getCandidateDecisions().get("REJECTED"));
+        assertEquals(2, report.getActionDeltas().get("REJECT").getAdded());
+        assertEquals(2, report.getSampleFlips().size());
+    }
+
+    @Test
+    @DisplayName("Should replace the active version of the same policy code")
+    void shouldReplaceActiveVersion() {
+        Policy draft = policy("policy-draft", "POL-APPROVE", PolicyStatus.DRAFT,
+                ConditionOperator.GREATER_THAN_OR_EQUAL, "700", ActionType.APPROVE);
+        when(policyRepository.findById("policy-draft")).thenReturn(Optional.of(draft));
+
+        archive("APP-1", "PERSONAL_LOAN", 750);
+        archive("APP-2", "PERSONAL_LOAN", 680);
+
+        BacktestReport report = backtestService.backtest("policy-draft", null);
+
+        assertEquals(1, report.getDecisionsChanged());
+        assertEquals(1L, report.getDecisionFlips().get("APPROVED->NO_MATCH"));
+        assertEquals(1, report.getActionDeltas().get("APPROVE").getRemoved());
+    }
+
+    @Test
+    @DisplayName("Should stop after maxContexts archived contexts")
+    void shouldHonourMaxContexts() {
+        Policy draft = policy("policy-draft", "POL-REJECT", PolicyStatus.DRAFT,
+                ConditionOperator.LESS_THAN, "700", ActionType.REJECT);
+        when(policyRepository.findById("policy-draft")).thenReturn(Optional.of(draft));
+
+        for (int i = 0; i < 5; i++) {
+            archive("APP-" + i, "PERSONAL_LOAN", 680);
+        }
+
+        BacktestReport report = backtestService.backtest("policy-draft", 3L);
+
+        assertEquals(3, report.getContextsScanned());
+        assertEquals(3, report.getDecisionsChanged());
+    }
+
+    @Test
+    @DisplayName("Should reject backtesting a policy that is not a draft")
+    void shouldRejectNonDraft() {
+        Policy active = policy("policy-active", "POL-APPROVE", PolicyStatus.ACTIVE,
+                ConditionOperator.GREATER_THAN_OR_EQUAL, "650", ActionType.APPROVE);
+        when(policyRepository.findById("policy-active")).thenReturn(Optional.of(active));
+
+        assertThrows(BusinessException.class, () -> backtestService.backtest("policy-active", null));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void archive(String applicationId, String loanType, int cibilScore) {
+        contextArchive.append(applicationId, new EvaluationContext()
+                .put("loan.type", loanType)
+                .put("applicant.cibilScore", cibilScore));
+    }
+
+    private Policy policy(String id, String code, PolicyStatus status,
+                          ConditionOperator operator, String threshold, ActionType actionType) {
+        return Policy.builder()
+                .id(id)
+                .policyCode(code)
+                .name(code)
+                .category(PolicyCategory.ELIGIBILITY)
+                .loanType(LoanType.PERSONAL_LOAN)
+                .status(status)
+                .priority(10)
+                .rules(List.of(PolicyRule.builder()
+                        .name(code + " rule")
+                        .logicalOperator(LogicalOperator.AND)
+                        .conditions(List.of(Condition.builder()
+                                .field("applicant.cibilScore")
+                                .operator(operator)
+                                .value(threshold)
+                                .build()))
+                        .actions(List.of(Action.builder().type(actionType).build()))
+                        .priority(1)
+                        .enabled(true)
+                        .build()))
+                .build();
+    }
+}
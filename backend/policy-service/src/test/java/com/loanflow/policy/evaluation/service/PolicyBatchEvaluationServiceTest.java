@@ -0,0 +1,165 @@
+package com.loanflow.policy.evaluation.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
+import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse;
+import com.loanflow.policy.evaluation.plan.ActivePolicySnapshot;
+import com.loanflow.policy.evaluation.service.impl.PolicyBatchEvaluationServiceImpl;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PolicyBatchEvaluationServiceImpl.
+ * Evaluation itself is mocked; these tests cover NDJSON streaming, ordering and error lines.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyBatchEvaluationService Tests")
+class PolicyBatchEvaluationServiceTest {
+
+    @Mock
+    private PolicyEvaluationService policyEvaluationService;
+
+    private ObjectMapper objectMapper;
+    private PolicyBatchEvaluationServiceImpl batchService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        batchService = new PolicyBatchEvaluationServiceImpl(policyEvaluationService, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), 4, 3);
+
+        ActivePolicySnapshot snapshot = new ActivePolicySnapshot(loanType -> List.of());
+        lenient().when(policyEvaluationService.snapshot()).thenReturn(snapshot);
+        lenient().when(policyEvaluationService.evaluate(any(PolicyEvaluationRequest.class), anyBoolean(), same(snapshot)))
+                .thenAnswer(inv -> {
+                    PolicyEvaluationRequest request = inv.getArgument(0);
+                    return PolicyEvaluationResponse.builder()
+                            .overallDecision("APPROVED")
+                            .applicationId(request.getApplicationId())
+                            .loanType(request.getLoanType())
+                            .build();
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should stream one response per line in input order across chunks")
+    void shouldPreserveInputOrder() throws Exception {
+        StringBuilder input = new StringBuilder();
+        for (int i = 1; i <= 10; i++) {
+            input.append(requestJson("APP-" + i)).append('\n');
+        }
+
+        List<JsonNode> output = runBatch(input.toString());
+
+        assertEquals(10, output.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("APP-" + (i + 1), output.get(i).get("applicationId").asText());
+        }
+        verify(policyEvaluationService, times(1)).snapshot();
+    }
+
+    @Test
+    @DisplayName("Should emit ERROR responses for malformed and invalid lines without failing the batch")
+    void shouldEmitErrorLines() throws Exception {
+        String input = requestJson("APP-1") + "\n"
+                + "{not json\n"
+                + "\n"
+                + "{\"applicationId\":\"APP-3\"}\n"
+                + requestJson("APP-4") + "\n";
+
+        List<JsonNode> output = runBatch(input);
+
+        assertEquals(4, output.size());
+        assertEquals("APPROVED", output.get(0).get("overallDecision").asText());
+        assertEquals("ERROR", output.get(1).get("overallDecision").asText());
+        assertTrue(output.get(1).get("evaluationLog").get(0).get("message").asText().contains("Line 2"));
+        assertEquals("ERROR", output.get(2).get("overallDecision").asText());
+        assertEquals("APP-3", output.get(2).get("applicationId").asText());
+        assertEquals("APPROVED", output.get(3).get("overallDecision").asText());
+    }
+
+    @Test
+    @DisplayName("Should evaluate queued requests against one snapshot, in order, with ERROR for invalid items")
+    void shouldEvaluateQueuedRequests() throws Exception {
+        List<PolicyEvaluationRequest> requests = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            requests.add(objectMapper.readValue(requestJson("APP-" + i), PolicyEvaluationRequest.class));
+        }
+        requests.get(2).setLoanType(null);
+
+        List<PolicyEvaluationResponse> responses = batchService.evaluateAll(requests, false);
+
+        assertEquals(5, responses.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("APP-" + (i + 1), responses.get(i).getApplicationId());
+        }
+        assertEquals("ERROR", responses.get(2).getOverallDecision());
+        assertTrue(responses.get(2).getEvaluationLog().get(0).getMessage().contains("Item 3"));
+        assertEquals("APPROVED", responses.get(4).getOverallDecision());
+        verify(policyEvaluationService, times(1)).snapshot();
+    }
+
+    @Test
+    @DisplayName("Should emit an ERROR response for a null line or null item without failing the batch")
+    void shouldEmitErrorForNullRequest() throws Exception {
+        List<JsonNode> output = runBatch(requestJson("APP-1") + "\nnull\n" + requestJson("APP-3") + "\n");
+
+        assertEquals(3, output.size());
+        assertEquals("APPROVED", output.get(0).get("overallDecision").asText());
+        assertEquals("ERROR", output.get(1).get("overallDecision").asText());
+        assertTrue(output.get(1).get("evaluationLog").get(0).get("message").asText().contains("Line 2"));
+        assertEquals("APPROVED", output.get(2).get("overallDecision").asText());
+
+        List<PolicyEvaluationRequest> requests = new ArrayList<>();
+        requests.add(null);
+        requests.add(objectMapper.readValue(requestJson("APP-2"), PolicyEvaluationRequest.class));
+
+        List<PolicyEvaluationResponse> responses = batchService.evaluateAll(requests, false);
+
+        assertEquals("ERROR", responses.get(0).getOverallDecision());
+        assertTrue(responses.get(0).getEvaluationLog().get(0).getMessage().contains("Item 1"));
+        assertEquals("APPROVED", responses.get(1).getOverallDecision());
+    }
+
+    private String requestJson(String applicationId) {
+        return "{\"applicationId\":\"" + applicationId + "\",\"loanType\":\"PERSONAL_LOAN\","
+                + "\"requestedAmount\":500000,\"tenureMonths\":36,\"cibilScore\":750}";
+    }
+
+    private List<JsonNode> runBatch(String input) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        batchService.evaluateBatch(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out, false);
+
+        List<JsonNode> nodes = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) nodes.add(objectMapper.readTree(line));
+        }
+        return nodes;
+    }
+}
@@ -5,13 +5,22 @@ import com.loanflow.policy.domain.enums.*;
 import com.loanflow.policy.domain.valueobject.Action;
 import com.loanflow.policy.domain.valueobject.Condition;
 import com.loanflow.policy.domain.valueobject.PolicyRule;
+import com.loanflow.policy.evaluation.analysis.PolicyAnalyzer;
+import com.loanflow.policy.evaluation.backtest.ContextArchive;
+import com.loanflow.policy.evaluation.cache.ActivePolicyNearCache;
+import com.loanflow.policy.evaluation.cache.EvaluationResultCache;
 import com.loanflow.policy.evaluation.dto.PolicyEvaluationRequest;
 import com.loanflow.policy.evaluation.dto.PolicyEvaluationResponse;
 import com.loanflow.policy.evaluation.engine.ActionResolver;
 import com.loanflow.policy.evaluation.engine.ConditionEvaluator;
+import com.loanflow.policy.evaluation.engine.PolicySetEvaluator;
 import com.loanflow.policy.evaluation.engine.RuleEvaluator;
+import com.loanflow.policy.evaluation.metrics.PolicyEvaluationMetrics;
+import com.loanflow.policy.evaluation.plan.PolicyCompiler;
+import com.loanflow.policy.evaluation.plan.PolicyPlanCache;
 import com.loanflow.policy.evaluation.service.impl.PolicyEvaluationServiceImpl;
 import com.loanflow.policy.repository.PolicyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -49,16 +58,28 @@ class PolicyEvaluationServiceTest {
     private ValueOperations<String, Object> valueOperations;
 
     private PolicyEvaluationServiceImpl evaluationService;
+    private ActivePolicyNearCache nearCache;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PolicyEvaluationMetrics evaluationMetrics = new PolicyEvaluationMetrics(meterRegistry);
+
         // Use real evaluators (not mocks) for integration-style testing
-        ConditionEvaluator conditionEvaluator = new ConditionEvaluator();
+        ConditionEvaluator conditionEvaluator = new ConditionEvaluator(evaluationMetrics);
         RuleEvaluator ruleEvaluator = new RuleEvaluator(conditionEvaluator);
         ActionResolver actionResolver = new ActionResolver();
 
+        PolicyPlanCache policyPlanCache = new PolicyPlanCache(new PolicyCompiler(new PolicyAnalyzer()), 0, 1, 1, 4);
+
+        nearCache = new ActivePolicyNearCache(redisTemplate, meterRegistry, 300);
+        EvaluationResultCache resultCache = new EvaluationResultCache(nearCache, meterRegistry, 1000, 300);
+
         evaluationService = new PolicyEvaluationServiceImpl(
-                policyRepository, ruleEvaluator, actionResolver, redisTemplate);
+                policyRepository, ruleEvaluator, actionResolver, redisTemplate, policyPlanCache,
+                nearCache, resultCache, new PolicySetEvaluator(ruleEvaluator, actionResolver, evaluationMetrics),
+                new ContextArchive(false, "", 1, 1, 60, 30, 4096, 8), evaluationMetrics);
 
         lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         lenient().when(valueOperations.get(anyString())).thenReturn(null); // Cache miss
@@ -302,6 +323,250 @@ class PolicyEvaluationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Decision-only Mode")
+    class DecisionOnlyMode {
+
+        @Test
+        @DisplayName("Should reach the same decision and actions as explain mode")
+        void shouldMatchExplainModeDecision() {
+            Policy eligibilityPolicy = createEligibilityPolicy();
+            eligibilityPolicy.setPriority(10);
+            Policy pricingPolicy = createPricingPolicy();
+            pricingPolicy.setPriority(20);
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN))
+                    .thenReturn(List.of(eligibilityPolicy, pricingPolicy));
+
+            PolicyEvaluationRequest request = PolicyEvaluationRequest.builder()
+                    .applicationId("APP-009")
+                    .loanType("PERSONAL_LOAN")
+                    .requestedAmount(BigDecimal.valueOf(500000))
+                    .tenureMonths(36)
+                    .cibilScore(750)
+                    .applicantAge(35)
+                    .employmentType("SALARIED")
+                    .monthlyIncome(BigDecimal.valueOf(85000))
+                    .build();
+
+            PolicyEvaluationResponse explained = evaluationService.evaluate(request, true);
+            PolicyEvaluationResponse decisionOnly = evaluationService.evaluate(request, false);
+
+            assertEquals(explained.getOverallDecision(), decisionOnly.getOverallDecision());
+            assertEquals(explained.getTriggeredActions(), decisionOnly.getTriggeredActions());
+            assertEquals(explained.getPoliciesMatched(), decisionOnly.getPoliciesMatched());
+            assertEquals(explained.getRulesMatched(), decisionOnly.getRulesMatched());
+        }
+
+        @Test
+        @DisplayName("Should skip matched policy details and evaluation log")
+        void shouldSkipExplainOutput() {
+            Policy policy = createPolicyWithRejectionRule();
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN))
+                    .thenReturn(List.of(policy));
+
+            PolicyEvaluationRequest request = PolicyEvaluationRequest.builder()
+                    .applicationId("APP-010")
+                    .loanType("PERSONAL_LOAN")
+                    .requestedAmount(BigDecimal.valueOf(300000))
+                    .tenureMonths(24)
+                    .cibilScore(400)
+                    .build();
+
+            PolicyEvaluationResponse response = evaluationService.evaluate(request, false);
+
+            assertEquals("REJECTED", response.getOverallDecision());
+            assertTrue(response.getMatchedPolicies().isEmpty());
+            assertTrue(response.getEvaluationLog().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Active Policy Near Cache")
+    class ActivePolicyNearCaching {
+
+        @Test
+        @DisplayName("Should serve repeat evaluations without Redis or DB reads")
+        void shouldServeRepeatEvaluationsFromNearCache() {
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN))
+                    .thenReturn(List.of(createPolicyWithRejectionRule()));
+
+            PolicyEvaluationRequest request = PolicyEvaluationRequest.builder()
+                    .applicationId("APP-011")
+                    .loanType("PERSONAL_LOAN")
+                    .requestedAmount(BigDecimal.valueOf(300000))
+                    .tenureMonths(24)
+                    .cibilScore(400)
+                    .build();
+
+            evaluationService.evaluate(request, true, false);
+            PolicyEvaluationResponse second = evaluationService.evaluate(request, true, false);
+
+            assertEquals("REJECTED", second.getOverallDecision());
+            verify(policyRepository, times(1)).findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN);
+            verify(valueOperations, times(1)).get(anyString());
+        }
+
+        @Test
+        @DisplayName("Should reload after invalidation")
+        void shouldReloadAfterInvalidation() {
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN))
+                    .thenReturn(List.of(createPolicyWithRejectionRule()))
+                    .thenReturn(List.of());
+
+            PolicyEvaluationRequest request = PolicyEvaluationRequest.builder()
+                    .applicationId("APP-012")
+                    .loanType("PERSONAL_LOAN")
+                    .requestedAmount(BigDecimal.valueOf(300000))
+                    .tenureMonths(24)
+                    .cibilScore(400)
+                    .build();
+
+            assertEquals("REJECTED", evaluationService.evaluate(request).getOverallDecision());
+
+            nearCache.onInvalidationMessage("PERSONAL_LOAN");
+
+            assertEquals("NO_MATCH", evaluationService.evaluate(request).getOverallDecision());
+            verify(policyRepository, times(2)).findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN);
+        }
+    }
+
+    @Nested
+    @DisplayName("Result Memoization")
+    class ResultMemoization {
+
+        @Test
+        @DisplayName("Should return the memoized response for a repeat evaluation")
+        void shouldReturnMemoizedResponse() {
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN))
+                    .thenReturn(List.of(createPolicyWithRejectionRule()));
+
+            PolicyEvaluationResponse first = evaluationService.evaluate(memoRequest("APP-013"));
+            PolicyEvaluationResponse second = evaluationService.evaluate(memoRequest("APP-013"));
+
+            assertFalse(first.isMemoized());
+            assertTrue(second.isMemoized());
+            assertEquals(first.getOverallDecision(), second.getOverallDecision());
+            assertEquals(first.getTriggeredActions(), second.getTriggeredActions());
+            verify(policyRepository, times(1)).findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN);
+        }
+
+        @Test
+        @DisplayName("Should hand each hit its own copy with fresh timing")
+        void shouldCopyMemoizedResponse() {
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN))
+                    .thenReturn(List.of(createPolicyWithRejectionRule()));
+
+            PolicyEvaluationResponse first = evaluationService.evaluate(memoRequest("APP-018"));
+            PolicyEvaluationResponse second = evaluationService.evaluate(memoRequest("APP-018"));
+            second.getTriggeredActions().clear();
+            PolicyEvaluationResponse third = evaluationService.evaluate(memoRequest("APP-018"));
+
+            assertNotSame(second, third);
+            assertTrue(third.isMemoized());
+            assertFalse(third.getTriggeredActions().isEmpty());
+            assertFalse(third.getEvaluatedAt().isBefore(first.getEvaluatedAt()));
+        }
+
+        @Test
+        @DisplayName("Should not share responses between applications")
+        void shouldKeyOnApplicationId() {
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN))
+                    .thenReturn(List.of(createPolicyWithRejectionRule()));
+
+            PolicyEvaluationResponse first = evaluationService.evaluate(memoRequest("APP-014"));
+            PolicyEvaluationResponse second = evaluationService.evaluate(memoRequest("APP-015"));
+
+            assertNotSame(first, second);
+            assertEquals("APP-015", second.getApplicationId());
+        }
+
+        @Test
+        @DisplayName("Should re-evaluate when bypassed or when the active policy set changes")
+        void shouldReEvaluateOnBypassOrVersionChange() {
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN))
+                    .thenReturn(List.of(createPolicyWithRejectionRule()));
+
+            PolicyEvaluationResponse first = evaluationService.evaluate(memoRequest("APP-016"));
+            PolicyEvaluationResponse bypassed = evaluationService.evaluate(memoRequest("APP-016"), true, false);
+            nearCache.invalidate(LoanType.PERSONAL_LOAN);
+            PolicyEvaluationResponse afterChange = evaluationService.evaluate(memoRequest("APP-016"));
+
+            assertFalse(first.isMemoized());
+            assertFalse(bypassed.isMemoized());
+            assertFalse(afterChange.isMemoized());
+        }
+
+        private PolicyEvaluationRequest memoRequest(String applicationId) {
+            return PolicyEvaluationRequest.builder()
+                    .applicationId(applicationId)
+                    .loanType("PERSONAL_LOAN")
+                    .requestedAmount(BigDecimal.valueOf(300000))
+                    .tenureMonths(24)
+                    .cibilScore(400)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Evaluation Metrics")
+    class EvaluationMetrics {
+
+        @Test
+        @DisplayName("Should time and count matched rules per policy in both modes")
+        void shouldRecordRuleAndPolicyMeters() {
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN))
+                    .thenReturn(List.of(createEligibilityPolicy()));
+
+            PolicyEvaluationRequest request = PolicyEvaluationRequest.builder()
+                    .applicationId("APP-017")
+                    .loanType("PERSONAL_LOAN")
+                    .requestedAmount(BigDecimal.valueOf(500000))
+                    .tenureMonths(36)
+                    .cibilScore(750)
+                    .applicantAge(35)
+                    .employmentType("SALARIED")
+                    .build();
+
+            evaluationService.evaluate(request, true, false);
+            evaluationService.evaluate(request, false, false);
+
+            assertEquals(2, meterRegistry.get("policy.evaluation.rule.duration")
+                    .tags("policy", "POL-ELIG-001", "rule", "Salaried Eligibility").timer().count());
+            assertEquals(2.0, meterRegistry.get("policy.evaluation.rule.matches")
+                    .tags("policy", "POL-ELIG-001", "rule", "Salaried Eligibility").counter().count());
+            assertEquals(2, meterRegistry.get("policy.evaluation.policy.duration")
+                    .tag("policy", "POL-ELIG-001").timer().count());
+            assertEquals(2.0, meterRegistry.get("policy.evaluation.triggered.actions")
+                    .tag("mode", "explain").summary().totalAmount());
+            assertEquals(2.0, meterRegistry.get("policy.evaluation.triggered.actions")
+                    .tag("mode", "decision").summary().totalAmount());
+        }
+
+        @Test
+        @DisplayName("Should count condition errors in both modes")
+        void shouldCountConditionErrors() {
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN))
+                    .thenReturn(List.of(createEligibilityPolicy()));
+
+            PolicyEvaluationRequest request = PolicyEvaluationRequest.builder()
+                    .applicationId("APP-018")
+                    .loanType("PERSONAL_LOAN")
+                    .requestedAmount(BigDecimal.valueOf(500000))
+                    .tenureMonths(36)
+                    .additionalFields(Map.of("applicant.cibilScore", "not-a-score"))
+                    .build();
+
+            PolicyEvaluationResponse explained = evaluationService.evaluate(request, true, false);
+            PolicyEvaluationResponse decisionOnly = evaluationService.evaluate(request, false, false);
+
+            assertEquals("NO_MATCH", explained.getOverallDecision());
+            assertEquals(explained.getOverallDecision(), decisionOnly.getOverallDecision());
+            assertEquals(2.0, meterRegistry.get("policy.evaluation.condition.errors")
+                    .tags("field", "applicant.cibilScore", "operator", "GREATER_THAN_OR_EQUAL")
+                    .counter().count());
+        }
+    }
+
     // ==================== Helper Methods ====================
 
     /**
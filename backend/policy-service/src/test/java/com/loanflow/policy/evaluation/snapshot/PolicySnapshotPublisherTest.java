@@ -0,0 +1,260 @@
+package com.loanflow.policy.evaluation.snapshot;
+
+import com.loanflow.policy.domain.aggregate.Policy;
+import com.loanflow.policy.domain.enums.*;
+import com.loanflow.policy.domain.valueobject.Action;
+import com.loanflow.policy.domain.valueobject.Condition;
+import com.loanflow.policy.domain.valueobject.PolicyRule;
+import com.loanflow.policy.evaluation.analysis.PolicyAnalyzer;
+import com.loanflow.policy.evaluation.dto.EvaluationContext;
+import com.loanflow.policy.evaluation.engine.ActionResolver;
+import com.loanflow.policy.evaluation.engine.ConditionEvaluator;
+import com.loanflow.policy.evaluation.engine.PolicySetEvaluator;
+import com.loanflow.policy.evaluation.engine.RuleEvaluator;
+import com.loanflow.policy.evaluation.metrics.PolicyEvaluationMetrics;
+import com.loanflow.policy.evaluation.plan.ConditionStatistics;
+import com.loanflow.policy.repository.PolicyRepository;
+import com.loanflow.util.redis.CompactRedisSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PolicySnapshotPublisher and in-process evaluation of the snapshots it publishes
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicySnapshotPublisher Tests")
+class PolicySnapshotPublisherTest {
+
+    @Mock
+    private PolicyRepository policyRepository;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(true, 1024);
+    private PolicySnapshotPublisher publisher;
+    private SimpleMeterRegistry meterRegistry;
+    private EmbeddedPolicyEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new PolicySnapshotPublisher(policyRepository, redisTemplate, new PolicyAnalyzer(), meterRegistry, 0);
+        PolicyEvaluationMetrics evaluationMetrics = new PolicyEvaluationMetrics(meterRegistry);
+        PolicySetEvaluator policySetEvaluator = new PolicySetEvaluator(
+                new RuleEvaluator(new ConditionEvaluator(evaluationMetrics)), new ActionResolver(), evaluationMetrics);
+        engine = new EmbeddedPolicyEngine(policySetEvaluator, meterRegistry, ConditionStatistics.Settings.DISABLED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.close();
+    }
+
+    @Nested
+    @DisplayName("Publishing")
+    class Publishing {
+
+        @Test
+        @DisplayName("Should store a versioned snapshot and announce the loan type")
+        void shouldStoreAndAnnounceSnapshot() {
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.increment(PolicySnapshot.VERSION_KEY)).thenReturn(7L);
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN))
+                    .thenReturn(List.of(policy("POL-2", 20, null), policy("POL-1", 10, null)));
+            stubStore(1L);
+
+            assertTrue(publisher.publishNow(LoanType.PERSONAL_LOAN));
+
+            verify(redisTemplate).convertAndSend(PolicySnapshot.CHANNEL, "PERSONAL_LOAN");
+            List<byte[]> args = capturedStoreArgs();
+            assertEquals("PERSONAL_LOAN", new String(args.get(0), StandardCharsets.UTF_8));
+            assertEquals("7", new String(args.get(1), StandardCharsets.UTF_8));
+
+            PolicySnapshot snapshot = (PolicySnapshot) serializer.deserialize(args.get(2));
+            assertEquals(7L, snapshot.version());
+            assertEquals(List.of("POL-1", "POL-2"),
+                    snapshot.policies().stream().map(PolicySnapshot.Entry::policyCode).toList());
+            assertEquals(1, snapshot.policies().get(0).rules().size());
+        }
+
+        @Test
+        @DisplayName("Should not announce a snapshot older than the stored one")
+        void shouldNotAnnounceOlderSnapshot() {
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.increment(PolicySnapshot.VERSION_KEY)).thenReturn(5L);
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN)).thenReturn(List.of());
+            stubStore(0L);
+
+            assertTrue(publisher.publishNow(LoanType.PERSONAL_LOAN));
+
+            verify(redisTemplate, never()).convertAndSend(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Should republish every concrete loan type for an ALL policy change, off the caller thread")
+        void shouldPublishEveryLoanTypeForAll() {
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.increment(PolicySnapshot.VERSION_KEY)).thenReturn(1L);
+            when(policyRepository.findActivePoliciesForLoanType(any())).thenReturn(List.of());
+            stubStore(1L);
+
+            publisher.publish(LoanType.ALL);
+
+            int concreteTypes = LoanType.values().length - 1;
+            verify(redisTemplate, timeout(5000).times(concreteTypes)).convertAndSend(eq(PolicySnapshot.CHANNEL), anyString());
+            verify(redisTemplate, never()).convertAndSend(PolicySnapshot.CHANNEL, "ALL");
+        }
+
+        @Test
+        @DisplayName("Should count Redis failures and retry the loan type")
+        void shouldRetryRedisFailures() {
+            when(redisTemplate.opsForValue())
+                    .thenThrow(new RuntimeException("Redis down"))
+                    .thenReturn(valueOperations);
+            when(valueOperations.increment(PolicySnapshot.VERSION_KEY)).thenReturn(2L);
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.HOME_LOAN)).thenReturn(List.of());
+            stubStore(1L);
+
+            assertDoesNotThrow(() -> publisher.publish(LoanType.HOME_LOAN));
+
+            verify(redisTemplate, timeout(5000)).convertAndSend(PolicySnapshot.CHANNEL, "HOME_LOAN");
+            assertEquals(1.0, meterRegistry.get("policy.snapshot.publish.failures").counter().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Embedded Evaluation")
+    class EmbeddedEvaluation {
+
+        @Test
+        @DisplayName("Should evaluate a snapshot that went through the Redis serializer")
+        void shouldEvaluateSerializedSnapshot() {
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN))
+                    .thenReturn(List.of(policy("POL-1", 10, null)));
+            PolicySnapshot snapshot = (PolicySnapshot) serializer.deserialize(
+                    serializer.serialize(publisher.buildSnapshot(LoanType.PERSONAL_LOAN, 3)));
+
+            assertTrue(engine.apply(snapshot));
+
+            EmbeddedPolicyEngine.Result approved = engine.evaluate("PERSONAL_LOAN", context(780)).orElseThrow();
+            assertEquals("APPROVED", approved.decision().overallDecision());
+            assertEquals(3L, approved.snapshotVersion());
+            assertEquals("NO_MATCH",
+                    engine.evaluate("PERSONAL_LOAN", context(600)).orElseThrow().decision().overallDecision());
+            assertEquals(3.0, meterRegistry.get("policy.snapshot.version").tag("loanType", "PERSONAL_LOAN")
+                    .gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should ignore snapshots that are not newer than the installed one")
+        void shouldIgnoreOlderSnapshots() {
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN))
+                    .thenReturn(List.of(policy("POL-1", 10, null)));
+            assertTrue(engine.apply(publisher.buildSnapshot(LoanType.PERSONAL_LOAN, 5)));
+
+            assertFalse(engine.apply(publisher.buildSnapshot(LoanType.PERSONAL_LOAN, 4)));
+            assertFalse(engine.apply(publisher.buildSnapshot(LoanType.PERSONAL_LOAN, 5)));
+            assertEquals(5L, engine.getVersion("PERSONAL_LOAN"));
+        }
+
+        @Test
+        @DisplayName("Should skip policies outside their effective window")
+        void shouldSkipExpiredPolicies() {
+            when(policyRepository.findActivePoliciesForLoanType(LoanType.PERSONAL_LOAN))
+                    .thenReturn(List.of(policy("POL-1", 10, LocalDateTime.now().minusDays(1))));
+            engine.apply(publisher.buildSnapshot(LoanType.PERSONAL_LOAN, 1));
+
+            assertEquals("NO_MATCH",
+                    engine.evaluate("PERSONAL_LOAN", context(780)).orElseThrow().decision().overallDecision());
+        }
+
+        @Test
+        @DisplayName("Should return empty before any snapshot is received")
+        void shouldReturnEmptyWithoutSnapshot() {
+            assertTrue(engine.evaluate("HOME_LOAN", context(780)).isEmpty());
+            assertEquals(-1L, engine.getVersion("HOME_LOAN"));
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    @SuppressWarnings("unchecked")
+    private void stubStore(long result) {
+        when(redisTemplate.getHashValueSerializer()).thenReturn((RedisSerializer) serializer);
+        when(redisTemplate.execute(eq(PolicySnapshotPublisher.STORE_IF_NEWER), any(RedisSerializer.class),
+                any(RedisSerializer.class), eq(List.of(PolicySnapshot.REDIS_KEY, PolicySnapshotPublisher.STORED_VERSIONS_KEY)),
+                any(), any(), any()))
+                .thenReturn(result);
+    }
+
+    private List<byte[]> capturedStoreArgs() {
+        ArgumentCaptor<Object> args = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).execute(eq(PolicySnapshotPublisher.STORE_IF_NEWER), any(RedisSerializer.class),
+                any(RedisSerializer.class), anyList(), args.capture(), args.capture(), args.capture());
+        return args.getAllValues().stream().map(byte[].class::cast).toList();
+    }
+
+    private EvaluationContext context(int cibilScore) {
+        return new EvaluationContext().put("applicant.cibilScore", cibilScore);
+    }
+
+    private Policy policy(String code, int priority, LocalDateTime effectiveUntil) {
+        List<PolicyRule> rules = new ArrayList<>();
+        rules.add(PolicyRule.builder()
+                .name("Prime CIBIL")
+                .logicalOperator(LogicalOperator.AND)
+                .conditions(new ArrayList<>(List.of(Condition.builder()
+                        .field("applicant.cibilScore")
+                        .operator(ConditionOperator.GREATER_THAN_OR_EQUAL)
+                        .value("750")
+                        .build())))
+                .actions(new ArrayList<>(List.of(Action.builder().type(ActionType.APPROVE).build())))
+                .priority(10)
+                .build());
+        rules.add(PolicyRule.builder()
+                .name("Disabled Rule")
+                .enabled(false)
+                .logicalOperator(LogicalOperator.AND)
+                .conditions(new ArrayList<>())
+                .actions(new ArrayList<>())
+                .priority(20)
+                .build());
+        return Policy.builder()
+                .id(code.toLowerCase())
+                .policyCode(code)
+                .name("Snapshot Policy " + code)
+                .category(PolicyCategory.ELIGIBILITY)
+                .loanType(LoanType.PERSONAL_LOAN)
+                .status(PolicyStatus.ACTIVE)
+                .priority(priority)
+                .versionNumber(1)
+                .lockVersion(1L)
+                .effectiveUntil(effectiveUntil)
+                .rules(rules)
+                .build();
+    }
+}
@@ -6,11 +6,23 @@ import com.loanflow.policy.domain.valueobject.Action;
 import com.loanflow.policy.domain.valueobject.Condition;
 import com.loanflow.policy.domain.valueobject.PolicyRule;
 import com.loanflow.policy.repository.PolicyRepository;
+import com.loanflow.policy.repository.PolicySearchRepository;
+import com.loanflow.policy.repository.PolicySearchTermsCallback;
+import com.loanflow.policy.repository.PolicyStatsRepository;
+import com.loanflow.policy.repository.PolicyStatusCount;
+import com.loanflow.policy.repository.PolicySummary;
+import com.loanflow.policy.repository.PolicySummaryRepository;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -26,15 +38,30 @@ import static org.assertj.core.api.Assertions.assertThat;
  * and active policy retrieval against an actual MongoDB instance.
  */
 @DataMongoTest
+@Import({PolicyStatsRepository.class, PolicySearchRepository.class, PolicySearchTermsCallback.class,
+        PolicySummaryRepository.class})
 @ActiveProfiles("integration-test")
 class PolicyRepositoryIntegrationTest {
 
     @Autowired
     private PolicyRepository policyRepository;
 
+    @Autowired
+    private PolicyStatsRepository policyStatsRepository;
+
+    @Autowired
+    private PolicySearchRepository policySearchRepository;
+
+    @Autowired
+    private PolicySummaryRepository policySummaryRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     @BeforeEach
     void setUp() {
         policyRepository.deleteAll();
+        mongoTemplate.dropCollection("policy_stats");
     }
 
     // ==================== Test Data Builders ====================
@@ -300,4 +327,231 @@ class PolicyRepositoryIntegrationTest {
             assertThat(found.get(0).getTags()).contains("home-loan");
         }
     }
+
+    // ==================== Stats Tests ====================
+
+    @Nested
+    @DisplayName("Policy Stats")
+    class StatsTests {
+
+        @Test
+        @DisplayName("Should count policies by status and category in one aggregation")
+        void shouldAggregateCounts() {
+            policyRepository.save(buildPolicy("Eligibility 1",
+                    PolicyCategory.ELIGIBILITY, LoanType.PERSONAL_LOAN, PolicyStatus.ACTIVE));
+            policyRepository.save(buildPolicy("Eligibility 2",
+                    PolicyCategory.ELIGIBILITY, LoanType.HOME_LOAN, PolicyStatus.ACTIVE));
+            policyRepository.save(buildPolicy("Pricing Draft",
+                    PolicyCategory.PRICING, LoanType.PERSONAL_LOAN, PolicyStatus.DRAFT));
+
+            List<PolicyStatusCount> counts = policyStatsRepository.aggregateCounts();
+
+            assertThat(counts).containsExactlyInAnyOrder(
+                    new PolicyStatusCount(PolicyStatus.ACTIVE, PolicyCategory.ELIGIBILITY, 2),
+                    new PolicyStatusCount(PolicyStatus.DRAFT, PolicyCategory.PRICING, 1));
+        }
+
+        @Test
+        @DisplayName("Should have no materialized counts until rebuilt")
+        void shouldRequireRebuild() {
+            policyRepository.save(buildPolicy("Eligibility 1",
+                    PolicyCategory.ELIGIBILITY, LoanType.PERSONAL_LOAN, PolicyStatus.DRAFT));
+
+            policyStatsRepository.recordTransition(null, null, PolicyStatus.DRAFT, PolicyCategory.ELIGIBILITY);
+            assertThat(policyStatsRepository.findCounts()).isEmpty();
+
+            policyStatsRepository.rebuild();
+            assertThat(policyStatsRepository.findCounts()).contains(List.of(
+                    new PolicyStatusCount(PolicyStatus.DRAFT, PolicyCategory.ELIGIBILITY, 1)));
+        }
+
+        @Test
+        @DisplayName("Should create the counts only when the stats document is missing")
+        void shouldNotOverwriteExistingStats() {
+            policyRepository.save(buildPolicy("Eligibility 1",
+                    PolicyCategory.ELIGIBILITY, LoanType.PERSONAL_LOAN, PolicyStatus.DRAFT));
+            assertThat(policyStatsRepository.createIfMissing()).containsExactly(
+                    new PolicyStatusCount(PolicyStatus.DRAFT, PolicyCategory.ELIGIBILITY, 1));
+
+            // a delta recorded by another node must survive the next startup
+            policyStatsRepository.recordTransition(null, null, PolicyStatus.DRAFT, PolicyCategory.PRICING);
+            policyStatsRepository.createIfMissing();
+
+            assertThat(policyStatsRepository.findCounts()).hasValueSatisfying(counts -> assertThat(counts)
+                    .contains(new PolicyStatusCount(PolicyStatus.DRAFT, PolicyCategory.PRICING, 1)));
+        }
+
+        @Test
+        @DisplayName("Should rebuild a stats document that was created but never filled")
+        void shouldRebuildUnfilledStats() {
+            policyRepository.save(buildPolicy("Eligibility 1",
+                    PolicyCategory.ELIGIBILITY, LoanType.PERSONAL_LOAN, PolicyStatus.DRAFT));
+            mongoTemplate.upsert(Query.query(Criteria.where("_id").is("policy-stats")),
+                    new Update().setOnInsert("counts", new org.bson.Document()).setOnInsert("version", 0L),
+                    "policy_stats");
+
+            // a delta applied while the creating node aggregated must not leave partial counts behind
+            policyStatsRepository.recordTransition(null, null, PolicyStatus.DRAFT, PolicyCategory.ELIGIBILITY);
+            assertThat(policyStatsRepository.findCounts()).isEmpty();
+
+            assertThat(policyStatsRepository.createIfMissing()).containsExactly(
+                    new PolicyStatusCount(PolicyStatus.DRAFT, PolicyCategory.ELIGIBILITY, 1));
+        }
+
+        @Test
+        @DisplayName("Should apply lifecycle transitions incrementally")
+        void shouldApplyTransitions() {
+            policyRepository.save(buildPolicy("Eligibility 1",
+                    PolicyCategory.ELIGIBILITY, LoanType.PERSONAL_LOAN, PolicyStatus.DRAFT));
+            policyStatsRepository.rebuild();
+
+            // create, activate, then delete a second policy's draft
+            policyStatsRepository.recordTransition(null, null, PolicyStatus.DRAFT, PolicyCategory.PRICING);
+            policyStatsRepository.recordTransition(PolicyStatus.DRAFT, PolicyCategory.ELIGIBILITY,
+                    PolicyStatus.ACTIVE, PolicyCategory.ELIGIBILITY);
+            policyStatsRepository.recordTransition(PolicyStatus.DRAFT, PolicyCategory.PRICING, null, null);
+
+            assertThat(policyStatsRepository.findCounts()).hasValueSatisfying(counts -> assertThat(counts)
+                    .containsExactlyInAnyOrder(
+                            new PolicyStatusCount(PolicyStatus.DRAFT, PolicyCategory.ELIGIBILITY, 0),
+                            new PolicyStatusCount(PolicyStatus.DRAFT, PolicyCategory.PRICING, 0),
+                            new PolicyStatusCount(PolicyStatus.ACTIVE, PolicyCategory.ELIGIBILITY, 1)));
+        }
+    }
+
+    // ==================== Search Tests ====================
+
+    @Nested
+    @DisplayName("Policy Search")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Should rank name matches above description-only matches")
+        void shouldRankNameMatchesFirst() {
+            Policy described = buildPolicy("Pricing Grid",
+                    PolicyCategory.PRICING, LoanType.HOME_LOAN, PolicyStatus.ACTIVE);
+            described.setDescription("Rates applied after the eligibility check");
+            policyRepository.save(described);
+            policyRepository.save(buildPolicy("Home Loan Eligibility",
+                    PolicyCategory.ELIGIBILITY, LoanType.HOME_LOAN, PolicyStatus.ACTIVE));
+            policyRepository.save(buildPolicy("Vehicle Pricing",
+                    PolicyCategory.PRICING, LoanType.VEHICLE_LOAN, PolicyStatus.ACTIVE));
+
+            Page<Policy> result = policySearchRepository.search("eligibility", PageRequest.of(0, 10));
+
+            assertThat(result.getTotalElements()).isEqualTo(2);
+            assertThat(result.getContent()).extracting(Policy::getName)
+                    .containsExactly("Home Loan Eligibility", "Pricing Grid");
+        }
+
+        @Test
+        @DisplayName("Should match word prefixes in names, tags and rule names")
+        void shouldMatchPrefixes() {
+            Policy policy = buildPolicy("Agriculture Credit",
+                    PolicyCategory.CREDIT_LIMIT, LoanType.KCC, PolicyStatus.DRAFT);
+            policy.setRules(List.of(buildRule("Landholding Verification")));
+            policyRepository.save(policy);
+
+            assertThat(policySearchRepository.search("agri", PageRequest.of(0, 10)).getContent()).hasSize(1);
+            assertThat(policySearchRepository.search("LANDHOLD", PageRequest.of(0, 10)).getContent()).hasSize(1);
+            assertThat(policySearchRepository.search("credit_lim", PageRequest.of(0, 10)).getContent()).hasSize(1);
+            assertThat(policySearchRepository.search("griculture", PageRequest.of(0, 10)).getContent()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should paginate search results")
+        void shouldPaginate() {
+            for (int i = 1; i <= 5; i++) {
+                policyRepository.save(buildPolicy("Eligibility " + i,
+                        PolicyCategory.ELIGIBILITY, LoanType.PERSONAL_LOAN, PolicyStatus.ACTIVE));
+            }
+
+            Page<Policy> page = policySearchRepository.search("elig", PageRequest.of(1, 2));
+
+            assertThat(page.getTotalElements()).isEqualTo(5);
+            assertThat(page.getContent()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("Should backfill search terms for policies written without them")
+        void shouldBackfillSearchTerms() {
+            Policy policy = policyRepository.save(buildPolicy("Gold Loan Margin",
+                    PolicyCategory.CREDIT_LIMIT, LoanType.GOLD_LOAN, PolicyStatus.ACTIVE));
+            mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(policy.getId())),
+                    new Update().unset("searchTerms"), Policy.class);
+            assertThat(policySearchRepository.search("marg", PageRequest.of(0, 10)).getContent()).isEmpty();
+
+            assertThat(policySearchRepository.backfillSearchTerms()).isEqualTo(1);
+
+            assertThat(policySearchRepository.search("marg", PageRequest.of(0, 10)).getContent()).hasSize(1);
+            assertThat(policySearchRepository.backfillSearchTerms()).isZero();
+        }
+    }
+
+    // ==================== Summary Tests ====================
+
+    @Nested
+    @DisplayName("Summary Projections")
+    class SummaryTests {
+
+        @Test
+        @DisplayName("Should project summary fields and count rules server-side")
+        void shouldProjectSummary() {
+            Policy policy = buildPolicy("Loan Amount Risk Policy",
+                    PolicyCategory.CREDIT_LIMIT, LoanType.HOME_LOAN, PolicyStatus.DRAFT);
+            policy.setRules(List.of(buildRule("High Amount Rule"), buildRule("Medium Amount Rule")));
+            Policy saved = policyRepository.save(policy);
+
+            List<PolicySummary> summaries = policySummaryRepository.findAfter(null, null, 10);
+
+            assertThat(summaries).hasSize(1);
+            PolicySummary summary = summaries.get(0);
+            assertThat(summary.id()).isEqualTo(saved.getId());
+            assertThat(summary.policyCode()).isEqualTo(saved.getPolicyCode());
+            assertThat(summary.category()).isEqualTo(PolicyCategory.CREDIT_LIMIT);
+            assertThat(summary.loanType()).isEqualTo(LoanType.HOME_LOAN);
+            assertThat(summary.status()).isEqualTo(PolicyStatus.DRAFT);
+            assertThat(summary.versionNumber()).isEqualTo(1);
+            assertThat(summary.ruleCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should page by id within a category")
+        void shouldPageByIdWithinCategory() {
+            for (int i = 1; i <= 5; i++) {
+                policyRepository.save(buildPolicy("Eligibility " + i,
+                        PolicyCategory.ELIGIBILITY, LoanType.PERSONAL_LOAN, PolicyStatus.ACTIVE));
+            }
+            policyRepository.save(buildPolicy("Pricing 1",
+                    PolicyCategory.PRICING, LoanType.PERSONAL_LOAN, PolicyStatus.ACTIVE));
+
+            List<PolicySummary> first = policySummaryRepository.findAfter(PolicyCategory.ELIGIBILITY, null, 3);
+            List<PolicySummary> second = policySummaryRepository.findAfter(PolicyCategory.ELIGIBILITY,
+                    new ObjectId(first.get(2).id()), 3);
+
+            assertThat(first).extracting(PolicySummary::name)
+                    .containsExactly("Eligibility 1", "Eligibility 2", "Eligibility 3");
+            assertThat(second).extracting(PolicySummary::name)
+                    .containsExactly("Eligibility 4", "Eligibility 5");
+        }
+
+        @Test
+        @DisplayName("Should page versions newest first")
+        void shouldPageVersionsNewestFirst() {
+            String code = Policy.generatePolicyCode();
+            for (int version = 1; version <= 3; version++) {
+                Policy policy = buildPolicy("Versioned Policy",
+                        PolicyCategory.ELIGIBILITY, LoanType.PERSONAL_LOAN, PolicyStatus.ARCHIVED);
+                policy.setPolicyCode(code);
+                policy.setVersionNumber(version);
+                policyRepository.save(policy);
+            }
+
+            List<PolicySummary> first = policySummaryRepository.findVersionsBefore(code, null, 2);
+            List<PolicySummary> second = policySummaryRepository.findVersionsBefore(code, 2, 2);
+
+            assertThat(first).extracting(PolicySummary::versionNumber).containsExactly(3, 2);
+            assertThat(second).extracting(PolicySummary::versionNumber).containsExactly(1);
+        }
+    }
 }
@@ -1,18 +1,30 @@
 package com.loanflow.policy.service;
 
 import com.loanflow.dto.request.PolicyRequest;
+import com.loanflow.dto.response.CursorPageResponse;
 import com.loanflow.dto.response.PolicyResponse;
+import com.loanflow.dto.response.PolicySummaryResponse;
 import com.loanflow.policy.domain.aggregate.Policy;
 import com.loanflow.policy.domain.enums.*;
 import com.loanflow.policy.domain.valueobject.Action;
 import com.loanflow.policy.domain.valueobject.Condition;
 import com.loanflow.policy.domain.valueobject.PolicyRule;
+import com.loanflow.policy.evaluation.analysis.PolicyAnalyzer;
+import com.loanflow.policy.evaluation.cache.ActivePolicyNearCache;
+import com.loanflow.policy.evaluation.plan.PolicyPlanCache;
+import com.loanflow.policy.evaluation.snapshot.PolicySnapshotPublisher;
 import com.loanflow.policy.mapper.PolicyMapper;
 import com.loanflow.policy.repository.PolicyRepository;
+import com.loanflow.policy.repository.PolicySearchRepository;
+import com.loanflow.policy.repository.PolicyStatsRepository;
+import com.loanflow.policy.repository.PolicyStatusCount;
+import com.loanflow.policy.repository.PolicySummary;
+import com.loanflow.policy.repository.PolicySummaryRepository;
 import com.loanflow.policy.service.impl.PolicyServiceImpl;
 import com.loanflow.util.exception.BusinessException;
 import com.loanflow.util.exception.DuplicateResourceException;
 import com.loanflow.util.exception.ResourceNotFoundException;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -56,6 +69,27 @@ class PolicyServiceTest {
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
+    @Mock
+    private PolicyPlanCache policyPlanCache;
+
+    @Mock
+    private ActivePolicyNearCache activePolicyNearCache;
+
+    @Mock
+    private PolicySnapshotPublisher policySnapshotPublisher;
+
+    @Spy
+    private PolicyAnalyzer policyAnalyzer = new PolicyAnalyzer();
+
+    @Mock
+    private PolicyStatsRepository policyStatsRepository;
+
+    @Mock
+    private PolicySearchRepository policySearchRepository;
+
+    @Mock
+    private PolicySummaryRepository policySummaryRepository;
+
     @InjectMocks
     private PolicyServiceImpl policyService;
 
@@ -226,6 +260,13 @@ class PolicyServiceTest {
 
             PolicyResponse result = policyService.activate("policy-1", "admin");
             assertNotNull(result);
+            verify(policyPlanCache).refresh(samplePolicy);
+            verify(redisTemplate).delete("policy:active:entities:PERSONAL_LOAN");
+            verify(activePolicyNearCache).publishInvalidation(LoanType.PERSONAL_LOAN);
+            verify(policySnapshotPublisher).publish(LoanType.PERSONAL_LOAN);
+            verify(policyAnalyzer).analyze(samplePolicy);
+            verify(policyStatsRepository).recordTransition(PolicyStatus.DRAFT, PolicyCategory.ELIGIBILITY,
+                    PolicyStatus.ACTIVE, PolicyCategory.ELIGIBILITY);
         }
 
         @Test
@@ -240,6 +281,8 @@ class PolicyServiceTest {
 
             PolicyResponse result = policyService.deactivate("policy-1", "admin");
             assertNotNull(result);
+            verify(policyPlanCache).refresh(samplePolicy);
+            verify(activePolicyNearCache).publishInvalidation(LoanType.PERSONAL_LOAN);
         }
 
         @Test
@@ -276,6 +319,7 @@ class PolicyServiceTest {
 
             assertDoesNotThrow(() -> policyService.delete("policy-1"));
             verify(policyRepository).delete(samplePolicy);
+            verify(policyStatsRepository).recordTransition(PolicyStatus.DRAFT, PolicyCategory.ELIGIBILITY, null, null);
         }
 
         @Test
@@ -322,7 +366,7 @@ class PolicyServiceTest {
         void shouldSearchByText() {
             Pageable pageable = PageRequest.of(0, 20);
             Page<Policy> page = new PageImpl<>(List.of(samplePolicy), pageable, 1);
-            when(policyRepository.searchByText("eligibility", pageable)).thenReturn(page);
+            when(policySearchRepository.search("eligibility", pageable)).thenReturn(page);
             when(policyMapper.toResponse(any(Policy.class))).thenReturn(sampleResponse);
 
             Page<PolicyResponse> result = policyService.search("eligibility", pageable);
@@ -343,6 +387,152 @@ class PolicyServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Summary Pagination")
+    class SummaryPagination {
+
+        @Test
+        @DisplayName("Should return a full page with the last id as next cursor")
+        void shouldReturnNextCursorWhenMoreRowsExist() {
+            List<PolicySummary> rows = List.of(
+                    summary("65f000000000000000000001", 1),
+                    summary("65f000000000000000000002", 1),
+                    summary("65f000000000000000000003", 1));
+            when(policySummaryRepository.findAfter(PolicyCategory.ELIGIBILITY, null, 3)).thenReturn(rows);
+            when(policyMapper.toSummaryResponse(any(PolicySummary.class)))
+                    .thenAnswer(inv -> PolicySummaryResponse.builder().id(inv.<PolicySummary>getArgument(0).id()).build());
+
+            CursorPageResponse<PolicySummaryResponse> page =
+                    policyService.listSummaries(PolicyCategory.ELIGIBILITY, null, 2);
+
+            assertEquals(2, page.getContent().size());
+            assertTrue(page.isHasNext());
+            assertEquals("65f000000000000000000002", page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Should continue after the cursor and end without a next cursor")
+        void shouldContinueAfterCursor() {
+            when(policySummaryRepository.findAfter(null, new ObjectId("65f000000000000000000002"), 21))
+                    .thenReturn(List.of(summary("65f000000000000000000003", 1)));
+            when(policyMapper.toSummaryResponse(any(PolicySummary.class))).thenReturn(new PolicySummaryResponse());
+
+            CursorPageResponse<PolicySummaryResponse> page =
+                    policyService.listSummaries(null, "65f000000000000000000002", 20);
+
+            assertEquals(1, page.getContent().size());
+            assertFalse(page.isHasNext());
+            assertNull(page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThrows(BusinessException.class, () -> policyService.listSummaries(null, "not-an-id", 20));
+            assertThrows(BusinessException.class,
+                    () -> policyService.getVersionSummaries("POL-2026-000001", "v2", 20));
+            verifyNoInteractions(policySummaryRepository);
+        }
+
+        @Test
+        @DisplayName("Should page version summaries by version number")
+        void shouldPageVersionSummaries() {
+            when(policySummaryRepository.findVersionsBefore("POL-2026-000001", 5, 3)).thenReturn(List.of(
+                    summary("65f000000000000000000004", 4),
+                    summary("65f000000000000000000003", 3),
+                    summary("65f000000000000000000002", 2)));
+            when(policyMapper.toSummaryResponse(any(PolicySummary.class))).thenReturn(new PolicySummaryResponse());
+
+            CursorPageResponse<PolicySummaryResponse> page =
+                    policyService.getVersionSummaries("POL-2026-000001", "5", 2);
+
+            assertEquals(2, page.getContent().size());
+            assertEquals("3", page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Should throw when the policy code has no versions")
+        void shouldThrowWhenNoVersions() {
+            when(policySummaryRepository.findVersionsBefore("POL-MISSING", null, 21)).thenReturn(List.of());
+
+            assertThrows(ResourceNotFoundException.class,
+                    () -> policyService.getVersionSummaries("POL-MISSING", null, 20));
+        }
+
+        private PolicySummary summary(String id, int version) {
+            return new PolicySummary(id, "POL-2026-000001", "Personal Loan Eligibility", PolicyCategory.ELIGIBILITY,
+                    LoanType.PERSONAL_LOAN, PolicyStatus.ACTIVE, version, 100, 1, null);
+        }
+    }
+
+    @Nested
+    @DisplayName("Policy Stats")
+    class PolicyStats {
+
+        @Test
+        @DisplayName("Should compute stats from the materialized counts")
+        void shouldComputeStatsFromMaterializedCounts() {
+            when(policyStatsRepository.findCounts()).thenReturn(Optional.of(List.of(
+                    new PolicyStatusCount(PolicyStatus.ACTIVE, PolicyCategory.ELIGIBILITY, 3),
+                    new PolicyStatusCount(PolicyStatus.ACTIVE, PolicyCategory.PRICING, 1),
+                    new PolicyStatusCount(PolicyStatus.DRAFT, PolicyCategory.ELIGIBILITY, 2),
+                    new PolicyStatusCount(PolicyStatus.INACTIVE, PolicyCategory.PRICING, 1),
+                    new PolicyStatusCount(PolicyStatus.ARCHIVED, PolicyCategory.ELIGIBILITY, 4),
+                    new PolicyStatusCount(PolicyStatus.ACTIVE, PolicyCategory.CREDIT_LIMIT, 0))));
+
+            PolicyService.PolicyStatsResponse stats = policyService.getStats();
+
+            assertEquals(11, stats.totalPolicies());
+            assertEquals(4, stats.activePolicies());
+            assertEquals(2, stats.draftPolicies());
+            assertEquals(1, stats.inactivePolicies());
+            assertEquals(Map.of("ELIGIBILITY", 3L, "PRICING", 1L), stats.byCategory());
+            verify(policyStatsRepository, never()).rebuild();
+            verifyNoInteractions(policyRepository);
+        }
+
+        @Test
+        @DisplayName("Should create the counts when the stats document is missing")
+        void shouldCreateWhenStatsMissing() {
+            when(policyStatsRepository.findCounts()).thenReturn(Optional.empty());
+            when(policyStatsRepository.createIfMissing()).thenReturn(List.of(
+                    new PolicyStatusCount(PolicyStatus.DRAFT, PolicyCategory.ELIGIBILITY, 2)));
+
+            PolicyService.PolicyStatsResponse stats = policyService.getStats();
+
+            assertEquals(2, stats.totalPolicies());
+            assertEquals(2, stats.draftPolicies());
+            assertTrue(stats.byCategory().isEmpty());
+            verify(policyStatsRepository, never()).rebuild();
+        }
+
+        @Test
+        @DisplayName("Should rebuild the counts only on explicit request")
+        void shouldRebuildOnRequest() {
+            when(policyStatsRepository.rebuild()).thenReturn(List.of(
+                    new PolicyStatusCount(PolicyStatus.ACTIVE, PolicyCategory.PRICING, 3)));
+
+            PolicyService.PolicyStatsResponse stats = policyService.rebuildStats();
+
+            assertEquals(3, stats.activePolicies());
+            assertEquals(Map.of("PRICING", 3L), stats.byCategory());
+            verify(policyStatsRepository, never()).findCounts();
+        }
+
+        @Test
+        @DisplayName("Should not fail a lifecycle change when the stats update fails")
+        void shouldIgnoreStatsUpdateFailure() {
+            samplePolicy.setStatus(PolicyStatus.DRAFT);
+            when(policyRepository.findById("policy-1")).thenReturn(Optional.of(samplePolicy));
+            when(redisTemplate.delete(anyString())).thenReturn(true);
+            doThrow(new RuntimeException("mongo down")).when(policyStatsRepository)
+                    .recordTransition(any(), any(), any(), any());
+
+            assertDoesNotThrow(() -> policyService.delete("policy-1"));
+            verify(policyRepository).delete(samplePolicy);
+        }
+    }
+
     // ==================== Helper Methods ====================
 
     private Policy createSamplePolicy() {